@@ -1,8 +1,16 @@
 package com.aas.shinhan.aas.controller;
 
+import java.io.IOException;
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -10,7 +18,9 @@ import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.aas.shinhan.aas.dto.AasUploadResponse;
+import com.aas.shinhan.aas.dto.UploadJobStatus;
 import com.aas.shinhan.aas.service.AasParserService;
+import com.aas.shinhan.aas.service.UploadJobService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,11 +32,13 @@ import lombok.extern.slf4j.Slf4j;
 public class AasUploadController {
 
     private final AasParserService aasParserService;
+    private final UploadJobService uploadJobService;
 
     @PostMapping("/upload")
     public ResponseEntity<?> uploadAasFile(
             @RequestParam("file") MultipartFile file,
-            @RequestParam(value = "ignore-duplicates", defaultValue = "false") boolean ignoreDuplicates) {
+            @RequestParam(value = "ignore-duplicates", defaultValue = "false") boolean ignoreDuplicates,
+            @RequestParam(value = "async", defaultValue = "false") boolean async) {
 
         // 현재 로그인한 사용자 정보 가져오기
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
@@ -37,6 +49,11 @@ public class AasUploadController {
         log.info("Filename: {}", file.getOriginalFilename());
         log.info("File size: {} bytes ({} MB)", file.getSize(), file.getSize() / (1024 * 1024));
         log.info("Ignore duplicates: {}", ignoreDuplicates);
+        log.info("Async: {}", async);
+
+        if (async) {
+            return submitUploadJob(file, username, ignoreDuplicates);
+        }
 
         try {
             AasUploadResponse response = aasParserService.parseAndProcess(file, username, ignoreDuplicates);
@@ -52,4 +69,48 @@ public class AasUploadController {
             return ResponseEntity.internalServerError().body("Failed to parse file: " + e.getMessage());
         }
     }
+
+    /**
+     * 비동기 업로드 작업 상태 조회
+     * GET /aas/upload/jobs/{jobId}
+     */
+    @GetMapping("/upload/jobs/{jobId}")
+    public ResponseEntity<UploadJobStatus> getUploadJob(@PathVariable String jobId) {
+        String username = SecurityContextHolder.getContext().getAuthentication().getName();
+        return uploadJobService.getStatus(jobId, username)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * 현재 사용자의 비동기 업로드 작업 목록 조회
+     * GET /aas/upload/jobs
+     */
+    @GetMapping("/upload/jobs")
+    public ResponseEntity<List<UploadJobStatus>> getUploadJobs() {
+        String username = SecurityContextHolder.getContext().getAuthentication().getName();
+        return ResponseEntity.ok(uploadJobService.getJobs(username));
+    }
+
+    private ResponseEntity<?> submitUploadJob(MultipartFile file, String username, boolean ignoreDuplicates) {
+        try {
+            UploadJobStatus job = uploadJobService.submit(file, username, ignoreDuplicates);
+            log.info("=== AAS File Upload Queued: jobId={} ===", job.getJobId());
+            return ResponseEntity.accepted()
+                    .location(URI.create("/aas/upload/jobs/" + job.getJobId()))
+                    .body(job);
+
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid file: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(e.getMessage());
+
+        } catch (RejectedExecutionException e) {
+            log.warn("Upload job queue is full");
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body("Upload job queue is full, retry later");
+
+        } catch (IOException e) {
+            log.error("Failed to spool upload file: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError().body("Failed to store file: " + e.getMessage());
+        }
+    }
 }
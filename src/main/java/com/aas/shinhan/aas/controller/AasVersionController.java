@@ -1,7 +1,9 @@
 package com.aas.shinhan.aas.controller;
 
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -9,11 +11,22 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.aas.shinhan.aas.dto.AasSummary;
+import com.aas.shinhan.aas.dto.CompactionResult;
+import com.aas.shinhan.aas.dto.ListingPage;
+import com.aas.shinhan.aas.dto.PayloadMetadata;
+import com.aas.shinhan.aas.dto.ReconstructedVersion;
 import com.aas.shinhan.aas.dto.VersionInfo;
 import com.aas.shinhan.aas.entity.AasEntity;
 import com.aas.shinhan.aas.service.AasStorageService;
+import com.aas.shinhan.aas.service.IdentifiableListingService;
+import com.aas.shinhan.aas.service.RawDocumentService;
+import com.aas.shinhan.aas.service.VersionStorageService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -29,16 +42,34 @@ import lombok.extern.slf4j.Slf4j;
 public class AasVersionController {
 
     private final AasStorageService aasStorageService;
+    private final VersionStorageService versionStorageService;
+    private final IdentifiableListingService listingService;
+    private final RawDocumentService rawDocumentService;
 
     /**
-     * 모든 활성화된 AAS 목록 조회
-     * GET /aas/shells
+     * 활성화된 AAS 목록 조회
+     * GET /aas/shells                       전체 목록을 JSON 배열로 스트리밍
+     * GET /aas/shells?limit=100&cursor=...  키셋 페이지 (응답의 nextCursor로 다음 페이지 조회)
      */
     @GetMapping
-    public ResponseEntity<List<AasEntity>> getAllActiveAas() {
-        log.info("모든 활성화된 AAS 목록 조회");
-        List<AasEntity> aasList = aasStorageService.getAllActiveAas();
-        return ResponseEntity.ok(aasList);
+    public ResponseEntity<?> getAllActiveAas(
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor) {
+
+        if (limit == null && cursor == null) {
+            log.info("모든 활성화된 AAS 목록 스트리밍 조회");
+            StreamingResponseBody body = listingService::writeActiveAas;
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+        }
+
+        log.info("활성화된 AAS 목록 페이지 조회: limit={}, cursor={}", limit, cursor);
+        try {
+            ListingPage<AasSummary> page = listingService.getActiveAasPage(cursor, limit);
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 목록 커서: {}", cursor);
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
     }
 
     /**
@@ -57,6 +88,37 @@ public class AasVersionController {
         }
     }
 
+    /**
+     * 활성 AAS 문서 원본 조회 (JSON을 문자열 필드로 감싸지 않고 저장 내용 그대로 스트리밍)
+     * GET /aas/shells/{aasId}/raw
+     * ID/버전은 X-Entity-Id, X-Entity-Version 헤더로, ETag는 콘텐츠 해시 (If-None-Match 일치 시 304)
+     */
+    @GetMapping("/{aasId}/raw")
+    public ResponseEntity<StreamingResponseBody> getActiveAasDocument(@PathVariable String aasId,
+            WebRequest webRequest) {
+        log.info("AAS 문서 원본 조회: aasId={}", aasId);
+        Optional<PayloadMetadata> found = rawDocumentService.getActiveAasMetadata(aasId);
+        if (found.isEmpty()) {
+            log.warn("AAS를 찾을 수 없음: {}", aasId);
+            return ResponseEntity.notFound().build();
+        }
+
+        PayloadMetadata metadata = found.get();
+        String etag = metadata.getContentHash() != null ? "\"" + metadata.getContentHash() + "\"" : null;
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("X-Entity-Id", metadata.getEntityId())
+                .header("X-Entity-Version", String.valueOf(metadata.getVersion()));
+        if (etag != null) {
+            response.eTag(etag);
+        }
+        return response.body(out -> rawDocumentService.writeAasDocument(metadata, out));
+    }
+
     /**
      * 특정 AAS의 버전 목록 조회
      * GET /aas/shells/{aasId}/versions
@@ -68,6 +130,42 @@ public class AasVersionController {
         return ResponseEntity.ok(versions);
     }
 
+    /**
+     * 특정 AAS 과거 버전 내용 조회 (델타 버전은 복원 후 반환)
+     * GET /aas/shells/{aasId}/versions/{version}
+     * 복원 비용은 X-Reconstruction-* 헤더로 전달
+     */
+    @GetMapping("/{aasId}/versions/{version}")
+    public ResponseEntity<String> getAasVersion(
+            @PathVariable String aasId,
+            @PathVariable Integer version) {
+
+        log.info("AAS 버전 내용 조회: aasId={}, version={}", aasId, version);
+        try {
+            ReconstructedVersion restored = versionStorageService.reconstructAas(aasId, version);
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .header("X-Reconstruction-Base-Version", String.valueOf(restored.getBaseVersion()))
+                    .header("X-Reconstruction-Deltas", String.valueOf(restored.getDeltasApplied()))
+                    .header("X-Reconstruction-Bytes", String.valueOf(restored.getBytesRead()))
+                    .header("X-Reconstruction-Millis", String.valueOf(restored.getElapsedMillis()))
+                    .body(restored.getJson());
+        } catch (IllegalArgumentException e) {
+            log.warn("버전을 찾을 수 없음: {}", e.getMessage());
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    /**
+     * 특정 AAS의 과거 버전 전체를 델타로 변환 (기존 이력 이관용)
+     * POST /aas/shells/{aasId}/versions/compact
+     */
+    @PostMapping("/{aasId}/versions/compact")
+    public ResponseEntity<CompactionResult> compactAasVersions(@PathVariable String aasId) {
+        log.info("AAS 버전 이력 델타 변환 요청: aasId={}", aasId);
+        return ResponseEntity.ok(versionStorageService.compactAas(aasId));
+    }
+
     /**
      * 특정 AAS 버전 활성화
      * POST /aas/shells/{aasId}/versions/{version}/activate
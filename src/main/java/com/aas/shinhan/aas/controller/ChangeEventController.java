@@ -0,0 +1,62 @@
+package com.aas.shinhan.aas.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.aas.shinhan.aas.service.ChangeFeedService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 변경 이벤트 구독 API 컨트롤러 (Server-Sent Events)
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/aas/events")
+public class ChangeEventController {
+
+    private final ChangeFeedService changeFeedService;
+
+    /**
+     * 저장/활성화 변경 이벤트 구독 (event: change, id: 이벤트 번호, data: ChangeEvent JSON)
+     * GET /aas/events                                  전체
+     * GET /aas/events?aasId=...                        AAS와 소속 Submodel 이벤트만
+     * GET /aas/events?semanticId=...                   semanticId가 같은 Submodel 이벤트만
+     * 재연결 시 브라우저 EventSource가 보내는 Last-Event-ID 헤더(또는 lastEventId 파라미터) 이후 이벤트부터 이어서 전송
+     */
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> subscribe(
+            @RequestParam(required = false) String aasId,
+            @RequestParam(required = false) String semanticId,
+            @RequestParam(value = "lastEventId", required = false) Long lastEventIdParam,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventIdHeader) {
+
+        if (!changeFeedService.isEnabled()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        Long lastEventId = lastEventIdParam;
+        if (lastEventIdHeader != null && !lastEventIdHeader.isBlank()) {
+            try {
+                lastEventId = Long.parseLong(lastEventIdHeader.trim());
+            } catch (NumberFormatException e) {
+                log.warn("잘못된 Last-Event-ID 헤더: {}", lastEventIdHeader);
+                return ResponseEntity.badRequest().build();
+            }
+        }
+        return ResponseEntity.ok(changeFeedService.subscribe(lastEventId, blankToNull(aasId),
+                blankToNull(semanticId)));
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+}
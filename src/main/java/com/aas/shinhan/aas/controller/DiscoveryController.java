@@ -0,0 +1,92 @@
+package com.aas.shinhan.aas.controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.aas.shinhan.aas.dto.DiscoveryIndexStats;
+import com.aas.shinhan.aas.dto.DiscoveryResult;
+import com.aas.shinhan.aas.service.DiscoveryIndexService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 활성 AAS / Submodel 탐색 API 컨트롤러
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/aas/discovery")
+public class DiscoveryController {
+
+    private final DiscoveryIndexService discoveryIndexService;
+
+    /**
+     * AAS 탐색 (같은 파라미터 반복 시 OR)
+     * GET /aas/discovery/shells?globalAssetId=urn:asset:1&globalAssetId=urn:asset:2
+     * GET /aas/discovery/shells?globalAssetId=urn:asset:1&assetKind=Instance&match=all
+     * match=all(기본)이면 globalAssetId와 assetKind 조건을 AND, any면 OR
+     */
+    @GetMapping("/shells")
+    public ResponseEntity<?> findShells(
+            @RequestParam(required = false) List<String> globalAssetId,
+            @RequestParam(required = false) List<String> assetKind,
+            @RequestParam(defaultValue = "all") String match) {
+
+        if (isEmpty(globalAssetId) && isEmpty(assetKind)) {
+            return ResponseEntity.badRequest().body("globalAssetId or assetKind is required");
+        }
+        if (!"all".equalsIgnoreCase(match) && !"any".equalsIgnoreCase(match)) {
+            return ResponseEntity.badRequest().body("match must be 'all' or 'any'");
+        }
+        DiscoveryResult result = discoveryIndexService.findShells(globalAssetId, assetKind,
+                "all".equalsIgnoreCase(match));
+        log.debug("AAS 탐색: globalAssetId={}, assetKind={}, match={}, {}건 ({}, {}us)", globalAssetId, assetKind,
+                match, result.getIds().size(), result.getSource(), result.getElapsedMicros());
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * Submodel 탐색 (semanticId 반복 시 OR)
+     * GET /aas/discovery/submodels?semanticId=https://admin-shell.io/zvei/nameplate/2/0/Nameplate
+     */
+    @GetMapping("/submodels")
+    public ResponseEntity<?> findSubmodels(@RequestParam(required = false) List<String> semanticId) {
+        if (isEmpty(semanticId)) {
+            return ResponseEntity.badRequest().body("semanticId is required");
+        }
+        DiscoveryResult result = discoveryIndexService.findSubmodels(semanticId);
+        log.debug("Submodel 탐색: semanticId={}, {}건 ({}, {}us)", semanticId, result.getIds().size(),
+                result.getSource(), result.getElapsedMicros());
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * 탐색 색인 상태
+     * GET /aas/discovery/index
+     */
+    @GetMapping("/index")
+    public ResponseEntity<DiscoveryIndexStats> stats() {
+        return ResponseEntity.ok(discoveryIndexService.stats());
+    }
+
+    /**
+     * 탐색 색인 재구성 (재구성 중 조회는 DB로 응답)
+     * POST /aas/discovery/index/rebuild
+     */
+    @PostMapping("/index/rebuild")
+    public ResponseEntity<DiscoveryIndexStats> rebuild() {
+        log.info("탐색 색인 재구성 요청");
+        return ResponseEntity.ok(discoveryIndexService.rebuild());
+    }
+
+    private static boolean isEmpty(List<String> values) {
+        return values == null || values.isEmpty();
+    }
+}
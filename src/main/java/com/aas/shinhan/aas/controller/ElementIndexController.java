@@ -0,0 +1,67 @@
+package com.aas.shinhan.aas.controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.aas.shinhan.aas.dto.ElementIndexRebuildResult;
+import com.aas.shinhan.aas.dto.ElementSearchHit;
+import com.aas.shinhan.aas.service.ElementIndexService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 활성 Submodel 요소 검색 API 컨트롤러
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/aas/elements")
+public class ElementIndexController {
+
+    private final ElementIndexService elementIndexService;
+
+    /**
+     * 요소 검색 (path 또는 semanticId 필수, 나머지 조건은 AND)
+     * GET /aas/elements/search?path=Nameplate.ManufacturerName&value=ACME
+     * GET /aas/elements/search?path=TechnicalData.*&min=10&max=20
+     * GET /aas/elements/search?semanticId=0173-1#02-AAO677#002&limit=50
+     * path 끝의 '*'는 접두어 검색, value는 대소문자/앞뒤 공백 무시 완전 일치, min/max는 숫자형 값 범위 (포함)
+     * Range 요소는 "경로.min" / "경로.max"로 색인된다.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<?> search(
+            @RequestParam(required = false) String path,
+            @RequestParam(required = false) String semanticId,
+            @RequestParam(required = false) String value,
+            @RequestParam(required = false) Double min,
+            @RequestParam(required = false) Double max,
+            @RequestParam(required = false) Integer limit) {
+
+        log.info("요소 검색: path={}, semanticId={}, value={}, min={}, max={}, limit={}",
+                path, semanticId, value, min, max, limit);
+        try {
+            List<ElementSearchHit> hits = elementIndexService.search(path, semanticId, value, min, max, limit);
+            return ResponseEntity.ok(hits);
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 요소 검색 조건: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    /**
+     * 활성 Submodel 전체 요소 색인 재구성 (색인 도입 전 데이터 이관용)
+     * POST /aas/elements/index/rebuild
+     */
+    @PostMapping("/index/rebuild")
+    public ResponseEntity<ElementIndexRebuildResult> rebuild() {
+        log.info("요소 색인 재구성 요청");
+        return ResponseEntity.ok(elementIndexService.rebuild());
+    }
+}
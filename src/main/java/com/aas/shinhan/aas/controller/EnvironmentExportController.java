@@ -0,0 +1,67 @@
+package com.aas.shinhan.aas.controller;
+
+import java.util.List;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.aas.shinhan.aas.service.EnvironmentExportService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 활성 Environment 내보내기 API 컨트롤러
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/aas/export")
+public class EnvironmentExportController {
+
+    private final EnvironmentExportService environmentExportService;
+
+    /**
+     * 활성 AAS / Submodel / ConceptDescription 전체를 하나의 파일로 스트리밍
+     * GET /aas/export                              AASX 패키지
+     * GET /aas/export?format=json                  Environment JSON
+     * GET /aas/export?aasId=...&aasId=...          지정한 AAS와 연결된 Submodel만
+     * GET /aas/export?concept-descriptions=false   ConceptDescription 제외
+     */
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> exportEnvironment(
+            @RequestParam(value = "format", defaultValue = "aasx") String format,
+            @RequestParam(value = "aasId", required = false) List<String> aasIds,
+            @RequestParam(value = "concept-descriptions", defaultValue = "true") boolean includeConceptDescriptions) {
+
+        List<String> filter = aasIds == null || aasIds.isEmpty() ? null : aasIds;
+        log.info("Environment 내보내기 요청: format={}, aasIds={}, conceptDescriptions={}", format,
+                filter != null ? filter.size() : "all", includeConceptDescriptions);
+
+        if ("json".equalsIgnoreCase(format)) {
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .header(HttpHeaders.CONTENT_DISPOSITION, attachment("environment.json"))
+                    .body(out -> environmentExportService.writeJson(filter, includeConceptDescriptions, out));
+        }
+        if (!"aasx".equalsIgnoreCase(format)) {
+            log.warn("지원하지 않는 내보내기 형식: {}", format);
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(EnvironmentExportService.AASX_CONTENT_TYPE))
+                .header(HttpHeaders.CONTENT_DISPOSITION, attachment("environment.aasx"))
+                .body(out -> environmentExportService.writeAasx(filter, includeConceptDescriptions, out));
+    }
+
+    private static String attachment(String filename) {
+        return ContentDisposition.attachment().filename(filename).build().toString();
+    }
+}
@@ -0,0 +1,36 @@
+package com.aas.shinhan.aas.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.aas.shinhan.aas.dto.MetricsOverheadResult;
+import com.aas.shinhan.aas.service.IngestMetrics;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 업로드 계측 관리 API 컨트롤러 (계측 값 자체는 /actuator/prometheus)
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/aas/metrics")
+public class MetricsController {
+
+    private final IngestMetrics ingestMetrics;
+
+    /**
+     * 요소 한 건당 계측 비용 측정 (별도 레지스트리에 기록, 운영 지표에 영향 없음)
+     * GET /aas/metrics/overhead/benchmark?iterations=100000
+     */
+    @GetMapping("/overhead/benchmark")
+    public ResponseEntity<MetricsOverheadResult> benchmarkOverhead(
+            @RequestParam(value = "iterations", defaultValue = "100000") int iterations) {
+        log.info("계측 비용 측정 요청: iterations={}", iterations);
+        return ResponseEntity.ok(ingestMetrics.benchmarkOverhead(iterations));
+    }
+}
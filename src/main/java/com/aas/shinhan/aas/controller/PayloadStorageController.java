@@ -0,0 +1,58 @@
+package com.aas.shinhan.aas.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.aas.shinhan.aas.dto.CodecBenchmarkResult;
+import com.aas.shinhan.aas.dto.PayloadMigrationResult;
+import com.aas.shinhan.aas.service.PayloadStorageService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 압축 저장 관리 API 컨트롤러
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/aas/storage")
+public class PayloadStorageController {
+
+    private final PayloadStorageService payloadStorageService;
+
+    /**
+     * 활성 Submodel 표본으로 코덱별 압축률/처리량 측정
+     * GET /aas/storage/codecs/benchmark?sampleSize=100
+     */
+    @GetMapping("/codecs/benchmark")
+    public ResponseEntity<CodecBenchmarkResult> benchmarkCodecs(
+            @RequestParam(value = "sampleSize", defaultValue = "100") int sampleSize) {
+        log.info("코덱 벤치마크 요청: sampleSize={}", sampleSize);
+        return ResponseEntity.ok(payloadStorageService.benchmark(sampleSize));
+    }
+
+    /**
+     * 이전 형식(CLOB) 저장 내용을 압축 저장으로 이관
+     * POST /aas/storage/payloads/migrate
+     */
+    @PostMapping("/payloads/migrate")
+    public ResponseEntity<PayloadMigrationResult> migrateLegacyPayloads() {
+        log.info("이전 형식 저장 내용 이관 요청");
+        return ResponseEntity.ok(payloadStorageService.migrateLegacyPayloads());
+    }
+
+    /**
+     * 값 전용 표현이 없는 활성 Submodel에 값 전용 표현 생성 (bytesBefore=전체 JSON, bytesAfter=값 전용 저장 크기)
+     * POST /aas/storage/values/migrate
+     */
+    @PostMapping("/values/migrate")
+    public ResponseEntity<PayloadMigrationResult> migrateValuePayloads() {
+        log.info("값 전용 표현 생성 요청");
+        return ResponseEntity.ok(payloadStorageService.migrateValuePayloads());
+    }
+}
@@ -1,7 +1,9 @@
 package com.aas.shinhan.aas.controller;
 
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -9,11 +11,22 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.aas.shinhan.aas.dto.CompactionResult;
+import com.aas.shinhan.aas.dto.ListingPage;
+import com.aas.shinhan.aas.dto.PayloadMetadata;
+import com.aas.shinhan.aas.dto.ReconstructedVersion;
+import com.aas.shinhan.aas.dto.SubmodelSummary;
 import com.aas.shinhan.aas.dto.VersionInfo;
 import com.aas.shinhan.aas.entity.SubmodelEntity;
 import com.aas.shinhan.aas.service.AasStorageService;
+import com.aas.shinhan.aas.service.IdentifiableListingService;
+import com.aas.shinhan.aas.service.RawDocumentService;
+import com.aas.shinhan.aas.service.VersionStorageService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -28,22 +41,42 @@ import lombok.extern.slf4j.Slf4j;
 public class SubmodelVersionController {
 
     private final AasStorageService aasStorageService;
+    private final VersionStorageService versionStorageService;
+    private final IdentifiableListingService listingService;
+    private final RawDocumentService rawDocumentService;
 
     /**
-     * 특정 AAS에 연결된 활성화된 Submodel 목록 조회
-     * GET /aas/submodels?aasId={aasId}
+     * 활성화된 Submodel 목록 조회
+     * GET /aas/submodels?aasId={aasId}          특정 AAS에 연결된 Submodel 목록
+     * GET /aas/submodels                        전체 목록을 JSON 배열로 스트리밍
+     * GET /aas/submodels?limit=100&cursor=...   키셋 페이지 (응답의 nextCursor로 다음 페이지 조회)
      */
     @GetMapping
-    public ResponseEntity<List<SubmodelEntity>> getSubmodelsByAasId(
-            @org.springframework.web.bind.annotation.RequestParam(required = false) String aasId) {
+    public ResponseEntity<?> getSubmodelsByAasId(
+            @RequestParam(required = false) String aasId,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor) {
 
         if (aasId != null) {
             log.info("AAS에 연결된 Submodel 목록 조회: aasId={}", aasId);
-            List<SubmodelEntity> submodels = aasStorageService.getActiveSubmodelsByAasId(aasId);
+            List<SubmodelSummary> submodels = aasStorageService.getActiveSubmodelsByAasId(aasId);
             return ResponseEntity.ok(submodels);
         }
 
-        return ResponseEntity.badRequest().build();
+        if (limit == null && cursor == null) {
+            log.info("모든 활성화된 Submodel 목록 스트리밍 조회");
+            StreamingResponseBody body = listingService::writeActiveSubmodels;
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+        }
+
+        log.info("활성화된 Submodel 목록 페이지 조회: limit={}, cursor={}", limit, cursor);
+        try {
+            ListingPage<SubmodelSummary> page = listingService.getActiveSubmodelPage(cursor, limit);
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 목록 커서: {}", cursor);
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
     }
 
     /**
@@ -62,6 +95,68 @@ public class SubmodelVersionController {
         }
     }
 
+    /**
+     * 활성 Submodel 문서 원본 조회 (JSON을 문자열 필드로 감싸지 않고 저장 내용 그대로 스트리밍)
+     * GET /aas/submodels/{submodelId}/raw
+     * ID/버전은 X-Entity-Id, X-Entity-Version 헤더로, ETag는 콘텐츠 해시 (If-None-Match 일치 시 304)
+     */
+    @GetMapping("/{submodelId}/raw")
+    public ResponseEntity<StreamingResponseBody> getActiveSubmodelDocument(@PathVariable String submodelId,
+            WebRequest webRequest) {
+        log.info("Submodel 문서 원본 조회: submodelId={}", submodelId);
+        Optional<PayloadMetadata> found = rawDocumentService.getActiveSubmodelMetadata(submodelId);
+        if (found.isEmpty()) {
+            log.warn("Submodel을 찾을 수 없음: {}", submodelId);
+            return ResponseEntity.notFound().build();
+        }
+
+        PayloadMetadata metadata = found.get();
+        String etag = metadata.getContentHash() != null ? "\"" + metadata.getContentHash() + "\"" : null;
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("X-Entity-Id", metadata.getEntityId())
+                .header("X-Entity-Version", String.valueOf(metadata.getVersion()));
+        if (etag != null) {
+            response.eTag(etag);
+        }
+        return response.body(out -> rawDocumentService.writeSubmodelDocument(metadata, out));
+    }
+
+    /**
+     * 활성 Submodel 값 전용(Value-Only) 표현 조회 (AAS Part 2, 저장 시 미리 만든 표현을 파싱 없이 전송)
+     * GET /aas/submodels/{submodelId}/$value
+     * ETag는 콘텐츠 해시 기반 (전체 문서 ETag와 구분되도록 "-value" 접미사)
+     */
+    @GetMapping("/{submodelId}/$value")
+    public ResponseEntity<StreamingResponseBody> getActiveSubmodelValue(@PathVariable String submodelId,
+            WebRequest webRequest) {
+        log.info("Submodel 값 전용 표현 조회: submodelId={}", submodelId);
+        Optional<PayloadMetadata> found = rawDocumentService.getActiveSubmodelMetadata(submodelId);
+        if (found.isEmpty()) {
+            log.warn("Submodel을 찾을 수 없음: {}", submodelId);
+            return ResponseEntity.notFound().build();
+        }
+
+        PayloadMetadata metadata = found.get();
+        String etag = metadata.getContentHash() != null ? "\"" + metadata.getContentHash() + "-value\"" : null;
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("X-Entity-Id", metadata.getEntityId())
+                .header("X-Entity-Version", String.valueOf(metadata.getVersion()));
+        if (etag != null) {
+            response.eTag(etag);
+        }
+        return response.body(out -> rawDocumentService.writeSubmodelValue(metadata, out));
+    }
+
     /**
      * 특정 Submodel의 버전 목록 조회
      * GET /aas/submodels/{submodelId}/versions
@@ -73,6 +168,42 @@ public class SubmodelVersionController {
         return ResponseEntity.ok(versions);
     }
 
+    /**
+     * 특정 Submodel 과거 버전 내용 조회 (델타 버전은 복원 후 반환)
+     * GET /aas/submodels/{submodelId}/versions/{version}
+     * 복원 비용은 X-Reconstruction-* 헤더로 전달
+     */
+    @GetMapping("/{submodelId}/versions/{version}")
+    public ResponseEntity<String> getSubmodelVersion(
+            @PathVariable String submodelId,
+            @PathVariable Integer version) {
+
+        log.info("Submodel 버전 내용 조회: submodelId={}, version={}", submodelId, version);
+        try {
+            ReconstructedVersion restored = versionStorageService.reconstructSubmodel(submodelId, version);
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .header("X-Reconstruction-Base-Version", String.valueOf(restored.getBaseVersion()))
+                    .header("X-Reconstruction-Deltas", String.valueOf(restored.getDeltasApplied()))
+                    .header("X-Reconstruction-Bytes", String.valueOf(restored.getBytesRead()))
+                    .header("X-Reconstruction-Millis", String.valueOf(restored.getElapsedMillis()))
+                    .body(restored.getJson());
+        } catch (IllegalArgumentException e) {
+            log.warn("버전을 찾을 수 없음: {}", e.getMessage());
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    /**
+     * 특정 Submodel의 과거 버전 전체를 델타로 변환 (기존 이력 이관용)
+     * POST /aas/submodels/{submodelId}/versions/compact
+     */
+    @PostMapping("/{submodelId}/versions/compact")
+    public ResponseEntity<CompactionResult> compactSubmodelVersions(@PathVariable String submodelId) {
+        log.info("Submodel 버전 이력 델타 변환 요청: submodelId={}", submodelId);
+        return ResponseEntity.ok(versionStorageService.compactSubmodel(submodelId));
+    }
+
     /**
      * 특정 Submodel 버전 활성화
      * POST /aas/submodels/{submodelId}/versions/{version}/activate
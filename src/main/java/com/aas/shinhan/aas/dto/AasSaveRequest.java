@@ -1,5 +1,7 @@
 package com.aas.shinhan.aas.dto;
 
+import com.aas.shinhan.core.codec.EncodedPayload;
+
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
@@ -16,5 +18,7 @@ public class AasSaveRequest {
     private String assetKind;
     private String globalAssetId;
     private String aasJson;
+    private String contentHash;        // 정규화 JSON SHA-256 (null이면 저장 시 계산)
+    private EncodedPayload payload;    // 압축된 JSON (null이면 저장 시 인코딩)
     private boolean createNewVersion;  // true면 새 버전 생성, false면 기존 버전 업데이트
 }
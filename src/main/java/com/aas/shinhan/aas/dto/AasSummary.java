@@ -0,0 +1,25 @@
+package com.aas.shinhan.aas.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 활성 AAS 목록 항목 (JSON 제외 메타데이터, 내용은 GET /aas/shells/{aasId}로 조회)
+ */
+@Getter
+@AllArgsConstructor
+public class AasSummary {
+    private Long seq;
+    private String aasId;
+    private String idShort;
+    private String assetKind;
+    private String globalAssetId;
+    private Integer version;
+    private Boolean isActive;
+    private String createdBy;
+    private LocalDateTime createdAt;
+    private String updatedBy;
+    private LocalDateTime updatedAt;
+}
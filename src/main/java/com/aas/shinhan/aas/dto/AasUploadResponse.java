@@ -11,5 +11,9 @@ public class AasUploadResponse {
     private List<String> aasIds;
     private List<String> submodelIds;
     private List<String> conceptDescriptionIds;
+    // 활성 버전과 내용이 같아 저장하지 않은 ID (위 목록의 부분집합)
+    private List<String> unchangedAasIds;
+    private List<String> unchangedSubmodelIds;
+    private List<String> unchangedConceptDescriptionIds;
     private String message;
 }
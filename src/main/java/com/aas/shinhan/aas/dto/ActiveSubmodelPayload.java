@@ -0,0 +1,33 @@
+package com.aas.shinhan.aas.dto;
+
+import com.aas.shinhan.core.codec.PayloadCodec;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * 활성 Submodel 저장 내용 (요소 색인 재구성용, 영속성 컨텍스트 밖에서 사용)
+ */
+@Getter
+public class ActiveSubmodelPayload {
+    private final Long seq;
+    private final String submodelId;
+    @Getter(AccessLevel.NONE)
+    private final byte[] encoded;
+    @Getter(AccessLevel.NONE)
+    private final String codec;
+    @Getter(AccessLevel.NONE)
+    private final String legacyJson;
+
+    public ActiveSubmodelPayload(Long seq, String submodelId, byte[] encoded, String codec, String legacyJson) {
+        this.seq = seq;
+        this.submodelId = submodelId;
+        this.encoded = encoded;
+        this.codec = codec;
+        this.legacyJson = legacyJson;
+    }
+
+    public String getJson() {
+        return encoded != null ? PayloadCodec.decodeToString(codec, encoded) : legacyJson;
+    }
+}
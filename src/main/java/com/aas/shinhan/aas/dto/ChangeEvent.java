@@ -0,0 +1,30 @@
+package com.aas.shinhan.aas.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 저장/활성화 변경 이벤트 (AAS_CHANGE_EVENT 한 행, /aas/events SSE data)
+ */
+@Getter
+@Builder(toBuilder = true)
+public class ChangeEvent {
+
+    public enum Operation {
+        CREATED,    // 새 버전 생성
+        UPDATED,    // 기존 버전 덮어쓰기 (createNewVersion=false)
+        ACTIVATED   // 기존 버전 활성화
+    }
+
+    private Long eventId;             // 커밋 순서 번호 (기록 전에는 null)
+    private PreparedIdentifiable.Kind entityType;
+    private String entityId;
+    private String aasId;             // AAS는 자신, Submodel은 소속 AAS (ConceptDescription은 null)
+    private String semanticId;        // Submodel만
+    private Integer version;
+    private Operation operation;
+    private String changedBy;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,29 @@
+package com.aas.shinhan.aas.dto;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 저장 코덱 벤치마크 결과 (실제 활성 Submodel 표본 기준)
+ */
+@Getter
+@Builder
+public class CodecBenchmarkResult {
+    private int sampleSize;           // 표본 Submodel 수
+    private long rawBytes;            // 표본 JSON 크기 합계 (UTF-8 바이트)
+    private int iterations;           // 측정 반복 횟수 (워밍업 제외)
+    private String configuredCodec;
+    private List<CodecStats> codecs;
+
+    @Getter
+    @Builder
+    public static class CodecStats {
+        private String codec;
+        private long encodedBytes;
+        private double ratio;             // 인코딩 크기 / 원본 크기
+        private double encodeMbPerSec;
+        private double decodeMbPerSec;
+    }
+}
@@ -0,0 +1,16 @@
+package com.aas.shinhan.aas.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 버전 이력 델타 변환 결과
+ */
+@Getter
+@Builder
+public class CompactionResult {
+    private String entityId;
+    private int convertedVersions;
+    private long bytesBefore;         // 변환된 행의 기존 저장 크기 합계 (압축 후 바이트)
+    private long bytesAfter;          // 변환된 행의 델타 저장 크기 합계 (압축 후 바이트)
+}
@@ -0,0 +1,22 @@
+package com.aas.shinhan.aas.dto;
+
+import com.aas.shinhan.core.codec.EncodedPayload;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * ConceptDescription 저장 요청 DTO
+ */
+@Getter
+@Setter
+@Builder
+public class ConceptDescriptionSaveRequest {
+    private String cdId;
+    private String idShort;
+    private String cdJson;
+    private String contentHash;        // 정규화 JSON SHA-256 (null이면 저장 시 계산)
+    private EncodedPayload payload;    // 압축된 JSON (null이면 저장 시 인코딩)
+    private boolean createNewVersion;  // true면 새 버전 생성, false면 기존 버전 업데이트
+}
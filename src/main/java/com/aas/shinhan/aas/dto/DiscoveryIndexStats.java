@@ -0,0 +1,18 @@
+package com.aas.shinhan.aas.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 탐색 색인 상태
+ */
+@Getter
+@Builder
+public class DiscoveryIndexStats {
+    private boolean ready;
+    private int shells;
+    private int shellTerms;
+    private int submodels;
+    private int submodelTerms;
+    private long lastBuildMillis;
+}
@@ -0,0 +1,23 @@
+package com.aas.shinhan.aas.dto;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 탐색 조회 결과
+ */
+@Getter
+@Builder
+public class DiscoveryResult {
+
+    public enum Source {
+        INDEX,      // 메모리 역색인
+        DATABASE    // 색인 적재 전/비활성화 시 DB 조회
+    }
+
+    private List<String> ids;
+    private Source source;
+    private long elapsedMicros;
+}
@@ -0,0 +1,33 @@
+package com.aas.shinhan.aas.dto;
+
+import lombok.Getter;
+
+/**
+ * 탐색 색인 적재용 활성 행 (색인 검색어 컬럼만, JSON 컬럼 제외)
+ */
+@Getter
+public class DiscoveryRow {
+    private final Long seq;
+    private final String entityId;
+    private final String globalAssetId;   // AAS
+    private final String assetKind;       // AAS
+    private final String semanticId;      // Submodel
+
+    // AAS
+    public DiscoveryRow(Long seq, String entityId, String globalAssetId, String assetKind) {
+        this.seq = seq;
+        this.entityId = entityId;
+        this.globalAssetId = globalAssetId;
+        this.assetKind = assetKind;
+        this.semanticId = null;
+    }
+
+    // Submodel
+    public DiscoveryRow(Long seq, String entityId, String semanticId) {
+        this.seq = seq;
+        this.entityId = entityId;
+        this.globalAssetId = null;
+        this.assetKind = null;
+        this.semanticId = semanticId;
+    }
+}
@@ -0,0 +1,19 @@
+package com.aas.shinhan.aas.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Submodel 요소 색인 한 건 (idShort 경로 기준으로 평탄화한 요소)
+ * 값은 검색용으로 정규화한 값이며 (문자열: 공백 제거 + 소문자, 숫자형: double), 원본 값은 문서에서 확인한다.
+ */
+@Getter
+@AllArgsConstructor
+public class ElementIndexEntry {
+    private String idShortPath;       // 예: Nameplate.ManufacturerName, Markings[0].MarkingName, Range.min
+    private String modelType;         // Property, Range, MultiLanguageProperty, SubmodelElementCollection ...
+    private String semanticId;
+    private String valueType;         // DataTypeDefXsd 이름 (Property/Range만)
+    private String stringValue;
+    private Double numericValue;      // 숫자형 valueType이고 해석 가능한 경우만
+}
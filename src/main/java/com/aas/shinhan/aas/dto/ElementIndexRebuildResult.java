@@ -0,0 +1,15 @@
+package com.aas.shinhan.aas.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 활성 Submodel 요소 색인 재구성 결과
+ */
+@Getter
+@Builder
+public class ElementIndexRebuildResult {
+    private long submodels;
+    private long elements;
+    private long elapsedMillis;
+}
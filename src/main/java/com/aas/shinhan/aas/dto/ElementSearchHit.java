@@ -0,0 +1,20 @@
+package com.aas.shinhan.aas.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 요소 색인 검색 결과 한 건
+ */
+@Getter
+@AllArgsConstructor
+public class ElementSearchHit {
+    private String submodelId;
+    private Long submodelSeq;
+    private String idShortPath;
+    private String modelType;
+    private String semanticId;
+    private String valueType;
+    private String stringValue;       // 정규화된 값
+    private Double numericValue;
+}
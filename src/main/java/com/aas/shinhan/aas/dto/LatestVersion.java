@@ -0,0 +1,17 @@
+package com.aas.shinhan.aas.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 식별자별 최신/활성 버전 행 정보 (일괄 버전 조회용)
+ */
+@Getter
+@AllArgsConstructor
+public class LatestVersion {
+    private String entityId;
+    private Integer version;
+    private Long seq;
+    private Boolean active;
+    private String contentHash;
+}
@@ -0,0 +1,14 @@
+package com.aas.shinhan.aas.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 이전 형식(CLOB) 저장 행 (압축 저장 이관용)
+ */
+@Getter
+@AllArgsConstructor
+public class LegacyPayload {
+    private Long seq;
+    private String json;
+}
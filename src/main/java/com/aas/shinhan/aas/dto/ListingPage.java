@@ -0,0 +1,17 @@
+package com.aas.shinhan.aas.dto;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 키셋 페이지네이션 목록 응답
+ */
+@Getter
+@Builder
+public class ListingPage<T> {
+    private List<T> items;
+    private int limit;
+    private String nextCursor;        // 다음 페이지 토큰 (마지막 페이지면 null)
+}
@@ -0,0 +1,17 @@
+package com.aas.shinhan.aas.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 업로드 계측 비용 측정 결과 (호출 1회당 ns)
+ */
+@Getter
+@Builder
+public class MetricsOverheadResult {
+    private int iterations;
+    private double clockReadNanos;        // System.nanoTime() 1회
+    private double timerRecordNanos;      // 타이머 기록 1회
+    private double transformRecordNanos;  // 변환 결과 기록 1회 (타이머, 카운터, 크기 분포 2개)
+    private double perEntityNanos;        // 요소 1건당 추가되는 계측 비용 합계
+}
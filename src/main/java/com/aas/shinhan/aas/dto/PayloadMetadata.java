@@ -0,0 +1,16 @@
+package com.aas.shinhan.aas.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 저장 내용 원본 전송용 행 정보 (응답 헤더/ETag 구성용, JSON 컬럼 제외)
+ */
+@Getter
+@AllArgsConstructor
+public class PayloadMetadata {
+    private Long seq;
+    private String entityId;
+    private Integer version;
+    private String contentHash;
+}
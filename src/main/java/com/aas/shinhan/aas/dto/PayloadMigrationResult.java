@@ -0,0 +1,19 @@
+package com.aas.shinhan.aas.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 이전 형식(CLOB) 저장 내용의 압축 저장 이관 결과
+ */
+@Getter
+@Builder
+public class PayloadMigrationResult {
+    private String codec;
+    private long aasRows;
+    private long submodelRows;
+    private long conceptDescriptionRows;
+    private long bytesBefore;         // 이관 전 JSON 크기 합계 (UTF-8 바이트)
+    private long bytesAfter;          // 이관 후 저장 크기 합계
+    private long elapsedMillis;
+}
@@ -0,0 +1,36 @@
+package com.aas.shinhan.aas.dto;
+
+import java.util.List;
+
+import com.aas.shinhan.core.codec.EncodedPayload;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 업로드 파이프라인 변환 단계 결과 DTO
+ * 직렬화된 JSON과 저장에 필요한 메타데이터(semanticId, assetKind, globalAssetId 등)를 담는다.
+ */
+@Getter
+@Builder
+public class PreparedIdentifiable {
+
+    public enum Kind {
+        AAS, SUBMODEL, CONCEPT_DESCRIPTION
+    }
+
+    private Kind kind;
+    private String id;
+    private String idShort;
+    private String json;
+    private String contentHash;       // 정규화 JSON SHA-256
+    private EncodedPayload payload;   // 압축된 JSON
+    private EncodedPayload valuePayload;  // 압축된 값 전용 JSON (Submodel만)
+    private String semanticId;
+    private String assetKind;
+    private String globalAssetId;
+    private List<String> submodelReferences;
+    private int elementCount;
+    private List<ElementIndexEntry> elementIndex;  // Submodel 요소 색인 (색인 비활성화 시 null)
+    private String error;             // 직렬화 실패 시 메시지 (성공이면 null)
+}
@@ -0,0 +1,19 @@
+package com.aas.shinhan.aas.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 과거 버전 복원 결과 및 복원 비용
+ */
+@Getter
+@Builder
+public class ReconstructedVersion {
+    private String entityId;
+    private Integer version;
+    private String json;
+    private Integer baseVersion;      // 복원 시작점이 된 FULL 버전
+    private int deltasApplied;        // 적용한 델타 수
+    private long bytesRead;           // 읽은 저장 내용 크기 (압축 후 바이트)
+    private long elapsedMillis;
+}
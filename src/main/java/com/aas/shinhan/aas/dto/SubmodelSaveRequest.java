@@ -1,5 +1,9 @@
 package com.aas.shinhan.aas.dto;
 
+import java.util.List;
+
+import com.aas.shinhan.core.codec.EncodedPayload;
+
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
@@ -16,5 +20,9 @@ public class SubmodelSaveRequest {
     private String semanticId;
     private String aasId;
     private String submodelJson;
+    private String contentHash;        // 정규화 JSON SHA-256 (null이면 저장 시 계산)
+    private EncodedPayload payload;    // 압축된 JSON (null이면 저장 시 인코딩)
+    private EncodedPayload valuePayload;  // 압축된 값 전용 JSON (null이면 저장 시 생성)
     private boolean createNewVersion;  // true면 새 버전 생성, false면 기존 버전 업데이트
+    private List<ElementIndexEntry> elementIndex;  // 평탄화한 요소 색인 (null이면 저장 시 JSON에서 생성)
 }
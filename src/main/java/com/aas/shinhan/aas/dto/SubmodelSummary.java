@@ -0,0 +1,25 @@
+package com.aas.shinhan.aas.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 활성 Submodel 목록 항목 (JSON 제외 메타데이터, 내용은 GET /aas/submodels/{submodelId}로 조회)
+ */
+@Getter
+@AllArgsConstructor
+public class SubmodelSummary {
+    private Long seq;
+    private String submodelId;
+    private String idShort;
+    private String semanticId;
+    private String aasId;
+    private Integer version;
+    private Boolean isActive;
+    private String createdBy;
+    private LocalDateTime createdAt;
+    private String updatedBy;
+    private LocalDateTime updatedAt;
+}
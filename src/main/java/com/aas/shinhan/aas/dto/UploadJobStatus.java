@@ -0,0 +1,29 @@
+package com.aas.shinhan.aas.dto;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 비동기 업로드 작업 상태 DTO
+ */
+@Getter
+@Builder
+public class UploadJobStatus {
+    private String jobId;
+    private String status;              // QUEUED, RUNNING, COMPLETED, FAILED
+    private String filename;
+    private long fileSize;
+    private String uploadedBy;
+    private LocalDateTime submittedAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private long bytesRead;
+    private long entitiesParsed;
+    private long entitiesPersisted;
+    private Map<String, Long> stageMillis;
+    private AasUploadResponse result;   // 완료 시에만 존재
+    private String error;               // 실패 시에만 존재
+}
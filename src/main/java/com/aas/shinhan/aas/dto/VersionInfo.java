@@ -2,23 +2,43 @@ package com.aas.shinhan.aas.dto;
 
 import java.time.LocalDateTime;
 
+import com.aas.shinhan.aas.entity.StorageType;
+
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
 /**
  * 버전 정보 DTO
  * BaSyx 프론트엔드의 AasVersionInfo 인터페이스를 참고하여 설계
+ * 저장소의 메타데이터 조회 쿼리에서 직접 생성되며 JSON 컬럼은 읽지 않는다.
  */
 @Getter
 @Builder
+@AllArgsConstructor
 public class VersionInfo {
     private Long seq;
     private String entityId;          // AAS ID, Submodel ID, or CD ID
     private String idShort;
     private Integer version;
     private Boolean isActive;
+    private String storageType;       // FULL / DELTA (ConceptDescription은 null)
     private String createdBy;
     private LocalDateTime createdAt;
     private String updatedBy;
     private LocalDateTime updatedAt;
+
+    // AAS / Submodel 메타데이터 조회용
+    public VersionInfo(Long seq, String entityId, String idShort, Integer version, Boolean isActive,
+            StorageType storageType, String createdBy, LocalDateTime createdAt, String updatedBy,
+            LocalDateTime updatedAt) {
+        this(seq, entityId, idShort, version, isActive, storageType != null ? storageType.name() : null,
+                createdBy, createdAt, updatedBy, updatedAt);
+    }
+
+    // ConceptDescription 메타데이터 조회용 (저장 방식 없음)
+    public VersionInfo(Long seq, String entityId, String idShort, Integer version, Boolean isActive,
+            String createdBy, LocalDateTime createdAt, String updatedBy, LocalDateTime updatedAt) {
+        this(seq, entityId, idShort, version, isActive, (String) null, createdBy, createdAt, updatedBy, updatedAt);
+    }
 }
@@ -0,0 +1,53 @@
+package com.aas.shinhan.aas.dto;
+
+import com.aas.shinhan.aas.entity.StorageType;
+import com.aas.shinhan.core.codec.PayloadCodec;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * 버전 행 저장 내용 (델타 복원/압축용, 영속성 컨텍스트 밖에서 사용)
+ * FULL이면 전체 JSON, DELTA면 JSON Patch이며, 압축 내용은 {@link #getJson()} 호출 시 디코딩한다.
+ */
+@Getter
+public class VersionPayload {
+    private final Long seq;
+    private final Integer version;
+    private final StorageType storageType;
+    private final Boolean active;
+    private final byte[] encoded;           // 압축 저장 내용 (이전 형식 행은 null)
+    private final String codec;
+    @Getter(AccessLevel.NONE)
+    private final String legacyJson;        // 이전 형식 CLOB 내용
+    @Getter(AccessLevel.NONE)
+    private String json;
+
+    public VersionPayload(Long seq, Integer version, StorageType storageType, Boolean active,
+            byte[] encoded, String codec, String legacyJson) {
+        this.seq = seq;
+        this.version = version;
+        this.storageType = storageType;
+        this.active = active;
+        this.encoded = encoded;
+        this.codec = codec;
+        this.legacyJson = legacyJson;
+    }
+
+    public String getJson() {
+        if (json == null) {
+            json = encoded != null ? PayloadCodec.decodeToString(codec, encoded) : legacyJson;
+        }
+        return json;
+    }
+
+    /**
+     * 실제 저장된 크기 (압축 후 바이트, 이전 형식은 문자 수)
+     */
+    public long getStoredSize() {
+        if (encoded != null) {
+            return encoded.length;
+        }
+        return legacyJson != null ? legacyJson.length() : 0;
+    }
+}
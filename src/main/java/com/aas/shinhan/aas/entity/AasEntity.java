@@ -2,8 +2,14 @@ package com.aas.shinhan.aas.entity;
 
 import java.time.LocalDateTime;
 
+import com.aas.shinhan.core.codec.EncodedPayload;
+import com.aas.shinhan.core.codec.PayloadCodec;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -12,6 +18,9 @@ import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -19,7 +28,8 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "AAS_SHELL")
+@Table(name = "AAS_SHELL", uniqueConstraints = @UniqueConstraint(name = "UK_AAS_AAS_ID_VERSION",
+        columnNames = { "AAS_ID", "VERSION" }))
 @Getter
 @Setter
 @Builder
@@ -29,7 +39,8 @@ public class AasEntity {
 
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "aas_seq")
-    @SequenceGenerator(name = "aas_seq", sequenceName = "AAS_SEQ", allocationSize = 1)
+    // pooled-lo 블록 할당 (DB 시퀀스 INCREMENT BY 50과 일치해야 함)
+    @SequenceGenerator(name = "aas_seq", sequenceName = "AAS_SEQ", allocationSize = 50)
     private Long seq;
 
     @Column(name = "AAS_ID", nullable = false, length = 500)
@@ -47,13 +58,43 @@ public class AasEntity {
     @Column(name = "VERSION", nullable = false)
     private Integer version;
 
+    // 활성 여부 표시 (조회 기준은 활성 버전 포인터, 활성화 시 직전/새 활성 행만 갱신)
     @Column(name = "IS_ACTIVE", nullable = false)
     @Builder.Default
     private Boolean isActive = true;
 
+    // 압축 저장된 JSON (PAYLOAD_CODEC으로 인코딩, {@link #getAasJson()} 호출 시 디코딩)
+    @Lob
+    @JsonIgnore
+    @Setter(AccessLevel.NONE)
+    @Column(name = "AAS_PAYLOAD")
+    private byte[] payload;
+
+    @Setter(AccessLevel.NONE)
+    @Column(name = "PAYLOAD_CODEC", length = 10)
+    private String payloadCodec;
+
+    // 압축 저장 도입 이전 행의 JSON (PAYLOAD가 없을 때만 사용)
     @Lob
+    @JsonIgnore
+    @Setter(AccessLevel.NONE)
     @Column(name = "AAS_JSON", columnDefinition = "CLOB")
-    private String aasJson;
+    private String legacyJson;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private String decodedJson;
+
+    // 정규화 JSON SHA-256 (활성 버전과 같으면 새 버전을 만들지 않음)
+    @Column(name = "CONTENT_HASH", length = 64)
+    private String contentHash;
+
+    // DELTA 행의 JSON 컬럼에는 직전 버전 대비 JSON Patch가 저장됨 (활성 버전은 항상 FULL)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "STORAGE_TYPE", nullable = false, length = 10)
+    @Builder.Default
+    private StorageType storageType = StorageType.FULL;
 
     @Column(name = "CREATED_BY", length = 100)
     private String createdBy;
@@ -67,6 +108,23 @@ public class AasEntity {
     @Column(name = "UPDATED_AT")
     private LocalDateTime updatedAt;
 
+    /**
+     * AAS JSON (최초 호출 시 디코딩)
+     */
+    public String getAasJson() {
+        if (decodedJson == null) {
+            decodedJson = payload != null ? PayloadCodec.decodeToString(payloadCodec, payload) : legacyJson;
+        }
+        return decodedJson;
+    }
+
+    public void setEncodedPayload(EncodedPayload encoded) {
+        this.payload = encoded != null ? encoded.bytes() : null;
+        this.payloadCodec = encoded != null ? encoded.codecName() : null;
+        this.legacyJson = null;
+        this.decodedJson = null;
+    }
+
     @PrePersist
     protected void onCreate() {
         this.createdAt = LocalDateTime.now();
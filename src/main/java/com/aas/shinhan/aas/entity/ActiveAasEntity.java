@@ -0,0 +1,45 @@
+package com.aas.shinhan.aas.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * AAS 활성 버전 포인터 (AAS ID당 한 행)
+ * 활성화는 이 행 하나의 UPSERT이며, 활성 조회는 SEQ로 AAS_SHELL 기본 키를 조인한다.
+ */
+@Entity
+@Table(name = "AAS_SHELL_ACTIVE")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActiveAasEntity {
+
+    @Id
+    @Column(name = "AAS_ID", nullable = false, length = 500)
+    private String aasId;
+
+    // 활성 버전 행 SEQ (AAS_SHELL.SEQ)
+    @Column(name = "SEQ", nullable = false)
+    private Long seq;
+
+    @Column(name = "VERSION", nullable = false)
+    private Integer version;
+
+    // 활성 버전 행의 CREATED_AT (활성 목록 키셋 정렬용)
+    @Column(name = "CREATED_AT", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "ACTIVATED_AT", nullable = false)
+    private LocalDateTime activatedAt;
+}
@@ -0,0 +1,26 @@
+package com.aas.shinhan.aas.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 변경 이벤트 번호 카운터 (AAS_CHANGE_EVENT_COUNTER, COUNTER_ID=1 한 행)
+ * 스키마 매핑용이며, 번호 예약은 {@code ChangeEventJdbcRepository}가 UPDATE로 행을 잠가 처리한다.
+ */
+@Entity
+@Table(name = "AAS_CHANGE_EVENT_COUNTER")
+@Getter
+@NoArgsConstructor
+public class ChangeEventCounterEntity {
+
+    @Id
+    @Column(name = "COUNTER_ID")
+    private Integer counterId;
+
+    @Column(name = "LAST_EVENT_ID", nullable = false)
+    private Long lastEventId;
+}
@@ -0,0 +1,54 @@
+package com.aas.shinhan.aas.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 변경 이벤트 아웃박스 행 (AAS_CHANGE_EVENT)
+ * 기록/조회는 {@code ChangeEventJdbcRepository}가 JDBC로 처리하며, 엔티티는 스키마 매핑용이다.
+ * EVENT_ID는 카운터 행을 커밋 직전에 잠가 예약하므로 커밋 순서대로 빈 번호 없이 증가한다.
+ */
+@Entity
+@Table(name = "AAS_CHANGE_EVENT", indexes = {
+        @Index(name = "IDX_CHG_AAS_ID", columnList = "AAS_ID, EVENT_ID"),
+        @Index(name = "IDX_CHG_SEMANTIC_ID", columnList = "SEMANTIC_ID, EVENT_ID"),
+        @Index(name = "IDX_CHG_CREATED_AT", columnList = "CREATED_AT") })
+@Getter
+@NoArgsConstructor
+public class ChangeEventEntity {
+
+    @Id
+    @Column(name = "EVENT_ID")
+    private Long eventId;
+
+    @Column(name = "ENTITY_TYPE", nullable = false, length = 30)
+    private String entityType;
+
+    @Column(name = "ENTITY_ID", nullable = false, length = 500)
+    private String entityId;
+
+    @Column(name = "AAS_ID", length = 500)
+    private String aasId;
+
+    @Column(name = "SEMANTIC_ID", length = 500)
+    private String semanticId;
+
+    @Column(name = "VERSION", nullable = false)
+    private Integer version;
+
+    @Column(name = "OPERATION", nullable = false, length = 20)
+    private String operation;
+
+    @Column(name = "CHANGED_BY", length = 100)
+    private String changedBy;
+
+    @Column(name = "CREATED_AT", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -2,6 +2,10 @@ package com.aas.shinhan.aas.entity;
 
 import java.time.LocalDateTime;
 
+import com.aas.shinhan.core.codec.EncodedPayload;
+import com.aas.shinhan.core.codec.PayloadCodec;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
@@ -12,6 +16,9 @@ import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -19,7 +26,8 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "AAS_CONCEPT_DESCRIPTION")
+@Table(name = "AAS_CONCEPT_DESCRIPTION", uniqueConstraints = @UniqueConstraint(name = "UK_CD_CD_ID_VERSION",
+        columnNames = { "CD_ID", "VERSION" }))
 @Getter
 @Setter
 @Builder
@@ -29,7 +37,8 @@ public class ConceptDescriptionEntity {
 
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "cd_seq")
-    @SequenceGenerator(name = "cd_seq", sequenceName = "CONCEPT_DESC_SEQ", allocationSize = 1)
+    // pooled-lo 블록 할당 (DB 시퀀스 INCREMENT BY 50과 일치해야 함)
+    @SequenceGenerator(name = "cd_seq", sequenceName = "CONCEPT_DESC_SEQ", allocationSize = 50)
     private Long seq;
 
     @Column(name = "CD_ID", nullable = false, length = 500)
@@ -41,13 +50,37 @@ public class ConceptDescriptionEntity {
     @Column(name = "VERSION", nullable = false)
     private Integer version;
 
+    // 활성 여부 표시 (조회 기준은 활성 버전 포인터, 활성화 시 직전/새 활성 행만 갱신)
     @Column(name = "IS_ACTIVE", nullable = false)
     @Builder.Default
     private Boolean isActive = true;
 
+    // 압축 저장된 JSON (PAYLOAD_CODEC으로 인코딩, {@link #getCdJson()} 호출 시 디코딩)
+    @Lob
+    @JsonIgnore
+    @Setter(AccessLevel.NONE)
+    @Column(name = "CD_PAYLOAD")
+    private byte[] payload;
+
+    @Setter(AccessLevel.NONE)
+    @Column(name = "PAYLOAD_CODEC", length = 10)
+    private String payloadCodec;
+
+    // 압축 저장 도입 이전 행의 JSON (PAYLOAD가 없을 때만 사용)
     @Lob
+    @JsonIgnore
+    @Setter(AccessLevel.NONE)
     @Column(name = "CD_JSON", columnDefinition = "CLOB")
-    private String cdJson;
+    private String legacyJson;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private String decodedJson;
+
+    // 정규화 JSON SHA-256 (활성 버전과 같으면 새 버전을 만들지 않음)
+    @Column(name = "CONTENT_HASH", length = 64)
+    private String contentHash;
 
     @Column(name = "CREATED_BY", length = 100)
     private String createdBy;
@@ -61,6 +94,23 @@ public class ConceptDescriptionEntity {
     @Column(name = "UPDATED_AT")
     private LocalDateTime updatedAt;
 
+    /**
+     * ConceptDescription JSON (최초 호출 시 디코딩)
+     */
+    public String getCdJson() {
+        if (decodedJson == null) {
+            decodedJson = payload != null ? PayloadCodec.decodeToString(payloadCodec, payload) : legacyJson;
+        }
+        return decodedJson;
+    }
+
+    public void setEncodedPayload(EncodedPayload encoded) {
+        this.payload = encoded != null ? encoded.bytes() : null;
+        this.payloadCodec = encoded != null ? encoded.codecName() : null;
+        this.legacyJson = null;
+        this.decodedJson = null;
+    }
+
     @PrePersist
     protected void onCreate() {
         this.createdAt = LocalDateTime.now();
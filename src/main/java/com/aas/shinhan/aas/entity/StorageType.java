@@ -0,0 +1,9 @@
+package com.aas.shinhan.aas.entity;
+
+/**
+ * 버전 행 JSON 저장 방식
+ * FULL: 전체 JSON, DELTA: 직전 버전 대비 JSON Patch
+ */
+public enum StorageType {
+    FULL, DELTA
+}
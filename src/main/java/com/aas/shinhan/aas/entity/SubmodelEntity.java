@@ -2,8 +2,14 @@ package com.aas.shinhan.aas.entity;
 
 import java.time.LocalDateTime;
 
+import com.aas.shinhan.core.codec.EncodedPayload;
+import com.aas.shinhan.core.codec.PayloadCodec;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -12,6 +18,9 @@ import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -19,7 +28,8 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "AAS_SUBMODEL")
+@Table(name = "AAS_SUBMODEL", uniqueConstraints = @UniqueConstraint(name = "UK_SM_SUBMODEL_ID_VERSION",
+        columnNames = { "SUBMODEL_ID", "VERSION" }))
 @Getter
 @Setter
 @Builder
@@ -29,7 +39,8 @@ public class SubmodelEntity {
 
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "submodel_seq")
-    @SequenceGenerator(name = "submodel_seq", sequenceName = "SUBMODEL_SEQ", allocationSize = 1)
+    // pooled-lo 블록 할당 (DB 시퀀스 INCREMENT BY 50과 일치해야 함)
+    @SequenceGenerator(name = "submodel_seq", sequenceName = "SUBMODEL_SEQ", allocationSize = 50)
     private Long seq;
 
     @Column(name = "SUBMODEL_ID", nullable = false, length = 500)
@@ -47,13 +58,55 @@ public class SubmodelEntity {
     @Column(name = "VERSION", nullable = false)
     private Integer version;
 
+    // 활성 여부 표시 (조회 기준은 활성 버전 포인터, 활성화 시 직전/새 활성 행만 갱신)
     @Column(name = "IS_ACTIVE", nullable = false)
     @Builder.Default
     private Boolean isActive = true;
 
+    // 압축 저장된 JSON (PAYLOAD_CODEC으로 인코딩, {@link #getSubmodelJson()} 호출 시 디코딩)
+    @Lob
+    @JsonIgnore
+    @Setter(AccessLevel.NONE)
+    @Column(name = "SUBMODEL_PAYLOAD")
+    private byte[] payload;
+
+    @Setter(AccessLevel.NONE)
+    @Column(name = "PAYLOAD_CODEC", length = 10)
+    private String payloadCodec;
+
+    // 압축 저장 도입 이전 행의 JSON (PAYLOAD가 없을 때만 사용)
     @Lob
+    @JsonIgnore
+    @Setter(AccessLevel.NONE)
     @Column(name = "SUBMODEL_JSON", columnDefinition = "CLOB")
-    private String submodelJson;
+    private String legacyJson;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private String decodedJson;
+
+    // 값 전용(Value-Only) 표현 압축 저장 내용 (저장 시 미리 생성, $value 조회에서 그대로 전송)
+    @Lob
+    @JsonIgnore
+    @Setter(AccessLevel.NONE)
+    @Column(name = "SUBMODEL_VALUE_PAYLOAD")
+    private byte[] valuePayload;
+
+    @JsonIgnore
+    @Setter(AccessLevel.NONE)
+    @Column(name = "VALUE_PAYLOAD_CODEC", length = 10)
+    private String valuePayloadCodec;
+
+    // 정규화 JSON SHA-256 (활성 버전과 같으면 새 버전을 만들지 않음)
+    @Column(name = "CONTENT_HASH", length = 64)
+    private String contentHash;
+
+    // DELTA 행의 JSON 컬럼에는 직전 버전 대비 JSON Patch가 저장됨 (활성 버전은 항상 FULL)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "STORAGE_TYPE", nullable = false, length = 10)
+    @Builder.Default
+    private StorageType storageType = StorageType.FULL;
 
     @Column(name = "CREATED_BY", length = 100)
     private String createdBy;
@@ -67,6 +120,28 @@ public class SubmodelEntity {
     @Column(name = "UPDATED_AT")
     private LocalDateTime updatedAt;
 
+    /**
+     * Submodel JSON (최초 호출 시 디코딩)
+     */
+    public String getSubmodelJson() {
+        if (decodedJson == null) {
+            decodedJson = payload != null ? PayloadCodec.decodeToString(payloadCodec, payload) : legacyJson;
+        }
+        return decodedJson;
+    }
+
+    public void setEncodedPayload(EncodedPayload encoded) {
+        this.payload = encoded != null ? encoded.bytes() : null;
+        this.payloadCodec = encoded != null ? encoded.codecName() : null;
+        this.legacyJson = null;
+        this.decodedJson = null;
+    }
+
+    public void setEncodedValuePayload(EncodedPayload encoded) {
+        this.valuePayload = encoded != null ? encoded.bytes() : null;
+        this.valuePayloadCodec = encoded != null ? encoded.codecName() : null;
+    }
+
     @PrePersist
     protected void onCreate() {
         this.createdAt = LocalDateTime.now();
@@ -0,0 +1,384 @@
+package com.aas.shinhan.aas.repository;
+
+import java.io.ByteArrayInputStream;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.aas.shinhan.aas.entity.AasEntity;
+import com.aas.shinhan.aas.entity.ConceptDescriptionEntity;
+import com.aas.shinhan.aas.entity.SubmodelEntity;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 대량 업로드용 JDBC 배치 저장소
+ * 현재 트랜잭션의 커넥션에서 JDBC 배치로 INSERT/UPDATE 하며 (JSON은 엔티티에 인코딩된 PAYLOAD로 기록),
+ * 배치가 실패하면 세이브포인트로 되돌린 뒤 행 단위로 재실행해 실패 행만 격리한다.
+ * 활성 버전 포인터는 ID당 한 행을 UPDATE(기존 포인터) 또는 INSERT ... SELECT(최초 활성화) 하므로 이력 깊이와 무관하다.
+ * 활성화는 포인터 행을 ID 순으로 잠근 뒤 진행하므로 같은 ID의 단건 활성화나 다른 업로드와 겹치지 않는다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class AasBulkJdbcRepository {
+
+    private static final String INSERT_AAS = "INSERT INTO AAS_SHELL "
+            + "(SEQ, AAS_ID, ID_SHORT, ASSET_KIND, GLOBAL_ASSET_ID, VERSION, IS_ACTIVE, AAS_PAYLOAD, PAYLOAD_CODEC, "
+            + "CONTENT_HASH, STORAGE_TYPE, CREATED_BY, CREATED_AT) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 'FULL', ?, ?)";
+
+    private static final String UPDATE_AAS = "UPDATE AAS_SHELL SET ID_SHORT = ?, ASSET_KIND = ?, GLOBAL_ASSET_ID = ?, "
+            + "AAS_PAYLOAD = ?, PAYLOAD_CODEC = ?, AAS_JSON = NULL, CONTENT_HASH = ?, STORAGE_TYPE = 'FULL', "
+            + "UPDATED_BY = ?, UPDATED_AT = ? WHERE SEQ = ?";
+
+    private static final String INSERT_SUBMODEL = "INSERT INTO AAS_SUBMODEL "
+            + "(SEQ, SUBMODEL_ID, ID_SHORT, SEMANTIC_ID, AAS_ID, VERSION, IS_ACTIVE, SUBMODEL_PAYLOAD, PAYLOAD_CODEC, "
+            + "SUBMODEL_VALUE_PAYLOAD, VALUE_PAYLOAD_CODEC, CONTENT_HASH, STORAGE_TYPE, CREATED_BY, CREATED_AT) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 'FULL', ?, ?)";
+
+    private static final String UPDATE_SUBMODEL = "UPDATE AAS_SUBMODEL SET ID_SHORT = ?, SEMANTIC_ID = ?, AAS_ID = ?, "
+            + "SUBMODEL_PAYLOAD = ?, PAYLOAD_CODEC = ?, SUBMODEL_VALUE_PAYLOAD = ?, VALUE_PAYLOAD_CODEC = ?, "
+            + "SUBMODEL_JSON = NULL, CONTENT_HASH = ?, STORAGE_TYPE = 'FULL', UPDATED_BY = ?, UPDATED_AT = ? WHERE SEQ = ?";
+
+    private static final String INSERT_CD = "INSERT INTO AAS_CONCEPT_DESCRIPTION "
+            + "(SEQ, CD_ID, ID_SHORT, VERSION, IS_ACTIVE, CD_PAYLOAD, PAYLOAD_CODEC, CONTENT_HASH, CREATED_BY, CREATED_AT) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String UPDATE_CD = "UPDATE AAS_CONCEPT_DESCRIPTION SET ID_SHORT = ?, "
+            + "CD_PAYLOAD = ?, PAYLOAD_CODEC = ?, CD_JSON = NULL, CONTENT_HASH = ?, "
+            + "UPDATED_BY = ?, UPDATED_AT = ? WHERE SEQ = ?";
+
+    private static final String UPDATE_AAS_ACTIVE = updateActiveSql("AAS_SHELL_ACTIVE", "AAS_SHELL", "AAS_ID");
+    private static final String INSERT_AAS_ACTIVE = insertActiveSql("AAS_SHELL_ACTIVE", "AAS_SHELL", "AAS_ID");
+    private static final String UPDATE_SUBMODEL_ACTIVE =
+            updateActiveSql("AAS_SUBMODEL_ACTIVE", "AAS_SUBMODEL", "SUBMODEL_ID");
+    private static final String INSERT_SUBMODEL_ACTIVE =
+            insertActiveSql("AAS_SUBMODEL_ACTIVE", "AAS_SUBMODEL", "SUBMODEL_ID");
+    private static final String UPDATE_CD_ACTIVE = updateActiveSql("AAS_CD_ACTIVE", "AAS_CONCEPT_DESCRIPTION", "CD_ID");
+    private static final String INSERT_CD_ACTIVE = insertActiveSql("AAS_CD_ACTIVE", "AAS_CONCEPT_DESCRIPTION", "CD_ID");
+
+    private static final String DEACTIVATE_AAS = deactivateOthersSql("AAS_SHELL", "AAS_ID");
+    private static final String DEACTIVATE_SUBMODEL = deactivateOthersSql("AAS_SUBMODEL", "SUBMODEL_ID");
+    private static final String DEACTIVATE_CD = deactivateOthersSql("AAS_CONCEPT_DESCRIPTION", "CD_ID");
+
+    // 포인터 잠금 IN 절 단위 (Oracle IN 절 제한 1000 이하)
+    private static final int LOCK_CHUNK_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // ======================= AAS =======================
+
+    /**
+     * 새 버전 행 일괄 INSERT (IS_ACTIVE는 엔티티 값 그대로 기록)
+     * @return 행별 성공 여부
+     */
+    public boolean[] insertAas(List<AasEntity> rows) {
+        return executeIsolated(INSERT_AAS, rows, (ps, e) -> {
+            ps.setLong(1, e.getSeq());
+            ps.setString(2, e.getAasId());
+            ps.setString(3, e.getIdShort());
+            ps.setString(4, e.getAssetKind());
+            ps.setString(5, e.getGlobalAssetId());
+            ps.setInt(6, e.getVersion());
+            ps.setBoolean(7, e.getIsActive());
+            setBlob(ps, 8, e.getPayload());
+            ps.setString(9, e.getPayloadCodec());
+            ps.setString(10, e.getContentHash());
+            ps.setString(11, e.getCreatedBy());
+            ps.setTimestamp(12, Timestamp.valueOf(e.getCreatedAt()));
+        });
+    }
+
+    /**
+     * 기존 버전 행 내용 일괄 UPDATE (SEQ 기준)
+     */
+    public boolean[] updateAas(List<AasEntity> rows) {
+        return executeIsolated(UPDATE_AAS, rows, (ps, e) -> {
+            ps.setString(1, e.getIdShort());
+            ps.setString(2, e.getAssetKind());
+            ps.setString(3, e.getGlobalAssetId());
+            setBlob(ps, 4, e.getPayload());
+            ps.setString(5, e.getPayloadCodec());
+            ps.setString(6, e.getContentHash());
+            ps.setString(7, e.getUpdatedBy());
+            ps.setTimestamp(8, Timestamp.valueOf(e.getUpdatedAt()));
+            ps.setLong(9, e.getSeq());
+        });
+    }
+
+    // ======================= Submodel =======================
+
+    public boolean[] insertSubmodels(List<SubmodelEntity> rows) {
+        return executeIsolated(INSERT_SUBMODEL, rows, (ps, e) -> {
+            ps.setLong(1, e.getSeq());
+            ps.setString(2, e.getSubmodelId());
+            ps.setString(3, e.getIdShort());
+            ps.setString(4, e.getSemanticId());
+            ps.setString(5, e.getAasId());
+            ps.setInt(6, e.getVersion());
+            ps.setBoolean(7, e.getIsActive());
+            setBlob(ps, 8, e.getPayload());
+            ps.setString(9, e.getPayloadCodec());
+            setBlob(ps, 10, e.getValuePayload());
+            ps.setString(11, e.getValuePayloadCodec());
+            ps.setString(12, e.getContentHash());
+            ps.setString(13, e.getCreatedBy());
+            ps.setTimestamp(14, Timestamp.valueOf(e.getCreatedAt()));
+        });
+    }
+
+    public boolean[] updateSubmodels(List<SubmodelEntity> rows) {
+        return executeIsolated(UPDATE_SUBMODEL, rows, (ps, e) -> {
+            ps.setString(1, e.getIdShort());
+            ps.setString(2, e.getSemanticId());
+            ps.setString(3, e.getAasId());
+            setBlob(ps, 4, e.getPayload());
+            ps.setString(5, e.getPayloadCodec());
+            setBlob(ps, 6, e.getValuePayload());
+            ps.setString(7, e.getValuePayloadCodec());
+            ps.setString(8, e.getContentHash());
+            ps.setString(9, e.getUpdatedBy());
+            ps.setTimestamp(10, Timestamp.valueOf(e.getUpdatedAt()));
+            ps.setLong(11, e.getSeq());
+        });
+    }
+
+    // ======================= ConceptDescription =======================
+
+    public boolean[] insertConceptDescriptions(List<ConceptDescriptionEntity> rows) {
+        return executeIsolated(INSERT_CD, rows, (ps, e) -> {
+            ps.setLong(1, e.getSeq());
+            ps.setString(2, e.getCdId());
+            ps.setString(3, e.getIdShort());
+            ps.setInt(4, e.getVersion());
+            ps.setBoolean(5, e.getIsActive());
+            setBlob(ps, 6, e.getPayload());
+            ps.setString(7, e.getPayloadCodec());
+            ps.setString(8, e.getContentHash());
+            ps.setString(9, e.getCreatedBy());
+            ps.setTimestamp(10, Timestamp.valueOf(e.getCreatedAt()));
+        });
+    }
+
+    public boolean[] updateConceptDescriptions(List<ConceptDescriptionEntity> rows) {
+        return executeIsolated(UPDATE_CD, rows, (ps, e) -> {
+            ps.setString(1, e.getIdShort());
+            setBlob(ps, 2, e.getPayload());
+            ps.setString(3, e.getPayloadCodec());
+            ps.setString(4, e.getContentHash());
+            ps.setString(5, e.getUpdatedBy());
+            ps.setTimestamp(6, Timestamp.valueOf(e.getUpdatedAt()));
+            ps.setLong(7, e.getSeq());
+        });
+    }
+
+    // ======================= 활성 버전 포인터 =======================
+
+    /**
+     * AAS 활성 버전 포인터 행 잠금 (SELECT ... FOR UPDATE, 트랜잭션 끝까지 유지)
+     * @return 포인터 행이 이미 있는 AAS ID (나머지는 최초 활성화)
+     */
+    public Set<String> lockActiveAas(Collection<String> aasIds) {
+        return lockActive("AAS_SHELL_ACTIVE", "AAS_ID", aasIds);
+    }
+
+    public Set<String> lockActiveSubmodels(Collection<String> submodelIds) {
+        return lockActive("AAS_SUBMODEL_ACTIVE", "SUBMODEL_ID", submodelIds);
+    }
+
+    public Set<String> lockActiveConceptDescriptions(Collection<String> cdIds) {
+        return lockActive("AAS_CD_ACTIVE", "CD_ID", cdIds);
+    }
+
+    /**
+     * 같은 AAS ID에서 새 활성 행을 뺀 나머지 활성 표시를 내림 (포인터를 잠그고 옮긴 뒤 호출)
+     * 배치 시작 시 읽은 직전 활성 SEQ 대신 ID로 찾으므로 그 사이 커밋된 단건 활성화도 함께 내려간다.
+     * @param activeSeqs AAS ID -> 새 활성 버전 행 SEQ
+     */
+    public void deactivateOtherAas(Map<String, Long> activeSeqs) {
+        deactivateOthers(DEACTIVATE_AAS, activeSeqs);
+    }
+
+    public void deactivateOtherSubmodels(Map<String, Long> activeSeqs) {
+        deactivateOthers(DEACTIVATE_SUBMODEL, activeSeqs);
+    }
+
+    public void deactivateOtherConceptDescriptions(Map<String, Long> activeSeqs) {
+        deactivateOthers(DEACTIVATE_CD, activeSeqs);
+    }
+
+    /**
+     * AAS 활성 버전 포인터 일괄 UPSERT
+     * @param activeSeqs AAS ID -> 새 활성 버전 행 SEQ
+     * @param existingIds 포인터 행이 이미 있는 AAS ID (나머지는 INSERT)
+     */
+    public void upsertActiveAas(Map<String, Long> activeSeqs, Set<String> existingIds, LocalDateTime activatedAt) {
+        upsertActive(UPDATE_AAS_ACTIVE, INSERT_AAS_ACTIVE, activeSeqs, existingIds, activatedAt);
+    }
+
+    public void upsertActiveSubmodels(Map<String, Long> activeSeqs, Set<String> existingIds,
+            LocalDateTime activatedAt) {
+        upsertActive(UPDATE_SUBMODEL_ACTIVE, INSERT_SUBMODEL_ACTIVE, activeSeqs, existingIds, activatedAt);
+    }
+
+    public void upsertActiveConceptDescriptions(Map<String, Long> activeSeqs, Set<String> existingIds,
+            LocalDateTime activatedAt) {
+        upsertActive(UPDATE_CD_ACTIVE, INSERT_CD_ACTIVE, activeSeqs, existingIds, activatedAt);
+    }
+
+    /**
+     * 포인터 갱신 (VERSION, CREATED_AT은 버전 행에서 기본 키로 읽음)
+     * 버전 행은 같은 트랜잭션에서 이미 저장됐으므로 UPDATE 실패는 행 단위로 격리하지 않고 트랜잭션을 롤백시킨다.
+     * 최초 활성화 INSERT가 기본 키 위반으로 실패한 ID(다른 노드가 그 사이 포인터를 만든 경우)는 UPDATE로 옮긴다.
+     */
+    private void upsertActive(String updateSql, String insertSql, Map<String, Long> activeSeqs,
+            Set<String> existingIds, LocalDateTime activatedAt) {
+        List<Map.Entry<String, Long>> updates = new ArrayList<>();
+        List<Map.Entry<String, Long>> inserts = new ArrayList<>();
+        for (Map.Entry<String, Long> entry : activeSeqs.entrySet()) {
+            (existingIds.contains(entry.getKey()) ? updates : inserts).add(entry);
+        }
+        Timestamp activated = Timestamp.valueOf(activatedAt);
+        if (!inserts.isEmpty()) {
+            boolean[] inserted = executeIsolated(insertSql, inserts, (ps, e) -> {
+                ps.setTimestamp(1, activated);
+                ps.setLong(2, e.getValue());
+            });
+            for (int i = 0; i < inserts.size(); i++) {
+                if (!inserted[i]) {
+                    log.warn("활성 버전 포인터가 이미 존재, UPDATE로 전환: {}", inserts.get(i).getKey());
+                    updates.add(inserts.get(i));
+                }
+            }
+        }
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate(updateSql, updates, updates.size(), (ps, e) -> {
+                ps.setLong(1, e.getValue());
+                ps.setLong(2, e.getValue());
+                ps.setLong(3, e.getValue());
+                ps.setTimestamp(4, activated);
+                ps.setString(5, e.getKey());
+            });
+        }
+    }
+
+    /**
+     * 포인터 행을 ID 정렬 순서로 잠금 (동시 업로드끼리 같은 순서로 잠가 교착을 피함)
+     */
+    private Set<String> lockActive(String pointerTable, String idColumn, Collection<String> ids) {
+        List<String> sorted = ids.stream().sorted().toList();
+        Set<String> locked = new HashSet<>();
+        for (int from = 0; from < sorted.size(); from += LOCK_CHUNK_SIZE) {
+            List<String> chunk = sorted.subList(from, Math.min(from + LOCK_CHUNK_SIZE, sorted.size()));
+            String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+            locked.addAll(jdbcTemplate.queryForList("SELECT " + idColumn + " FROM " + pointerTable + " WHERE "
+                    + idColumn + " IN (" + placeholders + ") ORDER BY " + idColumn + " FOR UPDATE", String.class,
+                    chunk.toArray()));
+        }
+        return locked;
+    }
+
+    private void deactivateOthers(String sql, Map<String, Long> activeSeqs) {
+        List<Map.Entry<String, Long>> rows = new ArrayList<>(activeSeqs.entrySet());
+        jdbcTemplate.batchUpdate(sql, rows, rows.size(), (ps, e) -> {
+            ps.setBoolean(1, false);
+            ps.setString(2, e.getKey());
+            ps.setBoolean(3, true);
+            ps.setLong(4, e.getValue());
+        });
+    }
+
+    private static String deactivateOthersSql(String versionTable, String idColumn) {
+        return "UPDATE " + versionTable + " SET IS_ACTIVE = ? WHERE " + idColumn + " = ? AND IS_ACTIVE = ? AND SEQ <> ?";
+    }
+
+    private static String updateActiveSql(String pointerTable, String versionTable, String idColumn) {
+        return "UPDATE " + pointerTable + " SET SEQ = ?, "
+                + "VERSION = (SELECT VERSION FROM " + versionTable + " WHERE SEQ = ?), "
+                + "CREATED_AT = (SELECT CREATED_AT FROM " + versionTable + " WHERE SEQ = ?), "
+                + "ACTIVATED_AT = ? WHERE " + idColumn + " = ?";
+    }
+
+    private static String insertActiveSql(String pointerTable, String versionTable, String idColumn) {
+        return "INSERT INTO " + pointerTable + " (" + idColumn + ", SEQ, VERSION, CREATED_AT, ACTIVATED_AT) "
+                + "SELECT " + idColumn + ", SEQ, VERSION, CREATED_AT, ? FROM " + versionTable + " WHERE SEQ = ?";
+    }
+
+    // ======================= 공통 =======================
+
+    @FunctionalInterface
+    private interface RowBinder<T> {
+        void bind(PreparedStatement ps, T row) throws SQLException;
+    }
+
+    /**
+     * 배치 실행 후 실패 시 세이브포인트로 되돌리고 행 단위(행마다 세이브포인트)로 재실행
+     */
+    private <T> boolean[] executeIsolated(String sql, List<T> rows, RowBinder<T> binder) {
+        boolean[] success = new boolean[rows.size()];
+        if (rows.isEmpty()) {
+            return success;
+        }
+
+        return jdbcTemplate.execute((ConnectionCallback<boolean[]>) con -> {
+            Savepoint batchSavepoint = con.setSavepoint();
+            try (PreparedStatement ps = con.prepareStatement(sql)) {
+                for (T row : rows) {
+                    binder.bind(ps, row);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+                Arrays.fill(success, true);
+                return success;
+            } catch (SQLException e) {
+                log.warn("배치 실행 실패, 행 단위 재시도: {}", e.getMessage());
+                con.rollback(batchSavepoint);
+            }
+
+            executeRowByRow(con, sql, rows, binder, success);
+            return success;
+        });
+    }
+
+    private <T> void executeRowByRow(Connection con, String sql, List<T> rows, RowBinder<T> binder,
+            boolean[] success) throws SQLException {
+        try (PreparedStatement ps = con.prepareStatement(sql)) {
+            for (int i = 0; i < rows.size(); i++) {
+                Savepoint rowSavepoint = con.setSavepoint();
+                try {
+                    binder.bind(ps, rows.get(i));
+                    ps.executeUpdate();
+                    success[i] = true;
+                } catch (SQLException e) {
+                    log.error("행 저장 실패 (row={}): {}", i, e.getMessage());
+                    con.rollback(rowSavepoint);
+                }
+            }
+        }
+    }
+
+    private void setBlob(PreparedStatement ps, int index, byte[] value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.BLOB);
+        } else {
+            ps.setBinaryStream(index, new ByteArrayInputStream(value), value.length);
+        }
+    }
+}
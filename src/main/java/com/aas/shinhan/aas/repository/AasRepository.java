@@ -1,24 +1,49 @@
 package com.aas.shinhan.aas.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.aas.shinhan.aas.dto.AasSummary;
+import com.aas.shinhan.aas.dto.DiscoveryRow;
+import com.aas.shinhan.aas.dto.LatestVersion;
+import com.aas.shinhan.aas.dto.LegacyPayload;
+import com.aas.shinhan.aas.dto.PayloadMetadata;
+import com.aas.shinhan.aas.dto.VersionInfo;
+import com.aas.shinhan.aas.dto.VersionPayload;
 import com.aas.shinhan.aas.entity.AasEntity;
+import com.aas.shinhan.aas.entity.StorageType;
+
+import jakarta.persistence.QueryHint;
 
 @Repository
 public interface AasRepository extends JpaRepository<AasEntity, Long> {
 
-    // 특정 AAS ID의 모든 버전 조회
-    List<AasEntity> findByAasIdOrderByVersionDesc(String aasId);
+    // 특정 AAS ID의 모든 버전 메타데이터 조회 (JSON 컬럼 제외)
+    @Query("SELECT new com.aas.shinhan.aas.dto.VersionInfo(a.seq, a.aasId, a.idShort, a.version, a.isActive, a.storageType, "
+            + "a.createdBy, a.createdAt, a.updatedBy, a.updatedAt) "
+            + "FROM AasEntity a WHERE a.aasId = :aasId ORDER BY a.version DESC")
+    List<VersionInfo> findVersionInfosByAasId(@Param("aasId") String aasId);
+
+    // 특정 AAS ID의 활성화된 버전 조회 (포인터 기본 키 -> SEQ 기본 키 조인)
+    @Query("SELECT a FROM ActiveAasEntity p JOIN AasEntity a ON a.seq = p.seq WHERE p.aasId = :aasId")
+    Optional<AasEntity> findActiveByAasId(@Param("aasId") String aasId);
 
-    // 특정 AAS ID의 활성화된 버전 조회
-    Optional<AasEntity> findByAasIdAndIsActiveTrue(String aasId);
+    // 특정 AAS ID의 활성 버전 행 정보 조회 (JSON 컬럼 제외)
+    @Query("SELECT new com.aas.shinhan.aas.dto.PayloadMetadata(a.seq, a.aasId, a.version, a.contentHash) "
+            + "FROM ActiveAasEntity p JOIN AasEntity a ON a.seq = p.seq WHERE p.aasId = :aasId")
+    Optional<PayloadMetadata> findActivePayloadMetadataByAasId(@Param("aasId") String aasId);
 
     // 특정 AAS ID와 버전으로 조회
     Optional<AasEntity> findByAasIdAndVersion(String aasId, Integer version);
@@ -27,17 +52,106 @@ public interface AasRepository extends JpaRepository<AasEntity, Long> {
     @Query("SELECT MAX(a.version) FROM AasEntity a WHERE a.aasId = :aasId")
     Optional<Integer> findMaxVersionByAasId(@Param("aasId") String aasId);
 
-    // 특정 AAS ID의 모든 버전 비활성화
+    // 여러 AAS ID의 최신 버전 행과 활성 버전 행 일괄 조회 (콘텐츠 해시 비교용, 활성 여부는 포인터 기준)
+    @Query("SELECT new com.aas.shinhan.aas.dto.LatestVersion(a.aasId, a.version, a.seq, "
+            + "CASE WHEN p.seq IS NOT NULL THEN true ELSE false END, a.contentHash) "
+            + "FROM AasEntity a LEFT JOIN ActiveAasEntity p ON p.aasId = a.aasId AND p.seq = a.seq "
+            + "WHERE a.aasId IN :ids AND (p.seq IS NOT NULL OR a.version = "
+            + "(SELECT MAX(b.version) FROM AasEntity b WHERE b.aasId = a.aasId))")
+    List<LatestVersion> findLatestAndActiveVersionsByAasIds(@Param("ids") Collection<String> ids);
+
+    // SEQ 목록의 활성 여부 표시 변경 (직전 활성 행과 새 활성 행만 기본 키로 갱신, 이력 깊이와 무관)
+    @Modifying
+    @Query("UPDATE AasEntity a SET a.isActive = :active WHERE a.seq IN :seqs")
+    int updateActiveFlagBySeqs(@Param("seqs") Collection<Long> seqs, @Param("active") boolean active);
+
+    // 같은 ID에서 새 활성 행을 뺀 나머지 활성 표시를 내림 (포인터 행을 잠근 뒤 호출, 미리 읽은 직전 SEQ에 의존하지 않음)
     @Modifying
-    @Query("UPDATE AasEntity a SET a.isActive = false WHERE a.aasId = :aasId")
-    void deactivateAllVersionsByAasId(@Param("aasId") String aasId);
+    @Query("UPDATE AasEntity a SET a.isActive = false "
+            + "WHERE a.aasId = :aasId AND a.isActive = true AND a.seq <> :activeSeq")
+    int deactivateOthers(@Param("aasId") String aasId, @Param("activeSeq") Long activeSeq);
 
-    // 활성화된 모든 AAS 조회
-    List<AasEntity> findByIsActiveTrueOrderByCreatedAtDesc();
+    // 활성 AAS 목록 첫 페이지 (포인터의 CREATED_AT, SEQ 내림차순 키셋, JSON 컬럼 제외)
+    @Query("SELECT new com.aas.shinhan.aas.dto.AasSummary(a.seq, a.aasId, a.idShort, a.assetKind, a.globalAssetId, "
+            + "a.version, a.isActive, a.createdBy, a.createdAt, a.updatedBy, a.updatedAt) "
+            + "FROM ActiveAasEntity p JOIN AasEntity a ON a.seq = p.seq ORDER BY p.createdAt DESC, p.seq DESC")
+    List<AasSummary> findActiveSummaryPage(Pageable pageable);
+
+    // 활성 AAS 목록 다음 페이지 (커서 행 이후)
+    @Query("SELECT new com.aas.shinhan.aas.dto.AasSummary(a.seq, a.aasId, a.idShort, a.assetKind, a.globalAssetId, "
+            + "a.version, a.isActive, a.createdBy, a.createdAt, a.updatedBy, a.updatedAt) "
+            + "FROM ActiveAasEntity p JOIN AasEntity a ON a.seq = p.seq "
+            + "WHERE p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.seq < :seq) "
+            + "ORDER BY p.createdAt DESC, p.seq DESC")
+    List<AasSummary> findActiveSummaryPageAfter(@Param("createdAt") LocalDateTime createdAt, @Param("seq") Long seq,
+            Pageable pageable);
+
+    // 활성 AAS 전체 목록 스트리밍 (DB 커서에서 500행씩 읽음, 호출자 트랜잭션 안에서 닫아야 함)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.aas.shinhan.aas.dto.AasSummary(a.seq, a.aasId, a.idShort, a.assetKind, a.globalAssetId, "
+            + "a.version, a.isActive, a.createdBy, a.createdAt, a.updatedBy, a.updatedAt) "
+            + "FROM ActiveAasEntity p JOIN AasEntity a ON a.seq = p.seq ORDER BY p.createdAt DESC, p.seq DESC")
+    Stream<AasSummary> streamActiveSummaries();
 
     // AAS ID 존재 여부 확인
     boolean existsByAasId(String aasId);
 
     // 특정 AAS ID의 버전 개수 조회
     long countByAasId(String aasId);
+
+    // 지정 버전 이하에서 가장 가까운 FULL 버전 번호 (델타 복원 시작점)
+    @Query("SELECT MAX(a.version) FROM AasEntity a WHERE a.aasId = :id AND a.version <= :version "
+            + "AND a.storageType = com.aas.shinhan.aas.entity.StorageType.FULL")
+    Optional<Integer> findBaseVersionByAasId(@Param("id") String id, @Param("version") Integer version);
+
+    // 버전 범위의 저장 내용 조회 (엔티티로 올리지 않음)
+    @Query("SELECT new com.aas.shinhan.aas.dto.VersionPayload(a.seq, a.version, a.storageType, a.isActive, "
+            + "a.payload, a.payloadCodec, a.legacyJson) "
+            + "FROM AasEntity a WHERE a.aasId = :id AND a.version BETWEEN :fromVersion AND :toVersion "
+            + "ORDER BY a.version, a.seq")
+    List<VersionPayload> findPayloadsByAasId(@Param("id") String id,
+            @Param("fromVersion") Integer fromVersion, @Param("toVersion") Integer toVersion);
+
+    // 델타로 바꿀 수 있는 가장 오래된 버전 (비활성 FULL, 스냅샷 주기 버전과 최신 버전 제외)
+    @Query("SELECT MIN(a.version) FROM AasEntity a WHERE a.aasId = :id "
+            + "AND NOT EXISTS (SELECT 1 FROM ActiveAasEntity p WHERE p.aasId = a.aasId AND p.seq = a.seq) "
+            + "AND a.storageType = com.aas.shinhan.aas.entity.StorageType.FULL "
+            + "AND a.version >= :fromVersion AND MOD(a.version - 1, :interval) <> 0 "
+            + "AND a.version < (SELECT MAX(b.version) FROM AasEntity b WHERE b.aasId = a.aasId)")
+    Optional<Integer> findFirstCompactableVersionByAasId(@Param("id") String id,
+            @Param("fromVersion") Integer fromVersion, @Param("interval") Integer interval);
+
+    // 행의 저장 내용과 저장 방식 변경 (이전 형식 CLOB은 비움)
+    @Modifying
+    @Query("UPDATE AasEntity a SET a.payload = :payload, a.payloadCodec = :payloadCodec, a.legacyJson = NULL, "
+            + "a.storageType = :storageType WHERE a.seq = :seq")
+    int updateStoredVersionBySeq(@Param("seq") Long seq, @Param("payload") byte[] payload,
+            @Param("payloadCodec") String payloadCodec, @Param("storageType") StorageType storageType);
+
+    // 이전 형식(CLOB) 행 조회 (압축 저장 이관용, 엔티티로 올리지 않음)
+    @Query("SELECT new com.aas.shinhan.aas.dto.LegacyPayload(a.seq, a.legacyJson) FROM AasEntity a "
+            + "WHERE a.payload IS NULL AND a.legacyJson IS NOT NULL ORDER BY a.seq")
+    List<LegacyPayload> findLegacyPayloads(Pageable pageable);
+
+    // 행의 압축 저장 내용 변경 (이전 형식 CLOB은 비움)
+    @Modifying
+    @Query("UPDATE AasEntity a SET a.payload = :payload, a.payloadCodec = :payloadCodec, a.legacyJson = NULL "
+            + "WHERE a.seq = :seq")
+    int updateEncodedPayloadBySeq(@Param("seq") Long seq, @Param("payload") byte[] payload,
+            @Param("payloadCodec") String payloadCodec);
+
+    // 탐색 색인 적재용 활성 AAS 검색어 컬럼 스트리밍
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.aas.shinhan.aas.dto.DiscoveryRow(a.seq, a.aasId, a.globalAssetId, a.assetKind) "
+            + "FROM ActiveAasEntity p JOIN AasEntity a ON a.seq = p.seq")
+    Stream<DiscoveryRow> streamActiveDiscoveryRows();
+
+    // globalAssetId로 활성 AAS ID 조회 (탐색 색인 미적재 시 사용)
+    @Query("SELECT a.aasId FROM AasEntity a JOIN ActiveAasEntity p ON p.aasId = a.aasId AND p.seq = a.seq "
+            + "WHERE a.globalAssetId IN :values")
+    List<String> findActiveAasIdsByGlobalAssetIdIn(@Param("values") Collection<String> values);
+
+    // assetKind로 활성 AAS ID 조회 (탐색 색인 미적재 시 사용)
+    @Query("SELECT a.aasId FROM ActiveAasEntity p JOIN AasEntity a ON a.seq = p.seq WHERE a.assetKind IN :values")
+    List<String> findActiveAasIdsByAssetKindIn(@Param("values") Collection<String> values);
 }
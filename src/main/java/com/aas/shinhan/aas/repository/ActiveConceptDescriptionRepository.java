@@ -0,0 +1,22 @@
+package com.aas.shinhan.aas.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.stereotype.Repository;
+
+import com.aas.shinhan.aas.entity.ActiveConceptDescriptionEntity;
+
+import jakarta.persistence.LockModeType;
+
+/**
+ * ConceptDescription 활성 버전 포인터 (CD ID -> 활성 버전 행 SEQ)
+ */
+@Repository
+public interface ActiveConceptDescriptionRepository extends JpaRepository<ActiveConceptDescriptionEntity, String> {
+
+    // 포인터 행 잠금 조회 (활성화 전에 잠가 같은 ID의 단건 활성화/일괄 업로드와 직렬화)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<ActiveConceptDescriptionEntity> findForUpdateByCdId(String cdId);
+}
@@ -0,0 +1,158 @@
+package com.aas.shinhan.aas.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import com.aas.shinhan.aas.dto.ChangeEvent;
+import com.aas.shinhan.aas.dto.PreparedIdentifiable;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 변경 이벤트 아웃박스 저장소 (AAS_CHANGE_EVENT)
+ * 번호는 카운터 한 행(AAS_CHANGE_EVENT_COUNTER)을 UPDATE로 잠가 예약한다. 잠금은 커밋까지 유지되므로
+ * 다른 트랜잭션의 예약은 앞선 트랜잭션이 끝날 때까지 기다리고, 번호 순서가 커밋 순서와 같으며 빈 번호가 없다
+ * (롤백되면 예약도 함께 취소). 따라서 구독자는 "마지막으로 본 번호보다 큰 행"만 읽으면 누락 없이 이어 받을 수 있다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class ChangeEventJdbcRepository {
+
+    private static final String INSERT = "INSERT INTO AAS_CHANGE_EVENT "
+            + "(EVENT_ID, ENTITY_TYPE, ENTITY_ID, AAS_ID, SEMANTIC_ID, VERSION, OPERATION, CHANGED_BY, CREATED_AT) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String SELECT = "SELECT EVENT_ID, ENTITY_TYPE, ENTITY_ID, AAS_ID, SEMANTIC_ID, VERSION, "
+            + "OPERATION, CHANGED_BY, CREATED_AT FROM AAS_CHANGE_EVENT WHERE EVENT_ID > ? AND EVENT_ID <= ?";
+
+    private static final String RESERVE =
+            "UPDATE AAS_CHANGE_EVENT_COUNTER SET LAST_EVENT_ID = LAST_EVENT_ID + ? WHERE COUNTER_ID = 1";
+
+    // 배치 INSERT 단위
+    private static final int BATCH_SIZE = 500;
+
+    private static final RowMapper<ChangeEvent> ROW_MAPPER = (rs, rowNum) -> map(rs);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private record Numbered(long eventId, ChangeEvent event) {
+    }
+
+    /**
+     * 이벤트 일괄 기록 (호출자 트랜잭션, 커밋 직전에 호출해 카운터 잠금 시간을 최소화)
+     */
+    public void append(List<ChangeEvent> events, LocalDateTime createdAt) {
+        if (events.isEmpty()) {
+            return;
+        }
+        long last = reserve(events.size());
+        long first = last - events.size() + 1;
+        List<Numbered> rows = new ArrayList<>(events.size());
+        for (int i = 0; i < events.size(); i++) {
+            rows.add(new Numbered(first + i, events.get(i)));
+        }
+        Timestamp created = Timestamp.valueOf(createdAt);
+        jdbcTemplate.batchUpdate(INSERT, rows, BATCH_SIZE, (ps, row) -> {
+            ChangeEvent event = row.event();
+            ps.setLong(1, row.eventId());
+            ps.setString(2, event.getEntityType().name());
+            ps.setString(3, event.getEntityId());
+            ps.setString(4, event.getAasId());
+            ps.setString(5, event.getSemanticId());
+            ps.setInt(6, event.getVersion());
+            ps.setString(7, event.getOperation().name());
+            ps.setString(8, event.getChangedBy());
+            ps.setTimestamp(9, created);
+        });
+    }
+
+    /**
+     * 번호 count개 예약 후 마지막 번호 반환 (카운터 행은 커밋까지 잠김)
+     */
+    private long reserve(int count) {
+        if (jdbcTemplate.update(RESERVE, count) == 0) {
+            // 스키마 스크립트 없이 생성된 DB(H2 ddl-auto)는 카운터 행을 처음 한 번 만든다
+            try {
+                jdbcTemplate.update("INSERT INTO AAS_CHANGE_EVENT_COUNTER (COUNTER_ID, LAST_EVENT_ID) "
+                        + "SELECT 1, COALESCE(MAX(EVENT_ID), 0) FROM AAS_CHANGE_EVENT");
+            } catch (DataIntegrityViolationException e) {
+                log.debug("변경 이벤트 카운터 행이 이미 생성됨");
+            }
+            jdbcTemplate.update(RESERVE, count);
+        }
+        return jdbcTemplate.queryForObject("SELECT LAST_EVENT_ID FROM AAS_CHANGE_EVENT_COUNTER WHERE COUNTER_ID = 1",
+                Long.class);
+    }
+
+    /**
+     * (afterId, upToId] 범위 이벤트를 번호 순으로 최대 limit건 조회
+     * aasId / semanticId가 있으면 둘 중 하나라도 일치하는 이벤트만 (둘 다 null이면 전체)
+     */
+    public List<ChangeEvent> findRange(long afterId, long upToId, String aasId, String semanticId, int limit) {
+        StringBuilder sql = new StringBuilder(SELECT);
+        List<Object> params = new ArrayList<>(List.of(afterId, upToId));
+        if (aasId != null && semanticId != null) {
+            sql.append(" AND (AAS_ID = ? OR SEMANTIC_ID = ?)");
+            params.add(aasId);
+            params.add(semanticId);
+        } else if (aasId != null) {
+            sql.append(" AND AAS_ID = ?");
+            params.add(aasId);
+        } else if (semanticId != null) {
+            sql.append(" AND SEMANTIC_ID = ?");
+            params.add(semanticId);
+        }
+        sql.append(" ORDER BY EVENT_ID");
+
+        return jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql.toString());
+            for (int i = 0; i < params.size(); i++) {
+                ps.setObject(i + 1, params.get(i));
+            }
+            ps.setMaxRows(limit);
+            return ps;
+        }, ROW_MAPPER);
+    }
+
+    /**
+     * 커밋된 마지막 이벤트 번호 (이벤트가 없으면 0)
+     */
+    public long findLastEventId() {
+        Long last = jdbcTemplate.queryForObject("SELECT MAX(EVENT_ID) FROM AAS_CHANGE_EVENT", Long.class);
+        return last != null ? last : 0L;
+    }
+
+    /**
+     * 보관 기간이 지난 이벤트 삭제
+     */
+    public int deleteCreatedBefore(LocalDateTime cutoff) {
+        return jdbcTemplate.update("DELETE FROM AAS_CHANGE_EVENT WHERE CREATED_AT < ?", Timestamp.valueOf(cutoff));
+    }
+
+    private static ChangeEvent map(ResultSet rs) throws SQLException {
+        Timestamp createdAt = rs.getTimestamp("CREATED_AT");
+        return ChangeEvent.builder()
+                .eventId(rs.getLong("EVENT_ID"))
+                .entityType(PreparedIdentifiable.Kind.valueOf(rs.getString("ENTITY_TYPE")))
+                .entityId(rs.getString("ENTITY_ID"))
+                .aasId(rs.getString("AAS_ID"))
+                .semanticId(rs.getString("SEMANTIC_ID"))
+                .version(rs.getInt("VERSION"))
+                .operation(ChangeEvent.Operation.valueOf(rs.getString("OPERATION")))
+                .changedBy(rs.getString("CHANGED_BY"))
+                .createdAt(createdAt != null ? createdAt.toLocalDateTime() : null)
+                .build();
+    }
+}
@@ -1,24 +1,34 @@
 package com.aas.shinhan.aas.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.aas.shinhan.aas.dto.LatestVersion;
+import com.aas.shinhan.aas.dto.LegacyPayload;
+import com.aas.shinhan.aas.dto.VersionInfo;
 import com.aas.shinhan.aas.entity.ConceptDescriptionEntity;
 
 @Repository
 public interface ConceptDescriptionRepository extends JpaRepository<ConceptDescriptionEntity, Long> {
 
-    // 특정 CD ID의 모든 버전 조회
-    List<ConceptDescriptionEntity> findByCdIdOrderByVersionDesc(String cdId);
+    // 특정 CD ID의 모든 버전 메타데이터 조회 (JSON 컬럼 제외)
+    @Query("SELECT new com.aas.shinhan.aas.dto.VersionInfo(c.seq, c.cdId, c.idShort, c.version, c.isActive, "
+            + "c.createdBy, c.createdAt, c.updatedBy, c.updatedAt) "
+            + "FROM ConceptDescriptionEntity c WHERE c.cdId = :cdId ORDER BY c.version DESC")
+    List<VersionInfo> findVersionInfosByCdId(@Param("cdId") String cdId);
 
-    // 특정 CD ID의 활성화된 버전 조회
-    Optional<ConceptDescriptionEntity> findByCdIdAndIsActiveTrue(String cdId);
+    // 특정 CD ID의 활성화된 버전 조회 (포인터 기본 키 -> SEQ 기본 키 조인)
+    @Query("SELECT c FROM ActiveConceptDescriptionEntity p JOIN ConceptDescriptionEntity c ON c.seq = p.seq "
+            + "WHERE p.cdId = :cdId")
+    Optional<ConceptDescriptionEntity> findActiveByCdId(@Param("cdId") String cdId);
 
     // 특정 CD ID와 버전으로 조회
     Optional<ConceptDescriptionEntity> findByCdIdAndVersion(String cdId, Integer version);
@@ -27,14 +37,43 @@ public interface ConceptDescriptionRepository extends JpaRepository<ConceptDescr
     @Query("SELECT MAX(c.version) FROM ConceptDescriptionEntity c WHERE c.cdId = :cdId")
     Optional<Integer> findMaxVersionByCdId(@Param("cdId") String cdId);
 
-    // 특정 CD ID의 모든 버전 비활성화
+    // 여러 CD ID의 최신 버전 행과 활성 버전 행 일괄 조회 (콘텐츠 해시 비교용, 활성 여부는 포인터 기준)
+    @Query("SELECT new com.aas.shinhan.aas.dto.LatestVersion(c.cdId, c.version, c.seq, "
+            + "CASE WHEN p.seq IS NOT NULL THEN true ELSE false END, c.contentHash) "
+            + "FROM ConceptDescriptionEntity c LEFT JOIN ActiveConceptDescriptionEntity p "
+            + "ON p.cdId = c.cdId AND p.seq = c.seq "
+            + "WHERE c.cdId IN :ids AND (p.seq IS NOT NULL OR c.version = "
+            + "(SELECT MAX(b.version) FROM ConceptDescriptionEntity b WHERE b.cdId = c.cdId))")
+    List<LatestVersion> findLatestAndActiveVersionsByCdIds(@Param("ids") Collection<String> ids);
+
+    // SEQ 목록의 활성 여부 표시 변경 (직전 활성 행과 새 활성 행만 기본 키로 갱신, 이력 깊이와 무관)
+    @Modifying
+    @Query("UPDATE ConceptDescriptionEntity c SET c.isActive = :active WHERE c.seq IN :seqs")
+    int updateActiveFlagBySeqs(@Param("seqs") Collection<Long> seqs, @Param("active") boolean active);
+
+    // 같은 ID에서 새 활성 행을 뺀 나머지 활성 표시를 내림 (포인터 행을 잠근 뒤 호출, 미리 읽은 직전 SEQ에 의존하지 않음)
     @Modifying
-    @Query("UPDATE ConceptDescriptionEntity c SET c.isActive = false WHERE c.cdId = :cdId")
-    void deactivateAllVersionsByCdId(@Param("cdId") String cdId);
+    @Query("UPDATE ConceptDescriptionEntity c SET c.isActive = false "
+            + "WHERE c.cdId = :cdId AND c.isActive = true AND c.seq <> :activeSeq")
+    int deactivateOthers(@Param("cdId") String cdId, @Param("activeSeq") Long activeSeq);
 
-    // 활성화된 모든 CD 조회
-    List<ConceptDescriptionEntity> findByIsActiveTrueOrderByCreatedAtDesc();
+    // 활성화된 모든 CD 조회 (포인터 테이블만 순회)
+    @Query("SELECT c FROM ActiveConceptDescriptionEntity p JOIN ConceptDescriptionEntity c ON c.seq = p.seq "
+            + "ORDER BY p.createdAt DESC")
+    List<ConceptDescriptionEntity> findAllActive();
 
     // CD ID 존재 여부 확인
     boolean existsByCdId(String cdId);
+
+    // 이전 형식(CLOB) 행 조회 (압축 저장 이관용, 엔티티로 올리지 않음)
+    @Query("SELECT new com.aas.shinhan.aas.dto.LegacyPayload(c.seq, c.legacyJson) FROM ConceptDescriptionEntity c "
+            + "WHERE c.payload IS NULL AND c.legacyJson IS NOT NULL ORDER BY c.seq")
+    List<LegacyPayload> findLegacyPayloads(Pageable pageable);
+
+    // 행의 압축 저장 내용 변경 (이전 형식 CLOB은 비움)
+    @Modifying
+    @Query("UPDATE ConceptDescriptionEntity c SET c.payload = :payload, c.payloadCodec = :payloadCodec, c.legacyJson = NULL "
+            + "WHERE c.seq = :seq")
+    int updateEncodedPayloadBySeq(@Param("seq") Long seq, @Param("payload") byte[] payload,
+            @Param("payloadCodec") String payloadCodec);
 }
@@ -0,0 +1,135 @@
+package com.aas.shinhan.aas.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.aas.shinhan.aas.dto.ElementIndexEntry;
+import com.aas.shinhan.aas.dto.ElementSearchHit;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 활성 Submodel 요소 색인 저장소 (AAS_SM_ELEMENT_INDEX)
+ * 색인은 Submodel ID 단위로 통째로 교체하며 (DELETE 후 배치 INSERT), 검색은 경로/semanticId 선두 인덱스를 사용한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ElementIndexJdbcRepository {
+
+    private static final String INSERT = "INSERT INTO AAS_SM_ELEMENT_INDEX "
+            + "(SUBMODEL_SEQ, SUBMODEL_ID, ID_SHORT_PATH, MODEL_TYPE, SEMANTIC_ID, VALUE_TYPE, STRING_VALUE, "
+            + "NUMERIC_VALUE) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String SELECT = "SELECT SUBMODEL_ID, SUBMODEL_SEQ, ID_SHORT_PATH, MODEL_TYPE, SEMANTIC_ID, "
+            + "VALUE_TYPE, STRING_VALUE, NUMERIC_VALUE FROM AAS_SM_ELEMENT_INDEX WHERE ";
+
+    // IN 절 / 배치 단위 (Oracle IN 절 제한 1000 이하)
+    private static final int CHUNK_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 색인 대상 행 (어느 Submodel 버전의 요소인지)
+     */
+    public record Row(long submodelSeq, String submodelId, ElementIndexEntry entry) {
+    }
+
+    public int deleteBySubmodelIds(Collection<String> submodelIds) {
+        List<String> ids = new ArrayList<>(submodelIds);
+        int deleted = 0;
+        for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+            List<String> chunk = ids.subList(from, Math.min(from + CHUNK_SIZE, ids.size()));
+            String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+            deleted += jdbcTemplate.update("DELETE FROM AAS_SM_ELEMENT_INDEX WHERE SUBMODEL_ID IN (" + placeholders + ")",
+                    chunk.toArray());
+        }
+        return deleted;
+    }
+
+    public void insert(List<Row> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT, rows, CHUNK_SIZE, (ps, row) -> {
+            ElementIndexEntry entry = row.entry();
+            ps.setLong(1, row.submodelSeq());
+            ps.setString(2, row.submodelId());
+            ps.setString(3, entry.getIdShortPath());
+            ps.setString(4, entry.getModelType());
+            ps.setString(5, entry.getSemanticId());
+            ps.setString(6, entry.getValueType());
+            ps.setString(7, entry.getStringValue());
+            if (entry.getNumericValue() != null) {
+                ps.setDouble(8, entry.getNumericValue());
+            } else {
+                ps.setNull(8, Types.DOUBLE);
+            }
+        });
+    }
+
+    /**
+     * 조건 검색 (조건은 모두 AND, null이면 미적용)
+     * @param pathPrefix true면 path를 접두어로 검색 (LIKE 'path%')
+     * @param limit 최대 결과 수 (드라이버 maxRows로 제한하므로 DB별 문법 차이 없음)
+     */
+    public List<ElementSearchHit> search(String path, boolean pathPrefix, String semanticId, String value,
+            Double min, Double max, int limit) {
+        StringBuilder where = new StringBuilder();
+        List<Object> params = new ArrayList<>();
+        if (path != null) {
+            if (pathPrefix) {
+                // '!'는 Oracle/MySQL 공통으로 쓸 수 있는 이스케이프 문자 (idShort의 '_'가 와일드카드로 해석되지 않도록)
+                where.append("ID_SHORT_PATH LIKE ? ESCAPE '!'");
+                params.add(escapeLike(path) + "%");
+            } else {
+                where.append("ID_SHORT_PATH = ?");
+                params.add(path);
+            }
+        }
+        append(where, params, "SEMANTIC_ID = ?", semanticId);
+        append(where, params, "STRING_VALUE = ?", value);
+        append(where, params, "NUMERIC_VALUE >= ?", min);
+        append(where, params, "NUMERIC_VALUE <= ?", max);
+
+        return jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(SELECT + where);
+            ps.setMaxRows(limit);
+            ps.setFetchSize(Math.min(limit, CHUNK_SIZE));
+            for (int i = 0; i < params.size(); i++) {
+                ps.setObject(i + 1, params.get(i));
+            }
+            return ps;
+        }, (rs, rowNum) -> toHit(rs));
+    }
+
+    private static void append(StringBuilder where, List<Object> params, String condition, Object value) {
+        if (value == null) {
+            return;
+        }
+        if (where.length() > 0) {
+            where.append(" AND ");
+        }
+        where.append(condition);
+        params.add(value);
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+
+    private static ElementSearchHit toHit(ResultSet rs) throws SQLException {
+        double numeric = rs.getDouble(8);
+        Double numericValue = rs.wasNull() ? null : numeric;
+        return new ElementSearchHit(rs.getString(1), rs.getLong(2), rs.getString(3), rs.getString(4),
+                rs.getString(5), rs.getString(6), rs.getString(7), numericValue);
+    }
+}
@@ -0,0 +1,190 @@
+package com.aas.shinhan.aas.repository;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import com.aas.shinhan.core.codec.PayloadCodec;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 저장 내용 원본 스트리밍 저장소
+ * LOB을 엔티티나 String으로 올리지 않고 JDBC 스트림에서 디코딩해 바로 출력 스트림으로 보낸다.
+ * 이전 형식(CLOB) 행은 문자 스트림을 UTF-8로 변환해 출력한다.
+ * 활성 문서 전체 내보내기는 fetch size를 둔 커서로 한 행씩 읽어 출력하므로 힙 사용량이 일정하다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PayloadStreamJdbcRepository {
+
+    private static final String SELECT_AAS = "SELECT AAS_PAYLOAD, PAYLOAD_CODEC, AAS_JSON FROM AAS_SHELL WHERE SEQ = ?";
+    private static final String SELECT_SUBMODEL =
+            "SELECT SUBMODEL_PAYLOAD, PAYLOAD_CODEC, SUBMODEL_JSON FROM AAS_SUBMODEL WHERE SEQ = ?";
+    private static final String SELECT_SUBMODEL_VALUE =
+            "SELECT SUBMODEL_VALUE_PAYLOAD, VALUE_PAYLOAD_CODEC FROM AAS_SUBMODEL WHERE SEQ = ?";
+
+    // 활성 버전 포인터를 순회하며 SEQ 기본 키로 버전 행 조인
+    private static final String SELECT_ACTIVE_AAS = "SELECT a.AAS_PAYLOAD, a.PAYLOAD_CODEC, a.AAS_JSON "
+            + "FROM AAS_SHELL_ACTIVE p JOIN AAS_SHELL a ON a.SEQ = p.SEQ";
+    private static final String SELECT_ACTIVE_SUBMODELS = "SELECT s.SUBMODEL_PAYLOAD, s.PAYLOAD_CODEC, s.SUBMODEL_JSON "
+            + "FROM AAS_SUBMODEL_ACTIVE p JOIN AAS_SUBMODEL s ON s.SEQ = p.SEQ";
+    private static final String SELECT_ACTIVE_CONCEPT_DESCRIPTIONS = "SELECT c.CD_PAYLOAD, c.PAYLOAD_CODEC, c.CD_JSON "
+            + "FROM AAS_CD_ACTIVE p JOIN AAS_CONCEPT_DESCRIPTION c ON c.SEQ = p.SEQ";
+
+    private static final int EXPORT_FETCH_SIZE = 100;
+    private static final int FILTER_CHUNK = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @return 행이 없으면 false (출력하지 않음)
+     */
+    public boolean writeAasPayload(long seq, OutputStream out) {
+        return write(SELECT_AAS, seq, out);
+    }
+
+    public boolean writeSubmodelPayload(long seq, OutputStream out) {
+        return write(SELECT_SUBMODEL, seq, out);
+    }
+
+    /**
+     * 미리 생성된 값 전용 표현 출력
+     * @return 행이 없거나 값 전용 표현이 아직 없으면 false (출력하지 않음)
+     */
+    public boolean writeSubmodelValuePayload(long seq, OutputStream out) {
+        Boolean found = jdbcTemplate.query(SELECT_SUBMODEL_VALUE, ps -> ps.setLong(1, seq), rs -> {
+            if (!rs.next()) {
+                return false;
+            }
+            try (InputStream payload = rs.getBinaryStream(1)) {
+                if (payload == null) {
+                    return false;
+                }
+                String codecName = rs.getString(2);
+                PayloadCodec codec = codecName != null ? PayloadCodec.valueOf(codecName) : PayloadCodec.NONE;
+                codec.decodeTo(payload, out);
+                return true;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return Boolean.TRUE.equals(found);
+    }
+
+    private boolean write(String sql, long seq, OutputStream out) {
+        Boolean found = jdbcTemplate.query(sql, ps -> ps.setLong(1, seq), rs -> {
+            if (!rs.next()) {
+                return false;
+            }
+            writeRow(rs, out);
+            return true;
+        });
+        return Boolean.TRUE.equals(found);
+    }
+
+    // ======================= 활성 문서 전체 내보내기 =======================
+
+    /**
+     * 활성 AAS 문서를 차례로 출력 (DB 커서로 읽어 행마다 바로 디코딩)
+     * @param aasIds null이면 전체, 아니면 해당 AAS만
+     * @param beforeEach 각 문서 앞에 호출 (구분자 출력, 주기적 flush)
+     * @return 출력한 문서 수
+     */
+    public int writeActiveAasPayloads(Collection<String> aasIds, OutputStream out, IntConsumer beforeEach) {
+        return writeActive(SELECT_ACTIVE_AAS, "p.AAS_ID", aasIds, out, beforeEach);
+    }
+
+    /**
+     * 활성 Submodel 문서를 차례로 출력
+     * @param aasIds null이면 전체, 아니면 해당 AAS에 연결된 Submodel만
+     */
+    public int writeActiveSubmodelPayloads(Collection<String> aasIds, OutputStream out, IntConsumer beforeEach) {
+        return writeActive(SELECT_ACTIVE_SUBMODELS, "s.AAS_ID", aasIds, out, beforeEach);
+    }
+
+    public int writeActiveConceptDescriptionPayloads(OutputStream out, IntConsumer beforeEach) {
+        return writeActive(SELECT_ACTIVE_CONCEPT_DESCRIPTIONS, null, null, out, beforeEach);
+    }
+
+    private int writeActive(String sql, String filterColumn, Collection<String> ids, OutputStream out,
+            IntConsumer beforeEach) {
+        int[] count = new int[1];
+        RowCallbackHandler handler = rs -> {
+            beforeEach.accept(count[0]++);
+            writeRow(rs, out);
+        };
+        if (ids == null) {
+            jdbcTemplate.query(cursor(sql, List.of()), handler);
+            return count[0];
+        }
+        // Oracle IN 절 제한 1000 이하로 나누어 조회
+        List<String> distinct = List.copyOf(new LinkedHashSet<>(ids));
+        for (int from = 0; from < distinct.size(); from += FILTER_CHUNK) {
+            List<String> chunk = distinct.subList(from, Math.min(from + FILTER_CHUNK, distinct.size()));
+            String filtered = sql + " WHERE " + filterColumn + " IN ("
+                    + String.join(",", Collections.nCopies(chunk.size(), "?")) + ")";
+            jdbcTemplate.query(cursor(filtered, chunk), handler);
+        }
+        return count[0];
+    }
+
+    /**
+     * 행을 한 번에 올리지 않도록 fetch size를 지정한 조회
+     * (MySQL은 URL에 useCursorFetch=true가 있어야 서버 커서를 사용)
+     */
+    private static PreparedStatementCreator cursor(String sql, List<String> params) {
+        return connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY,
+                    ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(EXPORT_FETCH_SIZE);
+            for (int i = 0; i < params.size(); i++) {
+                ps.setString(i + 1, params.get(i));
+            }
+            return ps;
+        };
+    }
+
+    /**
+     * 현재 행의 저장 내용(1: 압축 내용, 2: 코덱, 3: 이전 형식 CLOB)을 디코딩해 출력
+     */
+    private static void writeRow(ResultSet rs, OutputStream out) throws SQLException {
+        try (InputStream payload = rs.getBinaryStream(1)) {
+            if (payload != null) {
+                String codecName = rs.getString(2);
+                PayloadCodec codec = codecName != null ? PayloadCodec.valueOf(codecName) : PayloadCodec.NONE;
+                codec.decodeTo(payload, out);
+                return;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        try (Reader legacy = rs.getCharacterStream(3)) {
+            if (legacy != null) {
+                Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+                legacy.transferTo(writer);
+                writer.flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
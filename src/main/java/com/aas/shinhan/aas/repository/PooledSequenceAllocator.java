@@ -0,0 +1,88 @@
+package com.aas.shinhan.aas.repository;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 시퀀스 기반 PK 블록 할당기
+ * 엔티티의 @SequenceGenerator(allocationSize = 50)와 동일한 pooled-lo 규칙을 사용하므로
+ * Hibernate가 발급하는 PK와 겹치지 않는다. (DB 값 v를 받으면 v ~ v+49 사용)
+ * 시퀀스를 지원하지 않는 DB(MySQL)는 Hibernate와 같은 next_val 테이블을 사용한다.
+ */
+@Slf4j
+@Component
+public class PooledSequenceAllocator {
+
+    public static final int ALLOCATION_SIZE = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final TransactionTemplate isolatedTransaction;
+    private final Map<String, Block> blocks = new ConcurrentHashMap<>();
+
+    private volatile Dialect dialect;
+
+    public PooledSequenceAllocator(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory,
+            PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManagerFactory = entityManagerFactory;
+        this.isolatedTransaction = new TransactionTemplate(transactionManager);
+        this.isolatedTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 다음 PK 반환 (블록 소진 시에만 DB 조회)
+     */
+    public long next(String sequenceName) {
+        Block block = blocks.computeIfAbsent(sequenceName, name -> new Block());
+        synchronized (block) {
+            if (block.next > block.hi) {
+                long lo = fetchNextValue(sequenceName);
+                block.next = lo;
+                block.hi = lo + ALLOCATION_SIZE - 1;
+            }
+            return block.next++;
+        }
+    }
+
+    private long fetchNextValue(String sequenceName) {
+        Dialect currentDialect = dialect();
+        if (currentDialect.getSequenceSupport().supportsSequences()) {
+            String sql = currentDialect.getSequenceSupport().getSequenceNextValString(sequenceName);
+            return jdbcTemplate.queryForObject(sql, Long.class);
+        }
+
+        // 테이블 방식: Hibernate TableStructure와 동일하게 별도 트랜잭션에서 증가시킨다
+        Long value = isolatedTransaction.execute(status -> {
+            Long current = jdbcTemplate.queryForObject(
+                    "SELECT next_val FROM " + sequenceName + " FOR UPDATE", Long.class);
+            jdbcTemplate.update("UPDATE " + sequenceName + " SET next_val = ?", current + ALLOCATION_SIZE);
+            return current;
+        });
+        log.debug("Sequence table [{}] block allocated from {}", sequenceName, value);
+        return value;
+    }
+
+    private Dialect dialect() {
+        if (dialect == null) {
+            dialect = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect();
+        }
+        return dialect;
+    }
+
+    private static class Block {
+        private long next = 1;
+        private long hi = 0;
+    }
+}
@@ -1,46 +1,195 @@
 package com.aas.shinhan.aas.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.aas.shinhan.aas.dto.ActiveSubmodelPayload;
+import com.aas.shinhan.aas.dto.DiscoveryRow;
+import com.aas.shinhan.aas.dto.LatestVersion;
+import com.aas.shinhan.aas.dto.LegacyPayload;
+import com.aas.shinhan.aas.dto.PayloadMetadata;
+import com.aas.shinhan.aas.dto.SubmodelSummary;
+import com.aas.shinhan.aas.dto.VersionInfo;
+import com.aas.shinhan.aas.dto.VersionPayload;
+import com.aas.shinhan.aas.entity.StorageType;
 import com.aas.shinhan.aas.entity.SubmodelEntity;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface SubmodelRepository extends JpaRepository<SubmodelEntity, Long> {
 
-    // 특정 Submodel ID의 모든 버전 조회
-    List<SubmodelEntity> findBySubmodelIdOrderByVersionDesc(String submodelId);
+    // 특정 Submodel ID의 모든 버전 메타데이터 조회 (JSON 컬럼 제외)
+    @Query("SELECT new com.aas.shinhan.aas.dto.VersionInfo(s.seq, s.submodelId, s.idShort, s.version, s.isActive, s.storageType, "
+            + "s.createdBy, s.createdAt, s.updatedBy, s.updatedAt) "
+            + "FROM SubmodelEntity s WHERE s.submodelId = :submodelId ORDER BY s.version DESC")
+    List<VersionInfo> findVersionInfosBySubmodelId(@Param("submodelId") String submodelId);
+
+    // 특정 Submodel ID의 활성화된 버전 조회 (포인터 기본 키 -> SEQ 기본 키 조인)
+    @Query("SELECT s FROM ActiveSubmodelEntity p JOIN SubmodelEntity s ON s.seq = p.seq "
+            + "WHERE p.submodelId = :submodelId")
+    Optional<SubmodelEntity> findActiveBySubmodelId(@Param("submodelId") String submodelId);
 
-    // 특정 Submodel ID의 활성화된 버전 조회
-    Optional<SubmodelEntity> findBySubmodelIdAndIsActiveTrue(String submodelId);
+    // 특정 Submodel ID의 활성 버전 행 정보 조회 (JSON 컬럼 제외)
+    @Query("SELECT new com.aas.shinhan.aas.dto.PayloadMetadata(s.seq, s.submodelId, s.version, s.contentHash) "
+            + "FROM ActiveSubmodelEntity p JOIN SubmodelEntity s ON s.seq = p.seq WHERE p.submodelId = :submodelId")
+    Optional<PayloadMetadata> findActivePayloadMetadataBySubmodelId(@Param("submodelId") String submodelId);
 
     // 특정 Submodel ID와 버전으로 조회
     Optional<SubmodelEntity> findBySubmodelIdAndVersion(String submodelId, Integer version);
 
-    // 특정 AAS에 연결된 활성화된 Submodel 목록 조회
-    List<SubmodelEntity> findByAasIdAndIsActiveTrueOrderByIdShort(String aasId);
+    // 특정 AAS에 연결된 활성화된 Submodel 메타데이터 조회 (JSON 컬럼 제외)
+    @Query("SELECT new com.aas.shinhan.aas.dto.SubmodelSummary(s.seq, s.submodelId, s.idShort, s.semanticId, s.aasId, "
+            + "s.version, s.isActive, s.createdBy, s.createdAt, s.updatedBy, s.updatedAt) "
+            + "FROM SubmodelEntity s JOIN ActiveSubmodelEntity p ON p.submodelId = s.submodelId AND p.seq = s.seq "
+            + "WHERE s.aasId = :aasId ORDER BY s.idShort")
+    List<SubmodelSummary> findActiveSummariesByAasId(@Param("aasId") String aasId);
+
+    // 활성 Submodel 목록 첫 페이지 (포인터의 CREATED_AT, SEQ 내림차순 키셋, JSON 컬럼 제외)
+    @Query("SELECT new com.aas.shinhan.aas.dto.SubmodelSummary(s.seq, s.submodelId, s.idShort, s.semanticId, s.aasId, "
+            + "s.version, s.isActive, s.createdBy, s.createdAt, s.updatedBy, s.updatedAt) "
+            + "FROM ActiveSubmodelEntity p JOIN SubmodelEntity s ON s.seq = p.seq "
+            + "ORDER BY p.createdAt DESC, p.seq DESC")
+    List<SubmodelSummary> findActiveSummaryPage(Pageable pageable);
+
+    // 활성 Submodel 목록 다음 페이지 (커서 행 이후)
+    @Query("SELECT new com.aas.shinhan.aas.dto.SubmodelSummary(s.seq, s.submodelId, s.idShort, s.semanticId, s.aasId, "
+            + "s.version, s.isActive, s.createdBy, s.createdAt, s.updatedBy, s.updatedAt) "
+            + "FROM ActiveSubmodelEntity p JOIN SubmodelEntity s ON s.seq = p.seq "
+            + "WHERE p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.seq < :seq) "
+            + "ORDER BY p.createdAt DESC, p.seq DESC")
+    List<SubmodelSummary> findActiveSummaryPageAfter(@Param("createdAt") LocalDateTime createdAt, @Param("seq") Long seq,
+            Pageable pageable);
+
+    // 활성 Submodel 전체 목록 스트리밍 (DB 커서에서 500행씩 읽음, 호출자 트랜잭션 안에서 닫아야 함)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.aas.shinhan.aas.dto.SubmodelSummary(s.seq, s.submodelId, s.idShort, s.semanticId, s.aasId, "
+            + "s.version, s.isActive, s.createdBy, s.createdAt, s.updatedBy, s.updatedAt) "
+            + "FROM ActiveSubmodelEntity p JOIN SubmodelEntity s ON s.seq = p.seq "
+            + "ORDER BY p.createdAt DESC, p.seq DESC")
+    Stream<SubmodelSummary> streamActiveSummaries();
 
     // 특정 Submodel ID의 최신 버전 번호 조회
     @Query("SELECT MAX(s.version) FROM SubmodelEntity s WHERE s.submodelId = :submodelId")
     Optional<Integer> findMaxVersionBySubmodelId(@Param("submodelId") String submodelId);
 
-    // 특정 Submodel ID의 모든 버전 비활성화
+    // 여러 Submodel ID의 최신 버전 행과 활성 버전 행 일괄 조회 (콘텐츠 해시 비교용, 활성 여부는 포인터 기준)
+    @Query("SELECT new com.aas.shinhan.aas.dto.LatestVersion(s.submodelId, s.version, s.seq, "
+            + "CASE WHEN p.seq IS NOT NULL THEN true ELSE false END, s.contentHash) "
+            + "FROM SubmodelEntity s LEFT JOIN ActiveSubmodelEntity p ON p.submodelId = s.submodelId AND p.seq = s.seq "
+            + "WHERE s.submodelId IN :ids AND (p.seq IS NOT NULL OR s.version = "
+            + "(SELECT MAX(b.version) FROM SubmodelEntity b WHERE b.submodelId = s.submodelId))")
+    List<LatestVersion> findLatestAndActiveVersionsBySubmodelIds(@Param("ids") Collection<String> ids);
+
+    // SEQ 목록의 활성 여부 표시 변경 (직전 활성 행과 새 활성 행만 기본 키로 갱신, 이력 깊이와 무관)
     @Modifying
-    @Query("UPDATE SubmodelEntity s SET s.isActive = false WHERE s.submodelId = :submodelId")
-    void deactivateAllVersionsBySubmodelId(@Param("submodelId") String submodelId);
+    @Query("UPDATE SubmodelEntity s SET s.isActive = :active WHERE s.seq IN :seqs")
+    int updateActiveFlagBySeqs(@Param("seqs") Collection<Long> seqs, @Param("active") boolean active);
 
-    // 활성화된 모든 Submodel 조회
-    List<SubmodelEntity> findByIsActiveTrueOrderByCreatedAtDesc();
+    // 같은 ID에서 새 활성 행을 뺀 나머지 활성 표시를 내림 (포인터 행을 잠근 뒤 호출, 미리 읽은 직전 SEQ에 의존하지 않음)
+    @Modifying
+    @Query("UPDATE SubmodelEntity s SET s.isActive = false "
+            + "WHERE s.submodelId = :submodelId AND s.isActive = true AND s.seq <> :activeSeq")
+    int deactivateOthers(@Param("submodelId") String submodelId, @Param("activeSeq") Long activeSeq);
+
+    // 활성화된 모든 Submodel 조회 (포인터 테이블만 순회)
+    @Query("SELECT s FROM ActiveSubmodelEntity p JOIN SubmodelEntity s ON s.seq = p.seq ORDER BY p.createdAt DESC")
+    List<SubmodelEntity> findAllActive();
 
     // Submodel ID 존재 여부 확인
     boolean existsBySubmodelId(String submodelId);
 
     // 특정 Submodel ID의 버전 개수 조회
     long countBySubmodelId(String submodelId);
+
+    // 지정 버전 이하에서 가장 가까운 FULL 버전 번호 (델타 복원 시작점)
+    @Query("SELECT MAX(s.version) FROM SubmodelEntity s WHERE s.submodelId = :id AND s.version <= :version "
+            + "AND s.storageType = com.aas.shinhan.aas.entity.StorageType.FULL")
+    Optional<Integer> findBaseVersionBySubmodelId(@Param("id") String id, @Param("version") Integer version);
+
+    // 버전 범위의 저장 내용 조회 (엔티티로 올리지 않음)
+    @Query("SELECT new com.aas.shinhan.aas.dto.VersionPayload(s.seq, s.version, s.storageType, s.isActive, "
+            + "s.payload, s.payloadCodec, s.legacyJson) "
+            + "FROM SubmodelEntity s WHERE s.submodelId = :id AND s.version BETWEEN :fromVersion AND :toVersion "
+            + "ORDER BY s.version, s.seq")
+    List<VersionPayload> findPayloadsBySubmodelId(@Param("id") String id,
+            @Param("fromVersion") Integer fromVersion, @Param("toVersion") Integer toVersion);
+
+    // 델타로 바꿀 수 있는 가장 오래된 버전 (비활성 FULL, 스냅샷 주기 버전과 최신 버전 제외)
+    @Query("SELECT MIN(s.version) FROM SubmodelEntity s WHERE s.submodelId = :id "
+            + "AND NOT EXISTS (SELECT 1 FROM ActiveSubmodelEntity p "
+            + "WHERE p.submodelId = s.submodelId AND p.seq = s.seq) "
+            + "AND s.storageType = com.aas.shinhan.aas.entity.StorageType.FULL "
+            + "AND s.version >= :fromVersion AND MOD(s.version - 1, :interval) <> 0 "
+            + "AND s.version < (SELECT MAX(b.version) FROM SubmodelEntity b WHERE b.submodelId = s.submodelId)")
+    Optional<Integer> findFirstCompactableVersionBySubmodelId(@Param("id") String id,
+            @Param("fromVersion") Integer fromVersion, @Param("interval") Integer interval);
+
+    // 행의 저장 내용과 저장 방식 변경 (이전 형식 CLOB과 값 전용 표현은 비움, 활성화 시 다시 생성)
+    @Modifying
+    @Query("UPDATE SubmodelEntity s SET s.payload = :payload, s.payloadCodec = :payloadCodec, s.legacyJson = NULL, "
+            + "s.valuePayload = NULL, s.valuePayloadCodec = NULL, s.storageType = :storageType WHERE s.seq = :seq")
+    int updateStoredVersionBySeq(@Param("seq") Long seq, @Param("payload") byte[] payload,
+            @Param("payloadCodec") String payloadCodec, @Param("storageType") StorageType storageType);
+
+    // 이전 형식(CLOB) 행 조회 (압축 저장 이관용, 엔티티로 올리지 않음)
+    @Query("SELECT new com.aas.shinhan.aas.dto.LegacyPayload(s.seq, s.legacyJson) FROM SubmodelEntity s "
+            + "WHERE s.payload IS NULL AND s.legacyJson IS NOT NULL ORDER BY s.seq")
+    List<LegacyPayload> findLegacyPayloads(Pageable pageable);
+
+    // 행의 압축 저장 내용 변경 (이전 형식 CLOB은 비움)
+    @Modifying
+    @Query("UPDATE SubmodelEntity s SET s.payload = :payload, s.payloadCodec = :payloadCodec, s.legacyJson = NULL "
+            + "WHERE s.seq = :seq")
+    int updateEncodedPayloadBySeq(@Param("seq") Long seq, @Param("payload") byte[] payload,
+            @Param("payloadCodec") String payloadCodec);
+
+    // 활성 Submodel 저장 내용 표본 조회 (코덱 벤치마크용)
+    @Query("SELECT new com.aas.shinhan.aas.dto.VersionPayload(s.seq, s.version, s.storageType, s.isActive, "
+            + "s.payload, s.payloadCodec, s.legacyJson) "
+            + "FROM ActiveSubmodelEntity p JOIN SubmodelEntity s ON s.seq = p.seq ORDER BY p.seq")
+    List<VersionPayload> findActivePayloads(Pageable pageable);
+
+    // 활성 Submodel 저장 내용 SEQ 순 조회 (요소 색인 재구성용, lastSeq 이후부터)
+    @Query("SELECT new com.aas.shinhan.aas.dto.ActiveSubmodelPayload(s.seq, s.submodelId, s.payload, s.payloadCodec, "
+            + "s.legacyJson) FROM ActiveSubmodelEntity p JOIN SubmodelEntity s ON s.seq = p.seq "
+            + "WHERE p.seq > :lastSeq ORDER BY p.seq")
+    List<ActiveSubmodelPayload> findActivePayloadsAfter(@Param("lastSeq") Long lastSeq, Pageable pageable);
+
+    // 값 전용 표현이 없는 활성 Submodel 조회 (값 전용 표현 이관용)
+    @Query("SELECT new com.aas.shinhan.aas.dto.ActiveSubmodelPayload(s.seq, s.submodelId, s.payload, s.payloadCodec, "
+            + "s.legacyJson) FROM ActiveSubmodelEntity p JOIN SubmodelEntity s ON s.seq = p.seq "
+            + "WHERE s.valuePayload IS NULL ORDER BY p.seq")
+    List<ActiveSubmodelPayload> findActiveWithoutValuePayload(Pageable pageable);
+
+    // 값 전용 표현 저장
+    @Modifying
+    @Query("UPDATE SubmodelEntity s SET s.valuePayload = :payload, s.valuePayloadCodec = :payloadCodec "
+            + "WHERE s.seq = :seq")
+    int updateValuePayloadBySeq(@Param("seq") Long seq, @Param("payload") byte[] payload,
+            @Param("payloadCodec") String payloadCodec);
+
+    // 탐색 색인 적재용 활성 Submodel 검색어 컬럼 스트리밍
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.aas.shinhan.aas.dto.DiscoveryRow(s.seq, s.submodelId, s.semanticId) "
+            + "FROM ActiveSubmodelEntity p JOIN SubmodelEntity s ON s.seq = p.seq")
+    Stream<DiscoveryRow> streamActiveDiscoveryRows();
+
+    // semanticId로 활성 Submodel ID 조회 (탐색 색인 미적재 시 사용)
+    @Query("SELECT s.submodelId FROM SubmodelEntity s "
+            + "JOIN ActiveSubmodelEntity p ON p.submodelId = s.submodelId AND p.seq = s.seq "
+            + "WHERE s.semanticId IN :values")
+    List<String> findActiveSubmodelIdsBySemanticIdIn(@Param("values") Collection<String> values);
 }
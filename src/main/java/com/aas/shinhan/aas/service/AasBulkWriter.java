@@ -0,0 +1,593 @@
+package com.aas.shinhan.aas.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.aas.shinhan.aas.dto.AasSaveRequest;
+import com.aas.shinhan.aas.dto.ChangeEvent;
+import com.aas.shinhan.aas.dto.ConceptDescriptionSaveRequest;
+import com.aas.shinhan.aas.dto.LatestVersion;
+import com.aas.shinhan.aas.dto.PreparedIdentifiable.Kind;
+import com.aas.shinhan.aas.dto.SubmodelSaveRequest;
+import com.aas.shinhan.aas.entity.AasEntity;
+import com.aas.shinhan.aas.entity.ConceptDescriptionEntity;
+import com.aas.shinhan.aas.entity.SubmodelEntity;
+import com.aas.shinhan.aas.repository.AasBulkJdbcRepository;
+import com.aas.shinhan.aas.repository.AasRepository;
+import com.aas.shinhan.aas.repository.ConceptDescriptionRepository;
+import com.aas.shinhan.aas.repository.PooledSequenceAllocator;
+import com.aas.shinhan.aas.repository.SubmodelRepository;
+import com.aas.shinhan.core.codec.EncodedPayload;
+import com.aas.shinhan.core.datasource.ReadYourWritesTracker;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 업로드 대량 저장 서비스
+ * 요청을 batch-size 단위로 모아 테이블별로
+ * 활성 버전 포인터 행 잠금 -> 최신/활성 버전 일괄 조회(1회) -> JDBC 배치 INSERT/UPDATE -> 포인터 UPSERT 순으로 처리한다.
+ * 활성화는 ID당 포인터 한 행과 새 활성 행을 기본 키로, 같은 ID의 나머지 활성 표시는 ID로 내린다.
+ * 콘텐츠 해시가 활성 버전과 같은 요청은 저장하지 않고 unchanged로 보고한다.
+ * 새 버전이 생긴 AAS/Submodel은 커밋 후 백그라운드에서 직전 버전들을 델타로 변환한다 ({@link VersionStorageService}).
+ * 활성 버전이 바뀐 AAS/Submodel은 커밋 후 활성 엔티티 캐시에서 무효화한다 ({@link ActiveEntityCache}).
+ * 활성 버전이 바뀐 Submodel은 같은 트랜잭션에서 요소 색인을 교체한다 ({@link ElementIndexService}).
+ * 활성 버전이 바뀐 AAS/Submodel은 커밋 후 탐색 색인에 반영한다 ({@link DiscoveryIndexService}).
+ * 조회/INSERT/UPDATE/활성화 등 단계별 시간은 aas.storage.phase로 기록한다 ({@link IngestMetrics}).
+ * 업로드는 여러 배치에 걸쳐 한 트랜잭션으로 커밋되므로 식별자 스트라이프 잠금을 잡지 않는다 (배치마다 쌓이면 전역 잠금이 됨).
+ * 대신 배치의 포인터 행을 ID 순으로 잠가 같은 ID의 버전 할당/활성화를 DB 행 잠금으로 직렬화한다.
+ * 다른 업로드/단건 저장/다른 노드가 같은 (ID, VERSION)을 먼저 저장해 INSERT가 실패한 행은
+ * 최신 버전을 다시 읽어 제한 횟수만큼 재시도한다 (유일 제약 UK_*_ID_VERSION).
+ * 저장된 행마다 같은 트랜잭션에서 변경 이벤트를 남긴다 ({@link ChangeEventRecorder}).
+ * 호출자의 트랜잭션 안에서만 사용하며, 행 단위 실패는 세이브포인트로 격리된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AasBulkWriter {
+
+    private static final String AAS_SEQ = "AAS_SEQ";
+    private static final String SUBMODEL_SEQ = "SUBMODEL_SEQ";
+    private static final String CD_SEQ = "CONCEPT_DESC_SEQ";
+
+    private final AasRepository aasRepository;
+    private final SubmodelRepository submodelRepository;
+    private final ConceptDescriptionRepository conceptDescriptionRepository;
+    private final AasBulkJdbcRepository aasBulkJdbcRepository;
+    private final PooledSequenceAllocator pooledSequenceAllocator;
+    private final VersionStorageService versionStorageService;
+    private final PayloadCodecService payloadCodecService;
+    private final ActiveEntityCache activeEntityCache;
+    private final ElementIndexService elementIndexService;
+    private final DiscoveryIndexService discoveryIndexService;
+    private final IngestMetrics ingestMetrics;
+    private final ChangeEventRecorder changeEventRecorder;
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    // 한 번에 처리할 식별자 수 (Oracle IN 절 제한 1000 이하)
+    @Value("${aas.ingest.batch-size:500}")
+    private int batchSize;
+
+    // (ID, VERSION) 유일 제약 위반으로 실패한 INSERT 행의 재시도 횟수
+    @Value("${aas.ingest.version-conflict-retries:3}")
+    private int versionConflictRetries;
+
+    /**
+     * 업로드 한 건의 저장 세션 시작 (트랜잭션 필수)
+     */
+    public Session openSession(String username) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("AasBulkWriter requires an active transaction");
+        }
+        readYourWritesTracker.recordWrite(username);
+        return new Session(username);
+    }
+
+    /**
+     * 업로드 한 건 동안 유지되는 저장 버퍼
+     * 요청은 버퍼에 넣을 때 해시/압축(Submodel은 값 전용 표현과 요소 색인까지)을 마치고 JSON 문자열을 버려,
+     * 배치가 찰 때까지 압축된 페이로드만 보관한다.
+     */
+    public class Session {
+
+        private final String username;
+        private List<AasSaveRequest> pendingAas = new ArrayList<>();
+        private List<SubmodelSaveRequest> pendingSubmodels = new ArrayList<>();
+        private List<ConceptDescriptionSaveRequest> pendingConceptDescriptions = new ArrayList<>();
+
+        @Getter
+        private int persistedCount;
+        @Getter
+        private final List<String> failedIds = new ArrayList<>();
+        @Getter
+        private final List<String> unchangedAasIds = new ArrayList<>();
+        @Getter
+        private final List<String> unchangedSubmodelIds = new ArrayList<>();
+        @Getter
+        private final List<String> unchangedConceptDescriptionIds = new ArrayList<>();
+
+        private Session(String username) {
+            this.username = username;
+        }
+
+        public void addAas(AasSaveRequest request) {
+            request.setContentHash(contentHash(request.getContentHash(), request.getAasJson()));
+            request.setPayload(encode(request.getPayload(), request.getAasJson()));
+            request.setAasJson(null);
+            pendingAas.add(request);
+            if (pendingAas.size() >= batchSize) {
+                flushAas();
+            }
+        }
+
+        public void addSubmodel(SubmodelSaveRequest request) {
+            String json = request.getSubmodelJson();
+            request.setContentHash(contentHash(request.getContentHash(), json));
+            request.setPayload(encode(request.getPayload(), json));
+            request.setValuePayload(encodeValueOnly(request.getValuePayload(), json));
+            if (request.getElementIndex() == null) {
+                request.setElementIndex(elementIndexService.flatten(request.getSubmodelId(), json));
+            }
+            request.setSubmodelJson(null);
+            pendingSubmodels.add(request);
+            if (pendingSubmodels.size() >= batchSize) {
+                flushSubmodels();
+            }
+        }
+
+        public void addConceptDescription(ConceptDescriptionSaveRequest request) {
+            request.setContentHash(contentHash(request.getContentHash(), request.getCdJson()));
+            request.setPayload(encode(request.getPayload(), request.getCdJson()));
+            request.setCdJson(null);
+            pendingConceptDescriptions.add(request);
+            if (pendingConceptDescriptions.size() >= batchSize) {
+                flushConceptDescriptions();
+            }
+        }
+
+        /**
+         * 남은 버퍼 저장
+         */
+        public void finish() {
+            flushAas();
+            flushSubmodels();
+            flushConceptDescriptions();
+        }
+
+        // ======================= AAS =======================
+
+        private void flushAas() {
+            if (pendingAas.isEmpty()) {
+                return;
+            }
+            List<AasSaveRequest> batch = pendingAas;
+            pendingAas = new ArrayList<>();
+            long start = System.currentTimeMillis();
+
+            Set<String> batchIds = ids(batch, AasSaveRequest::getAasId);
+            Set<String> pointerIds = ingestMetrics.phase(Kind.AAS, IngestMetrics.PHASE_LOCK,
+                    () -> aasBulkJdbcRepository.lockActiveAas(batchIds));
+            Map<String, VersionState> states = toStates(ingestMetrics.phase(Kind.AAS,
+                    IngestMetrics.PHASE_FIND_VERSIONS,
+                    () -> aasRepository.findLatestAndActiveVersionsByAasIds(batchIds)));
+            LocalDateTime now = LocalDateTime.now();
+
+            List<AasEntity> inserts = new ArrayList<>();
+            List<AasEntity> updates = new ArrayList<>();
+            List<AasEntity> ordered = new ArrayList<>();
+            for (AasSaveRequest request : batch) {
+                String contentHash = request.getContentHash();
+                if (isUnchanged(states.get(request.getAasId()), contentHash)) {
+                    unchangedAasIds.add(request.getAasId());
+                    continue;
+                }
+
+                AasEntity entity = AasEntity.builder()
+                        .aasId(request.getAasId())
+                        .idShort(request.getIdShort())
+                        .assetKind(request.getAssetKind())
+                        .globalAssetId(request.getGlobalAssetId())
+                        .contentHash(contentHash)
+                        .isActive(false)
+                        .createdBy(username)
+                        .createdAt(now)
+                        .build();
+                entity.setEncodedPayload(request.getPayload());
+                VersionSlot slot = allocateVersion(states, request.getAasId(), request.isCreateNewVersion(),
+                        contentHash, AAS_SEQ);
+                entity.setSeq(slot.seq());
+                entity.setVersion(slot.version());
+                if (slot.update()) {
+                    entity.setUpdatedBy(username);
+                    entity.setUpdatedAt(now);
+                    updates.add(entity);
+                } else {
+                    inserts.add(entity);
+                }
+                ordered.add(entity);
+            }
+
+            Set<AasEntity> succeeded = succeeded(inserts, ingestMetrics.phase(Kind.AAS, IngestMetrics.PHASE_INSERT,
+                    () -> aasBulkJdbcRepository.insertAas(inserts)));
+            retryConflictedInserts(Kind.AAS, inserts, succeeded, pointerIds, AasEntity::getAasId,
+                    aasBulkJdbcRepository::lockActiveAas, aasRepository::findLatestAndActiveVersionsByAasIds,
+                    aasBulkJdbcRepository::insertAas, (entity, slot) -> {
+                        entity.setSeq(slot.seq());
+                        entity.setVersion(slot.version());
+                    }, AAS_SEQ);
+            Set<AasEntity> updated = succeeded(updates, ingestMetrics.phase(Kind.AAS, IngestMetrics.PHASE_UPDATE,
+                    () -> aasBulkJdbcRepository.updateAas(updates)));
+            succeeded.addAll(updated);
+
+            Map<String, Long> activeSeqs = new LinkedHashMap<>();
+            Map<String, AasEntity> activeEntities = new LinkedHashMap<>();
+            for (AasEntity entity : ordered) {
+                if (succeeded.contains(entity)) {
+                    activeSeqs.put(entity.getAasId(), entity.getSeq());
+                    activeEntities.put(entity.getAasId(), entity);
+                    changeEventRecorder.recordAas(entity, operation(updated, entity), username);
+                } else {
+                    failedIds.add(entity.getAasId());
+                }
+            }
+            if (!activeSeqs.isEmpty()) {
+                ingestMetrics.phase(Kind.AAS, IngestMetrics.PHASE_ACTIVATE, () -> {
+                    aasRepository.updateActiveFlagBySeqs(activeSeqs.values(), true);
+                    aasBulkJdbcRepository.upsertActiveAas(activeSeqs, pointerIds, now);
+                });
+                ingestMetrics.phase(Kind.AAS, IngestMetrics.PHASE_DEACTIVATE,
+                        () -> aasBulkJdbcRepository.deactivateOtherAas(activeSeqs));
+                activeEntityCache.evictAasAfterCommit(activeSeqs.keySet());
+                discoveryIndexService.indexShellsAfterCommit(activeEntities.values());
+            }
+            // 새 버전이 생긴 ID는 커밋 후 직전 버전들을 델타로 변환
+            versionStorageService.compactRecentAasAfterCommit(
+                    newVersionIds(inserts, succeeded, AasEntity::getAasId, AasEntity::getVersion));
+
+            persistedCount += succeeded.size();
+            log.info("AAS 일괄 저장: {}건 (insert={}, update={}, 변경없음={}, 실패={}) {}ms", succeeded.size(),
+                    inserts.size(), updates.size(), batch.size() - ordered.size(), ordered.size() - succeeded.size(),
+                    System.currentTimeMillis() - start);
+        }
+
+        // ======================= Submodel =======================
+
+        private void flushSubmodels() {
+            if (pendingSubmodels.isEmpty()) {
+                return;
+            }
+            List<SubmodelSaveRequest> batch = pendingSubmodels;
+            pendingSubmodels = new ArrayList<>();
+            long start = System.currentTimeMillis();
+
+            Set<String> batchIds = ids(batch, SubmodelSaveRequest::getSubmodelId);
+            Set<String> pointerIds = ingestMetrics.phase(Kind.SUBMODEL, IngestMetrics.PHASE_LOCK,
+                    () -> aasBulkJdbcRepository.lockActiveSubmodels(batchIds));
+            Map<String, VersionState> states = toStates(ingestMetrics.phase(Kind.SUBMODEL,
+                    IngestMetrics.PHASE_FIND_VERSIONS,
+                    () -> submodelRepository.findLatestAndActiveVersionsBySubmodelIds(batchIds)));
+            LocalDateTime now = LocalDateTime.now();
+
+            List<SubmodelEntity> inserts = new ArrayList<>();
+            List<SubmodelEntity> updates = new ArrayList<>();
+            List<SubmodelEntity> ordered = new ArrayList<>();
+            Map<SubmodelEntity, SubmodelSaveRequest> sources = new IdentityHashMap<>();
+            for (SubmodelSaveRequest request : batch) {
+                String contentHash = request.getContentHash();
+                if (isUnchanged(states.get(request.getSubmodelId()), contentHash)) {
+                    unchangedSubmodelIds.add(request.getSubmodelId());
+                    continue;
+                }
+
+                SubmodelEntity entity = SubmodelEntity.builder()
+                        .submodelId(request.getSubmodelId())
+                        .idShort(request.getIdShort())
+                        .semanticId(request.getSemanticId())
+                        .aasId(request.getAasId())
+                        .contentHash(contentHash)
+                        .isActive(false)
+                        .createdBy(username)
+                        .createdAt(now)
+                        .build();
+                entity.setEncodedPayload(request.getPayload());
+                entity.setEncodedValuePayload(request.getValuePayload());
+                VersionSlot slot = allocateVersion(states, request.getSubmodelId(), request.isCreateNewVersion(),
+                        contentHash, SUBMODEL_SEQ);
+                entity.setSeq(slot.seq());
+                entity.setVersion(slot.version());
+                if (slot.update()) {
+                    entity.setUpdatedBy(username);
+                    entity.setUpdatedAt(now);
+                    updates.add(entity);
+                } else {
+                    inserts.add(entity);
+                }
+                ordered.add(entity);
+                sources.put(entity, request);
+            }
+
+            Set<SubmodelEntity> succeeded = succeeded(inserts, ingestMetrics.phase(Kind.SUBMODEL,
+                    IngestMetrics.PHASE_INSERT, () -> aasBulkJdbcRepository.insertSubmodels(inserts)));
+            retryConflictedInserts(Kind.SUBMODEL, inserts, succeeded, pointerIds, SubmodelEntity::getSubmodelId,
+                    aasBulkJdbcRepository::lockActiveSubmodels,
+                    submodelRepository::findLatestAndActiveVersionsBySubmodelIds,
+                    aasBulkJdbcRepository::insertSubmodels, (entity, slot) -> {
+                        entity.setSeq(slot.seq());
+                        entity.setVersion(slot.version());
+                    }, SUBMODEL_SEQ);
+            Set<SubmodelEntity> updated = succeeded(updates, ingestMetrics.phase(Kind.SUBMODEL,
+                    IngestMetrics.PHASE_UPDATE, () -> aasBulkJdbcRepository.updateSubmodels(updates)));
+            succeeded.addAll(updated);
+
+            Map<String, Long> activeSeqs = new LinkedHashMap<>();
+            Map<String, SubmodelSaveRequest> activeSources = new LinkedHashMap<>();
+            Map<String, SubmodelEntity> activeEntities = new LinkedHashMap<>();
+            for (SubmodelEntity entity : ordered) {
+                if (succeeded.contains(entity)) {
+                    activeSeqs.put(entity.getSubmodelId(), entity.getSeq());
+                    activeEntities.put(entity.getSubmodelId(), entity);
+                    activeSources.put(entity.getSubmodelId(), sources.get(entity));
+                    changeEventRecorder.recordSubmodel(entity, operation(updated, entity), username);
+                } else {
+                    failedIds.add(entity.getSubmodelId());
+                }
+            }
+            if (!activeSeqs.isEmpty()) {
+                ingestMetrics.phase(Kind.SUBMODEL, IngestMetrics.PHASE_ACTIVATE, () -> {
+                    submodelRepository.updateActiveFlagBySeqs(activeSeqs.values(), true);
+                    aasBulkJdbcRepository.upsertActiveSubmodels(activeSeqs, pointerIds, now);
+                });
+                ingestMetrics.phase(Kind.SUBMODEL, IngestMetrics.PHASE_DEACTIVATE,
+                        () -> aasBulkJdbcRepository.deactivateOtherSubmodels(activeSeqs));
+                activeEntityCache.evictSubmodelsAfterCommit(activeSeqs.keySet());
+                ingestMetrics.phase(Kind.SUBMODEL, IngestMetrics.PHASE_ELEMENT_INDEX,
+                        () -> elementIndexService.replace(activeSeqs, activeSources));
+                discoveryIndexService.indexSubmodelsAfterCommit(activeEntities.values());
+            }
+            versionStorageService.compactRecentSubmodelsAfterCommit(
+                    newVersionIds(inserts, succeeded, SubmodelEntity::getSubmodelId, SubmodelEntity::getVersion));
+
+            persistedCount += succeeded.size();
+            log.info("Submodel 일괄 저장: {}건 (insert={}, update={}, 변경없음={}, 실패={}) {}ms", succeeded.size(),
+                    inserts.size(), updates.size(), batch.size() - ordered.size(), ordered.size() - succeeded.size(),
+                    System.currentTimeMillis() - start);
+        }
+
+        // ======================= ConceptDescription =======================
+
+        private void flushConceptDescriptions() {
+            if (pendingConceptDescriptions.isEmpty()) {
+                return;
+            }
+            List<ConceptDescriptionSaveRequest> batch = pendingConceptDescriptions;
+            pendingConceptDescriptions = new ArrayList<>();
+            long start = System.currentTimeMillis();
+
+            Set<String> batchIds = ids(batch, ConceptDescriptionSaveRequest::getCdId);
+            Set<String> pointerIds = ingestMetrics.phase(Kind.CONCEPT_DESCRIPTION, IngestMetrics.PHASE_LOCK,
+                    () -> aasBulkJdbcRepository.lockActiveConceptDescriptions(batchIds));
+            Map<String, VersionState> states = toStates(ingestMetrics.phase(Kind.CONCEPT_DESCRIPTION,
+                    IngestMetrics.PHASE_FIND_VERSIONS,
+                    () -> conceptDescriptionRepository.findLatestAndActiveVersionsByCdIds(batchIds)));
+            LocalDateTime now = LocalDateTime.now();
+
+            List<ConceptDescriptionEntity> inserts = new ArrayList<>();
+            List<ConceptDescriptionEntity> updates = new ArrayList<>();
+            List<ConceptDescriptionEntity> ordered = new ArrayList<>();
+            for (ConceptDescriptionSaveRequest request : batch) {
+                String contentHash = request.getContentHash();
+                if (isUnchanged(states.get(request.getCdId()), contentHash)) {
+                    unchangedConceptDescriptionIds.add(request.getCdId());
+                    continue;
+                }
+
+                ConceptDescriptionEntity entity = ConceptDescriptionEntity.builder()
+                        .cdId(request.getCdId())
+                        .idShort(request.getIdShort())
+                        .contentHash(contentHash)
+                        .isActive(false)
+                        .createdBy(username)
+                        .createdAt(now)
+                        .build();
+                entity.setEncodedPayload(request.getPayload());
+                VersionSlot slot = allocateVersion(states, request.getCdId(), request.isCreateNewVersion(),
+                        contentHash, CD_SEQ);
+                entity.setSeq(slot.seq());
+                entity.setVersion(slot.version());
+                if (slot.update()) {
+                    entity.setUpdatedBy(username);
+                    entity.setUpdatedAt(now);
+                    updates.add(entity);
+                } else {
+                    inserts.add(entity);
+                }
+                ordered.add(entity);
+            }
+
+            Set<ConceptDescriptionEntity> succeeded = succeeded(inserts, ingestMetrics.phase(Kind.CONCEPT_DESCRIPTION,
+                    IngestMetrics.PHASE_INSERT, () -> aasBulkJdbcRepository.insertConceptDescriptions(inserts)));
+            retryConflictedInserts(Kind.CONCEPT_DESCRIPTION, inserts, succeeded, pointerIds,
+                    ConceptDescriptionEntity::getCdId, aasBulkJdbcRepository::lockActiveConceptDescriptions,
+                    conceptDescriptionRepository::findLatestAndActiveVersionsByCdIds,
+                    aasBulkJdbcRepository::insertConceptDescriptions, (entity, slot) -> {
+                        entity.setSeq(slot.seq());
+                        entity.setVersion(slot.version());
+                    }, CD_SEQ);
+            Set<ConceptDescriptionEntity> updated = succeeded(updates, ingestMetrics.phase(Kind.CONCEPT_DESCRIPTION,
+                    IngestMetrics.PHASE_UPDATE, () -> aasBulkJdbcRepository.updateConceptDescriptions(updates)));
+            succeeded.addAll(updated);
+
+            Map<String, Long> activeSeqs = new LinkedHashMap<>();
+            for (ConceptDescriptionEntity entity : ordered) {
+                if (succeeded.contains(entity)) {
+                    activeSeqs.put(entity.getCdId(), entity.getSeq());
+                    changeEventRecorder.recordConceptDescription(entity, operation(updated, entity), username);
+                } else {
+                    failedIds.add(entity.getCdId());
+                }
+            }
+            if (!activeSeqs.isEmpty()) {
+                ingestMetrics.phase(Kind.CONCEPT_DESCRIPTION, IngestMetrics.PHASE_ACTIVATE, () -> {
+                    conceptDescriptionRepository.updateActiveFlagBySeqs(activeSeqs.values(), true);
+                    aasBulkJdbcRepository.upsertActiveConceptDescriptions(activeSeqs, pointerIds, now);
+                });
+                ingestMetrics.phase(Kind.CONCEPT_DESCRIPTION, IngestMetrics.PHASE_DEACTIVATE,
+                        () -> aasBulkJdbcRepository.deactivateOtherConceptDescriptions(activeSeqs));
+            }
+
+            persistedCount += succeeded.size();
+            log.info("ConceptDescription 일괄 저장: {}건 (insert={}, update={}, 변경없음={}, 실패={}) {}ms", succeeded.size(),
+                    inserts.size(), updates.size(), batch.size() - ordered.size(), ordered.size() - succeeded.size(),
+                    System.currentTimeMillis() - start);
+        }
+
+        /**
+         * 버전 결정
+         * - 새 버전 생성 또는 최초 저장: 최신 버전 + 1, 새 PK 할당 후 INSERT
+         * - 기존 버전 업데이트: 최신 버전 행(SEQ)을 그대로 UPDATE
+         * 같은 배치 안에 동일 ID가 반복되면 앞선 요청의 결과를 최신/활성 버전으로 본다.
+         */
+        private VersionSlot allocateVersion(Map<String, VersionState> states, String id,
+                boolean createNewVersion, String contentHash, String sequenceName) {
+            VersionState state = states.computeIfAbsent(id, key -> new VersionState());
+            state.activeHash = contentHash;
+
+            if (state.version > 0 && !createNewVersion) {
+                return new VersionSlot(state.seq, state.version, true);
+            }
+
+            state.seq = pooledSequenceAllocator.next(sequenceName);
+            state.version++;
+            return new VersionSlot(state.seq, state.version, false);
+        }
+
+        /**
+         * 실패한 INSERT 행 재시도 (다른 노드가 같은 ID의 다음 버전을 먼저 커밋한 경우)
+         * 실패 행의 ID만 최신/활성 버전을 다시 조회해 그 다음 버전과 새 PK를 할당하고 다시 INSERT 한다.
+         * 포인터 행이 있는 ID는 배치 시작에 잠가 두므로 충돌은 주로 최초 저장이 겹친 경우에 생기며,
+         * 먼저 커밋한 쪽이 만든 포인터 행을 재시도 전에 잠가 이후 경합은 잠금 대기로 바뀐다.
+         * 유일 제약이 아닌 원인으로 실패한 행은 재시도해도 다시 실패하며 aas.ingest.version-conflict-retries회 후 실패로 남는다.
+         */
+        private <T> void retryConflictedInserts(Kind kind, List<T> inserts, Set<T> succeeded, Set<String> pointerIds,
+                Function<T, String> idGetter, Function<Collection<String>, Set<String>> lockPointers,
+                Function<Collection<String>, List<LatestVersion>> findVersions, Function<List<T>, boolean[]> insert,
+                BiConsumer<T, VersionSlot> assign, String sequenceName) {
+            List<T> pending = inserts.stream().filter(entity -> !succeeded.contains(entity)).toList();
+            for (int attempt = 1; attempt <= versionConflictRetries && !pending.isEmpty(); attempt++) {
+                List<T> retry = pending;
+                ingestMetrics.recordVersionConflict(kind);
+                log.warn("{} INSERT 실패 {}건, 최신 버전 재조회 후 재시도 {}/{}", kind, retry.size(), attempt,
+                        versionConflictRetries);
+
+                Set<String> retryIds = ids(retry, idGetter);
+                pointerIds.addAll(ingestMetrics.phase(kind, IngestMetrics.PHASE_LOCK,
+                        () -> lockPointers.apply(retryIds)));
+                Map<String, VersionState> latest = toStates(ingestMetrics.phase(kind,
+                        IngestMetrics.PHASE_FIND_VERSIONS, () -> findVersions.apply(retryIds)));
+                for (T entity : retry) {
+                    String id = idGetter.apply(entity);
+                    VersionState state = latest.computeIfAbsent(id, key -> new VersionState());
+                    state.seq = pooledSequenceAllocator.next(sequenceName);
+                    state.version++;
+                    assign.accept(entity, new VersionSlot(state.seq, state.version, false));
+                }
+
+                Set<T> retried = succeeded(retry, ingestMetrics.phase(kind, IngestMetrics.PHASE_INSERT,
+                        () -> insert.apply(retry)));
+                succeeded.addAll(retried);
+                pending = retry.stream().filter(entity -> !retried.contains(entity)).toList();
+            }
+        }
+    }
+
+    private record VersionSlot(long seq, int version, boolean update) {
+    }
+
+    /**
+     * 식별자별 최신 버전 위치와 활성 버전의 콘텐츠 해시
+     */
+    private static final class VersionState {
+        private int version;
+        private long seq;
+        private String activeHash;
+    }
+
+    // ======================= 유틸리티 메서드 =======================
+
+    private static <T> Set<String> ids(List<T> requests, Function<T, String> idGetter) {
+        return requests.stream().map(idGetter).collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    private static Map<String, VersionState> toStates(List<LatestVersion> rows) {
+        Map<String, VersionState> states = new LinkedHashMap<>();
+        for (LatestVersion row : rows) {
+            VersionState state = states.computeIfAbsent(row.getEntityId(), key -> new VersionState());
+            // 같은 버전 번호가 중복된 과거 데이터는 SEQ가 큰 행을 최신으로 본다
+            if (row.getVersion() > state.version || (row.getVersion() == state.version && row.getSeq() > state.seq)) {
+                state.version = row.getVersion();
+                state.seq = row.getSeq();
+            }
+            if (Boolean.TRUE.equals(row.getActive())) {
+                state.activeHash = row.getContentHash();
+            }
+        }
+        return states;
+    }
+
+    private EncodedPayload encode(EncodedPayload precomputed, String json) {
+        return precomputed != null ? precomputed : payloadCodecService.encode(json);
+    }
+
+    private EncodedPayload encodeValueOnly(EncodedPayload precomputed, String submodelJson) {
+        return precomputed != null ? precomputed : payloadCodecService.encode(ValueOnlyProjector.project(submodelJson));
+    }
+
+    private static String contentHash(String precomputed, String json) {
+        return precomputed != null ? precomputed : ContentDigest.sha256(json);
+    }
+
+    /**
+     * 활성 버전과 콘텐츠가 같은지 여부 (해시가 없는 과거 데이터는 항상 변경으로 본다)
+     */
+    private static boolean isUnchanged(VersionState state, String contentHash) {
+        return state != null && contentHash != null && contentHash.equals(state.activeHash);
+    }
+
+    private static <T> Set<String> newVersionIds(List<T> inserts, Set<T> succeeded, Function<T, String> idGetter,
+            Function<T, Integer> versionGetter) {
+        return inserts.stream()
+                .filter(entity -> succeeded.contains(entity) && versionGetter.apply(entity) > 1)
+                .map(idGetter)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    private static <T> ChangeEvent.Operation operation(Set<T> updated, T entity) {
+        return updated.contains(entity) ? ChangeEvent.Operation.UPDATED : ChangeEvent.Operation.CREATED;
+    }
+
+    private static <T> Set<T> succeeded(List<T> rows, boolean[] success) {
+        Set<T> result = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int i = 0; i < rows.size(); i++) {
+            if (success[i]) {
+                result.add(rows.get(i));
+            }
+        }
+        return result;
+    }
+}
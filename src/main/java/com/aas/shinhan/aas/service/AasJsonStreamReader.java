@@ -0,0 +1,80 @@
+package com.aas.shinhan.aas.service;
+
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.DeserializationException;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.json.JsonDeserializer;
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell;
+import org.eclipse.digitaltwin.aas4j.v3.model.ConceptDescription;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Environment JSON 스트리밍 리더
+ * Jackson 스트리밍 파서로 최상위 배열을 요소 단위로 읽어 Visitor에 전달한다.
+ * 힙에는 한 번에 하나의 Identifiable만 올라간다.
+ */
+@Slf4j
+@Component
+public class AasJsonStreamReader {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final JsonDeserializer jsonDeserializer = new JsonDeserializer();
+
+    public void read(InputStream inputStream, EnvironmentVisitor visitor) throws Exception {
+        try (JsonParser parser = objectMapper.getFactory().createParser(inputStream)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalArgumentException("Invalid AAS JSON: Environment object expected");
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.currentName();
+                parser.nextToken();
+
+                switch (fieldName) {
+                    case "assetAdministrationShells" ->
+                            readArray(parser, AssetAdministrationShell.class, visitor::visitAssetAdministrationShell);
+                    case "submodels" ->
+                            readArray(parser, Submodel.class, visitor::visitSubmodel);
+                    case "conceptDescriptions" ->
+                            readArray(parser, ConceptDescription.class, visitor::visitConceptDescription);
+                    default -> {
+                        log.debug("Unknown Environment field skipped: {}", fieldName);
+                        parser.skipChildren();
+                    }
+                }
+            }
+        }
+    }
+
+    private <T> void readArray(JsonParser parser, Class<T> type, Consumer<T> consumer) throws Exception {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return;
+        }
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            throw new IllegalArgumentException("Invalid AAS JSON: array expected for " + type.getSimpleName());
+        }
+
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            // 배열 요소 하나만 트리로 읽은 뒤 aas4j 모델로 변환
+            JsonNode node = objectMapper.readTree(parser);
+            consumer.accept(deserialize(node, type));
+        }
+    }
+
+    private <T> T deserialize(JsonNode node, Class<T> type) {
+        try {
+            return jsonDeserializer.read(node.toString(), type);
+        } catch (DeserializationException e) {
+            throw new IllegalArgumentException("Invalid " + type.getSimpleName() + " JSON: " + e.getMessage(), e);
+        }
+    }
+}
@@ -1,12 +1,18 @@
 package com.aas.shinhan.aas.service;
 
 import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.aasx.AASXDeserializer;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.aasx.InMemoryFile;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.SerializationException;
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.json.JsonDeserializer;
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.json.JsonSerializer;
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.xml.XmlDeserializer;
@@ -15,6 +21,7 @@ import org.eclipse.digitaltwin.aas4j.v3.model.Blob;
 import org.eclipse.digitaltwin.aas4j.v3.model.ConceptDescription;
 import org.eclipse.digitaltwin.aas4j.v3.model.Environment;
 import org.eclipse.digitaltwin.aas4j.v3.model.File;
+import org.eclipse.digitaltwin.aas4j.v3.model.Identifiable;
 import org.eclipse.digitaltwin.aas4j.v3.model.MultiLanguageProperty;
 import org.eclipse.digitaltwin.aas4j.v3.model.Property;
 import org.eclipse.digitaltwin.aas4j.v3.model.Range;
@@ -24,13 +31,18 @@ import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
 import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
 import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementCollection;
 import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementList;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.aas.shinhan.aas.dto.AasSaveRequest;
 import com.aas.shinhan.aas.dto.AasUploadResponse;
+import com.aas.shinhan.aas.dto.ConceptDescriptionSaveRequest;
+import com.aas.shinhan.aas.dto.PreparedIdentifiable;
 import com.aas.shinhan.aas.dto.SubmodelSaveRequest;
+import com.aas.shinhan.core.metrics.JdbcStatementCounter;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -40,37 +52,157 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class AasParserService {
 
-    private final AasStorageService aasStorageService;
+    private final AasBulkWriter aasBulkWriter;
+    private final IngestPipeline ingestPipeline;
+    private final AasJsonStreamReader aasJsonStreamReader;
+    private final AasXmlStreamReader aasXmlStreamReader;
+    private final PayloadCodecService payloadCodecService;
+    private final ElementIndexService elementIndexService;
+    private final BlobStoreService blobStoreService;
+    private final IngestMetrics ingestMetrics;
     private final JsonSerializer jsonSerializer = new JsonSerializer();
 
+    // JSON/XML 업로드를 요소 단위 스트리밍으로 처리할지 여부 (false면 Environment 전체를 메모리에 적재)
+    @Value("${aas.upload.streaming-enabled:true}")
+    private boolean streamingEnabled;
+
+    /**
+     * 업로드 파일 파싱 및 저장
+     * 업로드 전체가 하나의 트랜잭션이며, 파싱 -> 병렬 직렬화 -> 순서 보장 저장(AasBulkWriter) 파이프라인으로 처리한다.
+     * 버전 충돌 재시도가 다른 노드의 커밋을 읽을 수 있도록 READ COMMITTED로 실행한다.
+     */
+    @Transactional(rollbackFor = Exception.class, isolation = Isolation.READ_COMMITTED)
     public AasUploadResponse parseAndProcess(MultipartFile file, String uploadedBy, boolean ignoreDuplicates) throws Exception {
         String filename = file.getOriginalFilename();
         if (filename == null) {
             throw new IllegalArgumentException("File name is required");
         }
 
-        Environment environment = parseFile(file);
-        return processEnvironment(environment, uploadedBy, ignoreDuplicates);
+        try (InputStream inputStream = file.getInputStream()) {
+            return parseAndProcess(filename, inputStream, uploadedBy, ignoreDuplicates, new UploadProgress());
+        }
     }
 
-    private Environment parseFile(MultipartFile file) throws Exception {
-        String filename = file.getOriginalFilename().toLowerCase();
-        InputStream inputStream = file.getInputStream();
+    /**
+     * 입력 스트림 파싱 및 저장 (비동기 업로드 작업은 스풀 파일 스트림으로 호출)
+     * 진행 상황은 progress에 기록된다.
+     */
+    @Transactional(rollbackFor = Exception.class, isolation = Isolation.READ_COMMITTED)
+    public AasUploadResponse parseAndProcess(String filename, InputStream inputStream, String uploadedBy,
+            boolean ignoreDuplicates, UploadProgress progress) throws Exception {
+        requireSupportedFormat(filename);
+        String lowerName = filename.toLowerCase();
+
+        IngestMetrics.Format format = IngestMetrics.Format.of(lowerName);
+        long uploadStart = System.nanoTime();
+        boolean success = false;
+        // 업로드 한 건의 DB 왕복 수 집계 (저장 단계는 이 스레드에서 실행)
+        JdbcStatementCounter.Scope statements = JdbcStatementCounter.open();
+        try {
+            UploadContext context = new UploadContext(uploadedBy, ignoreDuplicates,
+                    aasBulkWriter.openSession(uploadedBy), progress);
+            logHeader(context);
+
+            InputStream trackedStream = progress.track(inputStream);
+            ingestPipeline.<Identifiable, PreparedIdentifiable>run(
+                    emit -> {
+                        long start = System.nanoTime();
+                        readEnvironment(lowerName, format, trackedStream, new EmittingVisitor(identifiable -> {
+                            progress.entityParsed();
+                            emit.accept(identifiable);
+                        }));
+                        progress.addStageTime(UploadProgress.STAGE_READ, System.nanoTime() - start);
+                    },
+                    identifiable -> {
+                        long start = System.nanoTime();
+                        PreparedIdentifiable prepared = prepare(identifiable, format);
+                        long elapsed = System.nanoTime() - start;
+                        progress.addStageTime(UploadProgress.STAGE_TRANSFORM, elapsed);
+                        ingestMetrics.recordTransform(format, prepared, elapsed);
+                        return prepared;
+                    },
+                    context::write);
+
+            long start = System.nanoTime();
+            context.session.finish();
+            progress.setEntitiesPersisted(context.session.getPersistedCount());
+            progress.addStageTime(UploadProgress.STAGE_WRITE, System.nanoTime() - start);
+
+            AasUploadResponse response = buildResponse(context);
+            success = true;
+            return response;
+        } finally {
+            statements.close();
+            ingestMetrics.recordUpload(format, success, System.nanoTime() - uploadStart, progress,
+                    statements.count());
+        }
+    }
 
-        if (filename.endsWith(".aasx")) {
-            return parseAasx(inputStream);
-        } else if (filename.endsWith(".json")) {
-            return parseJson(inputStream);
-        } else if (filename.endsWith(".xml")) {
-            return parseXml(inputStream);
-        } else {
+    /**
+     * 지원하는 업로드 형식(.aasx, .json, .xml)인지 확인
+     * @throws IllegalArgumentException 지원하지 않는 확장자
+     */
+    static void requireSupportedFormat(String filename) {
+        String lowerName = filename.toLowerCase();
+        if (!lowerName.endsWith(".aasx") && !lowerName.endsWith(".json") && !lowerName.endsWith(".xml")) {
             throw new IllegalArgumentException("Unsupported file format. Supported: .aasx, .json, .xml");
         }
     }
 
+    /**
+     * 파일 형식별로 Environment를 읽어 요소 단위로 Visitor에 전달 (파이프라인 읽기 단계)
+     */
+    private void readEnvironment(String lowerName, IngestMetrics.Format format, InputStream inputStream,
+            EnvironmentVisitor visitor) throws Exception {
+        if (lowerName.endsWith(".aasx")) {
+            visitEnvironment(parseAasx(inputStream), visitor);
+        } else if (lowerName.endsWith(".json")) {
+            if (streamingEnabled) {
+                aasJsonStreamReader.read(inputStream, visitor);
+            } else {
+                long start = System.nanoTime();
+                Environment environment = parseJson(inputStream);
+                ingestMetrics.recordParse(format, System.nanoTime() - start);
+                visitEnvironment(environment, visitor);
+            }
+        } else {
+            if (streamingEnabled) {
+                aasXmlStreamReader.read(inputStream, visitor);
+            } else {
+                long start = System.nanoTime();
+                Environment environment = parseXml(inputStream);
+                ingestMetrics.recordParse(format, System.nanoTime() - start);
+                visitEnvironment(environment, visitor);
+            }
+        }
+    }
+
     private Environment parseAasx(InputStream inputStream) throws Exception {
+        long start = System.nanoTime();
         AASXDeserializer deserializer = new AASXDeserializer(inputStream);
-        return deserializer.read();
+        Environment environment = deserializer.read();
+        ingestMetrics.recordParse(IngestMetrics.Format.AASX, System.nanoTime() - start);
+        if (blobStoreService.isEnabled()) {
+            linkSupplementaryFiles(deserializer, environment);
+        }
+        return environment;
+    }
+
+    /**
+     * AASX 보조 파일을 첨부 저장소에 저장하고 File 요소에 참조 연결
+     * 보조 파일을 읽지 못해도 Environment 저장은 계속한다 (참조 없이 경로만 남음).
+     */
+    private void linkSupplementaryFiles(AASXDeserializer deserializer, Environment environment) {
+        try {
+            Map<String, byte[]> files = new HashMap<>();
+            for (InMemoryFile file : deserializer.getRelatedFiles()) {
+                files.put(file.getPath(), file.getFileContent());
+            }
+            int linked = blobStoreService.linkSupplementaryFiles(environment.getSubmodels(), files);
+            log.info("[SupplementaryFiles] Count: {}, linked File elements: {}", files.size(), linked);
+        } catch (Exception e) {
+            log.warn("AASX 보조 파일 저장 실패: {}", e.getMessage(), e);
+        }
     }
 
     private Environment parseJson(InputStream inputStream) throws Exception {
@@ -83,192 +215,201 @@ public class AasParserService {
         return deserializer.read(inputStream);
     }
 
-    @Transactional
-    private AasUploadResponse processEnvironment(Environment environment, String uploadedBy, boolean ignoreDuplicates) {
-        List<String> aasIds = new ArrayList<>();
-        List<String> submodelIds = new ArrayList<>();
-        List<String> conceptDescriptionIds = new ArrayList<>();
+    /**
+     * 메모리에 올라온 Environment를 스트리밍 경로와 동일한 Visitor 순서로 처리
+     */
+    private void visitEnvironment(Environment environment, EnvironmentVisitor visitor) {
+        if (environment.getAssetAdministrationShells() != null) {
+            log.info("[AssetAdministrationShells] Count: {}", environment.getAssetAdministrationShells().size());
+            environment.getAssetAdministrationShells().forEach(visitor::visitAssetAdministrationShell);
+        }
+        if (environment.getSubmodels() != null) {
+            log.info("[Submodels] Count: {}", environment.getSubmodels().size());
+            environment.getSubmodels().forEach(visitor::visitSubmodel);
+        }
+        if (environment.getConceptDescriptions() != null) {
+            log.info("[ConceptDescriptions] Count: {}", environment.getConceptDescriptions().size());
+            environment.getConceptDescriptions().forEach(visitor::visitConceptDescription);
+        }
+    }
 
+    private void logHeader(UploadContext context) {
         String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
 
         log.info("========================================");
         log.info("AAS Environment Parsing Result");
         log.info("========================================");
-        log.info("Uploaded by: {}", uploadedBy);
+        log.info("Uploaded by: {}", context.uploadedBy);
         log.info("Timestamp: {}", timestamp);
-        log.info("Ignore duplicates: {}", ignoreDuplicates);
+        log.info("Ignore duplicates: {}", context.ignoreDuplicates);
+        log.info("Streaming: {}", streamingEnabled);
         log.info("----------------------------------------");
+    }
 
-        // AAS 처리 및 저장
-        if (environment.getAssetAdministrationShells() != null) {
-            log.info("[AssetAdministrationShells] Count: {}", environment.getAssetAdministrationShells().size());
-            for (AssetAdministrationShell aas : environment.getAssetAdministrationShells()) {
-                String aasId = aas.getId();
-                aasIds.add(aasId);
-
-                log.info("  AAS:");
-                log.info("    - id: {}", aasId);
-                log.info("    - idShort: {}", aas.getIdShort());
-
-                String assetKind = null;
-                String globalAssetId = null;
-                if (aas.getAssetInformation() != null) {
-                    assetKind = aas.getAssetInformation().getAssetKind() != null
-                            ? aas.getAssetInformation().getAssetKind().name() : null;
-                    globalAssetId = aas.getAssetInformation().getGlobalAssetId();
-                    log.info("    - assetKind: {}", assetKind);
-                    log.info("    - globalAssetId: {}", globalAssetId);
-                }
-                if (aas.getSubmodels() != null) {
-                    log.info("    - submodel references: {}", aas.getSubmodels().size());
-                    for (Reference ref : aas.getSubmodels()) {
-                        if (ref.getKeys() != null && !ref.getKeys().isEmpty()) {
-                            log.info("      - {}", ref.getKeys().get(0).getValue());
-                        }
-                    }
-                }
-
-                // AAS를 데이터베이스에 저장
-                try {
-                    String aasJson = jsonSerializer.write(aas);
-                    AasSaveRequest saveRequest = AasSaveRequest.builder()
-                            .aasId(aasId)
-                            .idShort(aas.getIdShort())
-                            .assetKind(assetKind)
-                            .globalAssetId(globalAssetId)
-                            .aasJson(aasJson)
-                            .createNewVersion(!ignoreDuplicates)
-                            .build();
-                    aasStorageService.saveAas(saveRequest, uploadedBy);
-                    log.info("    -> DB 저장 완료");
-                } catch (Exception e) {
-                    log.error("    -> DB 저장 실패: {}", e.getMessage());
-                }
-            }
-        }
+    private AasUploadResponse buildResponse(UploadContext context) {
+        log.info("========================================");
+        log.info("Summary: {} AAS, {} Submodels, {} ConceptDescriptions",
+                context.aasIds.size(), context.submodelIds.size(), context.conceptDescriptionIds.size());
+        AasBulkWriter.Session session = context.session;
+        int unchanged = session.getUnchangedAasIds().size() + session.getUnchangedSubmodelIds().size()
+                + session.getUnchangedConceptDescriptionIds().size();
+        log.info("Persisted: {}, Unchanged: {}, Failed: {}", session.getPersistedCount(), unchanged,
+                session.getFailedIds());
+        log.info("========================================");
 
-        log.info("----------------------------------------");
+        return AasUploadResponse.builder()
+                .aasIds(context.aasIds)
+                .submodelIds(context.submodelIds)
+                .conceptDescriptionIds(context.conceptDescriptionIds)
+                .unchangedAasIds(session.getUnchangedAasIds())
+                .unchangedSubmodelIds(session.getUnchangedSubmodelIds())
+                .unchangedConceptDescriptionIds(session.getUnchangedConceptDescriptionIds())
+                .message("Successfully parsed and saved " + context.aasIds.size() + " AAS, "
+                        + context.submodelIds.size() + " Submodels, "
+                        + context.conceptDescriptionIds.size() + " ConceptDescriptions"
+                        + " (" + unchanged + " unchanged)"
+                        + " (uploaded by: " + context.uploadedBy + ")")
+                .build();
+    }
 
-        // Submodel 처리 및 저장
-        if (environment.getSubmodels() != null) {
-            log.info("[Submodels] Count: {}", environment.getSubmodels().size());
-            for (Submodel submodel : environment.getSubmodels()) {
-                String smId = submodel.getId();
-                submodelIds.add(smId);
-
-                log.info("  Submodel:");
-                log.info("    - id: {}", smId);
-                log.info("    - idShort: {}", submodel.getIdShort());
-
-                String semanticIdStr = null;
-                if (submodel.getSemanticId() != null && submodel.getSemanticId().getKeys() != null
-                        && !submodel.getSemanticId().getKeys().isEmpty()) {
-                    semanticIdStr = submodel.getSemanticId().getKeys().get(0).getValue();
-                }
-                log.info("    - semanticId: {}", semanticIdStr);
+    // ======================= 변환 단계 (병렬 실행) =======================
+
+    /**
+     * 직렬화 및 메타데이터 추출
+     * IngestPipeline의 가상 스레드에서 병렬로 호출되므로 공유 상태를 변경하지 않는다.
+     */
+    private PreparedIdentifiable prepare(Identifiable identifiable, IngestMetrics.Format format) {
+        if (identifiable instanceof AssetAdministrationShell aas) {
+            return prepareAas(aas, format);
+        } else if (identifiable instanceof Submodel submodel) {
+            return prepareSubmodel(submodel, format);
+        } else if (identifiable instanceof ConceptDescription cd) {
+            return prepareConceptDescription(cd, format);
+        }
+        throw new IllegalArgumentException("Unsupported identifiable: " + identifiable.getClass().getSimpleName());
+    }
 
-                if (submodel.getSubmodelElements() != null) {
-                    log.info("    - submodelElements: {} items", submodel.getSubmodelElements().size());
-                    for (SubmodelElement element : submodel.getSubmodelElements()) {
-                        logSubmodelElement(element, "      ");
-                    }
-                }
+    private PreparedIdentifiable prepareAas(AssetAdministrationShell aas, IngestMetrics.Format format) {
+        String assetKind = null;
+        String globalAssetId = null;
+        if (aas.getAssetInformation() != null) {
+            assetKind = aas.getAssetInformation().getAssetKind() != null
+                    ? aas.getAssetInformation().getAssetKind().name() : null;
+            globalAssetId = aas.getAssetInformation().getGlobalAssetId();
+        }
 
-                // 연결된 AAS ID 찾기 (첫 번째 AAS와 연결)
-                String linkedAasId = aasIds.isEmpty() ? null : aasIds.get(0);
-
-                // Submodel을 데이터베이스에 저장
-                try {
-                    String submodelJson = jsonSerializer.write(submodel);
-                    SubmodelSaveRequest saveRequest = SubmodelSaveRequest.builder()
-                            .submodelId(smId)
-                            .idShort(submodel.getIdShort())
-                            .semanticId(semanticIdStr)
-                            .aasId(linkedAasId)
-                            .submodelJson(submodelJson)
-                            .createNewVersion(!ignoreDuplicates)
-                            .build();
-                    aasStorageService.saveSubmodel(saveRequest, uploadedBy);
-                    log.info("    -> DB 저장 완료");
-                } catch (Exception e) {
-                    log.error("    -> DB 저장 실패: {}", e.getMessage());
+        List<String> submodelReferences = new ArrayList<>();
+        if (aas.getSubmodels() != null) {
+            for (Reference ref : aas.getSubmodels()) {
+                if (ref.getKeys() != null && !ref.getKeys().isEmpty()) {
+                    submodelReferences.add(ref.getKeys().get(0).getValue());
                 }
             }
         }
 
-        log.info("----------------------------------------");
+        PreparedIdentifiable.PreparedIdentifiableBuilder builder = PreparedIdentifiable.builder()
+                .kind(PreparedIdentifiable.Kind.AAS)
+                .id(aas.getId())
+                .idShort(aas.getIdShort())
+                .assetKind(assetKind)
+                .globalAssetId(globalAssetId)
+                .submodelReferences(submodelReferences);
+        return serialize(aas, PreparedIdentifiable.Kind.AAS, format, builder);
+    }
 
-        // ConceptDescription 처리 및 저장
-        if (environment.getConceptDescriptions() != null) {
-            log.info("[ConceptDescriptions] Count: {}", environment.getConceptDescriptions().size());
-            for (ConceptDescription cd : environment.getConceptDescriptions()) {
-                String cdId = cd.getId();
-                conceptDescriptionIds.add(cdId);
-
-                log.info("  ConceptDescription:");
-                log.info("    - id: {}", cdId);
-                log.info("    - idShort: {}", cd.getIdShort());
-
-                // ConceptDescription을 데이터베이스에 저장
-                try {
-                    String cdJson = jsonSerializer.write(cd);
-                    aasStorageService.saveConceptDescription(cdId, cd.getIdShort(), cdJson, !ignoreDuplicates, uploadedBy);
-                    log.info("    -> DB 저장 완료");
-                } catch (Exception e) {
-                    log.error("    -> DB 저장 실패: {}", e.getMessage());
-                }
+    private PreparedIdentifiable prepareSubmodel(Submodel submodel, IngestMetrics.Format format) {
+        String semanticIdStr = null;
+        if (submodel.getSemanticId() != null && submodel.getSemanticId().getKeys() != null
+                && !submodel.getSemanticId().getKeys().isEmpty()) {
+            semanticIdStr = submodel.getSemanticId().getKeys().get(0).getValue();
+        }
+
+        int elementCount = submodel.getSubmodelElements() != null ? submodel.getSubmodelElements().size() : 0;
+        // 요소 트리 로그는 비용이 커서 DEBUG 레벨에서만 순회
+        if (log.isDebugEnabled() && submodel.getSubmodelElements() != null) {
+            log.debug("  Submodel [{}] elements:", submodel.getId());
+            for (SubmodelElement element : submodel.getSubmodelElements()) {
+                logSubmodelElement(element, "      ");
             }
         }
 
-        log.info("========================================");
-        log.info("Summary: {} AAS, {} Submodels, {} ConceptDescriptions",
-                aasIds.size(), submodelIds.size(), conceptDescriptionIds.size());
-        log.info("========================================");
+        PreparedIdentifiable.PreparedIdentifiableBuilder builder = PreparedIdentifiable.builder()
+                .kind(PreparedIdentifiable.Kind.SUBMODEL)
+                .id(submodel.getId())
+                .idShort(submodel.getIdShort())
+                .semanticId(semanticIdStr)
+                .elementCount(elementCount);
+
+        // 큰 Blob 값은 첨부 저장소로 옮기고 JSON에는 해시 참조만 남김 (직렬화/해시 계산 전에 수행)
+        try {
+            blobStoreService.externalizeBlobs(submodel);
+        } catch (UncheckedIOException e) {
+            return builder.error("Blob store failed: " + e.getMessage()).build();
+        }
+        builder.elementIndex(elementIndexService.flatten(submodel));
+        return serialize(submodel, PreparedIdentifiable.Kind.SUBMODEL, format, builder);
+    }
 
-        return AasUploadResponse.builder()
-                .aasIds(aasIds)
-                .submodelIds(submodelIds)
-                .conceptDescriptionIds(conceptDescriptionIds)
-                .message("Successfully parsed and saved " + aasIds.size() + " AAS, "
-                        + submodelIds.size() + " Submodels, "
-                        + conceptDescriptionIds.size() + " ConceptDescriptions"
-                        + " (uploaded by: " + uploadedBy + ")")
-                .build();
+    private PreparedIdentifiable prepareConceptDescription(ConceptDescription cd, IngestMetrics.Format format) {
+        PreparedIdentifiable.PreparedIdentifiableBuilder builder = PreparedIdentifiable.builder()
+                .kind(PreparedIdentifiable.Kind.CONCEPT_DESCRIPTION)
+                .id(cd.getId())
+                .idShort(cd.getIdShort());
+        return serialize(cd, PreparedIdentifiable.Kind.CONCEPT_DESCRIPTION, format, builder);
+    }
+
+    private PreparedIdentifiable serialize(Identifiable identifiable, PreparedIdentifiable.Kind kind,
+            IngestMetrics.Format format, PreparedIdentifiable.PreparedIdentifiableBuilder builder) {
+        try {
+            long start = System.nanoTime();
+            String json = jsonSerializer.write(identifiable);
+            ingestMetrics.recordSerialize(format, kind, System.nanoTime() - start);
+            if (identifiable instanceof Submodel) {
+                builder.valuePayload(payloadCodecService.encode(ValueOnlyProjector.project(json)));
+            }
+            // 해시 계산, 압축, 값 전용 표현 생성도 병렬 변환 단계에서 수행 (저장 단계는 비교와 기록만)
+            return builder.json(json)
+                    .contentHash(ContentDigest.sha256(json))
+                    .payload(payloadCodecService.encode(json))
+                    .build();
+        } catch (SerializationException e) {
+            return builder.error(e.getMessage()).build();
+        }
     }
 
     private void logSubmodelElement(SubmodelElement element, String indent) {
         String type = element.getClass().getSimpleName().replace("Default", "");
 
         if (element instanceof Property property) {
-            log.info("{}- {} (Property) = {} [{}]",
+            log.debug("{}- {} (Property) = {} [{}]",
                     indent, property.getIdShort(), property.getValue(), property.getValueType());
 
         } else if (element instanceof Range range) {
-            log.info("{}- {} (Range) = {} ~ {} [{}]",
+            log.debug("{}- {} (Range) = {} ~ {} [{}]",
                     indent, range.getIdShort(), range.getMin(), range.getMax(), range.getValueType());
 
         } else if (element instanceof File file) {
-            log.info("{}- {} (File) = {} [{}]",
+            log.debug("{}- {} (File) = {} [{}]",
                     indent, file.getIdShort(), file.getValue(), file.getContentType());
 
         } else if (element instanceof Blob blob) {
             String blobSize = blob.getValue() != null ? blob.getValue().length + " bytes" : "null";
-            log.info("{}- {} (Blob) = {} [{}]",
+            log.debug("{}- {} (Blob) = {} [{}]",
                     indent, blob.getIdShort(), blobSize, blob.getContentType());
 
         } else if (element instanceof MultiLanguageProperty mlp) {
-            log.info("{}- {} (MultiLanguageProperty) = {}",
+            log.debug("{}- {} (MultiLanguageProperty) = {}",
                     indent, mlp.getIdShort(), mlp.getValue());
 
         } else if (element instanceof ReferenceElement refElem) {
             String refValue = refElem.getValue() != null && refElem.getValue().getKeys() != null
                     && !refElem.getValue().getKeys().isEmpty()
                     ? refElem.getValue().getKeys().get(0).getValue() : "null";
-            log.info("{}- {} (ReferenceElement) -> {}",
+            log.debug("{}- {} (ReferenceElement) -> {}",
                     indent, refElem.getIdShort(), refValue);
 
         } else if (element instanceof SubmodelElementCollection collection) {
-            log.info("{}- {} (Collection) [{} items]",
+            log.debug("{}- {} (Collection) [{} items]",
                     indent, collection.getIdShort(),
                     collection.getValue() != null ? collection.getValue().size() : 0);
             if (collection.getValue() != null) {
@@ -278,20 +419,168 @@ public class AasParserService {
             }
 
         } else if (element instanceof SubmodelElementList list) {
-            log.info("{}- {} (List) [{} items]",
+            log.debug("{}- {} (List) [{} items]",
                     indent, list.getIdShort(),
                     list.getValue() != null ? list.getValue().size() : 0);
             if (list.getValue() != null) {
                 int idx = 0;
                 for (SubmodelElement child : list.getValue()) {
-                    log.info("{}  [{}]:", indent, idx++);
+                    log.debug("{}  [{}]:", indent, idx++);
                     logSubmodelElement(child, indent + "    ");
                 }
             }
 
         } else {
-            log.info("{}- {} ({})",
+            log.debug("{}- {} ({})",
                     indent, element.getIdShort(), type);
         }
     }
+
+    /**
+     * 업로드 한 건의 처리 상태 (파이프라인 저장 단계, 입력 순서대로 호출)
+     * 변환 결과를 로그로 남기고 AasBulkWriter 세션에 전달한다.
+     */
+    private static class UploadContext {
+
+        private final String uploadedBy;
+        private final boolean ignoreDuplicates;
+        private final AasBulkWriter.Session session;
+        private final UploadProgress progress;
+        private final List<String> aasIds = new ArrayList<>();
+        private final List<String> submodelIds = new ArrayList<>();
+        private final List<String> conceptDescriptionIds = new ArrayList<>();
+
+        private UploadContext(String uploadedBy, boolean ignoreDuplicates, AasBulkWriter.Session session,
+                UploadProgress progress) {
+            this.uploadedBy = uploadedBy;
+            this.ignoreDuplicates = ignoreDuplicates;
+            this.session = session;
+            this.progress = progress;
+        }
+
+        private void write(PreparedIdentifiable prepared) {
+            long start = System.nanoTime();
+            switch (prepared.getKind()) {
+                case AAS -> writeAas(prepared);
+                case SUBMODEL -> writeSubmodel(prepared);
+                case CONCEPT_DESCRIPTION -> writeConceptDescription(prepared);
+            }
+            progress.setEntitiesPersisted(session.getPersistedCount());
+            progress.addStageTime(UploadProgress.STAGE_WRITE, System.nanoTime() - start);
+        }
+
+        private void writeAas(PreparedIdentifiable prepared) {
+            aasIds.add(prepared.getId());
+
+            log.info("  AAS:");
+            log.info("    - id: {}", prepared.getId());
+            log.info("    - idShort: {}", prepared.getIdShort());
+            log.info("    - assetKind: {}", prepared.getAssetKind());
+            log.info("    - globalAssetId: {}", prepared.getGlobalAssetId());
+            log.info("    - submodel references: {}", prepared.getSubmodelReferences().size());
+            for (String reference : prepared.getSubmodelReferences()) {
+                log.info("      - {}", reference);
+            }
+
+            if (prepared.getError() != null) {
+                log.error("    -> 직렬화 실패: {}", prepared.getError());
+                return;
+            }
+
+            // AAS를 저장 대기열에 추가 (배치 단위로 DB 저장)
+            session.addAas(AasSaveRequest.builder()
+                    .aasId(prepared.getId())
+                    .idShort(prepared.getIdShort())
+                    .assetKind(prepared.getAssetKind())
+                    .globalAssetId(prepared.getGlobalAssetId())
+                    .aasJson(prepared.getJson())
+                    .contentHash(prepared.getContentHash())
+                    .payload(prepared.getPayload())
+                    .createNewVersion(!ignoreDuplicates)
+                    .build());
+        }
+
+        private void writeSubmodel(PreparedIdentifiable prepared) {
+            submodelIds.add(prepared.getId());
+
+            log.info("  Submodel:");
+            log.info("    - id: {}", prepared.getId());
+            log.info("    - idShort: {}", prepared.getIdShort());
+            log.info("    - semanticId: {}", prepared.getSemanticId());
+            log.info("    - submodelElements: {} items", prepared.getElementCount());
+
+            if (prepared.getError() != null) {
+                log.error("    -> 직렬화 실패: {}", prepared.getError());
+                return;
+            }
+
+            // 연결된 AAS ID 찾기 (첫 번째 AAS와 연결)
+            // 스트리밍 모드에서는 Submodel보다 앞서 읽힌 AAS만 대상이 된다 (aas4j 직렬화 순서: shells -> submodels)
+            String linkedAasId = aasIds.isEmpty() ? null : aasIds.get(0);
+
+            // Submodel을 저장 대기열에 추가 (배치 단위로 DB 저장)
+            session.addSubmodel(SubmodelSaveRequest.builder()
+                    .submodelId(prepared.getId())
+                    .idShort(prepared.getIdShort())
+                    .semanticId(prepared.getSemanticId())
+                    .aasId(linkedAasId)
+                    .submodelJson(prepared.getJson())
+                    .contentHash(prepared.getContentHash())
+                    .payload(prepared.getPayload())
+                    .valuePayload(prepared.getValuePayload())
+                    .createNewVersion(!ignoreDuplicates)
+                    .elementIndex(prepared.getElementIndex())
+                    .build());
+        }
+
+        private void writeConceptDescription(PreparedIdentifiable prepared) {
+            conceptDescriptionIds.add(prepared.getId());
+
+            log.info("  ConceptDescription:");
+            log.info("    - id: {}", prepared.getId());
+            log.info("    - idShort: {}", prepared.getIdShort());
+
+            if (prepared.getError() != null) {
+                log.error("    -> 직렬화 실패: {}", prepared.getError());
+                return;
+            }
+
+            // ConceptDescription을 저장 대기열에 추가 (배치 단위로 DB 저장)
+            session.addConceptDescription(ConceptDescriptionSaveRequest.builder()
+                    .cdId(prepared.getId())
+                    .idShort(prepared.getIdShort())
+                    .cdJson(prepared.getJson())
+                    .contentHash(prepared.getContentHash())
+                    .payload(prepared.getPayload())
+                    .createNewVersion(!ignoreDuplicates)
+                    .build());
+        }
+    }
+
+    /**
+     * Visitor 호출을 파이프라인 입력으로 변환
+     */
+    private static class EmittingVisitor implements EnvironmentVisitor {
+
+        private final Consumer<Identifiable> emit;
+
+        private EmittingVisitor(Consumer<Identifiable> emit) {
+            this.emit = emit;
+        }
+
+        @Override
+        public void visitAssetAdministrationShell(AssetAdministrationShell aas) {
+            emit.accept(aas);
+        }
+
+        @Override
+        public void visitSubmodel(Submodel submodel) {
+            emit.accept(submodel);
+        }
+
+        @Override
+        public void visitConceptDescription(ConceptDescription conceptDescription) {
+            emit.accept(conceptDescription);
+        }
+    }
 }
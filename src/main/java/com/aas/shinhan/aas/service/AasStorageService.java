@@ -1,20 +1,34 @@
 package com.aas.shinhan.aas.service;
 
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Optional;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.aas.shinhan.aas.dto.AasSaveRequest;
+import com.aas.shinhan.aas.dto.ChangeEvent;
+import com.aas.shinhan.aas.dto.PreparedIdentifiable.Kind;
 import com.aas.shinhan.aas.dto.SubmodelSaveRequest;
+import com.aas.shinhan.aas.dto.SubmodelSummary;
 import com.aas.shinhan.aas.dto.VersionInfo;
 import com.aas.shinhan.aas.entity.AasEntity;
+import com.aas.shinhan.aas.entity.ActiveAasEntity;
+import com.aas.shinhan.aas.entity.ActiveConceptDescriptionEntity;
+import com.aas.shinhan.aas.entity.ActiveSubmodelEntity;
 import com.aas.shinhan.aas.entity.ConceptDescriptionEntity;
+import com.aas.shinhan.aas.entity.StorageType;
 import com.aas.shinhan.aas.entity.SubmodelEntity;
 import com.aas.shinhan.aas.repository.AasRepository;
+import com.aas.shinhan.aas.repository.ActiveAasRepository;
+import com.aas.shinhan.aas.repository.ActiveConceptDescriptionRepository;
+import com.aas.shinhan.aas.repository.ActiveSubmodelRepository;
 import com.aas.shinhan.aas.repository.ConceptDescriptionRepository;
 import com.aas.shinhan.aas.repository.SubmodelRepository;
+import com.aas.shinhan.core.codec.EncodedPayload;
+import com.aas.shinhan.core.datasource.ReadYourWritesTracker;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,6 +36,14 @@ import lombok.extern.slf4j.Slf4j;
 /**
  * AAS 저장 및 버전 관리 서비스
  * BaSyx의 Repository 패턴과 IdentifiableUploader 패턴을 참고하여 구현
+ * 단건 저장/활성화 시간은 aas.storage.operation으로 계측 (커밋 시간 제외)
+ * 활성 버전은 ID당 한 행인 활성 버전 포인터로 관리하며, 활성화는 포인터 UPSERT와
+ * 직전/새 활성 행의 IS_ACTIVE 표시 갱신뿐이므로 이력 깊이와 무관하게 일정한 비용이다.
+ * 저장/활성화는 ID별 스트라이프 잠금을 잡은 트랜잭션에서 실행하고, 다른 노드와 같은 버전을 할당해
+ * (ID, VERSION) 유일 제약을 위반하면 다시 읽어 재시도한다 ({@link VersionedWriteTemplate}).
+ * 기존 버전 업데이트(createNewVersion=false)는 최신 버전 행을 그대로 덮어쓴다.
+ * 저장/활성화마다 같은 트랜잭션에서 변경 이벤트를 남긴다 ({@link ChangeEventRecorder}, /aas/events).
+ * 읽기 전용 조회는 복제본 라우팅을 켜면 복제본에서 읽으며, 저장한 사용자는 커밋 후 잠시 주 DB에서 읽는다 ({@link ReadYourWritesTracker}).
  */
 @Slf4j
 @Service
@@ -31,172 +53,245 @@ public class AasStorageService {
     private final AasRepository aasRepository;
     private final SubmodelRepository submodelRepository;
     private final ConceptDescriptionRepository conceptDescriptionRepository;
+    private final ActiveAasRepository activeAasRepository;
+    private final ActiveSubmodelRepository activeSubmodelRepository;
+    private final ActiveConceptDescriptionRepository activeConceptDescriptionRepository;
+    private final VersionStorageService versionStorageService;
+    private final PayloadCodecService payloadCodecService;
+    private final ActiveEntityCache activeEntityCache;
+    private final ElementIndexService elementIndexService;
+    private final DiscoveryIndexService discoveryIndexService;
+    private final IngestMetrics ingestMetrics;
+    private final VersionedWriteTemplate versionedWriteTemplate;
+    private final ChangeEventRecorder changeEventRecorder;
+    private final ReadYourWritesTracker readYourWritesTracker;
 
     // ======================= AAS 관련 메서드 =======================
 
     /**
      * AAS 저장 (새로 생성 또는 새 버전 생성)
      */
-    @Transactional
     public AasEntity saveAas(AasSaveRequest request, String username) {
+        return versionedWriteTemplate.execute(Kind.AAS, request.getAasId(), () -> ingestMetrics.operation(
+                Kind.AAS, IngestMetrics.OPERATION_SAVE, () -> persistAas(request, username)));
+    }
+
+    private AasEntity persistAas(AasSaveRequest request, String username) {
         String aasId = request.getAasId();
+        String contentHash = contentHash(request.getContentHash(), request.getAasJson());
+        ActiveAasEntity pointer = lockAasPointer(aasId);
+
+        // 활성 버전과 내용이 같으면 새 버전을 만들지 않음
+        Optional<AasEntity> active = aasRepository.findActiveByAasId(aasId);
+        if (active.isPresent() && isUnchanged(active.get().getContentHash(), contentHash)) {
+            log.info("AAS [{}] 변경 없음, 활성 버전 유지: version={}", aasId, active.get().getVersion());
+            return active.get();
+        }
 
         // 기존 버전 존재 여부 확인
         Integer maxVersion = aasRepository.findMaxVersionByAasId(aasId).orElse(0);
 
-        if (maxVersion > 0 && request.isCreateNewVersion()) {
-            // 새 버전 생성: 기존 모든 버전 비활성화
-            aasRepository.deactivateAllVersionsByAasId(aasId);
-            log.info("AAS [{}] 기존 버전들 비활성화 완료", aasId);
-        }
-
         int newVersion = request.isCreateNewVersion() || maxVersion == 0 ? maxVersion + 1 : maxVersion;
 
-        AasEntity entity = AasEntity.builder()
-                .aasId(aasId)
-                .idShort(request.getIdShort())
-                .assetKind(request.getAssetKind())
-                .globalAssetId(request.getGlobalAssetId())
-                .aasJson(request.getAasJson())
-                .version(newVersion)
-                .isActive(true)
-                .createdBy(username)
-                .build();
+        // 기존 버전 업데이트는 최신 버전 행을 덮어씀 (같은 버전 번호로 행을 추가하지 않음)
+        AasEntity entity = newVersion > maxVersion
+                ? AasEntity.builder().aasId(aasId).version(newVersion).createdBy(username).build()
+                : aasRepository.findByAasIdAndVersion(aasId, maxVersion).orElseThrow();
+        if (newVersion == maxVersion) {
+            entity.setUpdatedBy(username);
+        }
+        entity.setIdShort(request.getIdShort());
+        entity.setAssetKind(request.getAssetKind());
+        entity.setGlobalAssetId(request.getGlobalAssetId());
+        entity.setContentHash(contentHash);
+        entity.setStorageType(StorageType.FULL);
+        entity.setIsActive(true);
+        entity.setEncodedPayload(encode(request.getPayload(), request.getAasJson()));
 
         AasEntity saved = aasRepository.save(entity);
+        moveAasPointer(pointer, saved);
+        activeEntityCache.evictAasAfterCommit(aasId);
+        discoveryIndexService.indexShellsAfterCommit(List.of(saved));
+        changeEventRecorder.recordAas(saved, operation(newVersion, maxVersion), username);
+        readYourWritesTracker.recordWrite(username);
         log.info("AAS 저장 완료: id={}, version={}, createdBy={}", aasId, newVersion, username);
 
+        if (newVersion > maxVersion && maxVersion > 0) {
+            versionStorageService.compactRecentAasAfterCommit(List.of(aasId));
+        }
+
         return saved;
     }
 
     /**
-     * AAS 버전 목록 조회
+     * AAS 버전 목록 조회 (메타데이터만, JSON 컬럼은 읽지 않음)
      */
     @Transactional(readOnly = true)
     public List<VersionInfo> getAasVersions(String aasId) {
-        return aasRepository.findByAasIdOrderByVersionDesc(aasId).stream()
-                .map(this::toVersionInfo)
-                .collect(Collectors.toList());
+        return aasRepository.findVersionInfosByAasId(aasId);
     }
 
     /**
      * AAS 특정 버전 활성화
      */
-    @Transactional
     public AasEntity activateAasVersion(String aasId, Integer version, String username) {
-        // 기존 활성화된 버전 비활성화
-        aasRepository.deactivateAllVersionsByAasId(aasId);
+        return versionedWriteTemplate.execute(Kind.AAS, aasId, () -> ingestMetrics.operation(
+                Kind.AAS, IngestMetrics.OPERATION_ACTIVATE, () -> applyAasActivation(aasId, version, username)));
+    }
 
+    private AasEntity applyAasActivation(String aasId, Integer version, String username) {
+        ActiveAasEntity pointer = lockAasPointer(aasId);
         // 특정 버전 활성화
         AasEntity entity = aasRepository.findByAasIdAndVersion(aasId, version)
                 .orElseThrow(() -> new IllegalArgumentException(
                         "AAS not found: aasId=" + aasId + ", version=" + version));
 
+        // 활성 버전은 항상 전체 JSON으로 유지
+        if (entity.getStorageType() == StorageType.DELTA) {
+            entity.setEncodedPayload(payloadCodecService.encode(
+                    versionStorageService.reconstructAas(aasId, version).getJson()));
+            entity.setStorageType(StorageType.FULL);
+        }
         entity.setIsActive(true);
         entity.setUpdatedBy(username);
+        moveAasPointer(pointer, entity);
 
+        activeEntityCache.evictAasAfterCommit(aasId);
+        discoveryIndexService.indexShellsAfterCommit(List.of(entity));
+        changeEventRecorder.recordAas(entity, ChangeEvent.Operation.ACTIVATED, username);
+        readYourWritesTracker.recordWrite(username);
         log.info("AAS 버전 활성화: id={}, version={}, activatedBy={}", aasId, version, username);
         return aasRepository.save(entity);
     }
 
     /**
-     * 활성화된 AAS 조회
+     * 활성화된 AAS 조회 (캐시 적중 시 DB 조회 없음, 트랜잭션도 열지 않음)
      */
-    @Transactional(readOnly = true)
     public AasEntity getActiveAas(String aasId) {
-        return aasRepository.findByAasIdAndIsActiveTrue(aasId)
+        return activeEntityCache.getAas(aasId, aasRepository::findActiveByAasId)
                 .orElseThrow(() -> new IllegalArgumentException("Active AAS not found: " + aasId));
     }
 
-    /**
-     * 모든 활성화된 AAS 목록 조회
-     */
-    @Transactional(readOnly = true)
-    public List<AasEntity> getAllActiveAas() {
-        return aasRepository.findByIsActiveTrueOrderByCreatedAtDesc();
-    }
-
     // ======================= Submodel 관련 메서드 =======================
 
     /**
      * Submodel 저장 (새로 생성 또는 새 버전 생성)
      */
-    @Transactional
     public SubmodelEntity saveSubmodel(SubmodelSaveRequest request, String username) {
+        return versionedWriteTemplate.execute(Kind.SUBMODEL, request.getSubmodelId(), () -> ingestMetrics.operation(
+                Kind.SUBMODEL, IngestMetrics.OPERATION_SAVE, () -> persistSubmodel(request, username)));
+    }
+
+    private SubmodelEntity persistSubmodel(SubmodelSaveRequest request, String username) {
         String submodelId = request.getSubmodelId();
+        String contentHash = contentHash(request.getContentHash(), request.getSubmodelJson());
+        ActiveSubmodelEntity pointer = lockSubmodelPointer(submodelId);
+
+        // 활성 버전과 내용이 같으면 새 버전을 만들지 않음
+        Optional<SubmodelEntity> active = submodelRepository.findActiveBySubmodelId(submodelId);
+        if (active.isPresent() && isUnchanged(active.get().getContentHash(), contentHash)) {
+            log.info("Submodel [{}] 변경 없음, 활성 버전 유지: version={}", submodelId, active.get().getVersion());
+            return active.get();
+        }
 
         // 기존 버전 존재 여부 확인
         Integer maxVersion = submodelRepository.findMaxVersionBySubmodelId(submodelId).orElse(0);
 
-        if (maxVersion > 0 && request.isCreateNewVersion()) {
-            // 새 버전 생성: 기존 모든 버전 비활성화
-            submodelRepository.deactivateAllVersionsBySubmodelId(submodelId);
-            log.info("Submodel [{}] 기존 버전들 비활성화 완료", submodelId);
-        }
-
         int newVersion = request.isCreateNewVersion() || maxVersion == 0 ? maxVersion + 1 : maxVersion;
 
-        SubmodelEntity entity = SubmodelEntity.builder()
-                .submodelId(submodelId)
-                .idShort(request.getIdShort())
-                .semanticId(request.getSemanticId())
-                .aasId(request.getAasId())
-                .submodelJson(request.getSubmodelJson())
-                .version(newVersion)
-                .isActive(true)
-                .createdBy(username)
-                .build();
+        SubmodelEntity entity = newVersion > maxVersion
+                ? SubmodelEntity.builder().submodelId(submodelId).version(newVersion).createdBy(username).build()
+                : submodelRepository.findBySubmodelIdAndVersion(submodelId, maxVersion).orElseThrow();
+        if (newVersion == maxVersion) {
+            entity.setUpdatedBy(username);
+        }
+        entity.setIdShort(request.getIdShort());
+        entity.setSemanticId(request.getSemanticId());
+        entity.setAasId(request.getAasId());
+        entity.setContentHash(contentHash);
+        entity.setStorageType(StorageType.FULL);
+        entity.setIsActive(true);
+        entity.setEncodedPayload(encode(request.getPayload(), request.getSubmodelJson()));
+        entity.setEncodedValuePayload(request.getValuePayload() != null ? request.getValuePayload()
+                : payloadCodecService.encode(ValueOnlyProjector.project(request.getSubmodelJson())));
 
         SubmodelEntity saved = submodelRepository.save(entity);
+        moveSubmodelPointer(pointer, saved);
+        activeEntityCache.evictSubmodelAfterCommit(submodelId);
+        elementIndexService.replace(Map.of(submodelId, saved.getSeq()), Map.of(submodelId, request));
+        discoveryIndexService.indexSubmodelsAfterCommit(List.of(saved));
+        changeEventRecorder.recordSubmodel(saved, operation(newVersion, maxVersion), username);
+        readYourWritesTracker.recordWrite(username);
         log.info("Submodel 저장 완료: id={}, version={}, createdBy={}", submodelId, newVersion, username);
 
+        if (newVersion > maxVersion && maxVersion > 0) {
+            versionStorageService.compactRecentSubmodelsAfterCommit(List.of(submodelId));
+        }
+
         return saved;
     }
 
     /**
-     * Submodel 버전 목록 조회
+     * Submodel 버전 목록 조회 (메타데이터만, JSON 컬럼은 읽지 않음)
      */
     @Transactional(readOnly = true)
     public List<VersionInfo> getSubmodelVersions(String submodelId) {
-        return submodelRepository.findBySubmodelIdOrderByVersionDesc(submodelId).stream()
-                .map(this::toVersionInfo)
-                .collect(Collectors.toList());
+        return submodelRepository.findVersionInfosBySubmodelId(submodelId);
     }
 
     /**
      * Submodel 특정 버전 활성화
      */
-    @Transactional
     public SubmodelEntity activateSubmodelVersion(String submodelId, Integer version, String username) {
-        // 기존 활성화된 버전 비활성화
-        submodelRepository.deactivateAllVersionsBySubmodelId(submodelId);
+        return versionedWriteTemplate.execute(Kind.SUBMODEL, submodelId, () -> ingestMetrics.operation(
+                Kind.SUBMODEL, IngestMetrics.OPERATION_ACTIVATE,
+                () -> applySubmodelActivation(submodelId, version, username)));
+    }
 
+    private SubmodelEntity applySubmodelActivation(String submodelId, Integer version, String username) {
+        ActiveSubmodelEntity pointer = lockSubmodelPointer(submodelId);
         // 특정 버전 활성화
         SubmodelEntity entity = submodelRepository.findBySubmodelIdAndVersion(submodelId, version)
                 .orElseThrow(() -> new IllegalArgumentException(
                         "Submodel not found: submodelId=" + submodelId + ", version=" + version));
 
+        // 활성 버전은 항상 전체 JSON으로 유지
+        if (entity.getStorageType() == StorageType.DELTA) {
+            entity.setEncodedPayload(payloadCodecService.encode(
+                    versionStorageService.reconstructSubmodel(submodelId, version).getJson()));
+            entity.setStorageType(StorageType.FULL);
+        }
+        // 델타 변환 시 비워진 값 전용 표현은 활성화하면서 다시 생성
+        if (entity.getValuePayload() == null) {
+            entity.setEncodedValuePayload(payloadCodecService.encode(
+                    ValueOnlyProjector.project(entity.getSubmodelJson())));
+        }
         entity.setIsActive(true);
         entity.setUpdatedBy(username);
+        moveSubmodelPointer(pointer, entity);
 
+        activeEntityCache.evictSubmodelAfterCommit(submodelId);
+        elementIndexService.replace(submodelId, entity.getSeq(), entity.getSubmodelJson());
+        discoveryIndexService.indexSubmodelsAfterCommit(List.of(entity));
+        changeEventRecorder.recordSubmodel(entity, ChangeEvent.Operation.ACTIVATED, username);
+        readYourWritesTracker.recordWrite(username);
         log.info("Submodel 버전 활성화: id={}, version={}, activatedBy={}", submodelId, version, username);
         return submodelRepository.save(entity);
     }
 
     /**
-     * 특정 AAS에 연결된 활성화된 Submodel 목록 조회
+     * 특정 AAS에 연결된 활성화된 Submodel 목록 조회 (메타데이터만, JSON 컬럼은 읽지 않음)
      */
     @Transactional(readOnly = true)
-    public List<SubmodelEntity> getActiveSubmodelsByAasId(String aasId) {
-        return submodelRepository.findByAasIdAndIsActiveTrueOrderByIdShort(aasId);
+    public List<SubmodelSummary> getActiveSubmodelsByAasId(String aasId) {
+        return submodelRepository.findActiveSummariesByAasId(aasId);
     }
 
     /**
-     * 활성화된 Submodel 조회
+     * 활성화된 Submodel 조회 (캐시 적중 시 DB 조회 없음, 트랜잭션도 열지 않음)
      */
-    @Transactional(readOnly = true)
     public SubmodelEntity getActiveSubmodel(String submodelId) {
-        return submodelRepository.findBySubmodelIdAndIsActiveTrue(submodelId)
+        return activeEntityCache.getSubmodel(submodelId, submodelRepository::findActiveBySubmodelId)
                 .orElseThrow(() -> new IllegalArgumentException("Active Submodel not found: " + submodelId));
     }
 
@@ -205,103 +300,150 @@ public class AasStorageService {
     /**
      * ConceptDescription 저장
      */
-    @Transactional
     public ConceptDescriptionEntity saveConceptDescription(String cdId, String idShort,
             String cdJson, boolean createNewVersion, String username) {
+        return versionedWriteTemplate.execute(Kind.CONCEPT_DESCRIPTION, cdId, () -> ingestMetrics.operation(
+                Kind.CONCEPT_DESCRIPTION, IngestMetrics.OPERATION_SAVE,
+                () -> persistConceptDescription(cdId, idShort, cdJson, createNewVersion, username)));
+    }
 
-        Integer maxVersion = conceptDescriptionRepository.findMaxVersionByCdId(cdId).orElse(0);
-
-        if (maxVersion > 0 && createNewVersion) {
-            conceptDescriptionRepository.deactivateAllVersionsByCdId(cdId);
-            log.info("ConceptDescription [{}] 기존 버전들 비활성화 완료", cdId);
+    private ConceptDescriptionEntity persistConceptDescription(String cdId, String idShort,
+            String cdJson, boolean createNewVersion, String username) {
+        String contentHash = ContentDigest.sha256(cdJson);
+        ActiveConceptDescriptionEntity pointer = lockConceptDescriptionPointer(cdId);
+
+        // 활성 버전과 내용이 같으면 새 버전을 만들지 않음
+        Optional<ConceptDescriptionEntity> active = conceptDescriptionRepository.findActiveByCdId(cdId);
+        if (active.isPresent() && isUnchanged(active.get().getContentHash(), contentHash)) {
+            log.info("ConceptDescription [{}] 변경 없음, 활성 버전 유지: version={}", cdId, active.get().getVersion());
+            return active.get();
         }
 
+        Integer maxVersion = conceptDescriptionRepository.findMaxVersionByCdId(cdId).orElse(0);
+
         int newVersion = createNewVersion || maxVersion == 0 ? maxVersion + 1 : maxVersion;
 
-        ConceptDescriptionEntity entity = ConceptDescriptionEntity.builder()
-                .cdId(cdId)
-                .idShort(idShort)
-                .cdJson(cdJson)
-                .version(newVersion)
-                .isActive(true)
-                .createdBy(username)
-                .build();
+        ConceptDescriptionEntity entity = newVersion > maxVersion
+                ? ConceptDescriptionEntity.builder().cdId(cdId).version(newVersion).createdBy(username).build()
+                : conceptDescriptionRepository.findByCdIdAndVersion(cdId, maxVersion).orElseThrow();
+        if (newVersion == maxVersion) {
+            entity.setUpdatedBy(username);
+        }
+        entity.setIdShort(idShort);
+        entity.setContentHash(contentHash);
+        entity.setIsActive(true);
+        entity.setEncodedPayload(payloadCodecService.encode(cdJson));
 
         ConceptDescriptionEntity saved = conceptDescriptionRepository.save(entity);
+        moveConceptDescriptionPointer(pointer, saved);
+        changeEventRecorder.recordConceptDescription(saved, operation(newVersion, maxVersion), username);
+        readYourWritesTracker.recordWrite(username);
         log.info("ConceptDescription 저장 완료: id={}, version={}, createdBy={}", cdId, newVersion, username);
 
         return saved;
     }
 
     /**
-     * ConceptDescription 버전 목록 조회
+     * ConceptDescription 버전 목록 조회 (메타데이터만, JSON 컬럼은 읽지 않음)
      */
     @Transactional(readOnly = true)
     public List<VersionInfo> getConceptDescriptionVersions(String cdId) {
-        return conceptDescriptionRepository.findByCdIdOrderByVersionDesc(cdId).stream()
-                .map(this::toVersionInfo)
-                .collect(Collectors.toList());
+        return conceptDescriptionRepository.findVersionInfosByCdId(cdId);
     }
 
     /**
      * ConceptDescription 특정 버전 활성화
      */
-    @Transactional
     public ConceptDescriptionEntity activateConceptDescriptionVersion(String cdId, Integer version, String username) {
-        conceptDescriptionRepository.deactivateAllVersionsByCdId(cdId);
+        return versionedWriteTemplate.execute(Kind.CONCEPT_DESCRIPTION, cdId, () -> ingestMetrics.operation(
+                Kind.CONCEPT_DESCRIPTION, IngestMetrics.OPERATION_ACTIVATE,
+                () -> applyConceptDescriptionActivation(cdId, version, username)));
+    }
 
+    private ConceptDescriptionEntity applyConceptDescriptionActivation(String cdId, Integer version, String username) {
+        ActiveConceptDescriptionEntity pointer = lockConceptDescriptionPointer(cdId);
         ConceptDescriptionEntity entity = conceptDescriptionRepository.findByCdIdAndVersion(cdId, version)
                 .orElseThrow(() -> new IllegalArgumentException(
                         "ConceptDescription not found: cdId=" + cdId + ", version=" + version));
 
         entity.setIsActive(true);
         entity.setUpdatedBy(username);
+        moveConceptDescriptionPointer(pointer, entity);
+        changeEventRecorder.recordConceptDescription(entity, ChangeEvent.Operation.ACTIVATED, username);
+        readYourWritesTracker.recordWrite(username);
 
         log.info("ConceptDescription 버전 활성화: id={}, version={}, activatedBy={}", cdId, version, username);
         return conceptDescriptionRepository.save(entity);
     }
 
+    // ======================= 활성 버전 포인터 =======================
+
+    /**
+     * 활성 버전 포인터 행 잠금 (버전 행을 쓰기 전에 잠가 같은 ID의 일괄 업로드 활성화와 순서를 맞춤)
+     * 최초 활성화라 행이 없으면 새 포인터를 반환하며, 동시 최초 활성화는 기본 키 위반으로 재시도된다.
+     */
+    private ActiveAasEntity lockAasPointer(String aasId) {
+        return activeAasRepository.findForUpdateByAasId(aasId)
+                .orElseGet(() -> ActiveAasEntity.builder().aasId(aasId).build());
+    }
+
+    private ActiveSubmodelEntity lockSubmodelPointer(String submodelId) {
+        return activeSubmodelRepository.findForUpdateBySubmodelId(submodelId)
+                .orElseGet(() -> ActiveSubmodelEntity.builder().submodelId(submodelId).build());
+    }
+
+    private ActiveConceptDescriptionEntity lockConceptDescriptionPointer(String cdId) {
+        return activeConceptDescriptionRepository.findForUpdateByCdId(cdId)
+                .orElseGet(() -> ActiveConceptDescriptionEntity.builder().cdId(cdId).build());
+    }
+
+    /**
+     * 잠근 포인터를 새 활성 행으로 옮기고, 같은 ID의 나머지 활성 표시를 내림
+     * 포인터를 먼저 기록(flush)해 행 잠금을 확보한 뒤 내리므로 그 사이 커밋된 일괄 업로드의 활성 행도 함께 내려간다.
+     */
+    private void moveAasPointer(ActiveAasEntity pointer, AasEntity entity) {
+        pointer.setSeq(entity.getSeq());
+        pointer.setVersion(entity.getVersion());
+        pointer.setCreatedAt(entity.getCreatedAt());
+        pointer.setActivatedAt(LocalDateTime.now());
+        activeAasRepository.saveAndFlush(pointer);
+        aasRepository.deactivateOthers(entity.getAasId(), entity.getSeq());
+    }
+
+    private void moveSubmodelPointer(ActiveSubmodelEntity pointer, SubmodelEntity entity) {
+        pointer.setSeq(entity.getSeq());
+        pointer.setVersion(entity.getVersion());
+        pointer.setCreatedAt(entity.getCreatedAt());
+        pointer.setActivatedAt(LocalDateTime.now());
+        activeSubmodelRepository.saveAndFlush(pointer);
+        submodelRepository.deactivateOthers(entity.getSubmodelId(), entity.getSeq());
+    }
+
+    private void moveConceptDescriptionPointer(ActiveConceptDescriptionEntity pointer,
+            ConceptDescriptionEntity entity) {
+        pointer.setSeq(entity.getSeq());
+        pointer.setVersion(entity.getVersion());
+        pointer.setCreatedAt(entity.getCreatedAt());
+        pointer.setActivatedAt(LocalDateTime.now());
+        activeConceptDescriptionRepository.saveAndFlush(pointer);
+        conceptDescriptionRepository.deactivateOthers(entity.getCdId(), entity.getSeq());
+    }
+
     // ======================= 유틸리티 메서드 =======================
 
-    private VersionInfo toVersionInfo(AasEntity entity) {
-        return VersionInfo.builder()
-                .seq(entity.getSeq())
-                .entityId(entity.getAasId())
-                .idShort(entity.getIdShort())
-                .version(entity.getVersion())
-                .isActive(entity.getIsActive())
-                .createdBy(entity.getCreatedBy())
-                .createdAt(entity.getCreatedAt())
-                .updatedBy(entity.getUpdatedBy())
-                .updatedAt(entity.getUpdatedAt())
-                .build();
+    private String contentHash(String precomputed, String json) {
+        return precomputed != null ? precomputed : ContentDigest.sha256(json);
+    }
+
+    private EncodedPayload encode(EncodedPayload precomputed, String json) {
+        return precomputed != null ? precomputed : payloadCodecService.encode(json);
     }
 
-    private VersionInfo toVersionInfo(SubmodelEntity entity) {
-        return VersionInfo.builder()
-                .seq(entity.getSeq())
-                .entityId(entity.getSubmodelId())
-                .idShort(entity.getIdShort())
-                .version(entity.getVersion())
-                .isActive(entity.getIsActive())
-                .createdBy(entity.getCreatedBy())
-                .createdAt(entity.getCreatedAt())
-                .updatedBy(entity.getUpdatedBy())
-                .updatedAt(entity.getUpdatedAt())
-                .build();
+    private boolean isUnchanged(String activeHash, String contentHash) {
+        return contentHash != null && contentHash.equals(activeHash);
     }
 
-    private VersionInfo toVersionInfo(ConceptDescriptionEntity entity) {
-        return VersionInfo.builder()
-                .seq(entity.getSeq())
-                .entityId(entity.getCdId())
-                .idShort(entity.getIdShort())
-                .version(entity.getVersion())
-                .isActive(entity.getIsActive())
-                .createdBy(entity.getCreatedBy())
-                .createdAt(entity.getCreatedAt())
-                .updatedBy(entity.getUpdatedBy())
-                .updatedAt(entity.getUpdatedAt())
-                .build();
+    private ChangeEvent.Operation operation(int newVersion, int maxVersion) {
+        return newVersion > maxVersion ? ChangeEvent.Operation.CREATED : ChangeEvent.Operation.UPDATED;
     }
 }
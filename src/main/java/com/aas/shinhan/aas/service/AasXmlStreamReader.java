@@ -0,0 +1,130 @@
+package com.aas.shinhan.aas.service;
+
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.util.Map;
+
+import javax.xml.stream.XMLEventFactory;
+import javax.xml.stream.XMLEventReader;
+import javax.xml.stream.XMLEventWriter;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.events.StartElement;
+import javax.xml.stream.events.XMLEvent;
+
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.DeserializationException;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.xml.XmlDeserializer;
+import org.eclipse.digitaltwin.aas4j.v3.model.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * Environment XML 스트리밍 리더
+ * StAX로 environment 하위 컨테이너의 요소를 하나씩 잘라내어
+ * 요소 하나짜리 Environment 문서로 aas4j에 넘긴다.
+ */
+@Component
+public class AasXmlStreamReader {
+
+    // 컨테이너 요소명 -> 항목 요소명
+    private static final Map<String, String> CONTAINERS = Map.of(
+            "assetAdministrationShells", "assetAdministrationShell",
+            "submodels", "submodel",
+            "conceptDescriptions", "conceptDescription");
+
+    private final XMLInputFactory inputFactory;
+    private final XMLOutputFactory outputFactory;
+    private final XMLEventFactory eventFactory = XMLEventFactory.newInstance();
+    private final XmlDeserializer xmlDeserializer = new XmlDeserializer();
+
+    public AasXmlStreamReader() {
+        this.inputFactory = XMLInputFactory.newInstance();
+        this.inputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        this.inputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        this.outputFactory = XMLOutputFactory.newInstance();
+        this.outputFactory.setProperty(XMLOutputFactory.IS_REPAIRING_NAMESPACES, true);
+    }
+
+    public void read(InputStream inputStream, EnvironmentVisitor visitor) throws Exception {
+        XMLEventReader reader = inputFactory.createXMLEventReader(inputStream);
+        try {
+            int depth = 0;
+            String container = null;
+
+            while (reader.hasNext()) {
+                XMLEvent event = reader.nextEvent();
+
+                if (event.isStartElement()) {
+                    depth++;
+                    String name = event.asStartElement().getName().getLocalPart();
+                    if (depth == 2 && CONTAINERS.containsKey(name)) {
+                        container = name;
+                    } else if (depth == 3 && container != null && CONTAINERS.get(container).equals(name)) {
+                        String fragment = copyElement(reader, event.asStartElement(), container);
+                        depth--;
+                        dispatch(fragment, visitor);
+                    }
+                } else if (event.isEndElement()) {
+                    if (depth == 2) {
+                        container = null;
+                    }
+                    depth--;
+                }
+            }
+        } finally {
+            reader.close();
+        }
+    }
+
+    /**
+     * 현재 항목 요소를 종료 태그까지 복사해 단일 요소 Environment 문서를 만든다.
+     */
+    private String copyElement(XMLEventReader reader, StartElement start, String container) throws Exception {
+        String namespace = start.getName().getNamespaceURI();
+        String prefix = start.getName().getPrefix();
+
+        StringWriter buffer = new StringWriter();
+        XMLEventWriter writer = outputFactory.createXMLEventWriter(buffer);
+        try {
+            writer.add(eventFactory.createStartElement(prefix, namespace, "environment"));
+            writer.add(eventFactory.createStartElement(prefix, namespace, container));
+            writer.add(start);
+
+            int depth = 1;
+            while (depth > 0 && reader.hasNext()) {
+                XMLEvent event = reader.nextEvent();
+                if (event.isStartElement()) {
+                    depth++;
+                } else if (event.isEndElement()) {
+                    depth--;
+                }
+                writer.add(event);
+            }
+
+            writer.add(eventFactory.createEndElement(prefix, namespace, container));
+            writer.add(eventFactory.createEndElement(prefix, namespace, "environment"));
+            writer.flush();
+        } finally {
+            writer.close();
+        }
+        return buffer.toString();
+    }
+
+    private void dispatch(String fragment, EnvironmentVisitor visitor) {
+        Environment environment;
+        try {
+            environment = xmlDeserializer.read(fragment);
+        } catch (DeserializationException e) {
+            throw new IllegalArgumentException("Invalid AAS XML element: " + e.getMessage(), e);
+        }
+
+        if (environment.getAssetAdministrationShells() != null) {
+            environment.getAssetAdministrationShells().forEach(visitor::visitAssetAdministrationShell);
+        }
+        if (environment.getSubmodels() != null) {
+            environment.getSubmodels().forEach(visitor::visitSubmodel);
+        }
+        if (environment.getConceptDescriptions() != null) {
+            environment.getConceptDescriptions().forEach(visitor::visitConceptDescription);
+        }
+    }
+}
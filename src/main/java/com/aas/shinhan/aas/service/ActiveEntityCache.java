@@ -0,0 +1,203 @@
+package com.aas.shinhan.aas.service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.aas.shinhan.aas.entity.AasEntity;
+import com.aas.shinhan.aas.entity.SubmodelEntity;
+import com.aas.shinhan.core.datasource.ReadRoutingContext;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 활성 AAS / Submodel 조회 캐시
+ * 항목 수가 아니라 저장 내용 크기(압축 PAYLOAD + 디코딩된 JSON)로 가중치를 매겨 byte 예산 안에서 축출한다.
+ * 저장/활성화 트랜잭션이 커밋된 직후 같은 스레드에서 해당 ID를 무효화하며,
+ * 조회 중 무효화가 일어나면 DB에서 읽은 값을 캐시에 넣지 않는다 (이전 활성 버전이 남는 것 방지).
+ * 적중/실패/축출 통계는 actuator metrics의 cache.* (cache=activeAas, activeSubmodel)로 노출한다.
+ * 여러 노드로 운영하면 다른 노드의 변경은 {@link ClusterCacheCoherence}가 DB 변경 이벤트를 폴링해 무효화하며,
+ * 마지막 폴링 시작 시각이 정합성 한도(aas.cache.cluster.staleness)보다 오래되면 캐시를 건너뛰고 DB에서 읽는다.
+ */
+@Slf4j
+@Service
+public class ActiveEntityCache {
+
+    // 엔티티 메타데이터 필드 등 JSON 외 고정 비용 추정치
+    private static final int ENTRY_OVERHEAD_BYTES = 512;
+
+    private final boolean enabled;
+    private final Cache<String, AasEntity> aasCache;
+    private final Cache<String, SubmodelEntity> submodelCache;
+    private final AtomicLong invalidations = new AtomicLong();
+    // 클러스터 정합성 한도 (0이면 단일 노드 운영, 이 노드의 커밋 후 무효화만 사용)
+    private volatile long stalenessBoundNanos;
+    // 다른 노드의 변경을 모두 반영한 마지막 폴링의 시작 시각 (System.nanoTime)
+    private volatile long coherentAtNanos;
+
+    public ActiveEntityCache(MeterRegistry meterRegistry,
+            @Value("${aas.cache.active.enabled:true}") boolean enabled,
+            @Value("${aas.cache.active.aas-max-bytes:16777216}") long aasMaxBytes,
+            @Value("${aas.cache.active.submodel-max-bytes:67108864}") long submodelMaxBytes,
+            @Value("${aas.cache.active.expire-after-write-minutes:30}") long expireAfterWriteMinutes) {
+        this.enabled = enabled;
+        Duration expireAfterWrite = Duration.ofMinutes(Math.max(1, expireAfterWriteMinutes));
+        this.aasCache = Caffeine.newBuilder()
+                .maximumWeight(aasMaxBytes)
+                .<String, AasEntity>weigher((id, entity) -> weigh(entity.getPayload(), entity.getAasJson()))
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        this.submodelCache = Caffeine.newBuilder()
+                .maximumWeight(submodelMaxBytes)
+                // 값 전용 표현도 엔티티와 함께 적재되므로 크기에 포함
+                .<String, SubmodelEntity>weigher((id, entity) -> weigh(entity.getPayload(), entity.getSubmodelJson())
+                        + (entity.getValuePayload() != null ? entity.getValuePayload().length : 0))
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, aasCache, "activeAas");
+        CaffeineCacheMetrics.monitor(meterRegistry, submodelCache, "activeSubmodel");
+        log.info("ActiveEntityCache initialized: enabled={}, aasMaxBytes={}, submodelMaxBytes={}, expireAfterWrite={}",
+                enabled, aasMaxBytes, submodelMaxBytes, expireAfterWrite);
+    }
+
+    // ======================= 조회 =======================
+
+    public Optional<AasEntity> getAas(String aasId, Function<String, Optional<AasEntity>> loader) {
+        return get(aasCache, aasId, loader);
+    }
+
+    public Optional<SubmodelEntity> getSubmodel(String submodelId,
+            Function<String, Optional<SubmodelEntity>> loader) {
+        return get(submodelCache, submodelId, loader);
+    }
+
+    private <T> Optional<T> get(Cache<String, T> cache, String id, Function<String, Optional<T>> loader) {
+        if (!enabled || !isCoherent()) {
+            return loader.apply(id);
+        }
+        T cached = cache.getIfPresent(id);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        long generation = invalidations.get();
+        // 캐시에 넣을 값은 복제 지연 없이 주 DB에서 읽음 (복제본의 이전 버전이 무효화 뒤에 다시 캐시되는 것 방지)
+        Optional<T> loaded = ReadRoutingContext.onPrimary(() -> loader.apply(id));
+        // 무효화와 같은 키 잠금 안에서 확인하므로, 조회 도중 커밋된 변경이 있으면 캐시에 넣지 않는다
+        loaded.ifPresent(entity -> cache.asMap().compute(id,
+                (key, current) -> invalidations.get() == generation ? entity : current));
+        return loaded;
+    }
+
+    // ======================= 무효화 =======================
+
+    /**
+     * 현재 트랜잭션 커밋 직후 무효화 (트랜잭션 밖이면 즉시)
+     */
+    public void evictAasAfterCommit(Collection<String> aasIds) {
+        evictAfterCommit(aasCache, aasIds);
+    }
+
+    public void evictSubmodelsAfterCommit(Collection<String> submodelIds) {
+        evictAfterCommit(submodelCache, submodelIds);
+    }
+
+    public void evictAasAfterCommit(String aasId) {
+        evictAfterCommit(aasCache, List.of(aasId));
+    }
+
+    public void evictSubmodelAfterCommit(String submodelId) {
+        evictAfterCommit(submodelCache, List.of(submodelId));
+    }
+
+    private void evictAfterCommit(Cache<String, ?> cache, Collection<String> ids) {
+        if (!enabled || ids.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(cache, ids);
+            return;
+        }
+        List<String> snapshot = List.copyOf(ids);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(cache, snapshot);
+            }
+        });
+    }
+
+    /**
+     * 즉시 무효화 (다른 노드의 커밋된 변경 반영용)
+     */
+    public void evictAas(Collection<String> aasIds) {
+        if (enabled && !aasIds.isEmpty()) {
+            evict(aasCache, aasIds);
+        }
+    }
+
+    public void evictSubmodels(Collection<String> submodelIds) {
+        if (enabled && !submodelIds.isEmpty()) {
+            evict(submodelCache, submodelIds);
+        }
+    }
+
+    /**
+     * 전체 무효화 (변경 이벤트를 놓쳐 어떤 ID가 바뀌었는지 알 수 없을 때)
+     */
+    public void invalidateAll() {
+        invalidations.incrementAndGet();
+        aasCache.invalidateAll();
+        submodelCache.invalidateAll();
+        log.info("활성 엔티티 캐시 전체 무효화");
+    }
+
+    // ======================= 클러스터 정합성 =======================
+
+    /**
+     * 클러스터 모드 전환 (첫 폴링이 끝나기 전까지는 캐시를 쓰지 않음)
+     */
+    public void enableClusterCoherence(Duration stalenessBound) {
+        this.coherentAtNanos = System.nanoTime() - stalenessBound.toNanos() - 1;
+        this.stalenessBoundNanos = Math.max(1, stalenessBound.toNanos());
+    }
+
+    /**
+     * pollStartNanos 이전에 커밋된 다른 노드의 변경을 모두 무효화했음을 기록
+     */
+    public void markCoherent(long pollStartNanos) {
+        this.coherentAtNanos = pollStartNanos;
+    }
+
+    public boolean isCoherent() {
+        long bound = stalenessBoundNanos;
+        return bound == 0 || System.nanoTime() - coherentAtNanos <= bound;
+    }
+
+    private void evict(Cache<String, ?> cache, Collection<String> ids) {
+        invalidations.incrementAndGet();
+        cache.invalidateAll(ids);
+        log.debug("활성 엔티티 캐시 무효화: {}건", ids.size());
+    }
+
+    private static int weigh(byte[] payload, String json) {
+        long weight = ENTRY_OVERHEAD_BYTES
+                + (payload != null ? payload.length : 0)
+                + (json != null ? json.length() : 0);
+        return (int) Math.min(Integer.MAX_VALUE, weight);
+    }
+}
@@ -0,0 +1,227 @@
+package com.aas.shinhan.aas.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.AnnotatedRelationshipElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.Blob;
+import org.eclipse.digitaltwin.aas4j.v3.model.DataTypeDefXsd;
+import org.eclipse.digitaltwin.aas4j.v3.model.Entity;
+import org.eclipse.digitaltwin.aas4j.v3.model.Extension;
+import org.eclipse.digitaltwin.aas4j.v3.model.File;
+import org.eclipse.digitaltwin.aas4j.v3.model.HasExtensions;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementCollection;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementList;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultExtension;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 콘텐츠 주소 기반 첨부 파일 저장소 (SHA-256 -> 파일)
+ * Blob 요소 값과 AASX 보조 파일(PDF, 이미지 등)을 DB 문서 밖 디스크에 한 번만 저장하고,
+ * 저장된 JSON에는 요소의 확장(extension)으로 해시 참조만 남긴다 (GET /aas/blobs/{hash}로 조회).
+ * 같은 내용은 버전/Submodel이 달라도 파일 하나를 공유하며, 파일은 임시 파일 작성 후 원자적 이동으로 만든다.
+ * 롤백된 업로드가 남긴 파일은 참조되지 않을 뿐 다른 데이터에 영향을 주지 않는다.
+ */
+@Slf4j
+@Service
+public class BlobStoreService {
+
+    // 요소 확장 이름 (값: 저장소 해시)
+    public static final String BLOB_REF_EXTENSION = "urn:shinhan:aas:blob-ref";
+
+    private static final Pattern HASH_PATTERN = Pattern.compile("[0-9a-f]{64}");
+
+    private final Path root;
+    private final boolean enabled;
+    private final int blobMinBytes;
+
+    public BlobStoreService(@Value("${aas.blob-store.root:./data/blob-store}") String root,
+            @Value("${aas.blob-store.enabled:true}") boolean enabled,
+            @Value("${aas.blob-store.blob-min-bytes:4096}") int blobMinBytes) throws IOException {
+        this.root = Path.of(root).toAbsolutePath();
+        this.enabled = enabled;
+        this.blobMinBytes = Math.max(0, blobMinBytes);
+        if (enabled) {
+            Files.createDirectories(this.root);
+        }
+        log.info("BlobStoreService initialized: enabled={}, root={}, blobMinBytes={}", enabled, this.root,
+                this.blobMinBytes);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // ======================= 저장 =======================
+
+    /**
+     * 내용 저장 (같은 해시 파일이 있으면 쓰지 않음)
+     * @return SHA-256 hex
+     */
+    public String put(byte[] content) {
+        String hash = HexFormat.of().formatHex(newDigest().digest(content));
+        Path target = pathOf(hash);
+        if (Files.exists(target)) {
+            return hash;
+        }
+        try {
+            Files.createDirectories(target.getParent());
+            Path temp = Files.createTempFile(target.getParent(), hash, ".tmp");
+            try {
+                Files.write(temp, content);
+                // 동시에 같은 내용을 쓴 경우에도 결과 파일은 동일하므로 덮어써도 무방
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to store blob: " + hash, e);
+        }
+        return hash;
+    }
+
+    /**
+     * 해시에 해당하는 저장 파일 (형식이 잘못되었거나 없으면 empty)
+     */
+    public Optional<Path> resolve(String hash) {
+        if (!enabled || hash == null || !HASH_PATTERN.matcher(hash).matches()) {
+            return Optional.empty();
+        }
+        Path path = pathOf(hash);
+        return Files.isRegularFile(path) ? Optional.of(path) : Optional.empty();
+    }
+
+    /**
+     * 파일 일부를 FileChannel.transferTo로 출력 (소켓 채널이면 커널 복사, 아니면 JDK 내부 버퍼 복사)
+     */
+    public void transfer(Path path, long start, long count, OutputStream out) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(out);
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long written = channel.transferTo(position, remaining, target);
+                if (written <= 0) {
+                    break;
+                }
+                position += written;
+                remaining -= written;
+            }
+        }
+    }
+
+    private Path pathOf(String hash) {
+        return root.resolve(hash.substring(0, 2)).resolve(hash);
+    }
+
+    // ======================= 업로드 변환 =======================
+
+    /**
+     * blob-min-bytes 이상인 Blob 값을 저장소로 옮기고 참조 확장으로 대체 (업로드 변환 단계에서 병렬 호출)
+     * @return 옮긴 Blob 수
+     */
+    public int externalizeBlobs(Submodel submodel) {
+        if (!enabled) {
+            return 0;
+        }
+        int[] count = new int[1];
+        forEachElement(submodel.getSubmodelElements(), element -> {
+            if (element instanceof Blob blob && blob.getValue() != null && blob.getValue().length >= blobMinBytes) {
+                setReference(blob, put(blob.getValue()));
+                blob.setValue(null);
+                count[0]++;
+            }
+        });
+        return count[0];
+    }
+
+    /**
+     * AASX 보조 파일을 저장소에 넣고 해당 경로를 값으로 가진 File 요소에 참조 확장 추가
+     * File 요소의 값(패키지 내 경로)은 그대로 둔다.
+     * @param files 패키지 내 경로 -> 파일 내용
+     * @return 연결한 File 요소 수
+     */
+    public int linkSupplementaryFiles(Collection<Submodel> submodels, Map<String, byte[]> files) {
+        if (!enabled || files.isEmpty() || submodels == null) {
+            return 0;
+        }
+        int[] count = new int[1];
+        for (Submodel submodel : submodels) {
+            forEachElement(submodel.getSubmodelElements(), element -> {
+                if (element instanceof File file && file.getValue() != null) {
+                    byte[] content = files.get(file.getValue());
+                    if (content != null) {
+                        setReference(file, put(content));
+                        count[0]++;
+                    }
+                }
+            });
+        }
+        return count[0];
+    }
+
+    private static void setReference(HasExtensions element, String hash) {
+        List<Extension> extensions = new ArrayList<>();
+        if (element.getExtensions() != null) {
+            element.getExtensions().stream()
+                    .filter(extension -> !BLOB_REF_EXTENSION.equals(extension.getName()))
+                    .forEach(extensions::add);
+        }
+        extensions.add(new DefaultExtension.Builder()
+                .name(BLOB_REF_EXTENSION)
+                .valueType(DataTypeDefXsd.STRING)
+                .value(hash)
+                .build());
+        element.setExtensions(extensions);
+    }
+
+    private static void forEachElement(Collection<? extends SubmodelElement> elements,
+            Consumer<SubmodelElement> action) {
+        if (elements == null) {
+            return;
+        }
+        for (SubmodelElement element : elements) {
+            action.accept(element);
+            if (element instanceof SubmodelElementCollection collection) {
+                forEachElement(collection.getValue(), action);
+            } else if (element instanceof SubmodelElementList list) {
+                forEachElement(list.getValue(), action);
+            } else if (element instanceof Entity entity) {
+                forEachElement(entity.getStatements(), action);
+            } else if (element instanceof AnnotatedRelationshipElement relationship) {
+                forEachElement(relationship.getAnnotations(), action);
+            }
+        }
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.aas.shinhan.aas.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.aas.shinhan.aas.dto.ChangeEvent;
+import com.aas.shinhan.aas.dto.PreparedIdentifiable.Kind;
+import com.aas.shinhan.aas.entity.AasEntity;
+import com.aas.shinhan.aas.entity.ConceptDescriptionEntity;
+import com.aas.shinhan.aas.entity.SubmodelEntity;
+import com.aas.shinhan.aas.repository.ChangeEventJdbcRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 저장/활성화 변경 이벤트 기록기 (트랜잭션 아웃박스)
+ * 트랜잭션 동안 이벤트를 모아 두었다가 커밋 직전(beforeCommit)에 같은 트랜잭션으로 AAS_CHANGE_EVENT에 기록한다.
+ * 이벤트 번호 카운터 잠금은 커밋까지 유지되므로 기록을 커밋 직전으로 미뤄 업로드 본 작업과 겹치지 않게 한다.
+ * 트랜잭션이 롤백되면 이벤트도 남지 않는다.
+ * 기록된 이벤트는 SSE 구독({@link ChangeFeedService})과 노드 간 캐시 무효화({@link ClusterCacheCoherence})가 함께 읽는다.
+ */
+@Slf4j
+@Component
+public class ChangeEventRecorder {
+
+    private final ChangeEventJdbcRepository changeEventJdbcRepository;
+    private final boolean enabled;
+
+    public ChangeEventRecorder(ChangeEventJdbcRepository changeEventJdbcRepository,
+            @Value("${aas.events.enabled:true}") boolean eventsEnabled,
+            @Value("${aas.cache.cluster.enabled:false}") boolean clusterCacheEnabled) {
+        this.changeEventJdbcRepository = changeEventJdbcRepository;
+        // SSE 구독을 끄더라도 노드 간 캐시 무효화에 필요하면 기록
+        this.enabled = eventsEnabled || clusterCacheEnabled;
+    }
+
+    public void recordAas(AasEntity entity, ChangeEvent.Operation operation, String username) {
+        record(ChangeEvent.builder()
+                .entityType(Kind.AAS)
+                .entityId(entity.getAasId())
+                .aasId(entity.getAasId())
+                .version(entity.getVersion())
+                .operation(operation)
+                .changedBy(username)
+                .build());
+    }
+
+    public void recordSubmodel(SubmodelEntity entity, ChangeEvent.Operation operation, String username) {
+        record(ChangeEvent.builder()
+                .entityType(Kind.SUBMODEL)
+                .entityId(entity.getSubmodelId())
+                .aasId(entity.getAasId())
+                .semanticId(entity.getSemanticId())
+                .version(entity.getVersion())
+                .operation(operation)
+                .changedBy(username)
+                .build());
+    }
+
+    public void recordConceptDescription(ConceptDescriptionEntity entity, ChangeEvent.Operation operation,
+            String username) {
+        record(ChangeEvent.builder()
+                .entityType(Kind.CONCEPT_DESCRIPTION)
+                .entityId(entity.getCdId())
+                .version(entity.getVersion())
+                .operation(operation)
+                .changedBy(username)
+                .build());
+    }
+
+    /**
+     * 현재 트랜잭션의 이벤트 버퍼에 추가 (트랜잭션 밖이면 즉시 기록)
+     */
+    public void record(ChangeEvent event) {
+        if (!enabled) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            changeEventJdbcRepository.append(List.of(event), LocalDateTime.now());
+            return;
+        }
+        pendingEvents().events.add(event);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    private PendingEvents pendingEvents() {
+        PendingEvents pending = (PendingEvents) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingEvents();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        return pending;
+    }
+
+    /**
+     * 트랜잭션별 이벤트 버퍼 (커밋 직전 일괄 기록)
+     */
+    private final class PendingEvents implements TransactionSynchronization {
+        private final List<ChangeEvent> events = new ArrayList<>();
+
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResource(ChangeEventRecorder.this);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(ChangeEventRecorder.this, this);
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            if (readOnly || events.isEmpty()) {
+                return;
+            }
+            changeEventJdbcRepository.append(events, LocalDateTime.now());
+            log.debug("변경 이벤트 기록: {}건", events.size());
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(ChangeEventRecorder.this);
+            events.clear();
+        }
+    }
+}
@@ -0,0 +1,318 @@
+package com.aas.shinhan.aas.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.aas.shinhan.aas.dto.ChangeEvent;
+import com.aas.shinhan.aas.repository.ChangeEventJdbcRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 변경 이벤트 SSE 구독 서비스 (/aas/events)
+ * 노드마다 폴러 스레드 하나가 AAS_CHANGE_EVENT를 커서 이후 번호 순으로 읽어 실시간 구독자의 대기열에 넣는다.
+ * 이벤트 번호는 커밋 순서대로 빈 번호 없이 증가하므로 ({@link ChangeEventJdbcRepository}) 커서 이후만 읽으면 누락이 없다.
+ * 전송은 구독자마다 가상 스레드 하나가 대기열을 비우며 하므로, 느린 클라이언트가 폴러나 다른 구독자를 막지 않는다.
+ * 대기열(subscriber-buffer)이 가득 찬 구독자는 구독을 끊고, 클라이언트는 Last-Event-ID로 재연결해 이어 받는다.
+ * Last-Event-ID로 재연결한 구독자는 같은 가상 스레드에서 밀린 이벤트를 먼저 보내고,
+ * 폴러 커서를 따라잡은 시점에 피드 잠금 안에서 실시간 구독으로 전환해 중복/누락 없이 이어진다.
+ * 구독자가 없으면 DB를 조회하지 않는다.
+ */
+@Slf4j
+@Service
+public class ChangeFeedService {
+
+    public static final String EVENT_NAME = "change";
+
+    private final ChangeEventJdbcRepository changeEventJdbcRepository;
+    private final ChangeEventRecorder changeEventRecorder;
+    private final boolean enabled;
+    private final Duration pollInterval;
+    private final Duration heartbeatInterval;
+    private final Duration emitterTimeout;
+    private final Duration retention;
+    private final int batchSize;
+    private final int subscriberBuffer;
+
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    // 커서 이동과 실시간 전환을 직렬화 (폴링 한 번 동안 유지, 안에서는 대기열에 넣기만 함)
+    private final ReentrantLock feedLock = new ReentrantLock();
+    private final ScheduledThreadPoolExecutor scheduler;
+    // 이 노드가 실시간 구독자 대기열에 넘긴 마지막 이벤트 번호
+    private volatile long cursor;
+
+    public ChangeFeedService(ChangeEventJdbcRepository changeEventJdbcRepository,
+            ChangeEventRecorder changeEventRecorder,
+            @Value("${aas.events.enabled:true}") boolean enabled,
+            @Value("${aas.events.poll-interval:1s}") Duration pollInterval,
+            @Value("${aas.events.heartbeat-interval:15s}") Duration heartbeatInterval,
+            @Value("${aas.events.emitter-timeout:30m}") Duration emitterTimeout,
+            @Value("${aas.events.retention:7d}") Duration retention,
+            @Value("${aas.events.batch-size:500}") int batchSize,
+            @Value("${aas.events.subscriber-buffer:1000}") int subscriberBuffer) {
+        this.changeEventJdbcRepository = changeEventJdbcRepository;
+        this.changeEventRecorder = changeEventRecorder;
+        this.enabled = enabled;
+        this.pollInterval = pollInterval;
+        this.heartbeatInterval = heartbeatInterval;
+        this.emitterTimeout = emitterTimeout;
+        this.retention = retention;
+        this.batchSize = Math.max(1, batchSize);
+        this.subscriberBuffer = Math.max(1, subscriberBuffer);
+        this.scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "aas-change-feed");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 기동 완료 후 폴링/보관 기간 정리 시작
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        // SSE 구독을 꺼도 캐시 무효화용으로 기록 중이면 보관 기간 정리는 수행
+        if (changeEventRecorder.isEnabled()) {
+            scheduler.scheduleWithFixedDelay(guarded("보관 기간 정리", this::purgeExpired), 1, 60, TimeUnit.MINUTES);
+        }
+        if (!enabled) {
+            return;
+        }
+        scheduler.scheduleWithFixedDelay(guarded("폴링", this::poll),
+                pollInterval.toMillis(), pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+        log.info("변경 이벤트 피드 시작: pollInterval={}, subscriberBuffer={}, retention={}", pollInterval,
+                subscriberBuffer, retention);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        for (Subscriber subscriber : subscribers) {
+            close(subscriber);
+            subscriber.emitter.complete();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * 구독 등록
+     * @param lastEventId 마지막으로 받은 이벤트 번호 (null이면 지금 이후 이벤트만)
+     * @param aasId 이 AAS 또는 이 AAS에 속한 Submodel 이벤트만 (null이면 전체)
+     * @param semanticId 이 semanticId의 Submodel 이벤트만 (null이면 전체, aasId와 함께 주면 둘 중 하나라도 일치)
+     */
+    public SseEmitter subscribe(Long lastEventId, String aasId, String semanticId) {
+        SseEmitter emitter = new SseEmitter(emitterTimeout.toMillis());
+        Subscriber subscriber = new Subscriber(emitter, aasId, semanticId, subscriberBuffer);
+        emitter.onCompletion(() -> close(subscriber));
+        emitter.onTimeout(() -> close(subscriber));
+        emitter.onError(error -> close(subscriber));
+
+        feedLock.lock();
+        try {
+            // 구독자가 없는 동안은 폴링하지 않으므로 커서를 현재 시점으로 당김
+            if (subscribers.isEmpty()) {
+                cursor = changeEventJdbcRepository.findLastEventId();
+            }
+            subscriber.position = lastEventId != null ? lastEventId : cursor;
+            subscriber.live = subscriber.position >= cursor;
+            subscribers.add(subscriber);
+        } finally {
+            feedLock.unlock();
+        }
+
+        subscriber.sender = Thread.ofVirtual().name("aas-change-feed-sender").start(() -> deliver(subscriber));
+        log.info("변경 이벤트 구독: lastEventId={}, aasId={}, semanticId={}, 구독자={}", lastEventId, aasId,
+                semanticId, subscribers.size());
+        return emitter;
+    }
+
+    /**
+     * 구독자 전송 스레드: 밀린 이벤트를 보낸 뒤 대기열을 비우며 전송 (유휴 시 하트비트)
+     */
+    private void deliver(Subscriber subscriber) {
+        try {
+            if (!subscriber.live) {
+                catchUp(subscriber);
+            }
+            while (!subscriber.closed) {
+                ChangeEvent event = subscriber.outbox.poll(heartbeatInterval.toMillis(), TimeUnit.MILLISECONDS);
+                if (event != null) {
+                    send(subscriber, event);
+                } else {
+                    // 프록시/로드밸런서 유휴 연결 종료 방지용 주석
+                    subscriber.emitter.send(SseEmitter.event().comment("keep-alive"));
+                }
+            }
+        } catch (InterruptedException e) {
+            // 구독 해제 (close에서 인터럽트)
+        } catch (IOException | RuntimeException e) {
+            log.debug("변경 이벤트 전송 실패, 구독 해제: {}", e.getMessage());
+        } finally {
+            close(subscriber);
+            subscriber.emitter.complete();
+        }
+    }
+
+    /**
+     * 밀린 이벤트 전송 후 실시간 전환 (폴러 커서까지 따라잡으면)
+     */
+    private void catchUp(Subscriber subscriber) throws IOException {
+        while (!subscriber.closed) {
+            long target = cursor;
+            while (subscriber.position < target) {
+                List<ChangeEvent> events = changeEventJdbcRepository.findRange(subscriber.position, target,
+                        subscriber.aasId, subscriber.semanticId, batchSize);
+                for (ChangeEvent event : events) {
+                    send(subscriber, event);
+                    subscriber.position = event.getEventId();
+                }
+                if (events.size() < batchSize) {
+                    subscriber.position = target;
+                }
+            }
+            feedLock.lock();
+            try {
+                if (subscriber.position >= cursor) {
+                    subscriber.live = true;
+                    return;
+                }
+            } finally {
+                feedLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 커서 이후 이벤트를 읽어 실시간 구독자 대기열에 추가 (한 번에 batch-size건씩 끝까지)
+     * 대기열이 가득 찬 구독자는 전송이 밀린 것으로 보고 구독을 끊는다.
+     */
+    void poll() {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        feedLock.lock();
+        try {
+            List<ChangeEvent> events;
+            do {
+                events = changeEventJdbcRepository.findRange(cursor, Long.MAX_VALUE, null, null, batchSize);
+                if (events.isEmpty()) {
+                    return;
+                }
+                long last = events.getLast().getEventId();
+                for (Subscriber subscriber : subscribers) {
+                    if (subscriber.live && !enqueue(subscriber, events)) {
+                        log.warn("변경 이벤트 구독자 전송 지연, 구독 해제: 대기 {}건 (aasId={}, semanticId={})",
+                                subscriber.outbox.size(), subscriber.aasId, subscriber.semanticId);
+                        close(subscriber);
+                    }
+                    subscriber.position = Math.max(subscriber.position, last);
+                }
+                cursor = last;
+            } while (events.size() == batchSize);
+        } finally {
+            feedLock.unlock();
+        }
+    }
+
+    private static boolean enqueue(Subscriber subscriber, List<ChangeEvent> events) {
+        for (ChangeEvent event : events) {
+            // 실시간 전환 전후로 같은 번호를 두 번 넣지 않음
+            if (event.getEventId() > subscriber.position && subscriber.matches(event)
+                    && !subscriber.outbox.offer(event)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void send(Subscriber subscriber, ChangeEvent event) throws IOException {
+        subscriber.emitter.send(SseEmitter.event()
+                .id(String.valueOf(event.getEventId()))
+                .name(EVENT_NAME)
+                .data(event, MediaType.APPLICATION_JSON));
+    }
+
+    private void purgeExpired() {
+        int deleted = changeEventJdbcRepository.deleteCreatedBefore(LocalDateTime.now().minus(retention));
+        if (deleted > 0) {
+            log.info("보관 기간이 지난 변경 이벤트 삭제: {}건", deleted);
+        }
+    }
+
+    /**
+     * 구독 해제 (전송 스레드가 대기 중이면 깨워 연결을 닫게 함)
+     */
+    private void close(Subscriber subscriber) {
+        subscribers.remove(subscriber);
+        subscriber.closed = true;
+        Thread sender = subscriber.sender;
+        if (sender != null && sender != Thread.currentThread()) {
+            sender.interrupt();
+        }
+    }
+
+    private Runnable guarded(String name, Runnable task) {
+        // 예외가 나도 다음 주기에 계속 실행되도록 (scheduleWithFixedDelay는 예외 시 중단)
+        return () -> {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                log.warn("변경 이벤트 피드 {} 실패: {}", name, e.getMessage());
+            }
+        };
+    }
+
+    /**
+     * 구독자 한 명 (SSE 연결 하나)
+     */
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final String aasId;
+        private final String semanticId;
+        private final BlockingQueue<ChangeEvent> outbox;
+        private volatile Thread sender;
+        // 이 구독자에게 보냈거나 대기열에 넣은 마지막 이벤트 번호
+        private volatile long position;
+        private volatile boolean live;
+        private volatile boolean closed;
+
+        private Subscriber(SseEmitter emitter, String aasId, String semanticId, int buffer) {
+            this.emitter = emitter;
+            this.aasId = aasId;
+            this.semanticId = semanticId;
+            this.outbox = new ArrayBlockingQueue<>(buffer);
+        }
+
+        private boolean matches(ChangeEvent event) {
+            if (aasId == null && semanticId == null) {
+                return true;
+            }
+            return aasId != null && Objects.equals(aasId, event.getAasId())
+                    || semanticId != null && Objects.equals(semanticId, event.getSemanticId());
+        }
+    }
+}
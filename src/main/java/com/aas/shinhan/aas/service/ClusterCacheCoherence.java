@@ -0,0 +1,141 @@
+package com.aas.shinhan.aas.service;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.aas.shinhan.aas.dto.ChangeEvent;
+import com.aas.shinhan.aas.dto.PreparedIdentifiable.Kind;
+import com.aas.shinhan.aas.repository.ChangeEventJdbcRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 노드 간 활성 엔티티 캐시 정합성 (외부 브로커 없이 DB로)
+ * 모든 노드는 저장/활성화 트랜잭션에서 AAS_CHANGE_EVENT에 변경을 남기고 ({@link ChangeEventRecorder}),
+ * 각 노드는 자기 커서 이후 이벤트를 staleness/2 주기로 읽어 해당 AAS/Submodel을 {@link ActiveEntityCache}에서 무효화한다.
+ * 이벤트 번호는 커밋 순서대로 빈 번호 없이 증가하므로 커서는 단조 증가하고 누락이 없다.
+ * 폴링이 실패하거나 늦어져 마지막 폴링 시작 시각이 staleness보다 오래되면 캐시는 DB 조회로 우회하므로,
+ * 다른 노드의 커밋이 이 노드에서 보이기까지의 지연은 staleness를 넘지 않는다.
+ * 커서 바로 다음 번호가 보관 기간 정리로 사라졌으면 (오래 멈춘 노드) 캐시 전체를 무효화한다.
+ */
+@Slf4j
+@Service
+public class ClusterCacheCoherence {
+
+    private final ChangeEventJdbcRepository changeEventJdbcRepository;
+    private final ActiveEntityCache activeEntityCache;
+    private final boolean enabled;
+    private final Duration staleness;
+    private final int batchSize;
+    private final ScheduledThreadPoolExecutor scheduler;
+
+    // 무효화를 마친 마지막 이벤트 번호 (-1이면 아직 시작 전)
+    private volatile long cursor = -1;
+
+    public ClusterCacheCoherence(ChangeEventJdbcRepository changeEventJdbcRepository,
+            ActiveEntityCache activeEntityCache,
+            @Value("${aas.cache.cluster.enabled:false}") boolean enabled,
+            @Value("${aas.cache.cluster.staleness:2s}") Duration staleness,
+            @Value("${aas.cache.cluster.batch-size:1000}") int batchSize) {
+        this.changeEventJdbcRepository = changeEventJdbcRepository;
+        this.activeEntityCache = activeEntityCache;
+        this.enabled = enabled;
+        this.staleness = staleness;
+        this.batchSize = Math.max(1, batchSize);
+        this.scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "aas-cache-coherence");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (enabled) {
+            activeEntityCache.enableClusterCoherence(staleness);
+        }
+    }
+
+    /**
+     * 기동 완료 후 폴링 시작 (첫 폴링 전까지 캐시는 DB 조회로 우회)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        long interval = Math.max(1, staleness.toMillis() / 2);
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                poll();
+            } catch (RuntimeException e) {
+                log.warn("캐시 무효화 이벤트 폴링 실패: {}", e.getMessage());
+            }
+        }, 0, interval, TimeUnit.MILLISECONDS);
+        log.info("클러스터 캐시 정합성 시작: staleness={}, pollInterval={}ms", staleness, interval);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public long getCursor() {
+        return cursor;
+    }
+
+    /**
+     * 커서 이후 이벤트를 끝까지 읽어 무효화하고, 폴링 시작 시각까지 정합함을 기록
+     */
+    void poll() {
+        long pollStart = System.nanoTime();
+        if (cursor < 0) {
+            // 캐시가 비어 있는 기동 시점부터 추적
+            cursor = changeEventJdbcRepository.findLastEventId();
+            activeEntityCache.invalidateAll();
+        }
+        List<ChangeEvent> events;
+        do {
+            events = changeEventJdbcRepository.findRange(cursor, Long.MAX_VALUE, null, null, batchSize);
+            if (events.isEmpty()) {
+                break;
+            }
+            if (events.getFirst().getEventId() > cursor + 1) {
+                log.warn("캐시 무효화 이벤트 유실 (보관 기간 경과): {} ~ {}", cursor + 1, events.getFirst().getEventId() - 1);
+                activeEntityCache.invalidateAll();
+            }
+            invalidate(events);
+            cursor = events.getLast().getEventId();
+        } while (events.size() == batchSize);
+
+        activeEntityCache.markCoherent(pollStart);
+        if (System.nanoTime() - pollStart > staleness.toNanos()) {
+            log.warn("캐시 무효화 폴링이 정합성 한도({})보다 오래 걸림, 다음 폴링까지 캐시 우회", staleness);
+        }
+    }
+
+    private void invalidate(List<ChangeEvent> events) {
+        Set<String> aasIds = new LinkedHashSet<>();
+        Set<String> submodelIds = new LinkedHashSet<>();
+        for (ChangeEvent event : events) {
+            if (event.getEntityType() == Kind.AAS) {
+                aasIds.add(event.getEntityId());
+            } else if (event.getEntityType() == Kind.SUBMODEL) {
+                submodelIds.add(event.getEntityId());
+            }
+        }
+        activeEntityCache.evictAas(aasIds);
+        activeEntityCache.evictSubmodels(submodelIds);
+        log.debug("다른 노드 변경 반영: AAS {}건, Submodel {}건", aasIds.size(), submodelIds.size());
+    }
+}
@@ -0,0 +1,80 @@
+package com.aas.shinhan.aas.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 정규화(canonical) JSON 기반 콘텐츠 해시
+ * 객체 키를 사전순으로 정렬하고 공백 없이 직렬화한 결과의 SHA-256 (hex 64자리)
+ * 키 순서나 들여쓰기만 다른 동일 콘텐츠는 같은 해시가 된다.
+ */
+public final class ContentDigest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private ContentDigest() {
+    }
+
+    public static String sha256(String json) {
+        if (json == null) {
+            return null;
+        }
+
+        MessageDigest digest = newDigest();
+        try {
+            JsonNode root = MAPPER.readTree(json);
+            try (JsonGenerator generator = MAPPER.getFactory()
+                    .createGenerator(new DigestOutputStream(OutputStream.nullOutputStream(), digest))) {
+                writeCanonical(root, generator);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to compute content digest", e);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static void writeCanonical(JsonNode node, JsonGenerator generator) throws IOException {
+        if (node.isObject()) {
+            List<String> names = new ArrayList<>();
+            Iterator<String> iterator = node.fieldNames();
+            iterator.forEachRemaining(names::add);
+            Collections.sort(names);
+
+            generator.writeStartObject();
+            for (String name : names) {
+                generator.writeFieldName(name);
+                writeCanonical(node.get(name), generator);
+            }
+            generator.writeEndObject();
+        } else if (node.isArray()) {
+            generator.writeStartArray();
+            for (JsonNode child : node) {
+                writeCanonical(child, generator);
+            }
+            generator.writeEndArray();
+        } else {
+            generator.writeTree(node);
+        }
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
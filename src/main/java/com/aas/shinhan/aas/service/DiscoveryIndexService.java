@@ -0,0 +1,304 @@
+package com.aas.shinhan.aas.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.aas.shinhan.aas.dto.DiscoveryIndexStats;
+import com.aas.shinhan.aas.dto.DiscoveryResult;
+import com.aas.shinhan.aas.dto.DiscoveryRow;
+import com.aas.shinhan.aas.entity.AasEntity;
+import com.aas.shinhan.aas.entity.SubmodelEntity;
+import com.aas.shinhan.aas.repository.AasRepository;
+import com.aas.shinhan.aas.repository.SubmodelRepository;
+import com.aas.shinhan.core.index.InvertedIndex;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 활성 AAS / Submodel 탐색 색인 (globalAssetId, assetKind, semanticId -> ID)
+ * 기동 후 활성 행의 검색어 컬럼만 읽어 메모리 역색인을 만들고, 저장/활성화 트랜잭션 커밋 직후 해당 ID를 갱신한다.
+ * 조회는 잠금 없이 정렬된 SEQ 목록의 교집합/합집합으로 처리하며,
+ * 색인 적재 전(재구성 중 포함)이나 비활성화 시에는 DB 조회로 응답한다 (DB가 기준 데이터).
+ */
+@Slf4j
+@Service
+public class DiscoveryIndexService {
+
+    public static final String GLOBAL_ASSET_ID = "globalAssetId";
+    public static final String ASSET_KIND = "assetKind";
+    public static final String SEMANTIC_ID = "semanticId";
+
+    // 적재 시 한 번에 색인에 반영할 행 수
+    private static final int LOAD_BATCH_SIZE = 1000;
+
+    private final AasRepository aasRepository;
+    private final SubmodelRepository submodelRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final boolean enabled;
+
+    private final InvertedIndex shellIndex = new InvertedIndex();
+    private final InvertedIndex submodelIndex = new InvertedIndex();
+    // 적재 중 커밋으로 갱신된 ID (적재 스냅샷의 이전 값으로 덮어쓰지 않도록)
+    private final Set<String> touchedShells = ConcurrentHashMap.newKeySet();
+    private final Set<String> touchedSubmodels = ConcurrentHashMap.newKeySet();
+    private volatile boolean ready;
+    private volatile boolean loading;
+    private volatile long lastBuildMillis;
+
+    public DiscoveryIndexService(AasRepository aasRepository, SubmodelRepository submodelRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${aas.discovery.index-enabled:true}") boolean enabled) {
+        this.aasRepository = aasRepository;
+        this.submodelRepository = submodelRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.enabled = enabled;
+    }
+
+    /**
+     * 기동 완료 후 백그라운드에서 색인 적재 (적재 중 조회는 DB로 응답)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        if (enabled) {
+            Thread.ofVirtual().name("discovery-index-load").start(this::rebuild);
+        }
+    }
+
+    // ======================= 적재 =======================
+
+    /**
+     * 활성 행 전체로 색인 재구성
+     */
+    public synchronized DiscoveryIndexStats rebuild() {
+        if (!enabled) {
+            return stats();
+        }
+        long start = System.currentTimeMillis();
+        ready = false;
+        loading = true;
+        touchedShells.clear();
+        touchedSubmodels.clear();
+        shellIndex.clear();
+        submodelIndex.clear();
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                load(shellIndex, touchedShells, aasRepository.streamActiveDiscoveryRows(),
+                        row -> shellTerms(row.getGlobalAssetId(), row.getAssetKind()));
+                load(submodelIndex, touchedSubmodels, submodelRepository.streamActiveDiscoveryRows(),
+                        row -> submodelTerms(row.getSemanticId()));
+            });
+            ready = true;
+        } catch (RuntimeException e) {
+            log.error("탐색 색인 적재 실패, DB 조회로 응답: {}", e.getMessage(), e);
+        } finally {
+            loading = false;
+        }
+        lastBuildMillis = System.currentTimeMillis() - start;
+        log.info("탐색 색인 적재 완료: AAS {}건, Submodel {}건, {}ms", shellIndex.documentCount(),
+                submodelIndex.documentCount(), lastBuildMillis);
+        return stats();
+    }
+
+    private void load(InvertedIndex index, Set<String> touched, Stream<DiscoveryRow> query,
+            Function<DiscoveryRow, List<String>> termsOf) {
+        try (Stream<DiscoveryRow> rows = query) {
+            List<InvertedIndex.Entry> batch = new ArrayList<>(LOAD_BATCH_SIZE);
+            rows.forEach(row -> {
+                batch.add(new InvertedIndex.Entry(row.getEntityId(), row.getSeq(), termsOf.apply(row)));
+                if (batch.size() >= LOAD_BATCH_SIZE) {
+                    loadBatch(index, touched, batch);
+                    batch.clear();
+                }
+            });
+            loadBatch(index, touched, batch);
+        }
+    }
+
+    private static void loadBatch(InvertedIndex index, Set<String> touched, List<InvertedIndex.Entry> batch) {
+        // 커밋 반영(update)과 같은 잠금 안에서 확인해야 확인 직후 반영된 최신 값을 덮어쓰지 않는다
+        synchronized (index) {
+            index.putAll(batch.stream().filter(entry -> !touched.contains(entry.id())).toList());
+        }
+    }
+
+    // ======================= 갱신 =======================
+
+    /**
+     * 현재 트랜잭션 커밋 직후 활성 AAS 색인 갱신 (트랜잭션 밖이면 즉시)
+     */
+    public void indexShellsAfterCommit(Collection<AasEntity> activated) {
+        List<InvertedIndex.Entry> entries = activated.stream()
+                .map(aas -> new InvertedIndex.Entry(aas.getAasId(), aas.getSeq(),
+                        shellTerms(aas.getGlobalAssetId(), aas.getAssetKind())))
+                .toList();
+        afterCommit(shellIndex, touchedShells, entries);
+    }
+
+    public void indexSubmodelsAfterCommit(Collection<SubmodelEntity> activated) {
+        List<InvertedIndex.Entry> entries = activated.stream()
+                .map(submodel -> new InvertedIndex.Entry(submodel.getSubmodelId(), submodel.getSeq(),
+                        submodelTerms(submodel.getSemanticId())))
+                .toList();
+        afterCommit(submodelIndex, touchedSubmodels, entries);
+    }
+
+    private void afterCommit(InvertedIndex index, Set<String> touched, List<InvertedIndex.Entry> entries) {
+        if (!enabled || entries.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            update(index, touched, entries);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                update(index, touched, entries);
+            }
+        });
+    }
+
+    private void update(InvertedIndex index, Set<String> touched, List<InvertedIndex.Entry> entries) {
+        synchronized (index) {
+            if (loading) {
+                entries.forEach(entry -> touched.add(entry.id()));
+            }
+            index.putAll(entries);
+        }
+    }
+
+    // ======================= 조회 =======================
+
+    /**
+     * AAS 탐색
+     * @param matchAll true면 필드 사이 AND (같은 필드 값끼리는 OR), false면 모든 값 OR
+     */
+    public DiscoveryResult findShells(List<String> globalAssetIds, List<String> assetKinds, boolean matchAll) {
+        long start = System.nanoTime();
+        List<List<String>> fields = new ArrayList<>();
+        addField(fields, GLOBAL_ASSET_ID, globalAssetIds);
+        addField(fields, ASSET_KIND, assetKinds);
+
+        if (ready) {
+            return indexResult(shellIndex, fields, matchAll, start);
+        }
+        List<List<String>> matches = new ArrayList<>();
+        if (!isEmpty(globalAssetIds)) {
+            matches.add(aasRepository.findActiveAasIdsByGlobalAssetIdIn(globalAssetIds));
+        }
+        if (!isEmpty(assetKinds)) {
+            matches.add(aasRepository.findActiveAasIdsByAssetKindIn(assetKinds));
+        }
+        return databaseResult(matches, matchAll, start);
+    }
+
+    /**
+     * Submodel 탐색 (semanticId 값끼리 OR)
+     */
+    public DiscoveryResult findSubmodels(List<String> semanticIds) {
+        long start = System.nanoTime();
+        List<List<String>> fields = new ArrayList<>();
+        addField(fields, SEMANTIC_ID, semanticIds);
+
+        if (ready) {
+            return indexResult(submodelIndex, fields, false, start);
+        }
+        List<List<String>> matches = new ArrayList<>();
+        if (!isEmpty(semanticIds)) {
+            matches.add(submodelRepository.findActiveSubmodelIdsBySemanticIdIn(semanticIds));
+        }
+        return databaseResult(matches, false, start);
+    }
+
+    public DiscoveryIndexStats stats() {
+        return DiscoveryIndexStats.builder()
+                .ready(ready)
+                .shells(shellIndex.documentCount())
+                .shellTerms(shellIndex.termCount())
+                .submodels(submodelIndex.documentCount())
+                .submodelTerms(submodelIndex.termCount())
+                .lastBuildMillis(lastBuildMillis)
+                .build();
+    }
+
+    private static DiscoveryResult indexResult(InvertedIndex index, List<List<String>> fields, boolean matchAll,
+            long start) {
+        List<long[]> perField = new ArrayList<>();
+        for (List<String> terms : fields) {
+            List<long[]> postings = new ArrayList<>();
+            for (String term : terms) {
+                postings.add(index.postings(term));
+            }
+            perField.add(InvertedIndex.or(postings));
+        }
+        long[] seqs = matchAll ? InvertedIndex.and(perField) : InvertedIndex.or(perField);
+        return DiscoveryResult.builder()
+                .ids(index.resolve(seqs))
+                .source(DiscoveryResult.Source.INDEX)
+                .elapsedMicros((System.nanoTime() - start) / 1000)
+                .build();
+    }
+
+    private static DiscoveryResult databaseResult(List<List<String>> matches, boolean matchAll, long start) {
+        Set<String> ids = new LinkedHashSet<>();
+        for (int i = 0; i < matches.size(); i++) {
+            if (i == 0 || !matchAll) {
+                ids.addAll(matches.get(i));
+            } else {
+                ids.retainAll(Set.copyOf(matches.get(i)));
+            }
+        }
+        return DiscoveryResult.builder()
+                .ids(new ArrayList<>(ids))
+                .source(DiscoveryResult.Source.DATABASE)
+                .elapsedMicros((System.nanoTime() - start) / 1000)
+                .build();
+    }
+
+    // ======================= 검색어 =======================
+
+    private static void addField(List<List<String>> fields, String field, List<String> values) {
+        if (!isEmpty(values)) {
+            fields.add(values.stream().map(value -> term(field, value)).toList());
+        }
+    }
+
+    private static List<String> shellTerms(String globalAssetId, String assetKind) {
+        List<String> terms = new ArrayList<>(2);
+        if (globalAssetId != null) {
+            terms.add(term(GLOBAL_ASSET_ID, globalAssetId));
+        }
+        if (assetKind != null) {
+            terms.add(term(ASSET_KIND, assetKind));
+        }
+        return terms;
+    }
+
+    private static List<String> submodelTerms(String semanticId) {
+        return semanticId != null ? List.of(term(SEMANTIC_ID, semanticId)) : List.of();
+    }
+
+    private static String term(String field, String value) {
+        return field + '=' + value;
+    }
+
+    private static boolean isEmpty(List<String> values) {
+        return values == null || values.isEmpty();
+    }
+}
@@ -0,0 +1,205 @@
+package com.aas.shinhan.aas.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.DeserializationException;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.json.JsonDeserializer;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.aas.shinhan.aas.dto.ActiveSubmodelPayload;
+import com.aas.shinhan.aas.dto.ElementIndexEntry;
+import com.aas.shinhan.aas.dto.ElementIndexRebuildResult;
+import com.aas.shinhan.aas.dto.ElementSearchHit;
+import com.aas.shinhan.aas.dto.SubmodelSaveRequest;
+import com.aas.shinhan.aas.repository.ElementIndexJdbcRepository;
+import com.aas.shinhan.aas.repository.SubmodelRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 활성 Submodel 요소 색인 서비스
+ * 활성 버전이 바뀌는 트랜잭션(저장/활성화/업로드) 안에서 해당 Submodel의 색인을 교체하므로
+ * 색인에는 항상 활성 버전의 요소만 남는다. 검색은 문서를 읽지 않고 색인 테이블만 조회한다.
+ */
+@Slf4j
+@Service
+public class ElementIndexService {
+
+    private final ElementIndexJdbcRepository elementIndexJdbcRepository;
+    private final SubmodelRepository submodelRepository;
+    private final TransactionTemplate batchTransaction;
+    private final JsonDeserializer jsonDeserializer = new JsonDeserializer();
+    private final boolean enabled;
+    private final int defaultLimit;
+    private final int maxLimit;
+    private final int rebuildBatchSize;
+
+    public ElementIndexService(ElementIndexJdbcRepository elementIndexJdbcRepository,
+            SubmodelRepository submodelRepository, PlatformTransactionManager transactionManager,
+            @Value("${aas.element-index.enabled:true}") boolean enabled,
+            @Value("${aas.element-index.default-limit:100}") int defaultLimit,
+            @Value("${aas.element-index.max-limit:1000}") int maxLimit,
+            @Value("${aas.element-index.rebuild-batch-size:200}") int rebuildBatchSize) {
+        this.elementIndexJdbcRepository = elementIndexJdbcRepository;
+        this.submodelRepository = submodelRepository;
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.maxLimit = Math.max(1, maxLimit);
+        this.defaultLimit = Math.min(Math.max(1, defaultLimit), this.maxLimit);
+        this.rebuildBatchSize = Math.max(1, rebuildBatchSize);
+    }
+
+    // ======================= 색인 유지 =======================
+
+    /**
+     * 요소 평탄화 (업로드 변환 단계에서 병렬 호출, 색인 비활성화 시 null)
+     */
+    public List<ElementIndexEntry> flatten(Submodel submodel) {
+        return enabled ? SubmodelElementFlattener.flatten(submodel) : null;
+    }
+
+    /**
+     * 새로 활성화된 Submodel들의 색인 교체 (호출자 트랜잭션에서 실행)
+     * @param activeSeqs Submodel ID별 활성 SEQ
+     * @param sources Submodel ID별 저장 요청 (변환 단계에서 평탄화한 결과가 없으면 JSON에서 다시 만든다)
+     */
+    public void replace(Map<String, Long> activeSeqs, Map<String, SubmodelSaveRequest> sources) {
+        if (!enabled || activeSeqs.isEmpty()) {
+            return;
+        }
+        List<ElementIndexJdbcRepository.Row> rows = new ArrayList<>();
+        for (Map.Entry<String, Long> active : activeSeqs.entrySet()) {
+            SubmodelSaveRequest source = sources.get(active.getKey());
+            List<ElementIndexEntry> entries = source.getElementIndex() != null
+                    ? source.getElementIndex() : flatten(active.getKey(), source.getSubmodelJson());
+            addRows(rows, active.getValue(), active.getKey(), entries);
+        }
+        write(activeSeqs.keySet(), rows);
+    }
+
+    /**
+     * 활성 버전 하나의 색인 교체 (버전 활성화 등 JSON만 있는 경우)
+     */
+    public void replace(String submodelId, long seq, String json) {
+        if (!enabled) {
+            return;
+        }
+        List<ElementIndexJdbcRepository.Row> rows = new ArrayList<>();
+        addRows(rows, seq, submodelId, flatten(submodelId, json));
+        write(List.of(submodelId), rows);
+    }
+
+    private void write(Collection<String> submodelIds, List<ElementIndexJdbcRepository.Row> rows) {
+        long start = System.currentTimeMillis();
+        int deleted = elementIndexJdbcRepository.deleteBySubmodelIds(submodelIds);
+        elementIndexJdbcRepository.insert(rows);
+        log.debug("요소 색인 교체: Submodel {}건, 삭제 {}건, 추가 {}건, {}ms", submodelIds.size(), deleted, rows.size(),
+                System.currentTimeMillis() - start);
+    }
+
+    private static void addRows(List<ElementIndexJdbcRepository.Row> rows, long seq, String submodelId,
+            List<ElementIndexEntry> entries) {
+        for (ElementIndexEntry entry : entries) {
+            rows.add(new ElementIndexJdbcRepository.Row(seq, submodelId, entry));
+        }
+    }
+
+    /**
+     * JSON에서 요소 평탄화 (색인 비활성화 시 null)
+     */
+    public List<ElementIndexEntry> flatten(String submodelId, String json) {
+        if (!enabled) {
+            return null;
+        }
+        if (json == null) {
+            return List.of();
+        }
+        try {
+            return SubmodelElementFlattener.flatten(jsonDeserializer.read(json, Submodel.class));
+        } catch (DeserializationException e) {
+            // 색인 실패로 저장을 막지 않음 (재구성으로 복구)
+            log.warn("Submodel [{}] 요소 색인 생성 실패: {}", submodelId, e.getMessage());
+            return List.of();
+        }
+    }
+
+    // ======================= 검색 =======================
+
+    /**
+     * 요소 검색
+     * @param path idShort 경로 (끝이 '*'이면 접두어 검색)
+     * @param value 문자열 값 (색인과 같은 방식으로 정규화해 완전 일치 비교)
+     * @param min 숫자 값 하한 (포함)
+     * @param max 숫자 값 상한 (포함)
+     * @throws IllegalArgumentException 경로와 semanticId가 모두 없는 경우 (색인을 탈 수 없는 전체 스캔 방지)
+     */
+    @Transactional(readOnly = true)
+    public List<ElementSearchHit> search(String path, String semanticId, String value, Double min, Double max,
+            Integer limit) {
+        boolean pathPrefix = path != null && path.endsWith("*");
+        String pathCondition = pathPrefix ? path.substring(0, path.length() - 1) : path;
+        if (isBlank(pathCondition) && isBlank(semanticId)) {
+            throw new IllegalArgumentException("path or semanticId is required");
+        }
+        int size = limit != null ? Math.min(Math.max(1, limit), maxLimit) : defaultLimit;
+        return elementIndexJdbcRepository.search(isBlank(pathCondition) ? null : pathCondition, pathPrefix,
+                isBlank(semanticId) ? null : semanticId, SubmodelElementFlattener.normalize(value), min, max, size);
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    // ======================= 재구성 =======================
+
+    /**
+     * 활성 Submodel 전체 색인 재구성 (기존 데이터 이관, 색인을 껐다 켠 경우용, 배치 단위 트랜잭션)
+     */
+    public ElementIndexRebuildResult rebuild() {
+        long start = System.currentTimeMillis();
+        long submodels = 0;
+        long elements = 0;
+        long lastSeq = 0;
+        int[] elementCount = new int[1];
+        while (enabled) {
+            long afterSeq = lastSeq;
+            List<ActiveSubmodelPayload> batch = batchTransaction.execute(status -> {
+                List<ActiveSubmodelPayload> rows = submodelRepository.findActivePayloadsAfter(afterSeq,
+                        PageRequest.of(0, rebuildBatchSize));
+                List<String> submodelIds = new ArrayList<>();
+                List<ElementIndexJdbcRepository.Row> indexRows = new ArrayList<>();
+                for (ActiveSubmodelPayload row : rows) {
+                    submodelIds.add(row.getSubmodelId());
+                    addRows(indexRows, row.getSeq(), row.getSubmodelId(), flatten(row.getSubmodelId(), row.getJson()));
+                }
+                write(submodelIds, indexRows);
+                elementCount[0] = indexRows.size();
+                return rows;
+            });
+            if (batch == null || batch.isEmpty()) {
+                break;
+            }
+            submodels += batch.size();
+            elements += elementCount[0];
+            lastSeq = batch.get(batch.size() - 1).getSeq();
+            log.debug("요소 색인 재구성 진행: Submodel {}건", submodels);
+        }
+
+        ElementIndexRebuildResult result = ElementIndexRebuildResult.builder()
+                .submodels(submodels)
+                .elements(elements)
+                .elapsedMillis(System.currentTimeMillis() - start)
+                .build();
+        log.info("요소 색인 재구성 완료: Submodel {}건, 요소 {}건, {}ms", submodels, elements, result.getElapsedMillis());
+        return result;
+    }
+}
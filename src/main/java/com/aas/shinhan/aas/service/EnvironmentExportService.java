@@ -0,0 +1,164 @@
+package com.aas.shinhan.aas.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.function.IntConsumer;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.aas.shinhan.aas.repository.PayloadStreamJdbcRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 활성 Environment 전체 내보내기 서비스 (AASX 패키지 또는 Environment JSON)
+ * 저장된 JSON 문서를 aas4j 모델로 역직렬화하지 않고 디코딩한 바이트를 그대로 이어 붙여
+ * Environment JSON을 만들며, DB 커서에서 한 행씩 읽어 응답 스트림에 바로 쓰므로 카탈로그 크기와 무관하게 힙 사용량이 일정하다.
+ * 전체가 하나의 읽기 전용 트랜잭션이므로 내보내는 도중 저장된 변경은 포함되지 않는다 (DB 격리 수준 기준).
+ * 첨부 저장소로 옮긴 Blob 값/보조 파일은 문서 안의 해시 참조(urn:shinhan:aas:blob-ref)로만 내보낸다.
+ */
+@Slf4j
+@Service
+public class EnvironmentExportService {
+
+    public static final String AASX_CONTENT_TYPE = "application/asset-administration-shell-package";
+
+    // 스트리밍 중 소켓으로 내보내는 주기 (문서 수)
+    private static final int FLUSH_INTERVAL = 200;
+
+    private static final String ENVIRONMENT_PART = "aasx/environment.json";
+
+    private static final String CONTENT_TYPES = """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <Types xmlns="http://schemas.openxmlformats.org/package/2006/content-types">
+            <Default Extension="rels" ContentType="application/vnd.openxmlformats-package.relationships+xml"/>
+            <Default Extension="json" ContentType="application/json"/>
+            <Override PartName="/aasx/aasx-origin" ContentType="text/plain"/>
+            </Types>
+            """;
+
+    private static final String ROOT_RELS = """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <Relationships xmlns="http://schemas.openxmlformats.org/package/2006/relationships">
+            <Relationship Type="http://admin-shell.io/aasx/relationships/aasx-origin" \
+            Target="/aasx/aasx-origin" Id="r-origin"/>
+            </Relationships>
+            """;
+
+    private static final String ORIGIN_RELS = """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <Relationships xmlns="http://schemas.openxmlformats.org/package/2006/relationships">
+            <Relationship Type="http://admin-shell.io/aasx/relationships/aas-spec" \
+            Target="/aasx/environment.json" Id="r-spec"/>
+            </Relationships>
+            """;
+
+    private final PayloadStreamJdbcRepository payloadStreamJdbcRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public EnvironmentExportService(PayloadStreamJdbcRepository payloadStreamJdbcRepository,
+            PlatformTransactionManager transactionManager) {
+        this.payloadStreamJdbcRepository = payloadStreamJdbcRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Environment JSON 출력 (StreamingResponseBody에서 호출)
+     * @param aasIds null이면 전체, 아니면 해당 AAS와 연결된 Submodel만
+     * @param includeConceptDescriptions ConceptDescription 포함 여부 (AAS와 연결 정보가 없어 전체 활성 항목)
+     */
+    public void writeJson(Collection<String> aasIds, boolean includeConceptDescriptions, OutputStream out) {
+        long start = System.currentTimeMillis();
+        int[] counts = readOnlyTransaction.execute(
+                status -> writeEnvironment(aasIds, includeConceptDescriptions, out));
+        log.info("Environment JSON 내보내기 완료: AAS={}, Submodel={}, ConceptDescription={}, {}ms",
+                counts[0], counts[1], counts[2], System.currentTimeMillis() - start);
+    }
+
+    /**
+     * AASX 패키지 출력 (StreamingResponseBody에서 호출)
+     * OPC 관계 파일과 aas-spec 파트(aasx/environment.json) 하나로 구성한다.
+     */
+    public void writeAasx(Collection<String> aasIds, boolean includeConceptDescriptions, OutputStream out) {
+        long start = System.currentTimeMillis();
+        try {
+            // 응답 스트림은 서블릿 컨테이너가 닫는다 (close 대신 finish)
+            ZipOutputStream zip = new ZipOutputStream(out);
+            putEntry(zip, "[Content_Types].xml", CONTENT_TYPES);
+            putEntry(zip, "_rels/.rels", ROOT_RELS);
+            putEntry(zip, "aasx/aasx-origin", "Intentionally empty.");
+            putEntry(zip, "aasx/_rels/aasx-origin.rels", ORIGIN_RELS);
+
+            zip.putNextEntry(new ZipEntry(ENVIRONMENT_PART));
+            int[] counts = readOnlyTransaction.execute(
+                    status -> writeEnvironment(aasIds, includeConceptDescriptions, zip));
+            zip.closeEntry();
+            zip.finish();
+            out.flush();
+            log.info("AASX 내보내기 완료: AAS={}, Submodel={}, ConceptDescription={}, {}ms",
+                    counts[0], counts[1], counts[2], System.currentTimeMillis() - start);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void putEntry(ZipOutputStream zip, String name, String content) throws IOException {
+        zip.putNextEntry(new ZipEntry(name));
+        zip.write(content.getBytes(StandardCharsets.UTF_8));
+        zip.closeEntry();
+    }
+
+    /**
+     * {"assetAdministrationShells":[...],"submodels":[...],"conceptDescriptions":[...]} 출력
+     * @return [AAS 수, Submodel 수, ConceptDescription 수]
+     */
+    private int[] writeEnvironment(Collection<String> aasIds, boolean includeConceptDescriptions,
+            OutputStream out) {
+        try {
+            int[] counts = new int[3];
+            write(out, "{\"assetAdministrationShells\":[");
+            counts[0] = payloadStreamJdbcRepository.writeActiveAasPayloads(aasIds, out, separator(out));
+            write(out, "],\"submodels\":[");
+            counts[1] = payloadStreamJdbcRepository.writeActiveSubmodelPayloads(aasIds, out, separator(out));
+            write(out, "],\"conceptDescriptions\":[");
+            if (includeConceptDescriptions) {
+                counts[2] = payloadStreamJdbcRepository.writeActiveConceptDescriptionPayloads(out, separator(out));
+            }
+            write(out, "]}");
+            out.flush();
+            return counts;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 배열 요소 사이 구분자 출력 및 주기적 flush
+     */
+    private static IntConsumer separator(OutputStream out) {
+        return index -> {
+            try {
+                if (index > 0) {
+                    out.write(',');
+                    if (index % FLUSH_INTERVAL == 0) {
+                        out.flush();
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+    }
+
+    private static void write(OutputStream out, String text) throws IOException {
+        out.write(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
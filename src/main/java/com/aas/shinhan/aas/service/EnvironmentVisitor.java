@@ -0,0 +1,18 @@
+package com.aas.shinhan.aas.service;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell;
+import org.eclipse.digitaltwin.aas4j.v3.model.ConceptDescription;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+
+/**
+ * Environment 구성 요소를 하나씩 전달받는 콜백
+ * 스트리밍 파서는 전체 Environment를 만들지 않고 요소 단위로 이 인터페이스를 호출한다.
+ */
+public interface EnvironmentVisitor {
+
+    void visitAssetAdministrationShell(AssetAdministrationShell aas);
+
+    void visitSubmodel(Submodel submodel);
+
+    void visitConceptDescription(ConceptDescription conceptDescription);
+}
@@ -0,0 +1,146 @@
+package com.aas.shinhan.aas.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.aas.shinhan.aas.dto.AasSummary;
+import com.aas.shinhan.aas.dto.ListingCursor;
+import com.aas.shinhan.aas.dto.ListingPage;
+import com.aas.shinhan.aas.dto.SubmodelSummary;
+import com.aas.shinhan.aas.repository.AasRepository;
+import com.aas.shinhan.aas.repository.SubmodelRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 활성 AAS / Submodel 목록 조회 서비스
+ * 페이지 조회는 활성 버전 포인터의 (CREATED_AT, SEQ) 키셋 커서를 사용하므로 뒤쪽 페이지도 OFFSET 스캔 없이 조회된다.
+ * 전체 목록은 DB 커서에서 읽은 행을 바로 응답 스트림에 JSON 배열로 쓰므로 카탈로그 크기와 무관하게 힙 사용량이 일정하다.
+ */
+@Slf4j
+@Service
+public class IdentifiableListingService {
+
+    // 스트리밍 중 소켓으로 내보내는 주기 (행 수)
+    private static final int FLUSH_INTERVAL = 200;
+
+    private final AasRepository aasRepository;
+    private final SubmodelRepository submodelRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int defaultPageSize;
+    private final int maxPageSize;
+
+    public IdentifiableListingService(AasRepository aasRepository, SubmodelRepository submodelRepository,
+            ObjectMapper objectMapper, PlatformTransactionManager transactionManager,
+            @Value("${aas.listing.default-page-size:100}") int defaultPageSize,
+            @Value("${aas.listing.max-page-size:1000}") int maxPageSize) {
+        this.aasRepository = aasRepository;
+        this.submodelRepository = submodelRepository;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.maxPageSize = Math.max(1, maxPageSize);
+        this.defaultPageSize = Math.min(Math.max(1, defaultPageSize), this.maxPageSize);
+    }
+
+    // ======================= 키셋 페이지 =======================
+
+    /**
+     * @throws IllegalArgumentException 커서 형식이 잘못된 경우
+     */
+    @Transactional(readOnly = true)
+    public ListingPage<AasSummary> getActiveAasPage(String cursor, Integer limit) {
+        return page(cursor, limit, aasRepository::findActiveSummaryPage,
+                (position, pageable) -> aasRepository.findActiveSummaryPageAfter(position.createdAt(),
+                        position.seq(), pageable),
+                aas -> new ListingCursor(aas.getCreatedAt(), aas.getSeq()));
+    }
+
+    /**
+     * @throws IllegalArgumentException 커서 형식이 잘못된 경우
+     */
+    @Transactional(readOnly = true)
+    public ListingPage<SubmodelSummary> getActiveSubmodelPage(String cursor, Integer limit) {
+        return page(cursor, limit, submodelRepository::findActiveSummaryPage,
+                (position, pageable) -> submodelRepository.findActiveSummaryPageAfter(position.createdAt(),
+                        position.seq(), pageable),
+                submodel -> new ListingCursor(submodel.getCreatedAt(), submodel.getSeq()));
+    }
+
+    private <T> ListingPage<T> page(String cursor, Integer limit, Function<Pageable, List<T>> firstPage,
+            BiFunction<ListingCursor, Pageable, List<T>> nextPage, Function<T, ListingCursor> positionOf) {
+        int size = limit != null ? Math.min(Math.max(1, limit), maxPageSize) : defaultPageSize;
+        // 다음 페이지 존재 여부 확인용으로 한 행 더 조회
+        Pageable pageable = PageRequest.of(0, size + 1);
+        List<T> rows = cursor == null || cursor.isBlank()
+                ? firstPage.apply(pageable)
+                : nextPage.apply(ListingCursor.decode(cursor), pageable);
+
+        boolean hasMore = rows.size() > size;
+        List<T> items = hasMore ? rows.subList(0, size) : rows;
+        return ListingPage.<T>builder()
+                .items(items)
+                .limit(size)
+                .nextCursor(hasMore ? positionOf.apply(items.get(items.size() - 1)).encode() : null)
+                .build();
+    }
+
+    // ======================= 전체 스트리밍 =======================
+
+    /**
+     * 활성 AAS 전체 목록을 JSON 배열로 출력 (StreamingResponseBody에서 호출)
+     */
+    public void writeActiveAas(OutputStream out) {
+        write(out, "AAS", aasRepository::streamActiveSummaries);
+    }
+
+    /**
+     * 활성 Submodel 전체 목록을 JSON 배열로 출력 (StreamingResponseBody에서 호출)
+     */
+    public void writeActiveSubmodels(OutputStream out) {
+        write(out, "Submodel", submodelRepository::streamActiveSummaries);
+    }
+
+    private <T> void write(OutputStream out, String label, Supplier<Stream<T>> query) {
+        long start = System.currentTimeMillis();
+        Integer written = readOnlyTransaction.execute(status -> {
+            try (Stream<T> rows = query.get();
+                    JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                // 응답 스트림은 서블릿 컨테이너가 닫는다
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.writeStartArray();
+                int count = 0;
+                Iterator<T> iterator = rows.iterator();
+                while (iterator.hasNext()) {
+                    generator.writeObject(iterator.next());
+                    if (++count % FLUSH_INTERVAL == 0) {
+                        generator.flush();
+                    }
+                }
+                generator.writeEndArray();
+                return count;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        log.info("활성 {} 목록 스트리밍 완료: {}건, {}ms", label, written, System.currentTimeMillis() - start);
+    }
+}
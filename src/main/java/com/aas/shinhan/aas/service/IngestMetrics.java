@@ -0,0 +1,363 @@
+package com.aas.shinhan.aas.service;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import com.aas.shinhan.aas.dto.MetricsOverheadResult;
+import com.aas.shinhan.aas.dto.PreparedIdentifiable;
+import com.aas.shinhan.core.codec.EncodedPayload;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 업로드 파이프라인 / 저장 서비스 계측 (Micrometer, /actuator/prometheus로 노출)
+ * 변환 단계는 요소마다 병렬로 기록되므로 형식 x 유형 조합의 계측기를 생성 시점에 모두 등록해 두고,
+ * 기록 경로에서는 레지스트리 조회 없이 배열/맵에서 꺼내 쓴다.
+ *
+ * aas.upload.duration        업로드 전체 시간 (format, outcome)
+ * aas.upload.parse           Environment 전체 역직렬화 시간 (format, AASX와 비스트리밍 경로)
+ * aas.upload.stage           업로드별 단계 누적 시간 (format, stage=read|transform|write)
+ * aas.upload.serialize       요소 JSON 직렬화 시간 (format, type)
+ * aas.upload.transform       요소 변환 전체 시간 (format, type)
+ * aas.upload.entities        파싱된 요소 수 (format, type)
+ * aas.upload.bytes           업로드 입력 크기 (format)
+ * aas.upload.throughput      업로드별 저장 요소 수/초 (format)
+ * aas.upload.db.statements   업로드별 JDBC 왕복 수 (format)
+ * aas.payload.size           저장 내용 크기 (type, form=json|stored)
+ * aas.storage.phase          저장 단계 시간 (type, phase)
+ * aas.storage.operation      저장 서비스 단건 작업 시간 (type, operation)
+ * aas.storage.version.conflicts  (ID, VERSION) 유일 제약 위반으로 재시도한 횟수 (type)
+ */
+@Slf4j
+@Component
+public class IngestMetrics {
+
+    public enum Format {
+        AASX, JSON, XML;
+
+        public static Format of(String lowerName) {
+            if (lowerName.endsWith(".aasx")) {
+                return AASX;
+            }
+            return lowerName.endsWith(".json") ? JSON : XML;
+        }
+
+        String tag() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    public static final String PHASE_LOCK = "lock";
+    public static final String PHASE_FIND_VERSIONS = "find_versions";
+    public static final String PHASE_INSERT = "insert";
+    public static final String PHASE_UPDATE = "update";
+    public static final String PHASE_DEACTIVATE = "deactivate";
+    public static final String PHASE_ACTIVATE = "activate";
+    public static final String PHASE_ELEMENT_INDEX = "element_index";
+    public static final String PHASE_COMPACT = "compact";
+
+    public static final String OPERATION_SAVE = "save";
+    public static final String OPERATION_ACTIVATE = "activate";
+
+    private static final String[] STAGES = { UploadProgress.STAGE_READ, UploadProgress.STAGE_TRANSFORM,
+            UploadProgress.STAGE_WRITE };
+
+    private final MeterRegistry registry;
+    private final Map<Format, PerFormat> formats = new EnumMap<>(Format.class);
+    private final Map<PreparedIdentifiable.Kind, DistributionSummary> jsonSizes =
+            new EnumMap<>(PreparedIdentifiable.Kind.class);
+    private final Map<PreparedIdentifiable.Kind, DistributionSummary> storedSizes =
+            new EnumMap<>(PreparedIdentifiable.Kind.class);
+    // 저장 단계/작업 타이머는 호출 지점이 고정되어 있어 처음 사용 시 등록 (type + 이름 키)
+    private final Map<String, Timer> phaseTimers = new ConcurrentHashMap<>();
+    private final Map<String, Timer> operationTimers = new ConcurrentHashMap<>();
+    private final Map<PreparedIdentifiable.Kind, Counter> versionConflicts =
+            new EnumMap<>(PreparedIdentifiable.Kind.class);
+
+    public IngestMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        for (Format format : Format.values()) {
+            formats.put(format, new PerFormat(registry, format));
+        }
+        for (PreparedIdentifiable.Kind kind : PreparedIdentifiable.Kind.values()) {
+            jsonSizes.put(kind, payloadSize(registry, kind, "json"));
+            storedSizes.put(kind, payloadSize(registry, kind, "stored"));
+            versionConflicts.put(kind, Counter.builder("aas.storage.version.conflicts")
+                    .description("Retries after a concurrent writer took the same version")
+                    .tag("type", typeTag(kind))
+                    .register(registry));
+        }
+    }
+
+    // ======================= 업로드 =======================
+
+    public void recordParse(Format format, long nanos) {
+        formats.get(format).parse.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordSerialize(Format format, PreparedIdentifiable.Kind kind, long nanos) {
+        formats.get(format).serialize.get(kind).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 요소 변환 결과 기록 (변환 단계, 병렬 호출)
+     */
+    public void recordTransform(Format format, PreparedIdentifiable prepared, long nanos) {
+        PerFormat meters = formats.get(format);
+        meters.transform.get(prepared.getKind()).record(nanos, TimeUnit.NANOSECONDS);
+        meters.entities.get(prepared.getKind()).increment();
+        recordPayload(prepared.getKind(), prepared.getJson(), prepared.getPayload());
+    }
+
+    public void recordPayload(PreparedIdentifiable.Kind kind, String json, EncodedPayload payload) {
+        if (payload != null) {
+            jsonSizes.get(kind).record(payload.rawSize());
+            storedSizes.get(kind).record(payload.bytes().length);
+        } else if (json != null) {
+            jsonSizes.get(kind).record(json.length());
+        }
+    }
+
+    /**
+     * 업로드 한 건 완료 시 요약 기록
+     */
+    public void recordUpload(Format format, boolean success, long nanos, UploadProgress progress,
+            long statements) {
+        PerFormat meters = formats.get(format);
+        (success ? meters.succeeded : meters.failed).record(nanos, TimeUnit.NANOSECONDS);
+        meters.bytes.record(progress.getBytesRead());
+        meters.statements.record(statements);
+        if (nanos > 0) {
+            meters.throughput.record(progress.getEntitiesPersisted() / (nanos / 1_000_000_000.0));
+        }
+        Map<String, Long> stageNanos = progress.getStageNanos();
+        for (int i = 0; i < STAGES.length; i++) {
+            meters.stages[i].record(stageNanos.getOrDefault(STAGES[i], 0L), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // ======================= 저장 =======================
+
+    /**
+     * 저장 단계 시간 계측 (aas.storage.phase)
+     */
+    public <T> T phase(PreparedIdentifiable.Kind kind, String phase, Supplier<T> action) {
+        long start = System.nanoTime();
+        try {
+            return action.get();
+        } finally {
+            recordPhase(kind, phase, System.nanoTime() - start);
+        }
+    }
+
+    public void phase(PreparedIdentifiable.Kind kind, String phase, Runnable action) {
+        long start = System.nanoTime();
+        try {
+            action.run();
+        } finally {
+            recordPhase(kind, phase, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * 저장 서비스 단건 작업 시간 계측 (aas.storage.operation)
+     */
+    public <T> T operation(PreparedIdentifiable.Kind kind, String operation, Supplier<T> action) {
+        long start = System.nanoTime();
+        try {
+            return action.get();
+        } finally {
+            recordOperation(kind, operation, System.nanoTime() - start);
+        }
+    }
+
+    public void recordPhase(PreparedIdentifiable.Kind kind, String phase, long nanos) {
+        phaseTimers.computeIfAbsent(kind.name() + '/' + phase, key -> Timer.builder("aas.storage.phase")
+                .description("Bulk write phase time")
+                .tag("type", typeTag(kind))
+                .tag("phase", phase)
+                .publishPercentileHistogram()
+                .register(registry))
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordOperation(PreparedIdentifiable.Kind kind, String operation, long nanos) {
+        operationTimers.computeIfAbsent(kind.name() + '/' + operation, key -> Timer.builder("aas.storage.operation")
+                .description("Storage service operation time")
+                .tag("type", typeTag(kind))
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .register(registry))
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordVersionConflict(PreparedIdentifiable.Kind kind) {
+        versionConflicts.get(kind).increment();
+    }
+
+    // ======================= 계측 비용 측정 =======================
+
+    /**
+     * 요소 한 건에 붙는 계측(변환/직렬화 타이머, 요소 수, 크기 분포 2개)의 비용 측정
+     * 실제 레지스트리를 오염시키지 않도록 같은 구성의 별도 Prometheus 레지스트리에 기록한다.
+     */
+    public MetricsOverheadResult benchmarkOverhead(int iterations) {
+        int count = Math.max(1_000, iterations);
+        IngestMetrics scratch = new IngestMetrics(new PrometheusMeterRegistry(PrometheusConfig.DEFAULT));
+        PreparedIdentifiable prepared = PreparedIdentifiable.builder()
+                .kind(PreparedIdentifiable.Kind.SUBMODEL)
+                .json("{}")
+                .payload(new EncodedPayload(null, new byte[64], 128))
+                .build();
+
+        // 워밍업 (JIT)
+        for (int i = 0; i < count; i++) {
+            scratch.recordSerialize(Format.JSON, PreparedIdentifiable.Kind.SUBMODEL, i);
+            scratch.recordTransform(Format.JSON, prepared, i);
+        }
+
+        long sink = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            sink += System.nanoTime();
+        }
+        long clockNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            scratch.recordSerialize(Format.JSON, PreparedIdentifiable.Kind.SUBMODEL, i);
+        }
+        long timerNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            scratch.recordTransform(Format.JSON, prepared, i);
+        }
+        long transformNanos = System.nanoTime() - start;
+
+        double clock = (double) clockNanos / count;
+        double timer = (double) timerNanos / count;
+        double transform = (double) transformNanos / count;
+        log.info("계측 비용 측정: {}회, nanoTime {}ns, timer {}ns, 요소당 {}ns (sink={})", count,
+                String.format("%.1f", clock), String.format("%.1f", timer),
+                String.format("%.1f", clock * 4 + timer + transform), sink % 2);
+        return MetricsOverheadResult.builder()
+                .iterations(count)
+                .clockReadNanos(clock)
+                .timerRecordNanos(timer)
+                .transformRecordNanos(transform)
+                // 요소당: 변환/직렬화 구간 시각 읽기 4회 + 직렬화 타이머 + 변환 기록(타이머, 카운터, 크기 분포 2개)
+                .perEntityNanos(clock * 4 + timer + transform)
+                .build();
+    }
+
+    // ======================= 계측기 등록 =======================
+
+    private static String typeTag(PreparedIdentifiable.Kind kind) {
+        return kind.name().toLowerCase(Locale.ROOT);
+    }
+
+    private static DistributionSummary payloadSize(MeterRegistry registry, PreparedIdentifiable.Kind kind,
+            String form) {
+        return DistributionSummary.builder("aas.payload.size")
+                .description("Stored document size")
+                .baseUnit("bytes")
+                .tag("type", typeTag(kind))
+                .tag("form", form)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    /**
+     * 형식별 계측기 묶음
+     */
+    private static final class PerFormat {
+        private final Timer parse;
+        private final Timer succeeded;
+        private final Timer failed;
+        private final Timer[] stages = new Timer[STAGES.length];
+        private final DistributionSummary bytes;
+        private final DistributionSummary throughput;
+        private final DistributionSummary statements;
+        private final Map<PreparedIdentifiable.Kind, Timer> serialize = new EnumMap<>(PreparedIdentifiable.Kind.class);
+        private final Map<PreparedIdentifiable.Kind, Timer> transform = new EnumMap<>(PreparedIdentifiable.Kind.class);
+        private final Map<PreparedIdentifiable.Kind, Counter> entities =
+                new EnumMap<>(PreparedIdentifiable.Kind.class);
+
+        private PerFormat(MeterRegistry registry, Format format) {
+            String tag = format.tag();
+            this.parse = Timer.builder("aas.upload.parse")
+                    .description("Environment deserialization time")
+                    .tag("format", tag)
+                    .publishPercentileHistogram()
+                    .register(registry);
+            this.succeeded = uploadTimer(registry, tag, "success");
+            this.failed = uploadTimer(registry, tag, "failure");
+            for (int i = 0; i < STAGES.length; i++) {
+                stages[i] = Timer.builder("aas.upload.stage")
+                        .description("Accumulated upload stage time (transform is summed across workers)")
+                        .tag("format", tag)
+                        .tag("stage", STAGES[i])
+                        .publishPercentileHistogram()
+                        .register(registry);
+            }
+            this.bytes = DistributionSummary.builder("aas.upload.bytes")
+                    .description("Upload input size")
+                    .baseUnit("bytes")
+                    .tag("format", tag)
+                    .publishPercentileHistogram()
+                    .register(registry);
+            this.throughput = DistributionSummary.builder("aas.upload.throughput")
+                    .description("Persisted entities per second of one upload")
+                    .baseUnit("entities/s")
+                    .tag("format", tag)
+                    .register(registry);
+            this.statements = DistributionSummary.builder("aas.upload.db.statements")
+                    .description("JDBC round trips (statement executions, commit/rollback) per upload")
+                    .tag("format", tag)
+                    .publishPercentileHistogram()
+                    .register(registry);
+            for (PreparedIdentifiable.Kind kind : PreparedIdentifiable.Kind.values()) {
+                String type = typeTag(kind);
+                serialize.put(kind, Timer.builder("aas.upload.serialize")
+                        .description("JSON serialization time per entity")
+                        .tag("format", tag)
+                        .tag("type", type)
+                        .publishPercentileHistogram()
+                        .register(registry));
+                transform.put(kind, Timer.builder("aas.upload.transform")
+                        .description("Transform stage time per entity")
+                        .tag("format", tag)
+                        .tag("type", type)
+                        .publishPercentileHistogram()
+                        .register(registry));
+                entities.put(kind, Counter.builder("aas.upload.entities")
+                        .description("Parsed entities")
+                        .tag("format", tag)
+                        .tag("type", type)
+                        .register(registry));
+            }
+        }
+
+        private static Timer uploadTimer(MeterRegistry registry, String format, String outcome) {
+            return Timer.builder("aas.upload.duration")
+                    .description("Upload processing time")
+                    .tag("format", format)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(registry);
+        }
+    }
+}
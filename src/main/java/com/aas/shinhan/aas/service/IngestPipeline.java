@@ -0,0 +1,163 @@
+package com.aas.shinhan.aas.service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 업로드 처리 파이프라인
+ * 파싱(가상 스레드 1개) -> 변환 단계(가상 스레드, 동시 실행 수 제한) -> 순서 보장 저장 단계(호출 스레드)
+ * 단계 사이는 크기가 고정된 큐로 연결되어 처리 중인 요소 수가 queue-capacity를 넘지 않는다.
+ * 저장 단계는 호출 스레드에서 실행되므로 호출자의 트랜잭션을 그대로 사용한다.
+ * 파싱 실패는 큐를 거치지 않고 공유 참조로 전달되어, 큐가 가득 찬 상태에서도 저장 단계가 바로 중단된다.
+ */
+@Slf4j
+@Component
+public class IngestPipeline {
+
+    // 저장 단계가 큐를 기다리는 동안 파싱 실패/종료를 확인하는 간격
+    private static final long POLL_INTERVAL_MILLIS = 100;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore permits;
+    private final int queueCapacity;
+
+    public IngestPipeline(
+            @Value("${aas.ingest.parallelism:0}") int parallelism,
+            @Value("${aas.ingest.queue-capacity:256}") int queueCapacity) {
+        int effective = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        // 모든 업로드가 공유하는 동시 변환 작업 수 제한
+        this.permits = new Semaphore(effective);
+        this.queueCapacity = queueCapacity;
+        log.info("IngestPipeline initialized: parallelism={}, queueCapacity={}", effective, queueCapacity);
+    }
+
+    /**
+     * 파이프라인 입력 (요소를 읽는 대로 emit 호출)
+     */
+    @FunctionalInterface
+    public interface Source<I> {
+        void read(Consumer<I> emit) throws Exception;
+    }
+
+    /**
+     * source가 내보낸 요소를 stage로 병렬 변환한 뒤, 입력 순서대로 sink에 전달
+     */
+    public <I, O> void run(Source<I> source, Function<I, O> stage, Consumer<O> sink) throws Exception {
+        BlockingQueue<Slot<O>> queue = new ArrayBlockingQueue<>(queueCapacity);
+        AtomicReference<Throwable> readerFailure = new AtomicReference<>();
+
+        Thread producer = Thread.ofVirtual().name("aas-ingest-reader").start(() -> {
+            try {
+                source.read(item -> {
+                    Future<O> future = executor.submit(() -> transform(item, stage));
+                    try {
+                        queue.put(new Slot<>(future, false));
+                    } catch (InterruptedException e) {
+                        future.cancel(true);
+                        Thread.currentThread().interrupt();
+                        throw new PipelineCancelledException();
+                    }
+                });
+                queue.put(new Slot<>(null, true));
+            } catch (PipelineCancelledException e) {
+                log.debug("Ingest reader cancelled");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Throwable t) {
+                // 큐가 가득 차 있어도 저장 단계가 볼 수 있도록 큐 밖으로 전달
+                readerFailure.set(t);
+            }
+        });
+
+        boolean completed = false;
+        try {
+            while (true) {
+                Throwable failure = readerFailure.get();
+                if (failure != null) {
+                    throw rethrow(failure);
+                }
+                Slot<O> slot = queue.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                if (slot == null) {
+                    if (!producer.isAlive() && queue.isEmpty() && readerFailure.get() == null) {
+                        throw new IllegalStateException("Ingest reader stopped without completing");
+                    }
+                    continue;
+                }
+                if (slot.last()) {
+                    break;
+                }
+                sink.accept(await(slot.future()));
+            }
+            completed = true;
+        } finally {
+            if (!completed) {
+                producer.interrupt();
+                Slot<O> pending;
+                while ((pending = queue.poll()) != null) {
+                    if (pending.future() != null) {
+                        pending.future().cancel(true);
+                    }
+                }
+            }
+            producer.join();
+        }
+    }
+
+    private <I, O> O transform(I item, Function<I, O> stage) throws InterruptedException {
+        permits.acquire();
+        try {
+            return stage.apply(item);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private <O> O await(Future<O> future) throws Exception {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw rethrow(e.getCause());
+        }
+    }
+
+    private Exception rethrow(Throwable t) {
+        if (t instanceof Exception e) {
+            return e;
+        }
+        if (t instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(t);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private record Slot<O>(Future<O> future, boolean last) {
+    }
+
+    private static class PipelineCancelledException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        PipelineCancelledException() {
+            super(null, null, false, false);
+        }
+    }
+}
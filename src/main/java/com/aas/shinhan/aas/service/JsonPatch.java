@@ -0,0 +1,167 @@
+package com.aas.shinhan.aas.service;
+
+import java.util.Iterator;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * JSON Patch (RFC 6902의 add / remove / replace 연산) 생성 및 적용
+ * 버전 이력 델타 저장용이며, 배열은 인덱스 단위로 비교한다 (중간 삽입은 이후 요소의 replace로 표현됨).
+ */
+public final class JsonPatch {
+
+    private static final JsonNodeFactory FACTORY = JsonNodeFactory.instance;
+
+    private JsonPatch() {
+    }
+
+    /**
+     * source를 target으로 바꾸는 패치 생성
+     */
+    public static ArrayNode diff(JsonNode source, JsonNode target) {
+        ArrayNode patch = FACTORY.arrayNode();
+        diff("", source, target, patch);
+        return patch;
+    }
+
+    /**
+     * source 사본에 패치 적용 (source는 변경하지 않음)
+     */
+    public static JsonNode apply(JsonNode source, JsonNode patch) {
+        JsonNode result = source.deepCopy();
+        for (JsonNode operation : patch) {
+            String op = operation.path("op").asText();
+            String path = operation.path("path").asText();
+            JsonNode value = operation.get("value");
+
+            if (path.isEmpty()) {
+                if (!"replace".equals(op)) {
+                    throw new IllegalArgumentException("Unsupported root patch op: " + op);
+                }
+                result = value.deepCopy();
+                continue;
+            }
+
+            int slash = path.lastIndexOf('/');
+            JsonNode parent = resolve(result, path.substring(0, slash));
+            String token = unescape(path.substring(slash + 1));
+            switch (op) {
+                case "add" -> add(parent, token, value.deepCopy());
+                case "replace" -> replace(parent, token, value.deepCopy());
+                case "remove" -> remove(parent, token);
+                default -> throw new IllegalArgumentException("Unsupported patch op: " + op);
+            }
+        }
+        return result;
+    }
+
+    // ======================= diff =======================
+
+    private static void diff(String path, JsonNode source, JsonNode target, ArrayNode patch) {
+        if (source.equals(target)) {
+            return;
+        }
+
+        if (source.isObject() && target.isObject()) {
+            Iterator<String> names = source.fieldNames();
+            while (names.hasNext()) {
+                String name = names.next();
+                String childPath = path + "/" + escape(name);
+                if (target.has(name)) {
+                    diff(childPath, source.get(name), target.get(name), patch);
+                } else {
+                    patch.add(operation("remove", childPath, null));
+                }
+            }
+            names = target.fieldNames();
+            while (names.hasNext()) {
+                String name = names.next();
+                if (!source.has(name)) {
+                    patch.add(operation("add", path + "/" + escape(name), target.get(name)));
+                }
+            }
+        } else if (source.isArray() && target.isArray()) {
+            int common = Math.min(source.size(), target.size());
+            for (int i = 0; i < common; i++) {
+                diff(path + "/" + i, source.get(i), target.get(i), patch);
+            }
+            // 인덱스가 밀리지 않도록 뒤에서부터 삭제
+            for (int i = source.size() - 1; i >= target.size(); i--) {
+                patch.add(operation("remove", path + "/" + i, null));
+            }
+            for (int i = common; i < target.size(); i++) {
+                patch.add(operation("add", path + "/" + i, target.get(i)));
+            }
+        } else {
+            patch.add(operation("replace", path, target));
+        }
+    }
+
+    private static ObjectNode operation(String op, String path, JsonNode value) {
+        ObjectNode operation = FACTORY.objectNode();
+        operation.put("op", op);
+        operation.put("path", path);
+        if (value != null) {
+            operation.set("value", value);
+        }
+        return operation;
+    }
+
+    // ======================= apply =======================
+
+    private static JsonNode resolve(JsonNode root, String pointer) {
+        JsonNode node = root;
+        if (pointer.isEmpty()) {
+            return node;
+        }
+        for (String token : pointer.substring(1).split("/", -1)) {
+            node = node.isArray() ? node.get(Integer.parseInt(token)) : node.get(unescape(token));
+            if (node == null) {
+                throw new IllegalArgumentException("Patch path not found: " + pointer);
+            }
+        }
+        return node;
+    }
+
+    private static void add(JsonNode parent, String token, JsonNode value) {
+        if (parent instanceof ObjectNode object) {
+            object.set(token, value);
+        } else if (parent instanceof ArrayNode array) {
+            int index = "-".equals(token) ? array.size() : Integer.parseInt(token);
+            array.insert(index, value);
+        } else {
+            throw new IllegalArgumentException("Cannot add to scalar node: " + token);
+        }
+    }
+
+    private static void replace(JsonNode parent, String token, JsonNode value) {
+        if (parent instanceof ObjectNode object) {
+            object.set(token, value);
+        } else if (parent instanceof ArrayNode array) {
+            array.set(Integer.parseInt(token), value);
+        } else {
+            throw new IllegalArgumentException("Cannot replace in scalar node: " + token);
+        }
+    }
+
+    private static void remove(JsonNode parent, String token) {
+        if (parent instanceof ObjectNode object) {
+            object.remove(token);
+        } else if (parent instanceof ArrayNode array) {
+            array.remove(Integer.parseInt(token));
+        } else {
+            throw new IllegalArgumentException("Cannot remove from scalar node: " + token);
+        }
+    }
+
+    private static String escape(String name) {
+        return name.replace("~", "~0").replace("/", "~1");
+    }
+
+    private static String unescape(String token) {
+        return token.replace("~1", "/").replace("~0", "~");
+    }
+}
@@ -0,0 +1,42 @@
+package com.aas.shinhan.aas.service;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.aas.shinhan.core.codec.EncodedPayload;
+import com.aas.shinhan.core.codec.PayloadCodec;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * JSON 저장 내용 인코딩 서비스
+ * 설정된 코덱(aas.storage.payload-codec)으로 압축하며, 디코딩은 저장된 코덱 이름으로 수행한다 (PayloadCodec.decodeToString).
+ */
+@Slf4j
+@Service
+public class PayloadCodecService {
+
+    @Getter
+    private final PayloadCodec codec;
+
+    public PayloadCodecService(@Value("${aas.storage.payload-codec:LZ4}") PayloadCodec codec) {
+        this.codec = codec;
+        log.info("PayloadCodecService initialized: codec={}", codec);
+    }
+
+    public EncodedPayload encode(String json) {
+        if (json == null) {
+            return null;
+        }
+        byte[] raw = json.getBytes(StandardCharsets.UTF_8);
+        byte[] encoded = codec.encode(raw);
+        // 압축 효과가 없으면 (아주 작은 JSON 등) 원본 그대로 저장
+        if (encoded.length >= raw.length) {
+            return new EncodedPayload(PayloadCodec.NONE, raw, raw.length);
+        }
+        return new EncodedPayload(codec, encoded, raw.length);
+    }
+}
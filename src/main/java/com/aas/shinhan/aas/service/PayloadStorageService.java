@@ -0,0 +1,243 @@
+package com.aas.shinhan.aas.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.aas.shinhan.aas.dto.ActiveSubmodelPayload;
+import com.aas.shinhan.aas.dto.CodecBenchmarkResult;
+import com.aas.shinhan.aas.dto.LegacyPayload;
+import com.aas.shinhan.aas.dto.PayloadMigrationResult;
+import com.aas.shinhan.aas.dto.VersionPayload;
+import com.aas.shinhan.aas.repository.AasRepository;
+import com.aas.shinhan.aas.repository.ConceptDescriptionRepository;
+import com.aas.shinhan.aas.repository.SubmodelRepository;
+import com.aas.shinhan.core.codec.EncodedPayload;
+import com.aas.shinhan.core.codec.PayloadCodec;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 압축 저장 관리 서비스
+ * 이전 형식(CLOB) 행의 압축 저장 이관과, 실제 Submodel 표본으로 코덱별 압축률/처리량을 측정한다.
+ */
+@Slf4j
+@Service
+public class PayloadStorageService {
+
+    private static final int BENCHMARK_WARMUP_ITERATIONS = 3;
+    private static final int BENCHMARK_ITERATIONS = 5;
+
+    private final PayloadCodecService payloadCodecService;
+    private final AasRepository aasRepository;
+    private final SubmodelRepository submodelRepository;
+    private final ConceptDescriptionRepository conceptDescriptionRepository;
+    private final TransactionTemplate batchTransaction;
+    private final int migrationBatchSize;
+
+    public PayloadStorageService(PayloadCodecService payloadCodecService, AasRepository aasRepository,
+            SubmodelRepository submodelRepository, ConceptDescriptionRepository conceptDescriptionRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${aas.storage.migration-batch-size:200}") int migrationBatchSize) {
+        this.payloadCodecService = payloadCodecService;
+        this.aasRepository = aasRepository;
+        this.submodelRepository = submodelRepository;
+        this.conceptDescriptionRepository = conceptDescriptionRepository;
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.migrationBatchSize = Math.max(1, migrationBatchSize);
+    }
+
+    // ======================= 이전 형식 이관 =======================
+
+    /**
+     * 이전 형식(CLOB) 행을 설정된 코덱으로 압축 저장 (배치 단위 트랜잭션)
+     * 이관 중에도 조회는 엔티티 getter가 두 형식을 모두 읽으므로 서비스 중단이 필요 없다.
+     */
+    public PayloadMigrationResult migrateLegacyPayloads() {
+        long start = System.currentTimeMillis();
+        long[] bytes = new long[2];
+
+        long aasRows = migrate("AAS", aasRepository::findLegacyPayloads,
+                aasRepository::updateEncodedPayloadBySeq, bytes);
+        long submodelRows = migrate("Submodel", submodelRepository::findLegacyPayloads,
+                submodelRepository::updateEncodedPayloadBySeq, bytes);
+        long cdRows = migrate("ConceptDescription", conceptDescriptionRepository::findLegacyPayloads,
+                conceptDescriptionRepository::updateEncodedPayloadBySeq, bytes);
+
+        PayloadMigrationResult result = PayloadMigrationResult.builder()
+                .codec(payloadCodecService.getCodec().name())
+                .aasRows(aasRows)
+                .submodelRows(submodelRows)
+                .conceptDescriptionRows(cdRows)
+                .bytesBefore(bytes[0])
+                .bytesAfter(bytes[1])
+                .elapsedMillis(System.currentTimeMillis() - start)
+                .build();
+        log.info("이전 형식 저장 내용 이관 완료: AAS {}건, Submodel {}건, CD {}건, {} -> {} bytes, {}ms",
+                aasRows, submodelRows, cdRows, bytes[0], bytes[1], result.getElapsedMillis());
+        return result;
+    }
+
+    private long migrate(String label, Function<Pageable, List<LegacyPayload>> legacyQuery,
+            EncodedUpdate update, long[] bytes) {
+        long total = 0;
+        while (true) {
+            // 이관된 행은 조회 조건에서 빠지므로 항상 첫 페이지를 읽는다
+            Integer migrated = batchTransaction.execute(status -> {
+                List<LegacyPayload> rows = legacyQuery.apply(PageRequest.of(0, migrationBatchSize));
+                for (LegacyPayload row : rows) {
+                    EncodedPayload encoded = payloadCodecService.encode(row.getJson());
+                    update.update(row.getSeq(), encoded.bytes(), encoded.codecName());
+                    bytes[0] += encoded.rawSize();
+                    bytes[1] += encoded.bytes().length;
+                }
+                return rows.size();
+            });
+            if (migrated == null || migrated == 0) {
+                return total;
+            }
+            total += migrated;
+            log.debug("{} 저장 내용 이관 진행: {}건", label, total);
+        }
+    }
+
+    // ======================= 값 전용 표현 생성 =======================
+
+    /**
+     * 값 전용 표현이 없는 활성 Submodel에 값 전용 표현 생성 (값 전용 표현 도입 이전 행 이관, 배치 단위 트랜잭션)
+     * 이관 전에도 $value 조회는 전체 문서에서 변환해 응답하므로 서비스 중단이 필요 없다.
+     * bytesBefore는 전체 JSON 크기, bytesAfter는 값 전용 표현 저장 크기 합계.
+     */
+    public PayloadMigrationResult migrateValuePayloads() {
+        long start = System.currentTimeMillis();
+        long[] bytes = new long[2];
+        long total = 0;
+        while (true) {
+            // 생성된 행은 조회 조건에서 빠지므로 항상 첫 페이지를 읽는다
+            Integer migrated = batchTransaction.execute(status -> {
+                List<ActiveSubmodelPayload> rows = submodelRepository.findActiveWithoutValuePayload(
+                        PageRequest.of(0, migrationBatchSize));
+                for (ActiveSubmodelPayload row : rows) {
+                    String json = row.getJson();
+                    EncodedPayload encoded = payloadCodecService.encode(ValueOnlyProjector.project(json));
+                    submodelRepository.updateValuePayloadBySeq(row.getSeq(), encoded.bytes(), encoded.codecName());
+                    bytes[0] += json.getBytes(StandardCharsets.UTF_8).length;
+                    bytes[1] += encoded.bytes().length;
+                }
+                return rows.size();
+            });
+            if (migrated == null || migrated == 0) {
+                break;
+            }
+            total += migrated;
+            log.debug("값 전용 표현 생성 진행: {}건", total);
+        }
+
+        PayloadMigrationResult result = PayloadMigrationResult.builder()
+                .codec(payloadCodecService.getCodec().name())
+                .submodelRows(total)
+                .bytesBefore(bytes[0])
+                .bytesAfter(bytes[1])
+                .elapsedMillis(System.currentTimeMillis() - start)
+                .build();
+        log.info("값 전용 표현 생성 완료: Submodel {}건, {} -> {} bytes, {}ms", total, bytes[0], bytes[1],
+                result.getElapsedMillis());
+        return result;
+    }
+
+    // ======================= 코덱 벤치마크 =======================
+
+    /**
+     * 활성 Submodel 표본으로 코덱별 압축률과 인코딩/디코딩 처리량 측정
+     */
+    @Transactional(readOnly = true)
+    public CodecBenchmarkResult benchmark(int sampleSize) {
+        List<byte[]> samples = new ArrayList<>();
+        long rawBytes = 0;
+        for (VersionPayload row : submodelRepository.findActivePayloads(PageRequest.of(0, Math.max(1, sampleSize)))) {
+            byte[] raw = row.getJson().getBytes(StandardCharsets.UTF_8);
+            samples.add(raw);
+            rawBytes += raw.length;
+        }
+
+        List<CodecBenchmarkResult.CodecStats> stats = new ArrayList<>();
+        if (!samples.isEmpty()) {
+            for (PayloadCodec codec : PayloadCodec.values()) {
+                stats.add(measure(codec, samples, rawBytes));
+            }
+        }
+
+        log.info("코덱 벤치마크: 표본 {}건, {} bytes", samples.size(), rawBytes);
+        return CodecBenchmarkResult.builder()
+                .sampleSize(samples.size())
+                .rawBytes(rawBytes)
+                .iterations(BENCHMARK_ITERATIONS)
+                .configuredCodec(payloadCodecService.getCodec().name())
+                .codecs(stats)
+                .build();
+    }
+
+    private CodecBenchmarkResult.CodecStats measure(PayloadCodec codec, List<byte[]> samples, long rawBytes) {
+        List<byte[]> encoded = new ArrayList<>(samples.size());
+        for (byte[] raw : samples) {
+            encoded.add(codec.encode(raw));
+        }
+        long encodedBytes = encoded.stream().mapToLong(bytes -> bytes.length).sum();
+
+        for (int i = 0; i < BENCHMARK_WARMUP_ITERATIONS; i++) {
+            encodeAll(codec, samples);
+            decodeAll(codec, encoded);
+        }
+
+        long encodeNanos = 0;
+        long decodeNanos = 0;
+        for (int i = 0; i < BENCHMARK_ITERATIONS; i++) {
+            long start = System.nanoTime();
+            encodeAll(codec, samples);
+            encodeNanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            decodeAll(codec, encoded);
+            decodeNanos += System.nanoTime() - start;
+        }
+
+        double totalMb = rawBytes * (double) BENCHMARK_ITERATIONS / (1024 * 1024);
+        return CodecBenchmarkResult.CodecStats.builder()
+                .codec(codec.name())
+                .encodedBytes(encodedBytes)
+                .ratio(rawBytes > 0 ? (double) encodedBytes / rawBytes : 1.0)
+                .encodeMbPerSec(throughput(totalMb, encodeNanos))
+                .decodeMbPerSec(throughput(totalMb, decodeNanos))
+                .build();
+    }
+
+    private static void encodeAll(PayloadCodec codec, List<byte[]> samples) {
+        for (byte[] raw : samples) {
+            codec.encode(raw);
+        }
+    }
+
+    private static void decodeAll(PayloadCodec codec, List<byte[]> encoded) {
+        for (byte[] bytes : encoded) {
+            codec.decode(bytes);
+        }
+    }
+
+    private static double throughput(double megabytes, long nanos) {
+        return nanos > 0 ? megabytes / (nanos / 1_000_000_000.0) : 0;
+    }
+
+    @FunctionalInterface
+    private interface EncodedUpdate {
+        int update(Long seq, byte[] payload, String payloadCodec);
+    }
+}
@@ -0,0 +1,105 @@
+package com.aas.shinhan.aas.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.aas.shinhan.aas.dto.PayloadMetadata;
+import com.aas.shinhan.aas.repository.AasRepository;
+import com.aas.shinhan.aas.repository.PayloadStreamJdbcRepository;
+import com.aas.shinhan.aas.repository.SubmodelRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 저장된 AAS / Submodel 문서 원본 전송 서비스
+ * 엔티티 응답은 JSON을 문자열 필드로 한 번 더 감싸므로 (이스케이프 + 힙 복사),
+ * 문서 자체가 필요한 클라이언트에는 저장 내용을 디코딩하면서 응답 스트림에 그대로 쓴다.
+ * 메타데이터(버전, 콘텐츠 해시)는 먼저 조회해 헤더로 보내고, 본문은 같은 SEQ 행을 스트리밍한다.
+ */
+@Slf4j
+@Service
+public class RawDocumentService {
+
+    private final AasRepository aasRepository;
+    private final SubmodelRepository submodelRepository;
+    private final PayloadStreamJdbcRepository payloadStreamJdbcRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public RawDocumentService(AasRepository aasRepository, SubmodelRepository submodelRepository,
+            PayloadStreamJdbcRepository payloadStreamJdbcRepository, PlatformTransactionManager transactionManager) {
+        this.aasRepository = aasRepository;
+        this.submodelRepository = submodelRepository;
+        this.payloadStreamJdbcRepository = payloadStreamJdbcRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<PayloadMetadata> getActiveAasMetadata(String aasId) {
+        return aasRepository.findActivePayloadMetadataByAasId(aasId);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<PayloadMetadata> getActiveSubmodelMetadata(String submodelId) {
+        return submodelRepository.findActivePayloadMetadataBySubmodelId(submodelId);
+    }
+
+    /**
+     * AAS 문서 원본 출력 (StreamingResponseBody에서 호출)
+     */
+    public void writeAasDocument(PayloadMetadata metadata, OutputStream out) {
+        write(metadata, "AAS", seq -> payloadStreamJdbcRepository.writeAasPayload(seq, out));
+    }
+
+    /**
+     * Submodel 문서 원본 출력 (StreamingResponseBody에서 호출)
+     */
+    public void writeSubmodelDocument(PayloadMetadata metadata, OutputStream out) {
+        write(metadata, "Submodel", seq -> payloadStreamJdbcRepository.writeSubmodelPayload(seq, out));
+    }
+
+    /**
+     * Submodel 값 전용 표현 출력 (StreamingResponseBody에서 호출)
+     * 저장 시 만들어 둔 표현을 그대로 전송하며, 값 전용 표현 도입 이전 행은 전체 문서에서 변환해 응답한다.
+     */
+    public void writeSubmodelValue(PayloadMetadata metadata, OutputStream out) {
+        write(metadata, "Submodel 값 전용", seq -> {
+            if (payloadStreamJdbcRepository.writeSubmodelValuePayload(seq, out)) {
+                return true;
+            }
+            ByteArrayOutputStream document = new ByteArrayOutputStream();
+            if (!payloadStreamJdbcRepository.writeSubmodelPayload(seq, document)) {
+                return false;
+            }
+            log.debug("값 전용 표현 없음, 전체 문서에서 변환: id={}, seq={}", metadata.getEntityId(), seq);
+            try {
+                out.write(ValueOnlyProjector.project(document.toByteArray()).getBytes(StandardCharsets.UTF_8));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return true;
+        });
+    }
+
+    private void write(PayloadMetadata metadata, String label, PayloadWriter writer) {
+        Boolean found = readOnlyTransaction.execute(status -> writer.write(metadata.getSeq()));
+        if (!Boolean.TRUE.equals(found)) {
+            // 헤더 전송 후 행이 삭제된 경우: 본문 없이 종료
+            log.warn("{} 문서 원본 없음: id={}, seq={}", label, metadata.getEntityId(), metadata.getSeq());
+        }
+    }
+
+    @FunctionalInterface
+    private interface PayloadWriter {
+        boolean write(long seq);
+    }
+}
@@ -0,0 +1,169 @@
+package com.aas.shinhan.aas.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.DataTypeDefXsd;
+import org.eclipse.digitaltwin.aas4j.v3.model.Entity;
+import org.eclipse.digitaltwin.aas4j.v3.model.File;
+import org.eclipse.digitaltwin.aas4j.v3.model.HasSemantics;
+import org.eclipse.digitaltwin.aas4j.v3.model.LangStringTextType;
+import org.eclipse.digitaltwin.aas4j.v3.model.MultiLanguageProperty;
+import org.eclipse.digitaltwin.aas4j.v3.model.Property;
+import org.eclipse.digitaltwin.aas4j.v3.model.Range;
+import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
+import org.eclipse.digitaltwin.aas4j.v3.model.ReferenceElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementCollection;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementList;
+
+import com.aas.shinhan.aas.dto.ElementIndexEntry;
+
+/**
+ * Submodel 요소 트리를 idShort 경로 기준 색인 항목으로 평탄화
+ * 경로 규칙: Collection 자식은 "부모.자식", List 자식은 "부모[인덱스]", Range는 "경로.min" / "경로.max" 두 항목.
+ * MultiLanguageProperty는 언어별 텍스트마다 한 항목, Collection/List/Entity는 값 없이 구조 항목만 남긴다.
+ */
+public final class SubmodelElementFlattener {
+
+    // 색인 컬럼 길이 (schema의 AAS_SM_ELEMENT_INDEX와 일치)
+    static final int MAX_PATH_LENGTH = 500;
+    static final int MAX_SEMANTIC_ID_LENGTH = 500;
+    static final int MAX_VALUE_LENGTH = 255;
+
+    private static final Set<String> NUMERIC_TYPES = Set.of("DECIMAL", "DOUBLE", "FLOAT", "INTEGER", "INT", "LONG",
+            "SHORT", "BYTE", "NON_NEGATIVE_INTEGER", "NON_POSITIVE_INTEGER", "POSITIVE_INTEGER", "NEGATIVE_INTEGER",
+            "UNSIGNED_LONG", "UNSIGNED_INT", "UNSIGNED_SHORT", "UNSIGNED_BYTE");
+
+    private SubmodelElementFlattener() {
+    }
+
+    public static List<ElementIndexEntry> flatten(Submodel submodel) {
+        List<ElementIndexEntry> entries = new ArrayList<>();
+        if (submodel.getSubmodelElements() != null) {
+            for (SubmodelElement element : submodel.getSubmodelElements()) {
+                visit(element, element.getIdShort(), entries);
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * 검색 값 정규화 (색인과 조회 조건에 동일하게 적용)
+     */
+    public static String normalize(String value) {
+        if (value == null) {
+            return null;
+        }
+        String normalized = value.trim().toLowerCase(Locale.ROOT);
+        if (normalized.isEmpty()) {
+            return null;
+        }
+        return normalized.length() > MAX_VALUE_LENGTH ? normalized.substring(0, MAX_VALUE_LENGTH) : normalized;
+    }
+
+    private static void visit(SubmodelElement element, String path, List<ElementIndexEntry> entries) {
+        if (path == null || path.length() > MAX_PATH_LENGTH) {
+            // 경로를 만들 수 없는 요소(idShort 없음)나 컬럼보다 긴 경로는 하위 트리째 색인하지 않음
+            return;
+        }
+        String modelType = modelType(element);
+        String semanticId = semanticId(element);
+
+        if (element instanceof Property property) {
+            String valueType = valueType(property.getValueType());
+            entries.add(entry(path, modelType, semanticId, valueType, property.getValue()));
+
+        } else if (element instanceof Range range) {
+            String valueType = valueType(range.getValueType());
+            entries.add(entry(path + ".min", modelType, semanticId, valueType, range.getMin()));
+            entries.add(entry(path + ".max", modelType, semanticId, valueType, range.getMax()));
+
+        } else if (element instanceof MultiLanguageProperty mlp) {
+            if (mlp.getValue() == null || mlp.getValue().isEmpty()) {
+                entries.add(entry(path, modelType, semanticId, null, null));
+            } else {
+                for (LangStringTextType text : mlp.getValue()) {
+                    entries.add(entry(path, modelType, semanticId, null, text.getText()));
+                }
+            }
+
+        } else if (element instanceof ReferenceElement refElem) {
+            entries.add(entry(path, modelType, semanticId, null, firstKey(refElem.getValue())));
+
+        } else if (element instanceof File file) {
+            entries.add(entry(path, modelType, semanticId, null, file.getValue()));
+
+        } else if (element instanceof SubmodelElementCollection collection) {
+            entries.add(entry(path, modelType, semanticId, null, null));
+            if (collection.getValue() != null) {
+                for (SubmodelElement child : collection.getValue()) {
+                    visit(child, child.getIdShort() != null ? path + "." + child.getIdShort() : null, entries);
+                }
+            }
+
+        } else if (element instanceof SubmodelElementList list) {
+            entries.add(entry(path, modelType, semanticId, null, null));
+            if (list.getValue() != null) {
+                int idx = 0;
+                for (SubmodelElement child : list.getValue()) {
+                    visit(child, path + "[" + idx++ + "]", entries);
+                }
+            }
+
+        } else if (element instanceof Entity entity) {
+            entries.add(entry(path, modelType, semanticId, null, entity.getGlobalAssetId()));
+            if (entity.getStatements() != null) {
+                for (SubmodelElement child : entity.getStatements()) {
+                    visit(child, child.getIdShort() != null ? path + "." + child.getIdShort() : null, entries);
+                }
+            }
+
+        } else {
+            // Blob, Operation 등은 값 없이 경로/semanticId만 색인
+            entries.add(entry(path, modelType, semanticId, null, null));
+        }
+    }
+
+    private static ElementIndexEntry entry(String path, String modelType, String semanticId, String valueType,
+            String value) {
+        Double numericValue = valueType != null && NUMERIC_TYPES.contains(valueType) ? parseNumber(value) : null;
+        return new ElementIndexEntry(path, modelType, semanticId, valueType, normalize(value), numericValue);
+    }
+
+    private static Double parseNumber(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            double parsed = Double.parseDouble(value.trim());
+            // xs:double의 INF/NaN은 범위 검색 대상이 아님
+            return Double.isFinite(parsed) ? parsed : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static String modelType(SubmodelElement element) {
+        return element.getClass().getSimpleName().replace("Default", "");
+    }
+
+    private static String valueType(DataTypeDefXsd valueType) {
+        return valueType != null ? valueType.name() : null;
+    }
+
+    private static String semanticId(HasSemantics element) {
+        String semanticId = firstKey(element.getSemanticId());
+        return semanticId != null && semanticId.length() <= MAX_SEMANTIC_ID_LENGTH ? semanticId : null;
+    }
+
+    private static String firstKey(Reference reference) {
+        if (reference == null || reference.getKeys() == null || reference.getKeys().isEmpty()) {
+            return null;
+        }
+        return reference.getKeys().get(0).getValue();
+    }
+}
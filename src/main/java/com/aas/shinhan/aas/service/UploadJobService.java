@@ -0,0 +1,219 @@
+package com.aas.shinhan.aas.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.aas.shinhan.aas.dto.AasUploadResponse;
+import com.aas.shinhan.aas.dto.UploadJobStatus;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 비동기 업로드 작업 서비스
+ * 업로드 파일을 스풀 디렉터리에 저장한 뒤 즉시 작업 ID를 반환하고,
+ * 고정 크기 작업자 풀에서 파싱/저장을 수행한다. 요청 스레드나 클라이언트 연결과 무관하게 끝까지 처리된다.
+ * 작업 상태는 메모리 레지스트리에서 조회하며 (등록한 사용자만) 완료 후 retention 시간이 지나면 제거된다.
+ * 파일 형식 확인과 작업 자리(작업자 수 + 대기열 크기) 확보를 스풀 저장보다 먼저 하여, 거절될 요청은 디스크에 쓰지 않는다.
+ */
+@Slf4j
+@Service
+public class UploadJobService {
+
+    public enum Status {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+
+    private final AasParserService aasParserService;
+    private final Path spoolDir;
+    private final Duration retention;
+    private final ThreadPoolExecutor workers;
+    // 실행 중 + 대기 중인 작업 자리 (작업 종료 시 반환)
+    private final Semaphore slots;
+    private final Map<String, UploadJob> jobs = new ConcurrentHashMap<>();
+
+    public UploadJobService(AasParserService aasParserService,
+            @Value("${aas.upload.async.spool-dir:${java.io.tmpdir}/aas-upload-spool}") String spoolDir,
+            @Value("${aas.upload.async.workers:2}") int workerCount,
+            @Value("${aas.upload.async.queue-capacity:20}") int queueCapacity,
+            @Value("${aas.upload.async.retention-minutes:60}") long retentionMinutes) throws IOException {
+        this.aasParserService = aasParserService;
+        this.spoolDir = Files.createDirectories(Path.of(spoolDir));
+        this.retention = Duration.ofMinutes(retentionMinutes);
+        this.slots = new Semaphore(workerCount + queueCapacity);
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(workerCount, workerCount, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "aas-upload-job-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        log.info("UploadJobService initialized: spoolDir={}, workers={}, queueCapacity={}",
+                this.spoolDir, workerCount, queueCapacity);
+    }
+
+    /**
+     * 업로드 파일을 스풀에 저장하고 작업 등록
+     * @throws RejectedExecutionException 작업 대기열이 가득 찬 경우
+     */
+    public UploadJobStatus submit(MultipartFile file, String uploadedBy, boolean ignoreDuplicates) throws IOException {
+        String filename = file.getOriginalFilename();
+        if (filename == null) {
+            throw new IllegalArgumentException("File name is required");
+        }
+        AasParserService.requireSupportedFormat(filename);
+        purgeExpired();
+        if (!slots.tryAcquire()) {
+            throw new RejectedExecutionException("Upload job queue is full");
+        }
+
+        String jobId = UUID.randomUUID().toString();
+        Path spoolFile = spoolDir.resolve(jobId + ".upload");
+        UploadJob job = new UploadJob(jobId, filename, file.getSize(), uploadedBy, ignoreDuplicates, spoolFile);
+        try {
+            file.transferTo(spoolFile);
+            jobs.put(jobId, job);
+            workers.execute(() -> run(job));
+        } catch (IOException | RuntimeException e) {
+            jobs.remove(jobId);
+            deleteSpool(spoolFile);
+            slots.release();
+            throw e;
+        }
+
+        log.info("업로드 작업 등록: jobId={}, filename={}, size={}, by={}", jobId, filename, file.getSize(), uploadedBy);
+        return job.toStatus();
+    }
+
+    /**
+     * 작업 상태 조회 (다른 사용자의 작업은 없는 것으로 본다)
+     */
+    public Optional<UploadJobStatus> getStatus(String jobId, String uploadedBy) {
+        UploadJob job = jobs.get(jobId);
+        return job != null && job.uploadedBy.equals(uploadedBy) ? Optional.of(job.toStatus()) : Optional.empty();
+    }
+
+    /**
+     * 사용자의 작업 목록 (최근 등록 순)
+     */
+    public List<UploadJobStatus> getJobs(String uploadedBy) {
+        purgeExpired();
+        return jobs.values().stream()
+                .filter(job -> job.uploadedBy.equals(uploadedBy))
+                .sorted(Comparator.comparing((UploadJob job) -> job.submittedAt).reversed())
+                .map(UploadJob::toStatus)
+                .toList();
+    }
+
+    private void run(UploadJob job) {
+        job.status = Status.RUNNING;
+        job.startedAt = LocalDateTime.now();
+        log.info("업로드 작업 시작: jobId={}", job.jobId);
+
+        try (InputStream inputStream = Files.newInputStream(job.spoolFile)) {
+            job.result = aasParserService.parseAndProcess(job.filename, inputStream, job.uploadedBy,
+                    job.ignoreDuplicates, job.progress);
+            job.status = Status.COMPLETED;
+            log.info("업로드 작업 완료: jobId={}, stages={}", job.jobId, job.progress.getStageMillis());
+        } catch (Exception e) {
+            job.error = e.getMessage();
+            job.status = Status.FAILED;
+            log.error("업로드 작업 실패: jobId={}, error={}", job.jobId, e.getMessage(), e);
+        } finally {
+            job.finishedAt = LocalDateTime.now();
+            deleteSpool(job.spoolFile);
+            slots.release();
+        }
+    }
+
+    private void purgeExpired() {
+        LocalDateTime threshold = LocalDateTime.now().minus(retention);
+        jobs.values().removeIf(job -> job.finishedAt != null && job.finishedAt.isBefore(threshold));
+    }
+
+    private void deleteSpool(Path spoolFile) {
+        try {
+            Files.deleteIfExists(spoolFile);
+        } catch (IOException e) {
+            log.warn("스풀 파일 삭제 실패: {}", spoolFile, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdown();
+    }
+
+    /**
+     * 업로드 작업 한 건
+     */
+    private static class UploadJob {
+
+        private final String jobId;
+        private final String filename;
+        private final long fileSize;
+        private final String uploadedBy;
+        private final boolean ignoreDuplicates;
+        private final Path spoolFile;
+        private final LocalDateTime submittedAt = LocalDateTime.now();
+        private final UploadProgress progress = new UploadProgress();
+
+        private volatile Status status = Status.QUEUED;
+        private volatile LocalDateTime startedAt;
+        private volatile LocalDateTime finishedAt;
+        private volatile AasUploadResponse result;
+        private volatile String error;
+
+        private UploadJob(String jobId, String filename, long fileSize, String uploadedBy,
+                boolean ignoreDuplicates, Path spoolFile) {
+            this.jobId = jobId;
+            this.filename = filename;
+            this.fileSize = fileSize;
+            this.uploadedBy = uploadedBy;
+            this.ignoreDuplicates = ignoreDuplicates;
+            this.spoolFile = spoolFile;
+        }
+
+        private UploadJobStatus toStatus() {
+            return UploadJobStatus.builder()
+                    .jobId(jobId)
+                    .status(status.name())
+                    .filename(filename)
+                    .fileSize(fileSize)
+                    .uploadedBy(uploadedBy)
+                    .submittedAt(submittedAt)
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .bytesRead(progress.getBytesRead())
+                    .entitiesParsed(progress.getEntitiesParsed())
+                    .entitiesPersisted(progress.getEntitiesPersisted())
+                    .stageMillis(progress.getStageMillis())
+                    .result(result)
+                    .error(error)
+                    .build();
+        }
+    }
+}
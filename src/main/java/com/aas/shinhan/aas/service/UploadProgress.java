@@ -0,0 +1,105 @@
+package com.aas.shinhan.aas.service;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 업로드 진행 상황
+ * 파이프라인의 여러 스레드에서 동시에 갱신되므로 모든 값은 원자적으로 관리한다.
+ */
+public class UploadProgress {
+
+    public static final String STAGE_READ = "read";
+    public static final String STAGE_TRANSFORM = "transform";
+    public static final String STAGE_WRITE = "write";
+
+    private final AtomicLong bytesRead = new AtomicLong();
+    private final AtomicLong entitiesParsed = new AtomicLong();
+    private final AtomicLong entitiesPersisted = new AtomicLong();
+    private final Map<String, LongAdder> stageNanos = new ConcurrentHashMap<>();
+
+    /**
+     * 읽은 바이트 수를 집계하는 입력 스트림으로 감싼다
+     */
+    public InputStream track(InputStream inputStream) {
+        return new FilterInputStream(inputStream) {
+            @Override
+            public int read() throws IOException {
+                int b = super.read();
+                if (b >= 0) {
+                    bytesRead.incrementAndGet();
+                }
+                return b;
+            }
+
+            @Override
+            public int read(byte[] buffer, int offset, int length) throws IOException {
+                int n = super.read(buffer, offset, length);
+                if (n > 0) {
+                    bytesRead.addAndGet(n);
+                }
+                return n;
+            }
+
+            @Override
+            public long skip(long n) throws IOException {
+                long skipped = super.skip(n);
+                bytesRead.addAndGet(skipped);
+                return skipped;
+            }
+        };
+    }
+
+    public void entityParsed() {
+        entitiesParsed.incrementAndGet();
+    }
+
+    public void setEntitiesPersisted(long count) {
+        entitiesPersisted.set(count);
+    }
+
+    public void addStageTime(String stage, long nanos) {
+        stageNanos.computeIfAbsent(stage, key -> new LongAdder()).add(nanos);
+    }
+
+    public long getBytesRead() {
+        return bytesRead.get();
+    }
+
+    public long getEntitiesParsed() {
+        return entitiesParsed.get();
+    }
+
+    public long getEntitiesPersisted() {
+        return entitiesPersisted.get();
+    }
+
+    /**
+     * 단계별 누적 소요 시간 (ns, 계측 기록용)
+     */
+    public Map<String, Long> getStageNanos() {
+        Map<String, Long> result = new LinkedHashMap<>();
+        stageNanos.forEach((stage, nanos) -> result.put(stage, nanos.sum()));
+        return result;
+    }
+
+    /**
+     * 단계별 누적 소요 시간 (ms)
+     * transform은 병렬 작업 시간의 합이므로 경과 시간보다 클 수 있다.
+     */
+    public Map<String, Long> getStageMillis() {
+        Map<String, Long> result = new LinkedHashMap<>();
+        for (String stage : new String[] { STAGE_READ, STAGE_TRANSFORM, STAGE_WRITE }) {
+            LongAdder nanos = stageNanos.get(stage);
+            result.put(stage, nanos != null ? TimeUnit.NANOSECONDS.toMillis(nanos.sum()) : 0L);
+        }
+        return result;
+    }
+}
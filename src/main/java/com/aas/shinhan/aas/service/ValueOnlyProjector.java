@@ -0,0 +1,191 @@
+package com.aas.shinhan.aas.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.util.Set;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Submodel 값 전용(Value-Only, AAS Part 2) 표현 생성
+ * 전체 JSON을 aas4j 모델로 역직렬화하지 않고 JSON 트리에서 바로 변환한다.
+ * - Submodel / Collection: idShort를 키로 하는 객체, List: 값 배열
+ * - Property: valueType에 맞춘 JSON 값 (xs:boolean은 true/false, 숫자형은 number, 나머지는 문자열)
+ * - MultiLanguageProperty: [{"언어": "텍스트"}, ...], Range: {"min", "max"}, File/Blob: {"contentType", "value"}
+ * - ReferenceElement: Reference 그대로, Entity/RelationshipElement/BasicEventElement는 Part 2 규칙대로 객체
+ * - Operation, Capability 등 값이 없는 요소는 생략
+ */
+public final class ValueOnlyProjector {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final JsonNodeFactory NODES = JsonNodeFactory.instance;
+
+    private static final Set<String> NUMERIC_TYPES = Set.of("xs:decimal", "xs:double", "xs:float", "xs:integer",
+            "xs:int", "xs:long", "xs:short", "xs:byte", "xs:nonNegativeInteger", "xs:nonPositiveInteger",
+            "xs:positiveInteger", "xs:negativeInteger", "xs:unsignedLong", "xs:unsignedInt", "xs:unsignedShort",
+            "xs:unsignedByte");
+
+    private ValueOnlyProjector() {
+    }
+
+    /**
+     * @param submodelJson aas4j로 직렬화된 Submodel 전체 JSON
+     * @return 값 전용 JSON (null 입력이면 null)
+     */
+    public static String project(String submodelJson) {
+        if (submodelJson == null) {
+            return null;
+        }
+        try {
+            return project(MAPPER.readTree(submodelJson));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to project value-only representation", e);
+        }
+    }
+
+    /**
+     * @param submodelJson UTF-8 JSON 바이트 (저장 내용 스트림에서 읽은 원본)
+     */
+    public static String project(byte[] submodelJson) {
+        try {
+            return project(MAPPER.readTree(submodelJson));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to project value-only representation", e);
+        }
+    }
+
+    private static String project(JsonNode submodel) throws IOException {
+        return MAPPER.writeValueAsString(projectElements(submodel.path("submodelElements")));
+    }
+
+    private static ObjectNode projectElements(JsonNode elements) {
+        ObjectNode result = NODES.objectNode();
+        for (JsonNode element : elements) {
+            String idShort = element.path("idShort").asText(null);
+            JsonNode value = projectElement(element);
+            if (idShort != null && value != null) {
+                result.set(idShort, value);
+            }
+        }
+        return result;
+    }
+
+    private static JsonNode projectElement(JsonNode element) {
+        return switch (element.path("modelType").asText("")) {
+            case "Property" -> typedValue(element.get("value"), element.path("valueType").asText(null));
+            case "MultiLanguageProperty" -> langStrings(element.get("value"));
+            case "Range" -> range(element);
+            case "File", "Blob" -> contentValue(element);
+            case "ReferenceElement" -> element.get("value");
+            case "SubmodelElementCollection" -> projectElements(element.path("value"));
+            case "SubmodelElementList" -> list(element.path("value"));
+            case "Entity" -> entity(element);
+            case "RelationshipElement" -> relationship(element);
+            case "AnnotatedRelationshipElement" -> annotatedRelationship(element);
+            case "BasicEventElement" -> basicEvent(element);
+            default -> null;
+        };
+    }
+
+    private static JsonNode typedValue(JsonNode value, String valueType) {
+        if (value == null || value.isNull() || !value.isTextual()) {
+            return value;
+        }
+        String text = value.asText();
+        if ("xs:boolean".equals(valueType)) {
+            if ("true".equals(text) || "1".equals(text)) {
+                return NODES.booleanNode(true);
+            }
+            if ("false".equals(text) || "0".equals(text)) {
+                return NODES.booleanNode(false);
+            }
+        } else if (valueType != null && NUMERIC_TYPES.contains(valueType)) {
+            try {
+                return NODES.numberNode(new BigDecimal(text.trim()));
+            } catch (NumberFormatException e) {
+                // INF, NaN 등 JSON 숫자로 표현할 수 없는 값은 문자열 그대로
+            }
+        }
+        return value;
+    }
+
+    private static ArrayNode langStrings(JsonNode value) {
+        ArrayNode result = NODES.arrayNode();
+        if (value != null) {
+            for (JsonNode langString : value) {
+                result.addObject().put(langString.path("language").asText(), langString.path("text").asText());
+            }
+        }
+        return result;
+    }
+
+    private static ObjectNode range(JsonNode element) {
+        String valueType = element.path("valueType").asText(null);
+        ObjectNode result = NODES.objectNode();
+        if (element.has("min")) {
+            result.set("min", typedValue(element.get("min"), valueType));
+        }
+        if (element.has("max")) {
+            result.set("max", typedValue(element.get("max"), valueType));
+        }
+        return result;
+    }
+
+    private static ObjectNode contentValue(JsonNode element) {
+        ObjectNode result = NODES.objectNode();
+        result.set("contentType", element.get("contentType"));
+        if (element.has("value")) {
+            result.set("value", element.get("value"));
+        }
+        return result;
+    }
+
+    private static ArrayNode list(JsonNode values) {
+        ArrayNode result = NODES.arrayNode();
+        for (JsonNode child : values) {
+            JsonNode value = projectElement(child);
+            result.add(value != null ? value : NODES.nullNode());
+        }
+        return result;
+    }
+
+    private static ObjectNode entity(JsonNode element) {
+        ObjectNode result = NODES.objectNode();
+        result.set("statements", projectElements(element.path("statements")));
+        result.set("entityType", element.get("entityType"));
+        if (element.has("globalAssetId")) {
+            result.set("globalAssetId", element.get("globalAssetId"));
+        }
+        if (element.has("specificAssetIds")) {
+            result.set("specificAssetIds", element.get("specificAssetIds"));
+        }
+        return result;
+    }
+
+    private static ObjectNode relationship(JsonNode element) {
+        ObjectNode result = NODES.objectNode();
+        result.set("first", element.get("first"));
+        result.set("second", element.get("second"));
+        return result;
+    }
+
+    private static ObjectNode annotatedRelationship(JsonNode element) {
+        ObjectNode result = relationship(element);
+        result.set("annotations", projectElements(element.path("annotations")));
+        return result;
+    }
+
+    private static ObjectNode basicEvent(JsonNode element) {
+        if (!element.has("observed")) {
+            return null;
+        }
+        ObjectNode result = NODES.objectNode();
+        result.set("observed", element.get("observed"));
+        return result;
+    }
+}
@@ -0,0 +1,336 @@
+package com.aas.shinhan.aas.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.aas.shinhan.aas.dto.CompactionResult;
+import com.aas.shinhan.aas.dto.PreparedIdentifiable.Kind;
+import com.aas.shinhan.aas.dto.ReconstructedVersion;
+import com.aas.shinhan.aas.dto.VersionPayload;
+import com.aas.shinhan.aas.entity.StorageType;
+import com.aas.shinhan.aas.repository.AasRepository;
+import com.aas.shinhan.aas.repository.SubmodelRepository;
+import com.aas.shinhan.core.codec.EncodedPayload;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 버전 이력 저장 엔진 (AAS, Submodel)
+ * 비활성 과거 버전은 직전 버전 대비 JSON Patch(DELTA)로 저장하고,
+ * snapshot-interval 주기의 버전(1, N+1, 2N+1, ...)과 최신/활성 버전은 전체 JSON(FULL)으로 유지한다.
+ * 과거 버전 조회/활성화 시 가장 가까운 아래쪽 FULL 버전부터 델타를 순서대로 적용해 복원한다.
+ * 업로드로 생긴 새 버전의 델타 변환은 커밋 후 백그라운드 스레드 하나가 ID별 짧은 트랜잭션으로 처리해,
+ * 이력 깊이에 비례하는 조회/파싱 비용이 업로드 트랜잭션에 더해지지 않게 한다.
+ */
+@Slf4j
+@Service
+public class VersionStorageService {
+
+    private final ObjectMapper objectMapper;
+    private final PayloadCodecService payloadCodecService;
+    private final PayloadStore aasStore;
+    private final PayloadStore submodelStore;
+    private final VersionedWriteTemplate versionedWriteTemplate;
+    private final IngestMetrics ingestMetrics;
+    private final boolean deltaEnabled;
+    private final int snapshotInterval;
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "aas-version-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public VersionStorageService(ObjectMapper objectMapper, PayloadCodecService payloadCodecService,
+            AasRepository aasRepository, SubmodelRepository submodelRepository,
+            VersionedWriteTemplate versionedWriteTemplate, IngestMetrics ingestMetrics,
+            @Value("${aas.versioning.delta-enabled:true}") boolean deltaEnabled,
+            @Value("${aas.versioning.snapshot-interval:10}") int snapshotInterval) {
+        this.objectMapper = objectMapper;
+        this.payloadCodecService = payloadCodecService;
+        this.versionedWriteTemplate = versionedWriteTemplate;
+        this.ingestMetrics = ingestMetrics;
+        this.deltaEnabled = deltaEnabled;
+        this.snapshotInterval = Math.max(1, snapshotInterval);
+        this.aasStore = new PayloadStore("AAS",
+                aasRepository::findBaseVersionByAasId,
+                aasRepository::findPayloadsByAasId,
+                aasRepository::findFirstCompactableVersionByAasId,
+                aasRepository::findMaxVersionByAasId,
+                aasRepository::updateStoredVersionBySeq);
+        this.submodelStore = new PayloadStore("Submodel",
+                submodelRepository::findBaseVersionBySubmodelId,
+                submodelRepository::findPayloadsBySubmodelId,
+                submodelRepository::findFirstCompactableVersionBySubmodelId,
+                submodelRepository::findMaxVersionBySubmodelId,
+                submodelRepository::updateStoredVersionBySeq);
+        log.info("VersionStorageService initialized: deltaEnabled={}, snapshotInterval={}",
+                deltaEnabled, this.snapshotInterval);
+    }
+
+    // ======================= 복원 =======================
+
+    @Transactional(readOnly = true)
+    public ReconstructedVersion reconstructAas(String aasId, int version) {
+        return reconstruct(aasStore, aasId, version);
+    }
+
+    @Transactional(readOnly = true)
+    public ReconstructedVersion reconstructSubmodel(String submodelId, int version) {
+        return reconstruct(submodelStore, submodelId, version);
+    }
+
+    // ======================= 델타 변환 =======================
+
+    /**
+     * 전체 이력 델타 변환 (기존 데이터 이관용)
+     */
+    @Transactional
+    public CompactionResult compactAas(String aasId) {
+        return compact(aasStore, aasId, 1);
+    }
+
+    @Transactional
+    public CompactionResult compactSubmodel(String submodelId) {
+        return compact(submodelStore, submodelId, 1);
+    }
+
+    /**
+     * 새 버전 저장 직후 호출: 최근 snapshot-interval 범위 안의 비활성 FULL 버전만 델타로 변환
+     * 범위 밖의 오래된 이력은 compactAas/compactSubmodel로 별도 변환한다.
+     */
+    @Transactional
+    public void compactRecentAas(Collection<String> aasIds) {
+        compactRecent(aasStore, aasIds);
+    }
+
+    @Transactional
+    public void compactRecentSubmodels(Collection<String> submodelIds) {
+        compactRecent(submodelStore, submodelIds);
+    }
+
+    /**
+     * 업로드 트랜잭션이 커밋된 뒤 백그라운드에서 최근 범위 델타 변환 (롤백되면 하지 않음)
+     * ID마다 스트라이프 잠금을 잡은 별도 트랜잭션에서 실행해 같은 ID의 단건 저장/활성화와 겹치지 않는다.
+     * 실패하거나 종료로 건너뛴 버전은 FULL로 남으며 저장 공간만 더 쓴다 (compactAas/compactSubmodel로 변환 가능).
+     */
+    public void compactRecentAasAfterCommit(Collection<String> aasIds) {
+        compactAfterCommit(Kind.AAS, aasStore, aasIds);
+    }
+
+    public void compactRecentSubmodelsAfterCommit(Collection<String> submodelIds) {
+        compactAfterCommit(Kind.SUBMODEL, submodelStore, submodelIds);
+    }
+
+    private void compactAfterCommit(Kind kind, PayloadStore store, Collection<String> ids) {
+        if (!deltaEnabled || ids.isEmpty()) {
+            return;
+        }
+        List<String> pending = List.copyOf(ids);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            compactor.execute(() -> compactInBackground(kind, store, pending));
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                compactor.execute(() -> compactInBackground(kind, store, pending));
+            }
+        });
+    }
+
+    private void compactInBackground(Kind kind, PayloadStore store, List<String> ids) {
+        ingestMetrics.phase(kind, IngestMetrics.PHASE_COMPACT, () -> {
+            for (String id : ids) {
+                try {
+                    versionedWriteTemplate.execute(kind, id, () -> {
+                        compactRecent(store, List.of(id));
+                        return null;
+                    });
+                } catch (RuntimeException e) {
+                    log.warn("{} [{}] 델타 변환 실패, FULL로 유지: {}", store.label(), id, e.getMessage());
+                }
+            }
+        });
+    }
+
+    private void compactRecent(PayloadStore store, Collection<String> ids) {
+        for (String id : ids) {
+            int maxVersion = store.maxVersion().apply(id).orElse(0);
+            compact(store, id, Math.max(1, maxVersion - snapshotInterval));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        compactor.shutdownNow();
+    }
+
+    // ======================= 내부 구현 =======================
+
+    private ReconstructedVersion reconstruct(PayloadStore store, String id, int version) {
+        long start = System.currentTimeMillis();
+        int baseVersion = store.baseVersion().apply(id, version)
+                .orElseThrow(() -> new IllegalArgumentException(
+                        store.label() + " not found: id=" + id + ", version=" + version));
+
+        List<VersionPayload> chain = latestPerVersion(store.payloads().find(id, baseVersion, version));
+        if (chain.isEmpty() || chain.get(chain.size() - 1).getVersion() != version) {
+            throw new IllegalArgumentException(store.label() + " not found: id=" + id + ", version=" + version);
+        }
+
+        long bytesRead = 0;
+        String json;
+        if (chain.size() == 1) {
+            json = chain.get(0).getJson();
+            bytesRead = chain.get(0).getStoredSize();
+        } else {
+            JsonNode content = null;
+            for (VersionPayload row : chain) {
+                bytesRead += row.getStoredSize();
+                content = applyRow(store, id, content, row);
+            }
+            json = content.toString();
+        }
+
+        ReconstructedVersion result = ReconstructedVersion.builder()
+                .entityId(id)
+                .version(version)
+                .json(json)
+                .baseVersion(baseVersion)
+                .deltasApplied(chain.size() - 1)
+                .bytesRead(bytesRead)
+                .elapsedMillis(System.currentTimeMillis() - start)
+                .build();
+        log.debug("{} 버전 복원: id={}, version={}, base={}, deltas={}, bytes={}, {}ms", store.label(), id, version,
+                baseVersion, result.getDeltasApplied(), bytesRead, result.getElapsedMillis());
+        return result;
+    }
+
+    /**
+     * fromVersion 이후의 변환 대상 버전을 델타로 바꾼다.
+     * 직전 버전 내용이 필요하므로 첫 대상 아래쪽의 FULL 버전부터 순서대로 읽으며 복원한다.
+     */
+    private CompactionResult compact(PayloadStore store, String id, int fromVersion) {
+        CompactionResult.CompactionResultBuilder result = CompactionResult.builder().entityId(id);
+        if (!deltaEnabled) {
+            return result.build();
+        }
+        Optional<Integer> first = store.firstCompactable().find(id, fromVersion, snapshotInterval);
+        if (first.isEmpty()) {
+            return result.build();
+        }
+
+        int maxVersion = store.maxVersion().apply(id).orElse(0);
+        int baseVersion = store.baseVersion().apply(id, first.get() - 1).orElse(first.get());
+        List<VersionPayload> rows = latestPerVersion(store.payloads().find(id, baseVersion, maxVersion - 1));
+
+        int converted = 0;
+        long bytesBefore = 0;
+        long bytesAfter = 0;
+        JsonNode previous = null;
+        for (VersionPayload row : rows) {
+            JsonNode content = applyRow(store, id, previous, row);
+            if (previous != null && row.getVersion() >= first.get() && isCompactable(row)) {
+                EncodedPayload patch = payloadCodecService.encode(JsonPatch.diff(previous, content).toString());
+                // 델타가 더 크면 (대부분 내용이 바뀐 경우) FULL 유지
+                if (patch.bytes().length < row.getStoredSize()) {
+                    store.update().update(row.getSeq(), patch.bytes(), patch.codecName(), StorageType.DELTA);
+                    converted++;
+                    bytesBefore += row.getStoredSize();
+                    bytesAfter += patch.bytes().length;
+                }
+            }
+            previous = content;
+        }
+
+        if (converted > 0) {
+            log.info("{} 버전 이력 델타 변환: id={}, {}건, {} -> {} bytes", store.label(), id, converted,
+                    bytesBefore, bytesAfter);
+        }
+        return result.convertedVersions(converted).bytesBefore(bytesBefore).bytesAfter(bytesAfter).build();
+    }
+
+    private boolean isCompactable(VersionPayload row) {
+        return row.getStorageType() == StorageType.FULL
+                && !Boolean.TRUE.equals(row.getActive())
+                && (row.getVersion() - 1) % snapshotInterval != 0;
+    }
+
+    private JsonNode applyRow(PayloadStore store, String id, JsonNode previous, VersionPayload row) {
+        JsonNode payload = parse(row.getJson());
+        if (row.getStorageType() == StorageType.FULL) {
+            return payload;
+        }
+        if (previous == null) {
+            throw new IllegalStateException(store.label() + " delta chain has no base: id=" + id
+                    + ", version=" + row.getVersion());
+        }
+        return JsonPatch.apply(previous, payload);
+    }
+
+    private JsonNode parse(String json) {
+        try {
+            return objectMapper.readTree(json);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Stored version payload is not valid JSON", e);
+        }
+    }
+
+    /**
+     * 같은 버전 번호가 중복된 과거 데이터는 SEQ가 큰 행만 사용 (입력은 version, seq 오름차순)
+     */
+    private static List<VersionPayload> latestPerVersion(List<VersionPayload> rows) {
+        List<VersionPayload> result = new ArrayList<>(rows.size());
+        for (VersionPayload row : rows) {
+            if (!result.isEmpty() && result.get(result.size() - 1).getVersion().equals(row.getVersion())) {
+                result.set(result.size() - 1, row);
+            } else {
+                result.add(row);
+            }
+        }
+        return result;
+    }
+
+    @FunctionalInterface
+    private interface RangeQuery {
+        List<VersionPayload> find(String id, Integer fromVersion, Integer toVersion);
+    }
+
+    @FunctionalInterface
+    private interface CompactableQuery {
+        Optional<Integer> find(String id, Integer fromVersion, Integer interval);
+    }
+
+    @FunctionalInterface
+    private interface PayloadUpdate {
+        int update(Long seq, byte[] payload, String payloadCodec, StorageType storageType);
+    }
+
+    /**
+     * 테이블별 저장소 연산 묶음
+     */
+    private record PayloadStore(
+            String label,
+            BiFunction<String, Integer, Optional<Integer>> baseVersion,
+            RangeQuery payloads,
+            CompactableQuery firstCompactable,
+            Function<String, Optional<Integer>> maxVersion,
+            PayloadUpdate update) {
+    }
+}
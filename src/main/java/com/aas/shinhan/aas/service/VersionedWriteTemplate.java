@@ -0,0 +1,71 @@
+package com.aas.shinhan.aas.service;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.aas.shinhan.aas.dto.PreparedIdentifiable.Kind;
+import com.aas.shinhan.core.lock.StripedLockManager;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 단건 버전 저장/활성화 실행기
+ * 트랜잭션을 열고 식별자 스트라이프 잠금을 잡은 뒤 작업을 실행한다 (같은 노드의 같은 ID는 직렬화).
+ * 다른 노드가 같은 (ID, VERSION) 또는 같은 활성 포인터를 먼저 커밋해 유일 제약을 위반하면
+ * 새 트랜잭션에서 최신 버전을 다시 읽어 최대 aas.ingest.version-conflict-retries회 재시도한다.
+ * 재조회가 다른 트랜잭션의 커밋을 볼 수 있도록 READ COMMITTED로 실행한다 (MySQL 기본값 REPEATABLE READ 대신).
+ * 호출자 트랜잭션 안에서 호출되면 그 트랜잭션에 참여하며, 실패가 바깥 트랜잭션을 롤백 전용으로 만들므로 재시도하지 않는다.
+ */
+@Slf4j
+@Component
+public class VersionedWriteTemplate {
+
+    private final StripedLockManager stripedLockManager;
+    private final IngestMetrics ingestMetrics;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxRetries;
+
+    public VersionedWriteTemplate(StripedLockManager stripedLockManager, IngestMetrics ingestMetrics,
+            PlatformTransactionManager transactionManager,
+            @Value("${aas.ingest.version-conflict-retries:3}") int maxRetries) {
+        this.stripedLockManager = stripedLockManager;
+        this.ingestMetrics = ingestMetrics;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        this.maxRetries = Math.max(0, maxRetries);
+    }
+
+    /**
+     * 식별자 하나를 잠근 트랜잭션에서 작업 실행 (버전 충돌 시 재시도)
+     */
+    public <T> T execute(Kind kind, String id, Supplier<T> action) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return runLocked(kind, id, action);
+        }
+        for (int attempt = 0;; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> runLocked(kind, id, action));
+            } catch (DataIntegrityViolationException e) {
+                if (attempt >= maxRetries) {
+                    throw e;
+                }
+                ingestMetrics.recordVersionConflict(kind);
+                log.warn("{} [{}] 버전 충돌, 재시도 {}/{}: {}", kind, id, attempt + 1, maxRetries,
+                        e.getMostSpecificCause().getMessage());
+            }
+        }
+    }
+
+    private <T> T runLocked(Kind kind, String id, Supplier<T> action) {
+        stripedLockManager.lockForTransaction(kind.name(), List.of(id));
+        return action.get();
+    }
+}
@@ -0,0 +1,29 @@
+package com.aas.shinhan.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.aas.shinhan.core.metrics.JdbcStatementCounter;
+
+/**
+ * 업로드 계측 설정
+ * aas.metrics.jdbc-statement-count=true이면 DataSource를 감싸 업로드별 DB 왕복 횟수를 센다.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "aas.metrics.jdbc-statement-count", havingValue = "true", matchIfMissing = true)
+    public static BeanPostProcessor jdbcStatementCountingPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof DataSource dataSource ? JdbcStatementCounter.wrap(dataSource) : bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,89 @@
+package com.aas.shinhan.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import com.aas.shinhan.core.datasource.ReadWriteRoutingDataSource;
+import com.aas.shinhan.core.datasource.ReadYourWritesTracker;
+import com.aas.shinhan.core.datasource.ReplicaDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 읽기 복제본 라우팅 설정
+ * aas.datasource.replica.enabled=true이면 spring.datasource로 만든 주 DB 풀과 aas.datasource.replica.urls의
+ * 복제본 풀을 묶어, 읽기 전용 트랜잭션은 복제본으로 나머지는 주 DB로 보내는 DataSource를 등록한다.
+ * 요청 전체에 커넥션 하나를 묶어 두는 open-in-view와는 함께 쓸 수 없다 (앞선 조회가 고른 복제본으로 쓰기가 나감).
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "aas.datasource.replica.enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    @Bean
+    public DataSource dataSource(DataSourceProperties properties, Environment environment,
+            ReadYourWritesTracker readYourWritesTracker, MeterRegistry meterRegistry,
+            @Value("${aas.datasource.replica.urls}") List<String> urls,
+            @Value("${aas.datasource.replica.username:${spring.datasource.username:}}") String username,
+            @Value("${aas.datasource.replica.password:${spring.datasource.password:}}") String password,
+            @Value("${aas.datasource.replica.maximum-pool-size:10}") int maximumPoolSize,
+            @Value("${aas.datasource.replica.connection-timeout:2s}") Duration connectionTimeout,
+            @Value("${aas.datasource.replica.health-check-interval:5s}") Duration healthCheckInterval,
+            @Value("${spring.jpa.open-in-view:true}") boolean openInView) {
+        if (openInView) {
+            throw new IllegalStateException("aas.datasource.replica.enabled requires spring.jpa.open-in-view=false");
+        }
+        if (urls.isEmpty()) {
+            throw new IllegalStateException("aas.datasource.replica.urls must list at least one replica");
+        }
+
+        // 기본 DataSource 자동 설정과 같은 속성(spring.datasource.*, spring.datasource.hikari.*)으로 주 DB 풀 생성
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < urls.size(); i++) {
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("aas-replica-" + (i + 1));
+            replica.setJdbcUrl(urls.get(i).trim());
+            replica.setUsername(username);
+            replica.setPassword(password);
+            replica.setMaximumPoolSize(maximumPoolSize);
+            replica.setConnectionTimeout(connectionTimeout.toMillis());
+            replica.setReadOnly(true);
+            // 복제본이 내려가 있어도 기동은 계속 (상태 점검이 복귀를 감지)
+            replica.setInitializationFailTimeout(-1);
+            replicas.add(replica);
+        }
+        ReplicaDataSource replicaDataSource = new ReplicaDataSource(primary, replicas, readYourWritesTracker,
+                healthCheckInterval, connectionTimeout);
+
+        Gauge.builder("aas.datasource.replicas.healthy", replicaDataSource, ReplicaDataSource::getHealthyReplicaCount)
+                .description("Replicas currently eligible for read-only transactions")
+                .register(meterRegistry);
+        FunctionCounter.builder("aas.datasource.replicas.fallbacks", replicaDataSource,
+                ReplicaDataSource::getPrimaryFallbackCount)
+                .description("Read-only connections sent to the primary because no replica was healthy")
+                .register(meterRegistry);
+
+        log.info("읽기 복제본 라우팅 사용: replicas={}, healthCheckInterval={}, readYourWrites={}", urls.size(),
+                healthCheckInterval, readYourWritesTracker.isEnabled());
+        return new ReadWriteRoutingDataSource(primary, replicaDataSource);
+    }
+}
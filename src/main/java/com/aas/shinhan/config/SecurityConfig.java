@@ -20,6 +20,7 @@ import com.aas.shinhan.core.jwt.JwtAuthenticationEntryPoint;
 import com.aas.shinhan.core.jwt.JwtTokenFilter;
 import com.aas.shinhan.core.jwt.JwtTokenProvider;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 
 @Configuration
@@ -49,6 +50,8 @@ public class SecurityConfig {
                 .accessDeniedHandler(jwtAccessDeniedHandler)
             )
             .authorizeHttpRequests(auth -> auth
+                // 스트리밍 응답(StreamingResponseBody, SSE)의 비동기 재디스패치는 최초 요청에서 이미 인가됨
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 .requestMatchers("/accounts/aas/login").permitAll()
                 .requestMatchers("/accounts/test").permitAll()
                 .anyRequest().authenticated()
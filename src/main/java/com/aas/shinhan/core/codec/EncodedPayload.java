@@ -0,0 +1,14 @@
+package com.aas.shinhan.core.codec;
+
+/**
+ * 코덱으로 인코딩된 JSON 저장 내용
+ * @param codec    PAYLOAD_CODEC 컬럼 값
+ * @param bytes    PAYLOAD 컬럼 값
+ * @param rawSize  인코딩 전 UTF-8 크기
+ */
+public record EncodedPayload(PayloadCodec codec, byte[] bytes, int rawSize) {
+
+    public String codecName() {
+        return codec.name();
+    }
+}
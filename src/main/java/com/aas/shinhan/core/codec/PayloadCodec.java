@@ -0,0 +1,131 @@
+package com.aas.shinhan.core.codec;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4SafeDecompressor;
+
+/**
+ * JSON 저장 내용 압축 코덱
+ * 코덱 이름은 PAYLOAD_CODEC 컬럼에 그대로 기록되므로 상수 이름을 바꾸면 안 된다.
+ */
+public enum PayloadCodec {
+
+    /**
+     * 무압축 UTF-8
+     */
+    NONE {
+        @Override
+        public byte[] encode(byte[] raw) {
+            return raw;
+        }
+
+        @Override
+        public byte[] decode(byte[] encoded) {
+            return encoded;
+        }
+
+        @Override
+        public void decodeTo(InputStream encoded, OutputStream out) throws IOException {
+            encoded.transferTo(out);
+        }
+    },
+
+    /**
+     * zlib deflate (압축률 우선)
+     */
+    DEFLATE {
+        @Override
+        public byte[] encode(byte[] raw) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, raw.length / 4));
+            try (DeflaterOutputStream deflater = new DeflaterOutputStream(out)) {
+                deflater.write(raw);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return out.toByteArray();
+        }
+
+        @Override
+        public byte[] decode(byte[] encoded) {
+            try (InflaterInputStream inflater = new InflaterInputStream(new ByteArrayInputStream(encoded))) {
+                return inflater.readAllBytes();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void decodeTo(InputStream encoded, OutputStream out) throws IOException {
+            // 원본 전체를 만들지 않고 버퍼 단위로 풀어서 출력 (입력 스트림은 호출자가 닫으므로 Inflater만 해제)
+            Inflater inflater = new Inflater();
+            try {
+                new InflaterInputStream(encoded, inflater).transferTo(out);
+            } finally {
+                inflater.end();
+            }
+        }
+    },
+
+    /**
+     * LZ4 블록 (속도 우선), 앞 4바이트에 원본 길이 기록
+     */
+    LZ4 {
+        @Override
+        public byte[] encode(byte[] raw) {
+            LZ4Compressor compressor = Lz4Holder.FACTORY.fastCompressor();
+            byte[] out = new byte[Integer.BYTES + compressor.maxCompressedLength(raw.length)];
+            ByteBuffer.wrap(out).putInt(raw.length);
+            int length = compressor.compress(raw, 0, raw.length, out, Integer.BYTES);
+            return Arrays.copyOf(out, Integer.BYTES + length);
+        }
+
+        @Override
+        public byte[] decode(byte[] encoded) {
+            int rawLength = ByteBuffer.wrap(encoded).getInt();
+            byte[] raw = new byte[rawLength];
+            LZ4SafeDecompressor decompressor = Lz4Holder.FACTORY.safeDecompressor();
+            decompressor.decompress(encoded, Integer.BYTES, encoded.length - Integer.BYTES, raw, 0, rawLength);
+            return raw;
+        }
+    };
+
+    public abstract byte[] encode(byte[] raw);
+
+    public abstract byte[] decode(byte[] encoded);
+
+    /**
+     * 인코딩된 스트림을 디코딩해 출력 (LZ4 블록은 블록 전체를 읽은 뒤 풀어서 출력)
+     * 입력/출력 스트림은 닫지 않는다.
+     */
+    public void decodeTo(InputStream encoded, OutputStream out) throws IOException {
+        out.write(decode(encoded.readAllBytes()));
+    }
+
+    /**
+     * 저장된 코덱 이름과 내용으로 JSON 복원 (코덱이 없으면 무압축으로 간주)
+     */
+    public static String decodeToString(String codecName, byte[] encoded) {
+        if (encoded == null) {
+            return null;
+        }
+        PayloadCodec codec = codecName != null ? valueOf(codecName) : NONE;
+        return new String(codec.decode(encoded), StandardCharsets.UTF_8);
+    }
+
+    private static final class Lz4Holder {
+        private static final LZ4Factory FACTORY = LZ4Factory.fastestInstance();
+    }
+}
@@ -0,0 +1,31 @@
+package com.aas.shinhan.core.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드의 읽기 전용 트랜잭션을 복제본 대신 주 DB로 보내는 범위
+ * 복제 지연이 허용되지 않는 조회(캐시 적재 등)를 감싼다. 범위 안에서 새로 얻는 커넥션에만 적용된다.
+ */
+public final class ReadRoutingContext {
+
+    private static final ThreadLocal<Boolean> PRIMARY = new ThreadLocal<>();
+
+    private ReadRoutingContext() {
+    }
+
+    public static <T> T onPrimary(Supplier<T> action) {
+        Boolean outer = PRIMARY.get();
+        PRIMARY.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            if (outer == null) {
+                PRIMARY.remove();
+            }
+        }
+    }
+
+    public static boolean isPrimaryForced() {
+        return PRIMARY.get() != null;
+    }
+}
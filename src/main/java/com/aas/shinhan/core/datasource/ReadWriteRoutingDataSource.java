@@ -0,0 +1,33 @@
+package com.aas.shinhan.core.datasource;
+
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * 읽기/쓰기 라우팅 DataSource
+ * 커넥션을 첫 SQL 실행 시점까지 미루므로 트랜잭션 시작 시 readOnly 표시(@Transactional(readOnly = true))가
+ * 먼저 반영되고, readOnly 커넥션은 복제본 묶음({@link ReplicaDataSource})에서, 그 외는 주 DB에서 얻는다.
+ */
+public final class ReadWriteRoutingDataSource extends LazyConnectionDataSourceProxy implements AutoCloseable {
+
+    private final HikariDataSource primary;
+    private final ReplicaDataSource replicas;
+
+    public ReadWriteRoutingDataSource(HikariDataSource primary, ReplicaDataSource replicas) {
+        super(primary);
+        setReadOnlyDataSource(replicas);
+        this.primary = primary;
+        this.replicas = replicas;
+    }
+
+    public ReplicaDataSource getReplicas() {
+        return replicas;
+    }
+
+    @Override
+    public void close() {
+        replicas.close();
+        primary.close();
+    }
+}
@@ -0,0 +1,68 @@
+package com.aas.shinhan.core.datasource;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * 사용자별 최근 쓰기 기록 (read-your-writes)
+ * 사용자의 쓰기 트랜잭션이 커밋된 뒤 aas.datasource.replica.read-your-writes-window 동안
+ * 그 사용자의 읽기 전용 트랜잭션은 복제본 대신 주 DB에서 읽어, 복제 지연 때문에 방금 저장한 내용이 안 보이는 일을 막는다.
+ * 복제본 라우팅을 쓰지 않거나 창이 0이면 아무것도 기록하지 않는다.
+ */
+@Component
+public class ReadYourWritesTracker {
+
+    // 쓰기 커밋 후 창 안에 있는 사용자 (null이면 비활성)
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWritesTracker(@Value("${aas.datasource.replica.enabled:false}") boolean replicaEnabled,
+            @Value("${aas.datasource.replica.read-your-writes-window:5s}") Duration window,
+            @Value("${aas.datasource.replica.read-your-writes-max-users:100000}") long maxUsers) {
+        this.recentWriters = replicaEnabled && !window.isZero() && !window.isNegative()
+                ? Caffeine.newBuilder().expireAfterWrite(window).maximumSize(maxUsers).build()
+                : null;
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋되면 username의 창 시작 (트랜잭션 밖이면 즉시)
+     */
+    public void recordWrite(String username) {
+        if (recentWriters == null || username == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            recentWriters.put(username, Boolean.TRUE);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recentWriters.put(username, Boolean.TRUE);
+            }
+        });
+    }
+
+    /**
+     * 현재 인증 사용자가 창 안에 있으면 주 DB에서 읽어야 함
+     */
+    public boolean requiresPrimary() {
+        if (recentWriters == null) {
+            return false;
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && recentWriters.getIfPresent(authentication.getName()) != null;
+    }
+
+    public boolean isEnabled() {
+        return recentWriters != null;
+    }
+}
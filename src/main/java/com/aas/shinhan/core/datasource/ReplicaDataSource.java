@@ -0,0 +1,157 @@
+package com.aas.shinhan.core.datasource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 읽기 전용 트랜잭션용 복제본 DataSource 묶음
+ * 정상 상태인 복제본을 라운드 로빈으로 고르고, 커넥션 획득에 실패한 복제본은 즉시 제외한 뒤 다음 복제본을 시도한다.
+ * 정상 복제본이 없거나, 주 DB 조회가 강제되었거나 ({@link ReadRoutingContext}),
+ * 현재 사용자가 최근에 쓴 경우 ({@link ReadYourWritesTracker}) 주 DB 커넥션을 준다.
+ * 제외된 복제본은 주기적인 상태 점검(Connection.isValid)이 성공하면 다시 사용한다.
+ */
+@Slf4j
+public final class ReplicaDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final int validationTimeoutSeconds;
+    private final ScheduledThreadPoolExecutor healthChecker;
+    private final AtomicInteger next = new AtomicInteger();
+    private final AtomicLong primaryFallbacks = new AtomicLong();
+
+    public ReplicaDataSource(DataSource primary, List<HikariDataSource> replicas,
+            ReadYourWritesTracker readYourWritesTracker, Duration healthCheckInterval, Duration validationTimeout) {
+        this.primary = primary;
+        this.replicas = replicas.stream().map(Replica::new).toList();
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.validationTimeoutSeconds = (int) Math.max(1, validationTimeout.toSeconds());
+        this.healthChecker = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "aas-replica-health");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = Math.max(1, healthCheckInterval.toMillis());
+        healthChecker.scheduleWithFixedDelay(this::checkHealth, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route(DataSource::getConnection);
+    }
+
+    /**
+     * 고른 복제본(또는 주 DB) 풀에 사용자/비밀번호 지정 커넥션 요청을 그대로 전달
+     * 풀이 지원하지 않는 경우(HikariCP) SQLFeatureNotSupportedException이 나며, 이때는 복제본을 제외하지 않는다.
+     */
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return route(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    private Connection route(ConnectionRequest request) throws SQLException {
+        if (ReadRoutingContext.isPrimaryForced() || readYourWritesTracker.requiresPrimary()) {
+            return request.open(primary);
+        }
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (!replica.healthy) {
+                continue;
+            }
+            try {
+                return request.open(replica.dataSource);
+            } catch (SQLFeatureNotSupportedException e) {
+                throw e;
+            } catch (SQLException e) {
+                markDown(replica, e.getMessage());
+            }
+        }
+        primaryFallbacks.incrementAndGet();
+        return request.open(primary);
+    }
+
+    /**
+     * 모든 복제본 상태 점검 (제외/복귀 전환 시 로그)
+     */
+    public void checkHealth() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection()) {
+                if (!connection.isValid(validationTimeoutSeconds)) {
+                    throw new SQLException("validation failed");
+                }
+                if (!replica.healthy) {
+                    replica.healthy = true;
+                    log.info("복제본 복귀: {}", replica.dataSource.getPoolName());
+                }
+            } catch (SQLException | RuntimeException e) {
+                markDown(replica, e.getMessage());
+            }
+        }
+    }
+
+    private void markDown(Replica replica, String reason) {
+        if (replica.healthy) {
+            replica.healthy = false;
+            log.warn("복제본 제외, 읽기를 다른 복제본/주 DB로 전환: {} ({})", replica.dataSource.getPoolName(), reason);
+        }
+        // 끊긴 커넥션이 풀에 남아 다음 획득 때 다시 실패하지 않도록 비움
+        HikariPoolMXBean pool = replica.dataSource.getHikariPoolMXBean();
+        if (pool != null) {
+            pool.softEvictConnections();
+        }
+    }
+
+    public int getReplicaCount() {
+        return replicas.size();
+    }
+
+    public int getHealthyReplicaCount() {
+        return (int) replicas.stream().filter(replica -> replica.healthy).count();
+    }
+
+    /**
+     * 정상 복제본이 없어 주 DB로 보낸 읽기 커넥션 수
+     */
+    public long getPrimaryFallbackCount() {
+        return primaryFallbacks.get();
+    }
+
+    @Override
+    public void close() {
+        healthChecker.shutdownNow();
+        replicas.forEach(replica -> replica.dataSource.close());
+    }
+
+    @FunctionalInterface
+    private interface ConnectionRequest {
+        Connection open(DataSource dataSource) throws SQLException;
+    }
+
+    private static final class Replica {
+        private final HikariDataSource dataSource;
+        private volatile boolean healthy = true;
+
+        private Replica(HikariDataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+    }
+}
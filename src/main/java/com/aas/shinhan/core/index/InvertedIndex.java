@@ -0,0 +1,259 @@
+package com.aas.shinhan.core.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 검색어 -> 문서 번호(SEQ) 역색인
+ * 검색어별 목록은 정렬된 long[]이며 변경 시 새 배열로 교체하므로 (copy-on-write) 조회는 잠금 없이 수행된다.
+ * 변경은 인스턴스 단위로 직렬화되며, 조회 중 변경이 일어나면 검색어 사이에 잠시 이전/이후 상태가 섞일 수 있다.
+ * 문서는 외부 ID 하나당 SEQ 하나만 유지한다 (같은 ID를 다시 넣으면 이전 SEQ의 검색어를 모두 제거).
+ */
+public final class InvertedIndex {
+
+    private static final long[] EMPTY = new long[0];
+
+    private final Map<String, long[]> postings = new ConcurrentHashMap<>();
+    private final Map<Long, Document> documents = new ConcurrentHashMap<>();
+    private final Map<String, Long> seqById = new ConcurrentHashMap<>();
+
+    private record Document(String id, List<String> terms) {
+    }
+
+    /**
+     * 색인할 문서 (외부 ID, SEQ, 검색어)
+     */
+    public record Entry(String id, long seq, Collection<String> terms) {
+    }
+
+    // ======================= 변경 =======================
+
+    /**
+     * ID의 색인 문서를 새 SEQ/검색어로 교체
+     */
+    public void put(String id, long seq, Collection<String> terms) {
+        putAll(List.of(new Entry(id, seq, terms)));
+    }
+
+    /**
+     * 여러 문서를 한 번에 교체
+     * 검색어별 목록을 문서마다 복사하지 않고, 제거/추가할 SEQ를 모아 검색어당 한 번만 새 배열로 만든다
+     * (같은 검색어를 가진 문서가 많은 assetKind 등에서 일괄 저장/시작 시 적재 비용이 O(N^2)이 되지 않도록).
+     */
+    public synchronized void putAll(Collection<Entry> entries) {
+        Map<String, LongBuffer> removals = new HashMap<>();
+        Map<String, LongBuffer> additions = new HashMap<>();
+        // 같은 ID가 여러 번 오면 마지막 문서만 반영 (앞선 SEQ가 추가 목록에 남지 않도록)
+        Map<String, Entry> latest = new LinkedHashMap<>();
+        for (Entry entry : entries) {
+            latest.put(entry.id(), entry);
+        }
+        for (Entry entry : latest.values()) {
+            detach(entry.id(), removals);
+            List<String> distinct = entry.terms().stream().distinct().toList();
+            documents.put(entry.seq(), new Document(entry.id(), distinct));
+            seqById.put(entry.id(), entry.seq());
+            for (String term : distinct) {
+                additions.computeIfAbsent(term, key -> new LongBuffer()).add(entry.seq());
+            }
+        }
+        apply(removals, additions);
+    }
+
+    public synchronized void remove(String id) {
+        Map<String, LongBuffer> removals = new HashMap<>();
+        detach(id, removals);
+        apply(removals, Map.of());
+    }
+
+    public synchronized void clear() {
+        postings.clear();
+        documents.clear();
+        seqById.clear();
+    }
+
+    private void detach(String id, Map<String, LongBuffer> removals) {
+        Long seq = seqById.remove(id);
+        if (seq == null) {
+            return;
+        }
+        Document document = documents.remove(seq);
+        if (document == null) {
+            return;
+        }
+        for (String term : document.terms()) {
+            removals.computeIfAbsent(term, key -> new LongBuffer()).add(seq);
+        }
+    }
+
+    private void apply(Map<String, LongBuffer> removals, Map<String, LongBuffer> additions) {
+        Set<String> terms = new HashSet<>(removals.keySet());
+        terms.addAll(additions.keySet());
+        for (String term : terms) {
+            LongBuffer removed = removals.get(term);
+            LongBuffer added = additions.get(term);
+            postings.compute(term, (key, current) -> {
+                long[] next = current != null ? current : EMPTY;
+                if (removed != null) {
+                    next = difference(next, removed.sorted());
+                }
+                if (added != null) {
+                    next = union(next, added.sorted());
+                }
+                return next.length == 0 ? null : next;
+            });
+        }
+    }
+
+    // ======================= 조회 (잠금 없음) =======================
+
+    public boolean contains(String id) {
+        return seqById.containsKey(id);
+    }
+
+    /**
+     * @return 정렬된 SEQ 목록 (호출자가 수정하면 안 됨)
+     */
+    public long[] postings(String term) {
+        return postings.getOrDefault(term, EMPTY);
+    }
+
+    /**
+     * SEQ 목록을 외부 ID로 변환 (조회 도중 제거된 문서는 건너뜀)
+     */
+    public List<String> resolve(long[] seqs) {
+        List<String> ids = new ArrayList<>(seqs.length);
+        for (long seq : seqs) {
+            Document document = documents.get(seq);
+            if (document != null) {
+                ids.add(document.id());
+            }
+        }
+        return ids;
+    }
+
+    public int documentCount() {
+        return documents.size();
+    }
+
+    public int termCount() {
+        return postings.size();
+    }
+
+    // ======================= 집합 연산 =======================
+
+    /**
+     * 교집합 (짧은 목록부터 병합)
+     */
+    public static long[] and(List<long[]> lists) {
+        if (lists.isEmpty()) {
+            return EMPTY;
+        }
+        List<long[]> ordered = new ArrayList<>(lists);
+        ordered.sort((a, b) -> Integer.compare(a.length, b.length));
+        long[] result = ordered.get(0);
+        for (int i = 1; i < ordered.size() && result.length > 0; i++) {
+            result = intersect(result, ordered.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * 합집합
+     */
+    public static long[] or(List<long[]> lists) {
+        long[] result = EMPTY;
+        for (long[] list : lists) {
+            result = union(result, list);
+        }
+        return result;
+    }
+
+    private static long[] intersect(long[] a, long[] b) {
+        long[] out = new long[Math.min(a.length, b.length)];
+        int i = 0;
+        int j = 0;
+        int n = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                out[n++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return n == out.length ? out : Arrays.copyOf(out, n);
+    }
+
+    private static long[] union(long[] a, long[] b) {
+        if (a.length == 0) {
+            return b;
+        }
+        if (b.length == 0) {
+            return a;
+        }
+        long[] out = new long[a.length + b.length];
+        int i = 0;
+        int j = 0;
+        int n = 0;
+        while (i < a.length || j < b.length) {
+            if (j >= b.length || (i < a.length && a[i] < b[j])) {
+                out[n++] = a[i++];
+            } else if (i >= a.length || b[j] < a[i]) {
+                out[n++] = b[j++];
+            } else {
+                out[n++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return n == out.length ? out : Arrays.copyOf(out, n);
+    }
+
+    private static long[] difference(long[] a, long[] b) {
+        long[] out = new long[a.length];
+        int j = 0;
+        int n = 0;
+        for (long value : a) {
+            while (j < b.length && b[j] < value) {
+                j++;
+            }
+            if (j >= b.length || b[j] != value) {
+                out[n++] = value;
+            }
+        }
+        return n == out.length ? out : Arrays.copyOf(out, n);
+    }
+
+    /**
+     * 크기가 늘어나는 long 목록 (박싱 없이 SEQ 수집)
+     */
+    private static final class LongBuffer {
+        private long[] values = new long[4];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        long[] sorted() {
+            long[] result = Arrays.copyOf(values, size);
+            Arrays.sort(result);
+            return result;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.aas.shinhan.core.jwt;
 
 import java.io.IOException;
+import java.util.Optional;
 
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -26,10 +27,13 @@ public class JwtTokenFilter extends OncePerRequestFilter {
 
         String token = resolveToken(request);
 
-        if (StringUtils.hasText(token) && jwtTokenProvider.validateToken(token)) {
-            Authentication authentication = jwtTokenProvider.getAuthentication(token);
-            SecurityContextHolder.getContext().setAuthentication(authentication);
-            log.debug("Security Context에 '{}' 인증 정보를 저장했습니다", authentication.getName());
+        if (StringUtils.hasText(token)) {
+            // 검증과 인증 정보 생성을 한 번에 처리 (같은 토큰 재요청은 캐시 적중)
+            Optional<Authentication> authentication = jwtTokenProvider.authenticate(token);
+            authentication.ifPresent(auth -> {
+                SecurityContextHolder.getContext().setAuthentication(auth);
+                log.debug("Security Context에 '{}' 인증 정보를 저장했습니다", auth.getName());
+            });
         }
 
         filterChain.doFilter(request, response);
@@ -1,7 +1,12 @@
 package com.aas.shinhan.core.jwt;
 
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 import javax.crypto.SecretKey;
 
@@ -10,16 +15,24 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Component;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -30,6 +43,7 @@ import lombok.extern.slf4j.Slf4j;
 public class JwtTokenProvider {
 
     private final UserDetailsService userDetailsService;
+    private final MeterRegistry meterRegistry;
 
     @Value("${jwt.secret}")
     private String secretString;
@@ -40,12 +54,51 @@ public class JwtTokenProvider {
     @Value("${jwt.refresh-token-validity}")
     private long refreshTokenValidity;
 
+    // 검증된 토큰 캐시 (토큰 SHA-256 -> 인증 정보, 토큰 exp까지 보관)
+    @Value("${jwt.verified-cache.enabled:true}")
+    private boolean verifiedCacheEnabled;
+
+    @Value("${jwt.verified-cache.max-size:10000}")
+    private long verifiedCacheMaxSize;
+
     private SecretKey secretKey;
+    private JwtParser parser;
+    private Cache<String, VerifiedToken> verifiedTokens;
+
+    private record VerifiedToken(Authentication authentication, long expiresAtMillis) {
+    }
 
     @PostConstruct
     protected void init() {
         this.secretKey = Keys.hmacShaKeyFor(secretString.getBytes(StandardCharsets.UTF_8));
-        log.info("JWT secret key initialized, length: {} bytes", secretString.length());
+        // JwtParser는 불변/스레드 안전하므로 한 번만 생성해 재사용
+        this.parser = Jwts.parser().verifyWith(secretKey).build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheMaxSize)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+                        return TimeUnit.MILLISECONDS.toNanos(
+                                Math.max(0, value.expiresAtMillis() - System.currentTimeMillis()));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, VerifiedToken value, long currentTime,
+                            long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, VerifiedToken value, long currentTime,
+                            long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "verifiedToken");
+        log.info("JWT secret key initialized, length: {} bytes, verifiedCache: enabled={}, maxSize={}",
+                secretString.length(), verifiedCacheEnabled, verifiedCacheMaxSize);
     }
 
     public String createAccessToken(String username) {
@@ -68,28 +121,79 @@ public class JwtTokenProvider {
                 .compact();
     }
 
-    public Authentication getAuthentication(String token) {
-        String username = getUsername(token);
+    /**
+     * 토큰 검증과 인증 정보 생성을 한 번의 파싱으로 처리
+     * 같은 토큰의 반복 요청은 캐시된 인증 정보를 반환해 서명 검증과 사용자 조회를 생략한다.
+     * 검증 실패 토큰은 캐시하지 않는다 (임의 토큰으로 캐시를 채우지 못하도록).
+     * @return 유효하지 않은 토큰이거나 사용자가 없으면 empty
+     */
+    public Optional<Authentication> authenticate(String token) {
+        if (!verifiedCacheEnabled) {
+            return verify(token).map(VerifiedToken::authentication);
+        }
+        String key = digest(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(key);
+        if (cached != null && cached.expiresAtMillis() > System.currentTimeMillis()) {
+            return Optional.of(cached.authentication());
+        }
+        Optional<VerifiedToken> verified = verify(token);
+        verified.filter(entry -> entry.expiresAtMillis() != Long.MAX_VALUE)
+                .ifPresent(entry -> verifiedTokens.put(key, entry));
+        return verified.map(VerifiedToken::authentication);
+    }
+
+    private Optional<VerifiedToken> verify(String token) {
+        Claims claims = parseClaims(token);
+        if (claims == null) {
+            return Optional.empty();
+        }
+        try {
+            Authentication authentication = toAuthentication(claims.getSubject());
+            // exp 없는 토큰은 캐시하지 않음
+            long expiresAt = claims.getExpiration() != null ? claims.getExpiration().getTime() : Long.MAX_VALUE;
+            return Optional.of(new VerifiedToken(authentication, expiresAt));
+        } catch (UsernameNotFoundException e) {
+            log.error("JWT subject not found: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private Authentication toAuthentication(String username) {
         UserDetails userDetails = userDetailsService.loadUserByUsername(username);
         return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
     }
 
+    private static String digest(String token) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    public Authentication getAuthentication(String token) {
+        return toAuthentication(getUsername(token));
+    }
+
     public String getUsername(String token) {
         return getClaims(token).getSubject();
     }
 
     private Claims getClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
     }
 
     public boolean validateToken(String token) {
+        return parseClaims(token) != null;
+    }
+
+    /**
+     * 서명 검증 및 클레임 파싱 (실패 시 원인을 로그로 남기고 null)
+     */
+    private Claims parseClaims(String token) {
         try {
-            getClaims(token);
-            return true;
+            return getClaims(token);
         } catch (SignatureException e) {
             log.error("Invalid JWT signature: {}", e.getMessage());
         } catch (MalformedJwtException e) {
@@ -103,6 +207,6 @@ public class JwtTokenProvider {
         } catch (IllegalArgumentException e) {
             log.error("JWT claims string is empty: {}", e.getMessage());
         }
-        return false;
+        return null;
     }
 }
@@ -0,0 +1,135 @@
+package com.aas.shinhan.core.lock;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 식별자 해시 기준 스트라이프 잠금 (노드 내부 직렬화)
+ * 같은 식별자의 버전 할당/활성화는 한 번에 하나의 트랜잭션만 진행하고, 다른 식별자는 서로 다른 스트라이프에서 병렬로 진행한다.
+ * 잠금은 현재 트랜잭션이 끝날 때(afterCompletion, 같은 스레드) 해제되므로 커밋 전에 다른 작업이 같은 최신 버전을 읽지 않는다.
+ * 한 번에 여러 식별자를 잠글 때는 스트라이프 번호 오름차순으로 획득해 호출 내부의 교착을 막는다.
+ * 트랜잭션 하나가 여러 번 나누어 잠그면 순서가 보장되지 않으므로, 여러 배치를 한 트랜잭션으로 저장하는 업로드
+ * ({@code AasBulkWriter})는 잠그지 않고 노드 간 경합과 같은 방식((ID, VERSION) 유일 제약과 재시도)으로 처리한다.
+ */
+@Slf4j
+@Component
+public class StripedLockManager {
+
+    private final ReentrantLock[] stripes;
+    private final int mask;
+    private final long timeoutNanos;
+
+    public StripedLockManager(@Value("${aas.ingest.lock.stripes:1024}") int stripeCount,
+            @Value("${aas.ingest.lock.timeout:30s}") Duration timeout) {
+        // 비트 마스크로 스트라이프를 고르도록 2의 거듭제곱으로 올림
+        int size = Integer.highestOneBit(Math.max(1, stripeCount - 1)) << 1;
+        this.stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        this.mask = size - 1;
+        this.timeoutNanos = timeout.toNanos();
+    }
+
+    /**
+     * 현재 트랜잭션이 끝날 때까지 식별자들의 스트라이프 잠금
+     * 이미 이 트랜잭션이 가진 스트라이프는 다시 잡지 않는다.
+     * @param namespace 식별자 종류 (AAS, SUBMODEL 등, 같은 문자열 ID라도 종류가 다르면 다른 키)
+     * @throws CannotAcquireLockException 대기 시간(aas.ingest.lock.timeout) 안에 잡지 못한 경우
+     */
+    public void lockForTransaction(String namespace, Collection<String> ids) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("StripedLockManager requires transaction synchronization");
+        }
+        int[] indexes = ids.stream()
+                .mapToInt(id -> stripeOf(namespace, id))
+                .distinct()
+                .sorted()
+                .toArray();
+
+        HeldStripes held = heldStripes();
+        for (int index : indexes) {
+            ReentrantLock lock = stripes[index];
+            if (lock.isHeldByCurrentThread()) {
+                continue;
+            }
+            acquire(lock, namespace, index);
+            held.locks.add(lock);
+        }
+    }
+
+    public int getStripeCount() {
+        return stripes.length;
+    }
+
+    int stripeOf(String namespace, String id) {
+        int hash = 31 * namespace.hashCode() + id.hashCode();
+        // 상위 비트를 섞어 비슷한 접두사의 ID가 한 스트라이프로 몰리지 않게 함
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    private void acquire(ReentrantLock lock, String namespace, int index) {
+        try {
+            if (!lock.tryLock(timeoutNanos, TimeUnit.NANOSECONDS)) {
+                log.warn("식별자 잠금 대기 시간 초과: namespace={}, stripe={}, timeout={}ms", namespace, index,
+                        TimeUnit.NANOSECONDS.toMillis(timeoutNanos));
+                throw new CannotAcquireLockException(
+                        "Timed out waiting for identifier lock: namespace=" + namespace + ", stripe=" + index);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CannotAcquireLockException("Interrupted while waiting for identifier lock", e);
+        }
+    }
+
+    /**
+     * 현재 트랜잭션이 잡은 잠금 목록 (첫 잠금 시 트랜잭션 종료 콜백 등록)
+     */
+    private HeldStripes heldStripes() {
+        HeldStripes held = (HeldStripes) TransactionSynchronizationManager.getResource(this);
+        if (held == null) {
+            held = new HeldStripes();
+            TransactionSynchronizationManager.bindResource(this, held);
+            TransactionSynchronizationManager.registerSynchronization(held);
+        }
+        return held;
+    }
+
+    /**
+     * 트랜잭션 종료 시 잡은 순서의 역순으로 해제
+     */
+    private final class HeldStripes implements TransactionSynchronization {
+        private final List<ReentrantLock> locks = new ArrayList<>();
+
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResource(StripedLockManager.this);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(StripedLockManager.this, this);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(StripedLockManager.this);
+            for (int i = locks.size() - 1; i >= 0; i--) {
+                locks.get(i).unlock();
+            }
+            locks.clear();
+        }
+    }
+}
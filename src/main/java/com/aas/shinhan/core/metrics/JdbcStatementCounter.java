@@ -0,0 +1,142 @@
+package com.aas.shinhan.core.metrics;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * 스레드별 JDBC 왕복 횟수 집계
+ * 감싼 DataSource의 Statement 실행(execute*, executeBatch)과 commit/rollback을 현재 스레드의 집계 범위에 더한다.
+ * 집계 범위가 열려 있지 않은 스레드에서는 ThreadLocal 조회 한 번 외의 비용이 없다.
+ * 결과 집합의 추가 fetch 왕복은 세지 않는다.
+ */
+public final class JdbcStatementCounter {
+
+    private static final ThreadLocal<long[]> CURRENT = new ThreadLocal<>();
+
+    private JdbcStatementCounter() {
+    }
+
+    /**
+     * 현재 스레드의 집계 시작 (try-with-resources로 닫음, 중첩 시 바깥 범위 유지)
+     */
+    public static Scope open() {
+        long[] outer = CURRENT.get();
+        long[] counter = new long[1];
+        CURRENT.set(counter);
+        return new Scope(counter, outer);
+    }
+
+    public static DataSource wrap(DataSource dataSource) {
+        return dataSource instanceof CountingDataSource ? dataSource : new CountingDataSource(dataSource);
+    }
+
+    private static void increment() {
+        long[] counter = CURRENT.get();
+        if (counter != null) {
+            counter[0]++;
+        }
+    }
+
+    public static final class Scope implements AutoCloseable {
+        private final long[] counter;
+        private final long[] outer;
+
+        private Scope(long[] counter, long[] outer) {
+            this.counter = counter;
+            this.outer = outer;
+        }
+
+        public long count() {
+            return counter[0];
+        }
+
+        @Override
+        public void close() {
+            if (outer != null) {
+                outer[0] += counter[0];
+                CURRENT.set(outer);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    private static final class CountingDataSource extends DelegatingDataSource implements AutoCloseable {
+
+        private CountingDataSource(DataSource target) {
+            super(target);
+        }
+
+        // 감싼 DataSource 빈도 종료 시 원본 커넥션 풀이 닫히도록 (빈 destroy 메서드 추론 대상)
+        // checked 예외는 감싸서 던짐 (close()가 InterruptedException을 던질 수 있으면 javac [try] 경고)
+        @Override
+        public void close() {
+            if (getTargetDataSource() instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (RuntimeException e) {
+                    throw e;
+                } catch (Exception e) {
+                    if (e instanceof InterruptedException) {
+                        Thread.currentThread().interrupt();
+                    }
+                    throw new IllegalStateException("Failed to close DataSource", e);
+                }
+            }
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return proxy(Connection.class, super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return proxy(Connection.class, super.getConnection(username, password));
+        }
+    }
+
+    private static <T> T proxy(Class<T> type, T target) {
+        return type.cast(Proxy.newProxyInstance(JdbcStatementCounter.class.getClassLoader(), new Class<?>[] { type },
+                new CountingHandler(target)));
+    }
+
+    private record CountingHandler(Object target) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.startsWith("execute") || name.equals("commit") || name.equals("rollback")) {
+                increment();
+            }
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+            // Statement도 감싸서 실행 횟수를 센다 (unwrap 결과는 원본 그대로)
+            if (result instanceof CallableStatement statement && name.equals("prepareCall")) {
+                return proxy(CallableStatement.class, statement);
+            }
+            if (result instanceof PreparedStatement statement && name.equals("prepareStatement")) {
+                return proxy(PreparedStatement.class, statement);
+            }
+            if (result instanceof Statement statement && name.equals("createStatement")) {
+                return proxy(Statement.class, statement);
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+-- =============================================
+-- Shinhan AAS Server - MySQL Migration 002
+-- 시퀀스 테이블 생성 (allocationSize = 50, pooled-lo)
+-- 기존 데이터의 최대 SEQ 다음 값부터 발급
+-- =============================================
+
+CREATE TABLE AAS_SEQ (next_val BIGINT NOT NULL) ENGINE=InnoDB;
+INSERT INTO AAS_SEQ SELECT COALESCE(MAX(SEQ), 0) + 1 FROM AAS_SHELL;
+
+CREATE TABLE SUBMODEL_SEQ (next_val BIGINT NOT NULL) ENGINE=InnoDB;
+INSERT INTO SUBMODEL_SEQ SELECT COALESCE(MAX(SEQ), 0) + 1 FROM AAS_SUBMODEL;
+
+CREATE TABLE CONCEPT_DESC_SEQ (next_val BIGINT NOT NULL) ENGINE=InnoDB;
+INSERT INTO CONCEPT_DESC_SEQ SELECT COALESCE(MAX(SEQ), 0) + 1 FROM AAS_CONCEPT_DESCRIPTION;
@@ -0,0 +1,9 @@
+-- =============================================
+-- Shinhan AAS Server - MySQL Migration 005
+-- 콘텐츠 해시 컬럼 추가 (정규화 JSON SHA-256)
+-- 기존 행은 NULL로 두며, 다음 업로드 시 해시가 채워진 새 버전이 저장된다
+-- =============================================
+
+ALTER TABLE AAS_SHELL ADD COLUMN CONTENT_HASH VARCHAR(64) AFTER AAS_JSON;
+ALTER TABLE AAS_SUBMODEL ADD COLUMN CONTENT_HASH VARCHAR(64) AFTER SUBMODEL_JSON;
+ALTER TABLE AAS_CONCEPT_DESCRIPTION ADD COLUMN CONTENT_HASH VARCHAR(64) AFTER CD_JSON;
@@ -0,0 +1,8 @@
+-- =============================================
+-- Shinhan AAS Server - MySQL Migration 006
+-- 버전 이력 델타 저장 (STORAGE_TYPE 컬럼 추가)
+-- 기존 행은 모두 FULL이며, POST .../versions/compact 호출 시 델타로 변환된다
+-- =============================================
+
+ALTER TABLE AAS_SHELL ADD COLUMN STORAGE_TYPE VARCHAR(10) DEFAULT 'FULL' NOT NULL AFTER CONTENT_HASH;
+ALTER TABLE AAS_SUBMODEL ADD COLUMN STORAGE_TYPE VARCHAR(10) DEFAULT 'FULL' NOT NULL AFTER CONTENT_HASH;
@@ -0,0 +1,9 @@
+-- =============================================
+-- Shinhan AAS Server - MySQL Migration 007
+-- JSON 압축 저장 (*_PAYLOAD LONGBLOB, PAYLOAD_CODEC 컬럼 추가)
+-- 기존 LONGTEXT 행은 그대로 조회되며, POST /aas/storage/payloads/migrate 호출 시 압축 저장으로 이관된다
+-- =============================================
+
+ALTER TABLE AAS_SHELL ADD COLUMN AAS_PAYLOAD LONGBLOB AFTER AAS_JSON, ADD COLUMN PAYLOAD_CODEC VARCHAR(10) AFTER AAS_PAYLOAD;
+ALTER TABLE AAS_SUBMODEL ADD COLUMN SUBMODEL_PAYLOAD LONGBLOB AFTER SUBMODEL_JSON, ADD COLUMN PAYLOAD_CODEC VARCHAR(10) AFTER SUBMODEL_PAYLOAD;
+ALTER TABLE AAS_CONCEPT_DESCRIPTION ADD COLUMN CD_PAYLOAD LONGBLOB AFTER CD_JSON, ADD COLUMN PAYLOAD_CODEC VARCHAR(10) AFTER CD_PAYLOAD;
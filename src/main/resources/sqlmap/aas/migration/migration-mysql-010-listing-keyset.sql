@@ -0,0 +1,7 @@
+-- =============================================
+-- Shinhan AAS Server - MySQL Migration 010
+-- 활성 목록 키셋 페이지네이션 인덱스 (IS_ACTIVE, CREATED_AT, SEQ)
+-- =============================================
+
+CREATE INDEX IDX_AAS_ACTIVE_LISTING ON AAS_SHELL(IS_ACTIVE, CREATED_AT, SEQ);
+CREATE INDEX IDX_SM_ACTIVE_LISTING ON AAS_SUBMODEL(IS_ACTIVE, CREATED_AT, SEQ);
@@ -0,0 +1,22 @@
+-- =============================================
+-- Shinhan AAS Server - MySQL Migration 012
+-- Submodel 요소 색인 테이블 (경로/semanticId/값 검색)
+-- 적용 후 POST /aas/elements/index/rebuild 로 기존 활성 Submodel 색인 생성
+-- =============================================
+
+CREATE TABLE AAS_SM_ELEMENT_INDEX (
+    SUBMODEL_SEQ        BIGINT NOT NULL,
+    SUBMODEL_ID         VARCHAR(500) NOT NULL,
+    ID_SHORT_PATH       VARCHAR(500) NOT NULL,
+    MODEL_TYPE          VARCHAR(50),
+    SEMANTIC_ID         VARCHAR(500),
+    VALUE_TYPE          VARCHAR(30),
+    STRING_VALUE        VARCHAR(255),
+    NUMERIC_VALUE       DOUBLE,
+
+    INDEX IDX_SMEI_SUBMODEL_ID (SUBMODEL_ID),
+    INDEX IDX_SMEI_PATH_STRING (ID_SHORT_PATH, STRING_VALUE),
+    INDEX IDX_SMEI_PATH_NUMERIC (ID_SHORT_PATH, NUMERIC_VALUE),
+    INDEX IDX_SMEI_SEMANTIC_STRING (SEMANTIC_ID, STRING_VALUE)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
+COMMENT='Submodel 요소 색인 (활성 버전 요소를 idShort 경로 기준으로 평탄화)';
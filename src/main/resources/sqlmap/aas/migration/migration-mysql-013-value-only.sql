@@ -0,0 +1,7 @@
+-- =============================================
+-- Shinhan AAS Server - MySQL Migration 013
+-- Submodel 값 전용(Value-Only) 표현 저장 (SUBMODEL_VALUE_PAYLOAD, VALUE_PAYLOAD_CODEC 컬럼 추가)
+-- 기존 행은 $value 조회 시 전체 문서에서 변환되며, POST /aas/storage/values/migrate 호출 시 미리 생성된다
+-- =============================================
+
+ALTER TABLE AAS_SUBMODEL ADD COLUMN SUBMODEL_VALUE_PAYLOAD LONGBLOB AFTER PAYLOAD_CODEC, ADD COLUMN VALUE_PAYLOAD_CODEC VARCHAR(10) AFTER SUBMODEL_VALUE_PAYLOAD;
@@ -0,0 +1,7 @@
+-- =============================================
+-- Shinhan AAS Server - MySQL Migration 014
+-- 탐색 조회 인덱스 (탐색 색인 적재 전 DB 조회용: GLOBAL_ASSET_ID, SEMANTIC_ID)
+-- =============================================
+
+CREATE INDEX IDX_AAS_GLOBAL_ASSET_ID ON AAS_SHELL(GLOBAL_ASSET_ID);
+CREATE INDEX IDX_SM_SEMANTIC_ID ON AAS_SUBMODEL(SEMANTIC_ID);
@@ -0,0 +1,68 @@
+-- =============================================
+-- Shinhan AAS Server - MySQL Migration 021
+-- 활성 버전 포인터 테이블 (IS_ACTIVE 스캔/전체 비활성화 UPDATE 대체)
+-- =============================================
+
+CREATE TABLE AAS_SHELL_ACTIVE (
+    AAS_ID              VARCHAR(500) PRIMARY KEY,
+    SEQ                 BIGINT NOT NULL,
+    VERSION             INT NOT NULL,
+    CREATED_AT          DATETIME NOT NULL,
+    ACTIVATED_AT        DATETIME NOT NULL
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
+COMMENT='AAS 활성 버전 포인터 (AAS ID당 한 행)';
+
+CREATE TABLE AAS_SUBMODEL_ACTIVE (
+    SUBMODEL_ID         VARCHAR(500) PRIMARY KEY,
+    SEQ                 BIGINT NOT NULL,
+    VERSION             INT NOT NULL,
+    CREATED_AT          DATETIME NOT NULL,
+    ACTIVATED_AT        DATETIME NOT NULL
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
+COMMENT='Submodel 활성 버전 포인터 (Submodel ID당 한 행)';
+
+CREATE TABLE AAS_CD_ACTIVE (
+    CD_ID               VARCHAR(500) PRIMARY KEY,
+    SEQ                 BIGINT NOT NULL,
+    VERSION             INT NOT NULL,
+    CREATED_AT          DATETIME NOT NULL,
+    ACTIVATED_AT        DATETIME NOT NULL
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
+COMMENT='ConceptDescription 활성 버전 포인터 (CD ID당 한 행)';
+
+-- 기존 활성 행으로 포인터 채우기 (활성 행이 여러 개인 과거 데이터는 SEQ가 가장 큰 행)
+INSERT INTO AAS_SHELL_ACTIVE (AAS_ID, SEQ, VERSION, CREATED_AT, ACTIVATED_AT)
+SELECT a.AAS_ID, a.SEQ, a.VERSION, a.CREATED_AT, COALESCE(a.UPDATED_AT, a.CREATED_AT)
+FROM AAS_SHELL a
+WHERE a.SEQ = (SELECT MAX(b.SEQ) FROM AAS_SHELL b WHERE b.AAS_ID = a.AAS_ID AND b.IS_ACTIVE = 1);
+
+INSERT INTO AAS_SUBMODEL_ACTIVE (SUBMODEL_ID, SEQ, VERSION, CREATED_AT, ACTIVATED_AT)
+SELECT s.SUBMODEL_ID, s.SEQ, s.VERSION, s.CREATED_AT, COALESCE(s.UPDATED_AT, s.CREATED_AT)
+FROM AAS_SUBMODEL s
+WHERE s.SEQ = (SELECT MAX(b.SEQ) FROM AAS_SUBMODEL b WHERE b.SUBMODEL_ID = s.SUBMODEL_ID AND b.IS_ACTIVE = 1);
+
+INSERT INTO AAS_CD_ACTIVE (CD_ID, SEQ, VERSION, CREATED_AT, ACTIVATED_AT)
+SELECT c.CD_ID, c.SEQ, c.VERSION, c.CREATED_AT, COALESCE(c.UPDATED_AT, c.CREATED_AT)
+FROM AAS_CONCEPT_DESCRIPTION c
+WHERE c.SEQ = (SELECT MAX(b.SEQ) FROM AAS_CONCEPT_DESCRIPTION b WHERE b.CD_ID = c.CD_ID AND b.IS_ACTIVE = 1);
+
+-- 포인터가 가리키지 않는 활성 표시 정리 (IS_ACTIVE는 포인터와 같은 행만 1)
+UPDATE AAS_SHELL SET IS_ACTIVE = 0
+WHERE IS_ACTIVE = 1 AND SEQ NOT IN (SELECT SEQ FROM AAS_SHELL_ACTIVE);
+UPDATE AAS_SUBMODEL SET IS_ACTIVE = 0
+WHERE IS_ACTIVE = 1 AND SEQ NOT IN (SELECT SEQ FROM AAS_SUBMODEL_ACTIVE);
+UPDATE AAS_CONCEPT_DESCRIPTION SET IS_ACTIVE = 0
+WHERE IS_ACTIVE = 1 AND SEQ NOT IN (SELECT SEQ FROM AAS_CD_ACTIVE);
+
+-- IS_ACTIVE 저선택도 인덱스 제거 (활성 조회는 포인터 기본 키 조인)
+DROP INDEX IDX_AAS_IS_ACTIVE ON AAS_SHELL;
+DROP INDEX IDX_AAS_ACTIVE_LISTING ON AAS_SHELL;
+DROP INDEX IDX_SM_IS_ACTIVE ON AAS_SUBMODEL;
+DROP INDEX IDX_SM_ACTIVE_LISTING ON AAS_SUBMODEL;
+DROP INDEX IDX_CD_IS_ACTIVE ON AAS_CONCEPT_DESCRIPTION;
+
+-- 활성 버전 포인터 인덱스 (활성 목록 키셋 페이지네이션, 요소 색인 재구성 SEQ 순회)
+CREATE INDEX IDX_AAS_ACTIVE_LISTING ON AAS_SHELL_ACTIVE(CREATED_AT, SEQ);
+CREATE INDEX IDX_SM_ACTIVE_LISTING ON AAS_SUBMODEL_ACTIVE(CREATED_AT, SEQ);
+CREATE INDEX IDX_SM_ACTIVE_SEQ ON AAS_SUBMODEL_ACTIVE(SEQ);
+CREATE INDEX IDX_CD_ACTIVE_LISTING ON AAS_CD_ACTIVE(CREATED_AT, SEQ);
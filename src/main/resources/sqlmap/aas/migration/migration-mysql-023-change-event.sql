@@ -0,0 +1,29 @@
+-- =============================================
+-- Shinhan AAS Server - MySQL Migration 023
+-- 변경 이벤트 아웃박스 테이블 (/aas/events SSE 구독)
+-- =============================================
+
+CREATE TABLE AAS_CHANGE_EVENT (
+    EVENT_ID            BIGINT PRIMARY KEY,
+    ENTITY_TYPE         VARCHAR(30) NOT NULL,
+    ENTITY_ID           VARCHAR(500) NOT NULL,
+    AAS_ID              VARCHAR(500),
+    SEMANTIC_ID         VARCHAR(500),
+    VERSION             INT NOT NULL,
+    OPERATION           VARCHAR(20) NOT NULL,
+    CHANGED_BY          VARCHAR(100),
+    CREATED_AT          DATETIME NOT NULL,
+
+    INDEX IDX_CHG_AAS_ID (AAS_ID, EVENT_ID),
+    INDEX IDX_CHG_SEMANTIC_ID (SEMANTIC_ID, EVENT_ID),
+    INDEX IDX_CHG_CREATED_AT (CREATED_AT)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
+COMMENT='저장/활성화 변경 이벤트 (트랜잭션 아웃박스)';
+
+-- 이벤트 번호 카운터 (한 행, 커밋 직전에 잠가 번호 예약 -> 번호 순서 = 커밋 순서)
+CREATE TABLE AAS_CHANGE_EVENT_COUNTER (
+    COUNTER_ID          INT PRIMARY KEY,
+    LAST_EVENT_ID       BIGINT NOT NULL
+) ENGINE=InnoDB
+COMMENT='변경 이벤트 번호 카운터 (COUNTER_ID=1 한 행)';
+INSERT INTO AAS_CHANGE_EVENT_COUNTER (COUNTER_ID, LAST_EVENT_ID) VALUES (1, 0);
@@ -0,0 +1,8 @@
+-- =============================================
+-- Shinhan AAS Server - Oracle Migration 002
+-- 시퀀스 블록 할당 (allocationSize = 50, pooled-lo)
+-- =============================================
+
+ALTER SEQUENCE AAS_SEQ INCREMENT BY 50 CACHE 20;
+ALTER SEQUENCE SUBMODEL_SEQ INCREMENT BY 50 CACHE 20;
+ALTER SEQUENCE CONCEPT_DESC_SEQ INCREMENT BY 50 CACHE 20;
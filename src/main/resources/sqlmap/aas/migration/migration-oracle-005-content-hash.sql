@@ -0,0 +1,13 @@
+-- =============================================
+-- Shinhan AAS Server - Oracle Migration 005
+-- 콘텐츠 해시 컬럼 추가 (정규화 JSON SHA-256)
+-- 기존 행은 NULL로 두며, 다음 업로드 시 해시가 채워진 새 버전이 저장된다
+-- =============================================
+
+ALTER TABLE AAS_SHELL ADD (CONTENT_HASH VARCHAR2(64));
+ALTER TABLE AAS_SUBMODEL ADD (CONTENT_HASH VARCHAR2(64));
+ALTER TABLE AAS_CONCEPT_DESCRIPTION ADD (CONTENT_HASH VARCHAR2(64));
+
+COMMENT ON COLUMN AAS_SHELL.CONTENT_HASH IS '정규화 JSON SHA-256 (변경 없는 재업로드 판별)';
+COMMENT ON COLUMN AAS_SUBMODEL.CONTENT_HASH IS '정규화 JSON SHA-256 (변경 없는 재업로드 판별)';
+COMMENT ON COLUMN AAS_CONCEPT_DESCRIPTION.CONTENT_HASH IS '정규화 JSON SHA-256 (변경 없는 재업로드 판별)';
@@ -0,0 +1,11 @@
+-- =============================================
+-- Shinhan AAS Server - Oracle Migration 006
+-- 버전 이력 델타 저장 (STORAGE_TYPE 컬럼 추가)
+-- 기존 행은 모두 FULL이며, POST .../versions/compact 호출 시 델타로 변환된다
+-- =============================================
+
+ALTER TABLE AAS_SHELL ADD (STORAGE_TYPE VARCHAR2(10) DEFAULT 'FULL' NOT NULL);
+ALTER TABLE AAS_SUBMODEL ADD (STORAGE_TYPE VARCHAR2(10) DEFAULT 'FULL' NOT NULL);
+
+COMMENT ON COLUMN AAS_SHELL.STORAGE_TYPE IS 'JSON 저장 방식 (FULL=전체, DELTA=직전 버전 대비 JSON Patch)';
+COMMENT ON COLUMN AAS_SUBMODEL.STORAGE_TYPE IS 'JSON 저장 방식 (FULL=전체, DELTA=직전 버전 대비 JSON Patch)';
@@ -0,0 +1,19 @@
+-- =============================================
+-- Shinhan AAS Server - Oracle Migration 007
+-- JSON 압축 저장 (*_PAYLOAD BLOB, PAYLOAD_CODEC 컬럼 추가)
+-- 기존 CLOB 행은 그대로 조회되며, POST /aas/storage/payloads/migrate 호출 시 압축 저장으로 이관된다
+-- =============================================
+
+ALTER TABLE AAS_SHELL ADD (AAS_PAYLOAD BLOB, PAYLOAD_CODEC VARCHAR2(10));
+ALTER TABLE AAS_SUBMODEL ADD (SUBMODEL_PAYLOAD BLOB, PAYLOAD_CODEC VARCHAR2(10));
+ALTER TABLE AAS_CONCEPT_DESCRIPTION ADD (CD_PAYLOAD BLOB, PAYLOAD_CODEC VARCHAR2(10));
+
+COMMENT ON COLUMN AAS_SHELL.AAS_JSON IS 'AAS 전체 JSON 데이터 (이전 형식, 신규 행은 NULL)';
+COMMENT ON COLUMN AAS_SHELL.AAS_PAYLOAD IS 'AAS JSON 압축 저장 내용 (PAYLOAD_CODEC으로 인코딩)';
+COMMENT ON COLUMN AAS_SHELL.PAYLOAD_CODEC IS '저장 코덱 (NONE, DEFLATE, LZ4)';
+COMMENT ON COLUMN AAS_SUBMODEL.SUBMODEL_JSON IS 'Submodel 전체 JSON 데이터 (이전 형식, 신규 행은 NULL)';
+COMMENT ON COLUMN AAS_SUBMODEL.SUBMODEL_PAYLOAD IS 'Submodel JSON 압축 저장 내용 (PAYLOAD_CODEC으로 인코딩)';
+COMMENT ON COLUMN AAS_SUBMODEL.PAYLOAD_CODEC IS '저장 코덱 (NONE, DEFLATE, LZ4)';
+COMMENT ON COLUMN AAS_CONCEPT_DESCRIPTION.CD_JSON IS 'ConceptDescription 전체 JSON 데이터 (이전 형식, 신규 행은 NULL)';
+COMMENT ON COLUMN AAS_CONCEPT_DESCRIPTION.CD_PAYLOAD IS 'ConceptDescription JSON 압축 저장 내용 (PAYLOAD_CODEC으로 인코딩)';
+COMMENT ON COLUMN AAS_CONCEPT_DESCRIPTION.PAYLOAD_CODEC IS '저장 코덱 (NONE, DEFLATE, LZ4)';
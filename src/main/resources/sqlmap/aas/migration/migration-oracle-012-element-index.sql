@@ -0,0 +1,33 @@
+-- =============================================
+-- Shinhan AAS Server - Oracle Migration 012
+-- Submodel 요소 색인 테이블 (경로/semanticId/값 검색)
+-- 적용 후 POST /aas/elements/index/rebuild 로 기존 활성 Submodel 색인 생성
+-- =============================================
+
+CREATE TABLE AAS_SM_ELEMENT_INDEX (
+    SUBMODEL_SEQ        NUMBER(19) NOT NULL,
+    SUBMODEL_ID         VARCHAR2(500) NOT NULL,
+    ID_SHORT_PATH       VARCHAR2(500) NOT NULL,
+    MODEL_TYPE          VARCHAR2(50),
+    SEMANTIC_ID         VARCHAR2(500),
+    VALUE_TYPE          VARCHAR2(30),
+    STRING_VALUE        VARCHAR2(255 CHAR),
+    NUMERIC_VALUE       BINARY_DOUBLE
+);
+
+-- 요소 색인 인덱스
+CREATE INDEX IDX_SMEI_SUBMODEL_ID ON AAS_SM_ELEMENT_INDEX(SUBMODEL_ID);
+CREATE INDEX IDX_SMEI_PATH_STRING ON AAS_SM_ELEMENT_INDEX(ID_SHORT_PATH, STRING_VALUE);
+CREATE INDEX IDX_SMEI_PATH_NUMERIC ON AAS_SM_ELEMENT_INDEX(ID_SHORT_PATH, NUMERIC_VALUE);
+CREATE INDEX IDX_SMEI_SEMANTIC_STRING ON AAS_SM_ELEMENT_INDEX(SEMANTIC_ID, STRING_VALUE);
+
+-- 요소 색인 코멘트
+COMMENT ON TABLE AAS_SM_ELEMENT_INDEX IS 'Submodel 요소 색인 (활성 버전 요소를 idShort 경로 기준으로 평탄화)';
+COMMENT ON COLUMN AAS_SM_ELEMENT_INDEX.SUBMODEL_SEQ IS '요소가 속한 Submodel 버전 행 SEQ';
+COMMENT ON COLUMN AAS_SM_ELEMENT_INDEX.SUBMODEL_ID IS 'Submodel 고유 식별자';
+COMMENT ON COLUMN AAS_SM_ELEMENT_INDEX.ID_SHORT_PATH IS 'idShort 경로 (Collection은 a.b, List는 a[0], Range는 a.min/a.max)';
+COMMENT ON COLUMN AAS_SM_ELEMENT_INDEX.MODEL_TYPE IS '요소 종류 (Property, Range, MultiLanguageProperty 등)';
+COMMENT ON COLUMN AAS_SM_ELEMENT_INDEX.SEMANTIC_ID IS '요소 Semantic ID';
+COMMENT ON COLUMN AAS_SM_ELEMENT_INDEX.VALUE_TYPE IS '값 타입 (DataTypeDefXsd 이름)';
+COMMENT ON COLUMN AAS_SM_ELEMENT_INDEX.STRING_VALUE IS '정규화 값 (공백 제거 + 소문자, 255자까지)';
+COMMENT ON COLUMN AAS_SM_ELEMENT_INDEX.NUMERIC_VALUE IS '숫자 값 (숫자형 valueType만)';
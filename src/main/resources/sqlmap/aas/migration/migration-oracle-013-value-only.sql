@@ -0,0 +1,10 @@
+-- =============================================
+-- Shinhan AAS Server - Oracle Migration 013
+-- Submodel 값 전용(Value-Only) 표현 저장 (SUBMODEL_VALUE_PAYLOAD, VALUE_PAYLOAD_CODEC 컬럼 추가)
+-- 기존 행은 $value 조회 시 전체 문서에서 변환되며, POST /aas/storage/values/migrate 호출 시 미리 생성된다
+-- =============================================
+
+ALTER TABLE AAS_SUBMODEL ADD (SUBMODEL_VALUE_PAYLOAD BLOB, VALUE_PAYLOAD_CODEC VARCHAR2(10));
+
+COMMENT ON COLUMN AAS_SUBMODEL.SUBMODEL_VALUE_PAYLOAD IS '값 전용(Value-Only) 표현 압축 저장 내용 (DELTA 행은 NULL)';
+COMMENT ON COLUMN AAS_SUBMODEL.VALUE_PAYLOAD_CODEC IS '값 전용 표현 저장 코덱 (NONE, DEFLATE, LZ4)';
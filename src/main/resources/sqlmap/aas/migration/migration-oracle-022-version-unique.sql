@@ -0,0 +1,35 @@
+-- =============================================
+-- Shinhan AAS Server - Oracle Migration 022
+-- (ID, VERSION) 유일 제약 (노드 간 동시 업로드 버전 할당 충돌 방지)
+-- =============================================
+
+-- 기존 버전 덮어쓰기(createNewVersion=false)가 같은 버전 번호로 행을 추가하던 과거 데이터 정리
+-- 같은 (ID, VERSION) 중 활성 포인터가 가리키는 행, 없으면 SEQ가 가장 큰 행만 남김
+DELETE FROM AAS_SHELL a
+WHERE a.SEQ NOT IN (SELECT p.SEQ FROM AAS_SHELL_ACTIVE p)
+  AND EXISTS (SELECT 1 FROM AAS_SHELL b
+              WHERE b.AAS_ID = a.AAS_ID AND b.VERSION = a.VERSION AND b.SEQ <> a.SEQ
+                AND (b.SEQ > a.SEQ OR b.SEQ IN (SELECT p.SEQ FROM AAS_SHELL_ACTIVE p)));
+
+DELETE FROM AAS_SUBMODEL a
+WHERE a.SEQ NOT IN (SELECT p.SEQ FROM AAS_SUBMODEL_ACTIVE p)
+  AND EXISTS (SELECT 1 FROM AAS_SUBMODEL b
+              WHERE b.SUBMODEL_ID = a.SUBMODEL_ID AND b.VERSION = a.VERSION AND b.SEQ <> a.SEQ
+                AND (b.SEQ > a.SEQ OR b.SEQ IN (SELECT p.SEQ FROM AAS_SUBMODEL_ACTIVE p)));
+
+DELETE FROM AAS_CONCEPT_DESCRIPTION a
+WHERE a.SEQ NOT IN (SELECT p.SEQ FROM AAS_CD_ACTIVE p)
+  AND EXISTS (SELECT 1 FROM AAS_CONCEPT_DESCRIPTION b
+              WHERE b.CD_ID = a.CD_ID AND b.VERSION = a.VERSION AND b.SEQ <> a.SEQ
+                AND (b.SEQ > a.SEQ OR b.SEQ IN (SELECT p.SEQ FROM AAS_CD_ACTIVE p)));
+
+COMMIT;
+
+-- 일반 인덱스를 유일 인덱스로 교체
+DROP INDEX IDX_AAS_AAS_ID_VERSION;
+DROP INDEX IDX_SM_SUBMODEL_ID_VERSION;
+DROP INDEX IDX_CD_CD_ID_VERSION;
+
+CREATE UNIQUE INDEX UK_AAS_AAS_ID_VERSION ON AAS_SHELL(AAS_ID, VERSION);
+CREATE UNIQUE INDEX UK_SM_SUBMODEL_ID_VERSION ON AAS_SUBMODEL(SUBMODEL_ID, VERSION);
+CREATE UNIQUE INDEX UK_CD_CD_ID_VERSION ON AAS_CONCEPT_DESCRIPTION(CD_ID, VERSION);
@@ -0,0 +1,42 @@
+-- =============================================
+-- Shinhan AAS Server - Oracle Migration 023
+-- 변경 이벤트 아웃박스 테이블 (/aas/events SSE 구독)
+-- =============================================
+
+CREATE TABLE AAS_CHANGE_EVENT (
+    EVENT_ID            NUMBER(19) PRIMARY KEY,
+    ENTITY_TYPE         VARCHAR2(30) NOT NULL,
+    ENTITY_ID           VARCHAR2(500) NOT NULL,
+    AAS_ID              VARCHAR2(500),
+    SEMANTIC_ID         VARCHAR2(500),
+    VERSION             NUMBER(10) NOT NULL,
+    OPERATION           VARCHAR2(20) NOT NULL,
+    CHANGED_BY          VARCHAR2(100),
+    CREATED_AT          TIMESTAMP NOT NULL
+);
+
+-- 이벤트 번호 카운터 (한 행, 커밋 직전에 잠가 번호 예약 -> 번호 순서 = 커밋 순서)
+CREATE TABLE AAS_CHANGE_EVENT_COUNTER (
+    COUNTER_ID          NUMBER(10) PRIMARY KEY,
+    LAST_EVENT_ID       NUMBER(19) NOT NULL
+);
+INSERT INTO AAS_CHANGE_EVENT_COUNTER (COUNTER_ID, LAST_EVENT_ID) VALUES (1, 0);
+COMMIT;
+
+-- 변경 이벤트 인덱스 (구독 필터 재전송, 보관 기간 정리)
+CREATE INDEX IDX_CHG_AAS_ID ON AAS_CHANGE_EVENT(AAS_ID, EVENT_ID);
+CREATE INDEX IDX_CHG_SEMANTIC_ID ON AAS_CHANGE_EVENT(SEMANTIC_ID, EVENT_ID);
+CREATE INDEX IDX_CHG_CREATED_AT ON AAS_CHANGE_EVENT(CREATED_AT);
+
+-- 변경 이벤트 코멘트
+COMMENT ON TABLE AAS_CHANGE_EVENT IS '저장/활성화 변경 이벤트 (트랜잭션 아웃박스)';
+COMMENT ON COLUMN AAS_CHANGE_EVENT.EVENT_ID IS '이벤트 번호 (커밋 순서, 빈 번호 없음, SSE Last-Event-ID)';
+COMMENT ON COLUMN AAS_CHANGE_EVENT.ENTITY_TYPE IS '대상 종류 (AAS, SUBMODEL, CONCEPT_DESCRIPTION)';
+COMMENT ON COLUMN AAS_CHANGE_EVENT.ENTITY_ID IS '대상 식별자';
+COMMENT ON COLUMN AAS_CHANGE_EVENT.AAS_ID IS '관련 AAS 식별자 (AAS는 자신, Submodel은 소속 AAS)';
+COMMENT ON COLUMN AAS_CHANGE_EVENT.SEMANTIC_ID IS 'Submodel Semantic ID';
+COMMENT ON COLUMN AAS_CHANGE_EVENT.VERSION IS '대상 버전 번호';
+COMMENT ON COLUMN AAS_CHANGE_EVENT.OPERATION IS '변경 종류 (CREATED=새 버전, UPDATED=기존 버전 덮어쓰기, ACTIVATED=버전 활성화)';
+COMMENT ON COLUMN AAS_CHANGE_EVENT.CHANGED_BY IS '변경자';
+COMMENT ON COLUMN AAS_CHANGE_EVENT.CREATED_AT IS '기록 일시';
+COMMENT ON TABLE AAS_CHANGE_EVENT_COUNTER IS '변경 이벤트 번호 카운터 (COUNTER_ID=1 한 행)';
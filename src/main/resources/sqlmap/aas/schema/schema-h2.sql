@@ -0,0 +1,24 @@
+-- =============================================
+-- Shinhan AAS Server - H2 DDL Script (local 프로파일)
+-- JPA 엔티티가 없는 테이블만 정의한다 (나머지는 ddl-auto create-drop이 생성).
+-- 같은 JVM의 여러 컨텍스트가 메모리 DB를 공유하므로 IF NOT EXISTS로 만든다.
+-- =============================================
+
+-- =============================================
+-- Submodel 요소 색인 테이블 (기본 키 없음: MultiLanguageProperty는 같은 경로가 언어 수만큼 존재)
+-- =============================================
+CREATE TABLE IF NOT EXISTS AAS_SM_ELEMENT_INDEX (
+    SUBMODEL_SEQ        BIGINT NOT NULL,
+    SUBMODEL_ID         VARCHAR(500) NOT NULL,
+    ID_SHORT_PATH       VARCHAR(500) NOT NULL,
+    MODEL_TYPE          VARCHAR(50),
+    SEMANTIC_ID         VARCHAR(500),
+    VALUE_TYPE          VARCHAR(30),
+    STRING_VALUE        VARCHAR(255),
+    NUMERIC_VALUE       DOUBLE PRECISION
+);
+
+CREATE INDEX IF NOT EXISTS IDX_SMEI_SUBMODEL_ID ON AAS_SM_ELEMENT_INDEX(SUBMODEL_ID);
+CREATE INDEX IF NOT EXISTS IDX_SMEI_PATH_STRING ON AAS_SM_ELEMENT_INDEX(ID_SHORT_PATH, STRING_VALUE);
+CREATE INDEX IF NOT EXISTS IDX_SMEI_PATH_NUMERIC ON AAS_SM_ELEMENT_INDEX(ID_SHORT_PATH, NUMERIC_VALUE);
+CREATE INDEX IF NOT EXISTS IDX_SMEI_SEMANTIC_STRING ON AAS_SM_ELEMENT_INDEX(SEMANTIC_ID, STRING_VALUE);
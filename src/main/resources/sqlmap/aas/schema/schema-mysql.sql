@@ -2,6 +2,16 @@
 -- Shinhan AAS Server - MySQL DDL Script
 -- =============================================
 
+-- =============================================
+-- 시퀀스 테이블 (MySQL은 시퀀스 미지원, Hibernate 테이블 방식 / pooled-lo 블록 할당)
+-- =============================================
+CREATE TABLE AAS_SEQ (next_val BIGINT NOT NULL) ENGINE=InnoDB;
+INSERT INTO AAS_SEQ VALUES (1);
+CREATE TABLE SUBMODEL_SEQ (next_val BIGINT NOT NULL) ENGINE=InnoDB;
+INSERT INTO SUBMODEL_SEQ VALUES (1);
+CREATE TABLE CONCEPT_DESC_SEQ (next_val BIGINT NOT NULL) ENGINE=InnoDB;
+INSERT INTO CONCEPT_DESC_SEQ VALUES (1);
+
 -- =============================================
 -- AAS (Asset Administration Shell) 테이블
 -- =============================================
@@ -14,15 +24,19 @@ CREATE TABLE AAS_SHELL (
     VERSION             INT NOT NULL,
     IS_ACTIVE           TINYINT(1) DEFAULT 1 NOT NULL,
     AAS_JSON            LONGTEXT,
+    AAS_PAYLOAD         LONGBLOB,
+    PAYLOAD_CODEC       VARCHAR(10),
+    CONTENT_HASH        VARCHAR(64),
+    STORAGE_TYPE        VARCHAR(10) DEFAULT 'FULL' NOT NULL,
     CREATED_BY          VARCHAR(100),
     CREATED_AT          DATETIME NOT NULL,
     UPDATED_BY          VARCHAR(100),
     UPDATED_AT          DATETIME,
 
     INDEX IDX_AAS_AAS_ID (AAS_ID),
-    INDEX IDX_AAS_IS_ACTIVE (IS_ACTIVE),
-    INDEX IDX_AAS_AAS_ID_VERSION (AAS_ID, VERSION),
-    INDEX IDX_AAS_CREATED_AT (CREATED_AT)
+    UNIQUE KEY UK_AAS_AAS_ID_VERSION (AAS_ID, VERSION),
+    INDEX IDX_AAS_CREATED_AT (CREATED_AT),
+    INDEX IDX_AAS_GLOBAL_ASSET_ID (GLOBAL_ASSET_ID)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
 COMMENT='Asset Administration Shell 저장 테이블';
 
@@ -38,6 +52,12 @@ CREATE TABLE AAS_SUBMODEL (
     VERSION             INT NOT NULL,
     IS_ACTIVE           TINYINT(1) DEFAULT 1 NOT NULL,
     SUBMODEL_JSON       LONGTEXT,
+    SUBMODEL_PAYLOAD    LONGBLOB,
+    PAYLOAD_CODEC       VARCHAR(10),
+    SUBMODEL_VALUE_PAYLOAD LONGBLOB,
+    VALUE_PAYLOAD_CODEC VARCHAR(10),
+    CONTENT_HASH        VARCHAR(64),
+    STORAGE_TYPE        VARCHAR(10) DEFAULT 'FULL' NOT NULL,
     CREATED_BY          VARCHAR(100),
     CREATED_AT          DATETIME NOT NULL,
     UPDATED_BY          VARCHAR(100),
@@ -45,9 +65,9 @@ CREATE TABLE AAS_SUBMODEL (
 
     INDEX IDX_SM_SUBMODEL_ID (SUBMODEL_ID),
     INDEX IDX_SM_AAS_ID (AAS_ID),
-    INDEX IDX_SM_IS_ACTIVE (IS_ACTIVE),
-    INDEX IDX_SM_SUBMODEL_ID_VERSION (SUBMODEL_ID, VERSION),
-    INDEX IDX_SM_CREATED_AT (CREATED_AT)
+    UNIQUE KEY UK_SM_SUBMODEL_ID_VERSION (SUBMODEL_ID, VERSION),
+    INDEX IDX_SM_CREATED_AT (CREATED_AT),
+    INDEX IDX_SM_SEMANTIC_ID (SEMANTIC_ID)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
 COMMENT='Submodel 저장 테이블';
 
@@ -61,13 +81,100 @@ CREATE TABLE AAS_CONCEPT_DESCRIPTION (
     VERSION             INT NOT NULL,
     IS_ACTIVE           TINYINT(1) DEFAULT 1 NOT NULL,
     CD_JSON             LONGTEXT,
+    CD_PAYLOAD          LONGBLOB,
+    PAYLOAD_CODEC       VARCHAR(10),
+    CONTENT_HASH        VARCHAR(64),
     CREATED_BY          VARCHAR(100),
     CREATED_AT          DATETIME NOT NULL,
     UPDATED_BY          VARCHAR(100),
     UPDATED_AT          DATETIME,
 
     INDEX IDX_CD_CD_ID (CD_ID),
-    INDEX IDX_CD_IS_ACTIVE (IS_ACTIVE),
-    INDEX IDX_CD_CD_ID_VERSION (CD_ID, VERSION)
+    UNIQUE KEY UK_CD_CD_ID_VERSION (CD_ID, VERSION)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
 COMMENT='ConceptDescription 저장 테이블';
+
+-- =============================================
+-- 활성 버전 포인터 테이블 (식별자당 한 행, 활성화는 이 행 하나의 UPSERT)
+-- =============================================
+CREATE TABLE AAS_SHELL_ACTIVE (
+    AAS_ID              VARCHAR(500) PRIMARY KEY,
+    SEQ                 BIGINT NOT NULL,
+    VERSION             INT NOT NULL,
+    CREATED_AT          DATETIME NOT NULL,
+    ACTIVATED_AT        DATETIME NOT NULL,
+
+    INDEX IDX_AAS_ACTIVE_LISTING (CREATED_AT, SEQ)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
+COMMENT='AAS 활성 버전 포인터 (AAS ID당 한 행)';
+
+CREATE TABLE AAS_SUBMODEL_ACTIVE (
+    SUBMODEL_ID         VARCHAR(500) PRIMARY KEY,
+    SEQ                 BIGINT NOT NULL,
+    VERSION             INT NOT NULL,
+    CREATED_AT          DATETIME NOT NULL,
+    ACTIVATED_AT        DATETIME NOT NULL,
+
+    INDEX IDX_SM_ACTIVE_LISTING (CREATED_AT, SEQ),
+    INDEX IDX_SM_ACTIVE_SEQ (SEQ)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
+COMMENT='Submodel 활성 버전 포인터 (Submodel ID당 한 행)';
+
+CREATE TABLE AAS_CD_ACTIVE (
+    CD_ID               VARCHAR(500) PRIMARY KEY,
+    SEQ                 BIGINT NOT NULL,
+    VERSION             INT NOT NULL,
+    CREATED_AT          DATETIME NOT NULL,
+    ACTIVATED_AT        DATETIME NOT NULL,
+
+    INDEX IDX_CD_ACTIVE_LISTING (CREATED_AT, SEQ)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
+COMMENT='ConceptDescription 활성 버전 포인터 (CD ID당 한 행)';
+
+-- =============================================
+-- Submodel 요소 색인 테이블 (활성 버전만 유지)
+-- =============================================
+CREATE TABLE AAS_SM_ELEMENT_INDEX (
+    SUBMODEL_SEQ        BIGINT NOT NULL,
+    SUBMODEL_ID         VARCHAR(500) NOT NULL,
+    ID_SHORT_PATH       VARCHAR(500) NOT NULL,
+    MODEL_TYPE          VARCHAR(50),
+    SEMANTIC_ID         VARCHAR(500),
+    VALUE_TYPE          VARCHAR(30),
+    STRING_VALUE        VARCHAR(255),
+    NUMERIC_VALUE       DOUBLE,
+
+    INDEX IDX_SMEI_SUBMODEL_ID (SUBMODEL_ID),
+    INDEX IDX_SMEI_PATH_STRING (ID_SHORT_PATH, STRING_VALUE),
+    INDEX IDX_SMEI_PATH_NUMERIC (ID_SHORT_PATH, NUMERIC_VALUE),
+    INDEX IDX_SMEI_SEMANTIC_STRING (SEMANTIC_ID, STRING_VALUE)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
+COMMENT='Submodel 요소 색인 (활성 버전 요소를 idShort 경로 기준으로 평탄화)';
+
+-- =============================================
+-- 변경 이벤트 테이블 (저장/활성화 트랜잭션 아웃박스, /aas/events 구독)
+-- =============================================
+CREATE TABLE AAS_CHANGE_EVENT (
+    EVENT_ID            BIGINT PRIMARY KEY,
+    ENTITY_TYPE         VARCHAR(30) NOT NULL,
+    ENTITY_ID           VARCHAR(500) NOT NULL,
+    AAS_ID              VARCHAR(500),
+    SEMANTIC_ID         VARCHAR(500),
+    VERSION             INT NOT NULL,
+    OPERATION           VARCHAR(20) NOT NULL,
+    CHANGED_BY          VARCHAR(100),
+    CREATED_AT          DATETIME NOT NULL,
+
+    INDEX IDX_CHG_AAS_ID (AAS_ID, EVENT_ID),
+    INDEX IDX_CHG_SEMANTIC_ID (SEMANTIC_ID, EVENT_ID),
+    INDEX IDX_CHG_CREATED_AT (CREATED_AT)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
+COMMENT='저장/활성화 변경 이벤트 (트랜잭션 아웃박스)';
+
+-- 이벤트 번호 카운터 (한 행, 커밋 직전에 잠가 번호 예약 -> 번호 순서 = 커밋 순서)
+CREATE TABLE AAS_CHANGE_EVENT_COUNTER (
+    COUNTER_ID          INT PRIMARY KEY,
+    LAST_EVENT_ID       BIGINT NOT NULL
+) ENGINE=InnoDB
+COMMENT='변경 이벤트 번호 카운터 (COUNTER_ID=1 한 행)';
+INSERT INTO AAS_CHANGE_EVENT_COUNTER (COUNTER_ID, LAST_EVENT_ID) VALUES (1, 0);
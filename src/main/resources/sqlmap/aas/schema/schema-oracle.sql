@@ -2,10 +2,10 @@
 -- Shinhan AAS Server - Oracle DDL Script
 -- =============================================
 
--- 시퀀스 생성
-CREATE SEQUENCE AAS_SEQ START WITH 1 INCREMENT BY 1 NOCACHE;
-CREATE SEQUENCE SUBMODEL_SEQ START WITH 1 INCREMENT BY 1 NOCACHE;
-CREATE SEQUENCE CONCEPT_DESC_SEQ START WITH 1 INCREMENT BY 1 NOCACHE;
+-- 시퀀스 생성 (INCREMENT BY는 엔티티 allocationSize = 50과 일치해야 함, pooled-lo 블록 할당)
+CREATE SEQUENCE AAS_SEQ START WITH 1 INCREMENT BY 50 CACHE 20;
+CREATE SEQUENCE SUBMODEL_SEQ START WITH 1 INCREMENT BY 50 CACHE 20;
+CREATE SEQUENCE CONCEPT_DESC_SEQ START WITH 1 INCREMENT BY 50 CACHE 20;
 
 -- =============================================
 -- AAS (Asset Administration Shell) 테이블
@@ -19,6 +19,10 @@ CREATE TABLE AAS_SHELL (
     VERSION             NUMBER(10) NOT NULL,
     IS_ACTIVE           NUMBER(1) DEFAULT 1 NOT NULL,
     AAS_JSON            CLOB,
+    AAS_PAYLOAD         BLOB,
+    PAYLOAD_CODEC       VARCHAR2(10),
+    CONTENT_HASH        VARCHAR2(64),
+    STORAGE_TYPE        VARCHAR2(10) DEFAULT 'FULL' NOT NULL,
     CREATED_BY          VARCHAR2(100),
     CREATED_AT          TIMESTAMP NOT NULL,
     UPDATED_BY          VARCHAR2(100),
@@ -27,9 +31,10 @@ CREATE TABLE AAS_SHELL (
 
 -- AAS 인덱스
 CREATE INDEX IDX_AAS_AAS_ID ON AAS_SHELL(AAS_ID);
-CREATE INDEX IDX_AAS_IS_ACTIVE ON AAS_SHELL(IS_ACTIVE);
-CREATE INDEX IDX_AAS_AAS_ID_VERSION ON AAS_SHELL(AAS_ID, VERSION);
+-- ID당 버전 번호 유일 (노드 간 동시 저장 시 같은 버전 할당 방지)
+CREATE UNIQUE INDEX UK_AAS_AAS_ID_VERSION ON AAS_SHELL(AAS_ID, VERSION);
 CREATE INDEX IDX_AAS_CREATED_AT ON AAS_SHELL(CREATED_AT);
+CREATE INDEX IDX_AAS_GLOBAL_ASSET_ID ON AAS_SHELL(GLOBAL_ASSET_ID);
 
 -- AAS 코멘트
 COMMENT ON TABLE AAS_SHELL IS 'Asset Administration Shell 저장 테이블';
@@ -39,8 +44,12 @@ COMMENT ON COLUMN AAS_SHELL.ID_SHORT IS 'AAS 짧은 이름';
 COMMENT ON COLUMN AAS_SHELL.ASSET_KIND IS '자산 종류 (INSTANCE, TYPE)';
 COMMENT ON COLUMN AAS_SHELL.GLOBAL_ASSET_ID IS '글로벌 자산 ID';
 COMMENT ON COLUMN AAS_SHELL.VERSION IS '버전 번호';
-COMMENT ON COLUMN AAS_SHELL.IS_ACTIVE IS '활성화 여부 (1=활성, 0=비활성)';
-COMMENT ON COLUMN AAS_SHELL.AAS_JSON IS 'AAS 전체 JSON 데이터';
+COMMENT ON COLUMN AAS_SHELL.IS_ACTIVE IS '활성화 여부 표시 (1=활성, 0=비활성, 조회 기준은 활성 버전 포인터 테이블)';
+COMMENT ON COLUMN AAS_SHELL.AAS_JSON IS 'AAS 전체 JSON 데이터 (이전 형식, 신규 행은 NULL)';
+COMMENT ON COLUMN AAS_SHELL.AAS_PAYLOAD IS 'AAS JSON 압축 저장 내용 (PAYLOAD_CODEC으로 인코딩)';
+COMMENT ON COLUMN AAS_SHELL.PAYLOAD_CODEC IS '저장 코덱 (NONE, DEFLATE, LZ4)';
+COMMENT ON COLUMN AAS_SHELL.CONTENT_HASH IS '정규화 JSON SHA-256 (변경 없는 재업로드 판별)';
+COMMENT ON COLUMN AAS_SHELL.STORAGE_TYPE IS 'JSON 저장 방식 (FULL=전체, DELTA=직전 버전 대비 JSON Patch)';
 COMMENT ON COLUMN AAS_SHELL.CREATED_BY IS '생성자';
 COMMENT ON COLUMN AAS_SHELL.CREATED_AT IS '생성 일시';
 COMMENT ON COLUMN AAS_SHELL.UPDATED_BY IS '수정자';
@@ -58,6 +67,12 @@ CREATE TABLE AAS_SUBMODEL (
     VERSION             NUMBER(10) NOT NULL,
     IS_ACTIVE           NUMBER(1) DEFAULT 1 NOT NULL,
     SUBMODEL_JSON       CLOB,
+    SUBMODEL_PAYLOAD    BLOB,
+    PAYLOAD_CODEC       VARCHAR2(10),
+    SUBMODEL_VALUE_PAYLOAD BLOB,
+    VALUE_PAYLOAD_CODEC VARCHAR2(10),
+    CONTENT_HASH        VARCHAR2(64),
+    STORAGE_TYPE        VARCHAR2(10) DEFAULT 'FULL' NOT NULL,
     CREATED_BY          VARCHAR2(100),
     CREATED_AT          TIMESTAMP NOT NULL,
     UPDATED_BY          VARCHAR2(100),
@@ -67,9 +82,9 @@ CREATE TABLE AAS_SUBMODEL (
 -- Submodel 인덱스
 CREATE INDEX IDX_SM_SUBMODEL_ID ON AAS_SUBMODEL(SUBMODEL_ID);
 CREATE INDEX IDX_SM_AAS_ID ON AAS_SUBMODEL(AAS_ID);
-CREATE INDEX IDX_SM_IS_ACTIVE ON AAS_SUBMODEL(IS_ACTIVE);
-CREATE INDEX IDX_SM_SUBMODEL_ID_VERSION ON AAS_SUBMODEL(SUBMODEL_ID, VERSION);
+CREATE UNIQUE INDEX UK_SM_SUBMODEL_ID_VERSION ON AAS_SUBMODEL(SUBMODEL_ID, VERSION);
 CREATE INDEX IDX_SM_CREATED_AT ON AAS_SUBMODEL(CREATED_AT);
+CREATE INDEX IDX_SM_SEMANTIC_ID ON AAS_SUBMODEL(SEMANTIC_ID);
 
 -- Submodel 코멘트
 COMMENT ON TABLE AAS_SUBMODEL IS 'Submodel 저장 테이블';
@@ -79,8 +94,14 @@ COMMENT ON COLUMN AAS_SUBMODEL.ID_SHORT IS 'Submodel 짧은 이름';
 COMMENT ON COLUMN AAS_SUBMODEL.SEMANTIC_ID IS 'Semantic ID (의미 식별자)';
 COMMENT ON COLUMN AAS_SUBMODEL.AAS_ID IS '연결된 AAS ID';
 COMMENT ON COLUMN AAS_SUBMODEL.VERSION IS '버전 번호';
-COMMENT ON COLUMN AAS_SUBMODEL.IS_ACTIVE IS '활성화 여부 (1=활성, 0=비활성)';
-COMMENT ON COLUMN AAS_SUBMODEL.SUBMODEL_JSON IS 'Submodel 전체 JSON 데이터';
+COMMENT ON COLUMN AAS_SUBMODEL.IS_ACTIVE IS '활성화 여부 표시 (1=활성, 0=비활성, 조회 기준은 활성 버전 포인터 테이블)';
+COMMENT ON COLUMN AAS_SUBMODEL.SUBMODEL_JSON IS 'Submodel 전체 JSON 데이터 (이전 형식, 신규 행은 NULL)';
+COMMENT ON COLUMN AAS_SUBMODEL.SUBMODEL_PAYLOAD IS 'Submodel JSON 압축 저장 내용 (PAYLOAD_CODEC으로 인코딩)';
+COMMENT ON COLUMN AAS_SUBMODEL.PAYLOAD_CODEC IS '저장 코덱 (NONE, DEFLATE, LZ4)';
+COMMENT ON COLUMN AAS_SUBMODEL.SUBMODEL_VALUE_PAYLOAD IS '값 전용(Value-Only) 표현 압축 저장 내용 (DELTA 행은 NULL)';
+COMMENT ON COLUMN AAS_SUBMODEL.VALUE_PAYLOAD_CODEC IS '값 전용 표현 저장 코덱 (NONE, DEFLATE, LZ4)';
+COMMENT ON COLUMN AAS_SUBMODEL.CONTENT_HASH IS '정규화 JSON SHA-256 (변경 없는 재업로드 판별)';
+COMMENT ON COLUMN AAS_SUBMODEL.STORAGE_TYPE IS 'JSON 저장 방식 (FULL=전체, DELTA=직전 버전 대비 JSON Patch)';
 COMMENT ON COLUMN AAS_SUBMODEL.CREATED_BY IS '생성자';
 COMMENT ON COLUMN AAS_SUBMODEL.CREATED_AT IS '생성 일시';
 COMMENT ON COLUMN AAS_SUBMODEL.UPDATED_BY IS '수정자';
@@ -96,6 +117,9 @@ CREATE TABLE AAS_CONCEPT_DESCRIPTION (
     VERSION             NUMBER(10) NOT NULL,
     IS_ACTIVE           NUMBER(1) DEFAULT 1 NOT NULL,
     CD_JSON             CLOB,
+    CD_PAYLOAD          BLOB,
+    PAYLOAD_CODEC       VARCHAR2(10),
+    CONTENT_HASH        VARCHAR2(64),
     CREATED_BY          VARCHAR2(100),
     CREATED_AT          TIMESTAMP NOT NULL,
     UPDATED_BY          VARCHAR2(100),
@@ -104,8 +128,7 @@ CREATE TABLE AAS_CONCEPT_DESCRIPTION (
 
 -- ConceptDescription 인덱스
 CREATE INDEX IDX_CD_CD_ID ON AAS_CONCEPT_DESCRIPTION(CD_ID);
-CREATE INDEX IDX_CD_IS_ACTIVE ON AAS_CONCEPT_DESCRIPTION(IS_ACTIVE);
-CREATE INDEX IDX_CD_CD_ID_VERSION ON AAS_CONCEPT_DESCRIPTION(CD_ID, VERSION);
+CREATE UNIQUE INDEX UK_CD_CD_ID_VERSION ON AAS_CONCEPT_DESCRIPTION(CD_ID, VERSION);
 
 -- ConceptDescription 코멘트
 COMMENT ON TABLE AAS_CONCEPT_DESCRIPTION IS 'ConceptDescription 저장 테이블';
@@ -113,9 +136,137 @@ COMMENT ON COLUMN AAS_CONCEPT_DESCRIPTION.SEQ IS '자동 증가 시퀀스';
 COMMENT ON COLUMN AAS_CONCEPT_DESCRIPTION.CD_ID IS 'ConceptDescription 고유 식별자';
 COMMENT ON COLUMN AAS_CONCEPT_DESCRIPTION.ID_SHORT IS 'ConceptDescription 짧은 이름';
 COMMENT ON COLUMN AAS_CONCEPT_DESCRIPTION.VERSION IS '버전 번호';
-COMMENT ON COLUMN AAS_CONCEPT_DESCRIPTION.IS_ACTIVE IS '활성화 여부 (1=활성, 0=비활성)';
-COMMENT ON COLUMN AAS_CONCEPT_DESCRIPTION.CD_JSON IS 'ConceptDescription 전체 JSON 데이터';
+COMMENT ON COLUMN AAS_CONCEPT_DESCRIPTION.IS_ACTIVE IS '활성화 여부 표시 (1=활성, 0=비활성, 조회 기준은 활성 버전 포인터 테이블)';
+COMMENT ON COLUMN AAS_CONCEPT_DESCRIPTION.CD_JSON IS 'ConceptDescription 전체 JSON 데이터 (이전 형식, 신규 행은 NULL)';
+COMMENT ON COLUMN AAS_CONCEPT_DESCRIPTION.CD_PAYLOAD IS 'ConceptDescription JSON 압축 저장 내용 (PAYLOAD_CODEC으로 인코딩)';
+COMMENT ON COLUMN AAS_CONCEPT_DESCRIPTION.PAYLOAD_CODEC IS '저장 코덱 (NONE, DEFLATE, LZ4)';
+COMMENT ON COLUMN AAS_CONCEPT_DESCRIPTION.CONTENT_HASH IS '정규화 JSON SHA-256 (변경 없는 재업로드 판별)';
 COMMENT ON COLUMN AAS_CONCEPT_DESCRIPTION.CREATED_BY IS '생성자';
 COMMENT ON COLUMN AAS_CONCEPT_DESCRIPTION.CREATED_AT IS '생성 일시';
 COMMENT ON COLUMN AAS_CONCEPT_DESCRIPTION.UPDATED_BY IS '수정자';
 COMMENT ON COLUMN AAS_CONCEPT_DESCRIPTION.UPDATED_AT IS '수정 일시';
+
+-- =============================================
+-- 활성 버전 포인터 테이블 (식별자당 한 행, 활성화는 이 행 하나의 UPSERT)
+-- =============================================
+CREATE TABLE AAS_SHELL_ACTIVE (
+    AAS_ID              VARCHAR2(500) PRIMARY KEY,
+    SEQ                 NUMBER(19) NOT NULL,
+    VERSION             NUMBER(10) NOT NULL,
+    CREATED_AT          TIMESTAMP NOT NULL,
+    ACTIVATED_AT        TIMESTAMP NOT NULL
+);
+
+CREATE TABLE AAS_SUBMODEL_ACTIVE (
+    SUBMODEL_ID         VARCHAR2(500) PRIMARY KEY,
+    SEQ                 NUMBER(19) NOT NULL,
+    VERSION             NUMBER(10) NOT NULL,
+    CREATED_AT          TIMESTAMP NOT NULL,
+    ACTIVATED_AT        TIMESTAMP NOT NULL
+);
+
+CREATE TABLE AAS_CD_ACTIVE (
+    CD_ID               VARCHAR2(500) PRIMARY KEY,
+    SEQ                 NUMBER(19) NOT NULL,
+    VERSION             NUMBER(10) NOT NULL,
+    CREATED_AT          TIMESTAMP NOT NULL,
+    ACTIVATED_AT        TIMESTAMP NOT NULL
+);
+
+-- 활성 버전 포인터 인덱스 (활성 목록 키셋 페이지네이션, 요소 색인 재구성 SEQ 순회)
+CREATE INDEX IDX_AAS_ACTIVE_LISTING ON AAS_SHELL_ACTIVE(CREATED_AT, SEQ);
+CREATE INDEX IDX_SM_ACTIVE_LISTING ON AAS_SUBMODEL_ACTIVE(CREATED_AT, SEQ);
+CREATE INDEX IDX_SM_ACTIVE_SEQ ON AAS_SUBMODEL_ACTIVE(SEQ);
+CREATE INDEX IDX_CD_ACTIVE_LISTING ON AAS_CD_ACTIVE(CREATED_AT, SEQ);
+
+-- 활성 버전 포인터 코멘트
+COMMENT ON TABLE AAS_SHELL_ACTIVE IS 'AAS 활성 버전 포인터 (AAS ID당 한 행)';
+COMMENT ON COLUMN AAS_SHELL_ACTIVE.AAS_ID IS 'AAS 고유 식별자';
+COMMENT ON COLUMN AAS_SHELL_ACTIVE.SEQ IS '활성 버전 행 SEQ (AAS_SHELL.SEQ)';
+COMMENT ON COLUMN AAS_SHELL_ACTIVE.VERSION IS '활성 버전 번호';
+COMMENT ON COLUMN AAS_SHELL_ACTIVE.CREATED_AT IS '활성 버전 행 생성 일시 (목록 정렬용)';
+COMMENT ON COLUMN AAS_SHELL_ACTIVE.ACTIVATED_AT IS '활성화 일시';
+COMMENT ON TABLE AAS_SUBMODEL_ACTIVE IS 'Submodel 활성 버전 포인터 (Submodel ID당 한 행)';
+COMMENT ON COLUMN AAS_SUBMODEL_ACTIVE.SUBMODEL_ID IS 'Submodel 고유 식별자';
+COMMENT ON COLUMN AAS_SUBMODEL_ACTIVE.SEQ IS '활성 버전 행 SEQ (AAS_SUBMODEL.SEQ)';
+COMMENT ON COLUMN AAS_SUBMODEL_ACTIVE.VERSION IS '활성 버전 번호';
+COMMENT ON COLUMN AAS_SUBMODEL_ACTIVE.CREATED_AT IS '활성 버전 행 생성 일시 (목록 정렬용)';
+COMMENT ON COLUMN AAS_SUBMODEL_ACTIVE.ACTIVATED_AT IS '활성화 일시';
+COMMENT ON TABLE AAS_CD_ACTIVE IS 'ConceptDescription 활성 버전 포인터 (CD ID당 한 행)';
+COMMENT ON COLUMN AAS_CD_ACTIVE.CD_ID IS 'ConceptDescription 고유 식별자';
+COMMENT ON COLUMN AAS_CD_ACTIVE.SEQ IS '활성 버전 행 SEQ (AAS_CONCEPT_DESCRIPTION.SEQ)';
+COMMENT ON COLUMN AAS_CD_ACTIVE.VERSION IS '활성 버전 번호';
+COMMENT ON COLUMN AAS_CD_ACTIVE.CREATED_AT IS '활성 버전 행 생성 일시 (목록 정렬용)';
+COMMENT ON COLUMN AAS_CD_ACTIVE.ACTIVATED_AT IS '활성화 일시';
+
+-- =============================================
+-- Submodel 요소 색인 테이블 (활성 버전만 유지)
+-- =============================================
+CREATE TABLE AAS_SM_ELEMENT_INDEX (
+    SUBMODEL_SEQ        NUMBER(19) NOT NULL,
+    SUBMODEL_ID         VARCHAR2(500) NOT NULL,
+    ID_SHORT_PATH       VARCHAR2(500) NOT NULL,
+    MODEL_TYPE          VARCHAR2(50),
+    SEMANTIC_ID         VARCHAR2(500),
+    VALUE_TYPE          VARCHAR2(30),
+    STRING_VALUE        VARCHAR2(255 CHAR),
+    NUMERIC_VALUE       BINARY_DOUBLE
+);
+
+-- 요소 색인 인덱스
+CREATE INDEX IDX_SMEI_SUBMODEL_ID ON AAS_SM_ELEMENT_INDEX(SUBMODEL_ID);
+CREATE INDEX IDX_SMEI_PATH_STRING ON AAS_SM_ELEMENT_INDEX(ID_SHORT_PATH, STRING_VALUE);
+CREATE INDEX IDX_SMEI_PATH_NUMERIC ON AAS_SM_ELEMENT_INDEX(ID_SHORT_PATH, NUMERIC_VALUE);
+CREATE INDEX IDX_SMEI_SEMANTIC_STRING ON AAS_SM_ELEMENT_INDEX(SEMANTIC_ID, STRING_VALUE);
+
+-- 요소 색인 코멘트
+COMMENT ON TABLE AAS_SM_ELEMENT_INDEX IS 'Submodel 요소 색인 (활성 버전 요소를 idShort 경로 기준으로 평탄화)';
+COMMENT ON COLUMN AAS_SM_ELEMENT_INDEX.SUBMODEL_SEQ IS '요소가 속한 Submodel 버전 행 SEQ';
+COMMENT ON COLUMN AAS_SM_ELEMENT_INDEX.SUBMODEL_ID IS 'Submodel 고유 식별자';
+COMMENT ON COLUMN AAS_SM_ELEMENT_INDEX.ID_SHORT_PATH IS 'idShort 경로 (Collection은 a.b, List는 a[0], Range는 a.min/a.max)';
+COMMENT ON COLUMN AAS_SM_ELEMENT_INDEX.MODEL_TYPE IS '요소 종류 (Property, Range, MultiLanguageProperty 등)';
+COMMENT ON COLUMN AAS_SM_ELEMENT_INDEX.SEMANTIC_ID IS '요소 Semantic ID';
+COMMENT ON COLUMN AAS_SM_ELEMENT_INDEX.VALUE_TYPE IS '값 타입 (DataTypeDefXsd 이름)';
+COMMENT ON COLUMN AAS_SM_ELEMENT_INDEX.STRING_VALUE IS '정규화 값 (공백 제거 + 소문자, 255자까지)';
+COMMENT ON COLUMN AAS_SM_ELEMENT_INDEX.NUMERIC_VALUE IS '숫자 값 (숫자형 valueType만)';
+
+-- =============================================
+-- 변경 이벤트 테이블 (저장/활성화 트랜잭션 아웃박스, /aas/events 구독)
+-- =============================================
+CREATE TABLE AAS_CHANGE_EVENT (
+    EVENT_ID            NUMBER(19) PRIMARY KEY,
+    ENTITY_TYPE         VARCHAR2(30) NOT NULL,
+    ENTITY_ID           VARCHAR2(500) NOT NULL,
+    AAS_ID              VARCHAR2(500),
+    SEMANTIC_ID         VARCHAR2(500),
+    VERSION             NUMBER(10) NOT NULL,
+    OPERATION           VARCHAR2(20) NOT NULL,
+    CHANGED_BY          VARCHAR2(100),
+    CREATED_AT          TIMESTAMP NOT NULL
+);
+
+-- 이벤트 번호 카운터 (한 행, 커밋 직전에 잠가 번호 예약 -> 번호 순서 = 커밋 순서)
+CREATE TABLE AAS_CHANGE_EVENT_COUNTER (
+    COUNTER_ID          NUMBER(10) PRIMARY KEY,
+    LAST_EVENT_ID       NUMBER(19) NOT NULL
+);
+INSERT INTO AAS_CHANGE_EVENT_COUNTER (COUNTER_ID, LAST_EVENT_ID) VALUES (1, 0);
+COMMIT;
+
+-- 변경 이벤트 인덱스 (구독 필터 재전송, 보관 기간 정리)
+CREATE INDEX IDX_CHG_AAS_ID ON AAS_CHANGE_EVENT(AAS_ID, EVENT_ID);
+CREATE INDEX IDX_CHG_SEMANTIC_ID ON AAS_CHANGE_EVENT(SEMANTIC_ID, EVENT_ID);
+CREATE INDEX IDX_CHG_CREATED_AT ON AAS_CHANGE_EVENT(CREATED_AT);
+
+-- 변경 이벤트 코멘트
+COMMENT ON TABLE AAS_CHANGE_EVENT IS '저장/활성화 변경 이벤트 (트랜잭션 아웃박스)';
+COMMENT ON COLUMN AAS_CHANGE_EVENT.EVENT_ID IS '이벤트 번호 (커밋 순서, 빈 번호 없음, SSE Last-Event-ID)';
+COMMENT ON COLUMN AAS_CHANGE_EVENT.ENTITY_TYPE IS '대상 종류 (AAS, SUBMODEL, CONCEPT_DESCRIPTION)';
+COMMENT ON COLUMN AAS_CHANGE_EVENT.ENTITY_ID IS '대상 식별자';
+COMMENT ON COLUMN AAS_CHANGE_EVENT.AAS_ID IS '관련 AAS 식별자 (AAS는 자신, Submodel은 소속 AAS)';
+COMMENT ON COLUMN AAS_CHANGE_EVENT.SEMANTIC_ID IS 'Submodel Semantic ID';
+COMMENT ON COLUMN AAS_CHANGE_EVENT.VERSION IS '대상 버전 번호';
+COMMENT ON COLUMN AAS_CHANGE_EVENT.OPERATION IS '변경 종류 (CREATED=새 버전, UPDATED=기존 버전 덮어쓰기, ACTIVATED=버전 활성화)';
+COMMENT ON COLUMN AAS_CHANGE_EVENT.CHANGED_BY IS '변경자';
+COMMENT ON COLUMN AAS_CHANGE_EVENT.CREATED_AT IS '기록 일시';
+COMMENT ON TABLE AAS_CHANGE_EVENT_COUNTER IS '변경 이벤트 번호 카운터 (COUNTER_ID=1 한 행)';
@@ -0,0 +1,135 @@
+package com.aas.shinhan.perf;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.aas.shinhan.ShinhanAasServerApplication;
+import com.aas.shinhan.aas.dto.AasUploadResponse;
+import com.aas.shinhan.aas.service.AasParserService;
+import com.aas.shinhan.aas.service.UploadProgress;
+
+/**
+ * 동시 업로더 수(1/2/4/8)에 따른 업로드 처리량, 내장 H2(local 프로필)에 저장
+ * ids=distinct는 업로더마다 다른 ID를 올려 잠금 없이 늘어나는지, ids=shared는 모든 업로더가 같은 ID 집합을 올려
+ * 활성 버전 포인터 행 잠금에서 얼마나 직렬화되는지 본다.
+ * 업로더마다 서로 다른 revision을 돌려 올리므로 매번 모든 항목에 새 버전이 생긴다.
+ * 실행: mvn -Pdev,perf test-compile exec:exec -Djmh.args="ConcurrentIngestBenchmark -p size=small -p ids=shared"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(value = 1, jvmArgsAppend = { "-Xms2g", "-Xmx2g" })
+public class ConcurrentIngestBenchmark {
+
+    @Param({ "small", "medium" })
+    public String size;
+
+    @Param({ "distinct", "shared" })
+    public String ids;
+
+    @Param({ "json" })
+    public String format;
+
+    private ConfigurableApplicationContext context;
+    private AasParserService parserService;
+    private final AtomicInteger uploaderCount = new AtomicInteger();
+
+    @Setup
+    public void setUp() throws Exception {
+        // 명령행 인자로 전달 (builder.properties는 기본값이라 application-local.yaml 설정에 덮임)
+        context = new SpringApplicationBuilder(ShinhanAasServerApplication.class)
+                .run(
+                        "--spring.profiles.active=local",
+                        "--server.port=0",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.h2.console.enabled=false",
+                        "--aas.blob-store.root=" + Files.createTempDirectory("aas-perf-blob"),
+                        "--logging.level.root=WARN");
+        parserService = context.getBean(AasParserService.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    /**
+     * 업로더(측정 스레드)별 업로드 내용
+     */
+    @State(Scope.Thread)
+    public static class Uploader {
+
+        private static final int REVISIONS = 8;
+
+        private final byte[][] revisions = new byte[REVISIONS][];
+        private int invocation;
+
+        @Setup
+        public void setUp(ConcurrentIngestBenchmark benchmark) throws Exception {
+            int index = benchmark.uploaderCount.getAndIncrement();
+            long seed = "shared".equals(benchmark.ids) ? 1L : 1L + index;
+            EnvironmentGenerator generator = new EnvironmentGenerator(EnvironmentGenerator.Shape.of(benchmark.size),
+                    seed);
+            // 같은 ID를 올려도 업로더끼리 내용이 겹치지 않도록 revision 구간을 나눔 (겹치면 unchanged로 빠짐)
+            for (int revision = 0; revision < REVISIONS; revision++) {
+                revisions[revision] = EnvironmentGenerator.write(
+                        generator.generate(index * REVISIONS + revision), benchmark.format);
+            }
+        }
+
+        byte[] next() {
+            return revisions[invocation++ % REVISIONS];
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public AasUploadResponse uploaders1(Uploader uploader) throws Exception {
+        return ingest(uploader);
+    }
+
+    @Benchmark
+    @Threads(2)
+    public AasUploadResponse uploaders2(Uploader uploader) throws Exception {
+        return ingest(uploader);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public AasUploadResponse uploaders4(Uploader uploader) throws Exception {
+        return ingest(uploader);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public AasUploadResponse uploaders8(Uploader uploader) throws Exception {
+        return ingest(uploader);
+    }
+
+    private AasUploadResponse ingest(Uploader uploader) throws Exception {
+        return parserService.parseAndProcess("perf." + format, new ByteArrayInputStream(uploader.next()), "perf",
+                false, new UploadProgress());
+    }
+}
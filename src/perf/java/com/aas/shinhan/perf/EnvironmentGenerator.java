@@ -0,0 +1,241 @@
+package com.aas.shinhan.perf;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.aasx.AASXSerializer;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.json.JsonSerializer;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.xml.XmlSerializer;
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell;
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetKind;
+import org.eclipse.digitaltwin.aas4j.v3.model.ConceptDescription;
+import org.eclipse.digitaltwin.aas4j.v3.model.DataTypeDefXsd;
+import org.eclipse.digitaltwin.aas4j.v3.model.Environment;
+import org.eclipse.digitaltwin.aas4j.v3.model.KeyTypes;
+import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
+import org.eclipse.digitaltwin.aas4j.v3.model.ReferenceTypes;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultAssetAdministrationShell;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultAssetInformation;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultBlob;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultConceptDescription;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultEnvironment;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultKey;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultProperty;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultReference;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodelElementCollection;
+
+/**
+ * 성능 측정용 합성 AAS Environment 생성기
+ * 같은 seed/revision이면 항상 같은 내용을 만들고, revision이 바뀌면 Submodel마다 Property 하나의 값만 달라진다
+ * (재업로드 시 새 버전 + 작은 델타가 생기는 실제 갱신 패턴).
+ */
+public final class EnvironmentGenerator {
+
+    /**
+     * 생성 규모
+     * @param depth 요소 트리 깊이 (1이면 Property만, 2 이상이면 SubmodelElementCollection 중첩)
+     * @param width 트리 각 단계의 자식 수
+     * @param blobBytes Submodel마다 넣을 Blob 크기 (0이면 Blob 없음)
+     */
+    public record Shape(int shells, int submodelsPerShell, int depth, int width, int blobBytes,
+            int conceptDescriptions) {
+
+        /**
+         * 명명 규모(shape=small|medium|huge, 기본 small)에 개별 옵션을 덮어쓴 규모
+         */
+        static Shape of(PerfOptions options) {
+            Shape base = of(options.get("shape", "small"));
+            return new Shape(
+                    options.getInt("shells", base.shells()),
+                    options.getInt("submodels", base.submodelsPerShell()),
+                    options.getInt("depth", base.depth()),
+                    options.getInt("width", base.width()),
+                    options.getInt("blob-bytes", base.blobBytes()),
+                    options.getInt("concept-descriptions", base.conceptDescriptions()));
+        }
+
+        public static Shape of(String name) {
+            return switch (name.toLowerCase(Locale.ROOT)) {
+                case "small" -> new Shape(2, 2, 2, 5, 0, 10);
+                case "medium" -> new Shape(20, 5, 3, 6, 1024, 100);
+                case "huge" -> new Shape(100, 10, 3, 6, 8192, 500);
+                default -> throw new IllegalArgumentException("Unknown shape: " + name);
+            };
+        }
+    }
+
+    private final Shape shape;
+    private final long seed;
+
+    public EnvironmentGenerator(Shape shape, long seed) {
+        this.shape = shape;
+        this.seed = seed;
+    }
+
+    public Environment generate(int revision) {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<ConceptDescription> conceptDescriptions = new ArrayList<>();
+        for (int i = 0; i < shape.conceptDescriptions(); i++) {
+            conceptDescriptions.add(new DefaultConceptDescription.Builder()
+                    .id(conceptDescriptionId(i))
+                    .idShort("Concept" + i)
+                    .build());
+        }
+
+        List<AssetAdministrationShell> shells = new ArrayList<>();
+        List<Submodel> submodels = new ArrayList<>();
+        for (int s = 0; s < shape.shells(); s++) {
+            List<Reference> submodelRefs = new ArrayList<>();
+            for (int m = 0; m < shape.submodelsPerShell(); m++) {
+                String submodelId = submodelId(s, m);
+                submodels.add(submodel(submodelId, m, random, revision));
+                submodelRefs.add(reference(ReferenceTypes.MODEL_REFERENCE, KeyTypes.SUBMODEL, submodelId));
+            }
+            shells.add(new DefaultAssetAdministrationShell.Builder()
+                    .id(shellId(s))
+                    .idShort("Shell" + s)
+                    .assetInformation(new DefaultAssetInformation.Builder()
+                            .assetKind(s % 5 == 0 ? AssetKind.TYPE : AssetKind.INSTANCE)
+                            .globalAssetId("urn:perf:" + seed + ":asset:" + s)
+                            .build())
+                    .submodels(submodelRefs)
+                    .build());
+        }
+
+        return new DefaultEnvironment.Builder()
+                .assetAdministrationShells(shells)
+                .submodels(submodels)
+                .conceptDescriptions(conceptDescriptions)
+                .build();
+    }
+
+    private Submodel submodel(String id, int index, SplittableRandom random, int revision) {
+        List<SubmodelElement> elements = new ArrayList<>();
+        elements.add(property("Revision", DataTypeDefXsd.INT, Integer.toString(revision), 0));
+        elements.addAll(children(shape.depth(), random));
+        if (shape.blobBytes() > 0) {
+            byte[] content = new byte[shape.blobBytes()];
+            random.nextBytes(content);
+            elements.add(new DefaultBlob.Builder()
+                    .idShort("Attachment")
+                    .contentType("application/octet-stream")
+                    .value(content)
+                    .build());
+        }
+        return new DefaultSubmodel.Builder()
+                .id(id)
+                .idShort("Submodel" + index)
+                .semanticId(reference(ReferenceTypes.EXTERNAL_REFERENCE, KeyTypes.GLOBAL_REFERENCE,
+                        "urn:perf:semantic:" + index))
+                .submodelElements(elements)
+                .build();
+    }
+
+    private List<SubmodelElement> children(int depth, SplittableRandom random) {
+        List<SubmodelElement> elements = new ArrayList<>(shape.width());
+        for (int i = 0; i < shape.width(); i++) {
+            if (depth > 1) {
+                elements.add(new DefaultSubmodelElementCollection.Builder()
+                        .idShort("Group" + i)
+                        .value(children(depth - 1, random))
+                        .build());
+            } else if (i % 2 == 0) {
+                elements.add(property("Value" + i, DataTypeDefXsd.DOUBLE,
+                        Double.toString(Math.round(random.nextDouble() * 100_000) / 100.0), random.nextInt(1000)));
+            } else {
+                elements.add(property("Label" + i, DataTypeDefXsd.STRING,
+                        Long.toHexString(random.nextLong()), random.nextInt(1000)));
+            }
+        }
+        return elements;
+    }
+
+    private DefaultProperty property(String idShort, DataTypeDefXsd valueType, String value, int concept) {
+        DefaultProperty.Builder builder = new DefaultProperty.Builder()
+                .idShort(idShort)
+                .valueType(valueType)
+                .value(value);
+        if (shape.conceptDescriptions() > 0) {
+            builder.semanticId(reference(ReferenceTypes.EXTERNAL_REFERENCE, KeyTypes.GLOBAL_REFERENCE,
+                    conceptDescriptionId(concept % shape.conceptDescriptions())));
+        }
+        return builder.build();
+    }
+
+    public Shape getShape() {
+        return shape;
+    }
+
+    public String shellId(int shell) {
+        return "urn:perf:" + seed + ":aas:" + shell;
+    }
+
+    public String submodelId(int shell, int index) {
+        return "urn:perf:" + seed + ":sm:" + shell + ":" + index;
+    }
+
+    private String conceptDescriptionId(int index) {
+        return "urn:perf:" + seed + ":cd:" + index;
+    }
+
+    private static Reference reference(ReferenceTypes type, KeyTypes keyType, String value) {
+        return new DefaultReference.Builder()
+                .type(type)
+                .keys(new DefaultKey.Builder().type(keyType).value(value).build())
+                .build();
+    }
+
+    // ======================= 파일 생성 =======================
+
+    /**
+     * 업로드용 파일 생성
+     * 예: -Dperf.main=com.aas.shinhan.perf.EnvironmentGenerator
+     *     -Dperf.args="shape=medium shells=50 blob-bytes=65536 revisions=2 formats=aasx,json out=target/perf-data"
+     * 옵션: shape, shells, submodels, depth, width, blob-bytes, concept-descriptions, seed, revisions, formats, out
+     */
+    public static void main(String[] args) throws Exception {
+        PerfOptions options = new PerfOptions(args);
+        Shape shape = Shape.of(options);
+        long seed = options.getLong("seed", 1L);
+        int revisions = options.getInt("revisions", 1);
+        Path out = Path.of(options.get("out", "target/perf-data"));
+        Files.createDirectories(out);
+
+        EnvironmentGenerator generator = new EnvironmentGenerator(shape, seed);
+        for (int revision = 0; revision < revisions; revision++) {
+            Environment environment = generator.generate(revision);
+            for (String format : options.getList("formats", "aasx,json,xml")) {
+                Path file = out.resolve("env-" + seed + "-r" + revision + "." + format);
+                Files.write(file, write(environment, format));
+                System.out.printf("%s (%,d bytes) %s%n", file, Files.size(file), shape);
+            }
+        }
+    }
+
+    // ======================= 파일 형식 변환 =======================
+
+    /**
+     * Environment를 업로드 파일 형식(aasx, json, xml)의 바이트로 직렬화
+     */
+    public static byte[] write(Environment environment, String format) throws Exception {
+        return switch (format.toLowerCase(Locale.ROOT)) {
+            case "json" -> new JsonSerializer().write(environment).getBytes(StandardCharsets.UTF_8);
+            case "xml" -> new XmlSerializer().write(environment).getBytes(StandardCharsets.UTF_8);
+            case "aasx" -> {
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                new AASXSerializer().write(environment, List.of(), out);
+                yield out.toByteArray();
+            }
+            default -> throw new IllegalArgumentException("Unsupported format: " + format);
+        };
+    }
+}
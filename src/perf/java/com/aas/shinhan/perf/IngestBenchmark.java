@@ -0,0 +1,83 @@
+package com.aas.shinhan.perf;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.aas.shinhan.ShinhanAasServerApplication;
+import com.aas.shinhan.aas.dto.AasUploadResponse;
+import com.aas.shinhan.aas.service.AasParserService;
+import com.aas.shinhan.aas.service.UploadProgress;
+
+/**
+ * 업로드 전체 경로 (파싱 -> 변환 -> 버전 저장) 시간, 내장 H2(local 프로필)에 저장
+ * 호출마다 revision 0/1을 번갈아 올려 매번 모든 Submodel에 새 버전이 생긴다
+ * (비활성화, 델타 압축, 요소 색인 갱신 포함). 측정이 진행될수록 이력이 쌓인다.
+ * 실행: mvn -Pdev,perf test-compile exec:exec -Djmh.args="IngestBenchmark -p size=medium -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(value = 1, jvmArgsAppend = { "-Xms2g", "-Xmx2g" })
+public class IngestBenchmark {
+
+    @Param({ "small", "medium", "huge" })
+    public String size;
+
+    @Param({ "aasx", "json", "xml" })
+    public String format;
+
+    private ConfigurableApplicationContext context;
+    private AasParserService parserService;
+    private final byte[][] revisions = new byte[2][];
+    private int invocation;
+
+    @Setup
+    public void setUp() throws Exception {
+        // 명령행 인자로 전달 (builder.properties는 기본값이라 application-local.yaml 설정에 덮임)
+        context = new SpringApplicationBuilder(ShinhanAasServerApplication.class)
+                .run(
+                        "--spring.profiles.active=local",
+                        "--server.port=0",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.h2.console.enabled=false",
+                        "--aas.blob-store.root=" + Files.createTempDirectory("aas-perf-blob"),
+                        "--logging.level.root=WARN");
+        parserService = context.getBean(AasParserService.class);
+
+        EnvironmentGenerator generator = new EnvironmentGenerator(EnvironmentGenerator.Shape.of(size), 1L);
+        revisions[0] = EnvironmentGenerator.write(generator.generate(0), format);
+        revisions[1] = EnvironmentGenerator.write(generator.generate(1), format);
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    @Benchmark
+    public AasUploadResponse ingest() throws Exception {
+        byte[] content = revisions[invocation++ & 1];
+        return parserService.parseAndProcess("perf." + format, new ByteArrayInputStream(content), "perf", false,
+                new UploadProgress());
+    }
+}
@@ -0,0 +1,395 @@
+package com.aas.shinhan.perf;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.aas.shinhan.ShinhanAasServerApplication;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 업로드/버전 활성화/조회 동시 부하 시험 (soak)
+ * base-url을 주지 않으면 local 프로필(H2)로 서버를 같은 JVM에 띄운다 (이 경우 힙/GC 수치에 부하 생성 비용도 포함).
+ * base-url을 주면 서버의 /actuator/metrics에서 힙/GC를 읽는다.
+ * 업로더마다 seed가 다른 Environment를 두 revision으로 번갈아 올려 매번 새 버전이 생긴다.
+ *
+ * 실행: mvn -Pdev,perf test-compile exec:exec -Dperf.main=com.aas.shinhan.perf.LoadHarness
+ *       -Dperf.args="duration=PT30M uploaders=2 activators=1 readers=8 shape=medium format=aasx"
+ * 옵션: base-url, username, password, duration, report-interval, uploaders, activators, readers, think-ms,
+ *       format, seed 및 EnvironmentGenerator 규모 옵션(shape, shells, submodels, depth, width, blob-bytes,
+ *       concept-descriptions)
+ */
+@Slf4j
+public final class LoadHarness {
+
+    enum Operation {
+        UPLOAD, ACTIVATE, READ_VERSIONS, READ_SHELL, READ_SUBMODEL, READ_VALUE
+    }
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final String BOUNDARY = "----aas-perf-boundary";
+
+    private final PerfOptions options;
+    private final String baseUrl;
+    private final boolean embedded;
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+    private final Map<Operation, Recorder> recorders = new EnumMap<>(Operation.class);
+    private final Map<Operation, Histogram> totals = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+    private final List<String> shellIds = new ArrayList<>();
+    private final List<String> submodelIds = new ArrayList<>();
+    private volatile String token;
+    private volatile boolean running = true;
+
+    private LoadHarness(PerfOptions options, String baseUrl, boolean embedded) {
+        this.options = options;
+        this.baseUrl = baseUrl;
+        this.embedded = embedded;
+        for (Operation operation : Operation.values()) {
+            recorders.put(operation, new Recorder(3));
+            totals.put(operation, new Histogram(3));
+            errors.put(operation, new LongAdder());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        PerfOptions options = new PerfOptions(args);
+        ConfigurableApplicationContext server = null;
+        String baseUrl = options.get("base-url", null);
+        if (baseUrl == null) {
+            // devtools 재시작은 main을 서버 인자로 다시 호출하므로 끈다 (부하 옵션이 사라짐)
+            System.setProperty("spring.devtools.restart.enabled", "false");
+            // 명령행 인자로 전달 (builder.properties는 기본값이라 application-local.yaml 설정에 덮임)
+            server = new SpringApplicationBuilder(ShinhanAasServerApplication.class)
+                    .run(
+                            "--spring.profiles.active=local",
+                            "--server.port=0",
+                            "--spring.jpa.show-sql=false",
+                            "--spring.h2.console.enabled=false",
+                            "--aas.blob-store.root=" + Files.createTempDirectory("aas-perf-blob"),
+                            "--logging.level.com.aas.shinhan=WARN",
+                            "--logging.level.com.aas.shinhan.perf=INFO");
+            baseUrl = "http://localhost:" + server.getEnvironment().getProperty("local.server.port");
+        }
+        try {
+            new LoadHarness(options, baseUrl, server != null).run();
+        } finally {
+            if (server != null) {
+                server.close();
+            }
+        }
+    }
+
+    private void run() throws Exception {
+        Duration duration = options.getDuration("duration", Duration.ofMinutes(5));
+        Duration reportInterval = options.getDuration("report-interval", Duration.ofSeconds(10));
+        int uploaders = options.getInt("uploaders", 2);
+        int activators = options.getInt("activators", 1);
+        int readers = options.getInt("readers", 8);
+        String format = options.get("format", "json");
+        EnvironmentGenerator.Shape shape = EnvironmentGenerator.Shape.of(options);
+        log.info("부하 시험 시작: baseUrl={}, embedded={}, options={}, shape={}", baseUrl, embedded, options, shape);
+
+        login();
+
+        // 업로더별 데이터 준비 및 초기 적재 (측정 제외)
+        List<byte[][]> revisions = new ArrayList<>();
+        long seed = options.getLong("seed", 1L);
+        for (int i = 0; i < Math.max(1, uploaders); i++) {
+            EnvironmentGenerator generator = new EnvironmentGenerator(shape, seed + i);
+            byte[][] content = {
+                    EnvironmentGenerator.write(generator.generate(0), format),
+                    EnvironmentGenerator.write(generator.generate(1), format) };
+            revisions.add(content);
+            upload(content[0], format);
+            for (int s = 0; s < shape.shells(); s++) {
+                shellIds.add(generator.shellId(s));
+                for (int m = 0; m < shape.submodelsPerShell(); m++) {
+                    submodelIds.add(generator.submodelId(s, m));
+                }
+            }
+            log.info("초기 적재 완료: seed={}, {} bytes", seed + i, content[0].length);
+        }
+
+        JvmSample startSample = sampleJvm();
+        long startNanos = System.nanoTime();
+        long deadline = startNanos + duration.toNanos();
+        ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor();
+        JvmSample[] previous = { startSample };
+        long[] peakHeap = { startSample.heapUsed() };
+        reporter.scheduleAtFixedRate(() -> {
+            JvmSample sample = sampleJvm();
+            peakHeap[0] = Math.max(peakHeap[0], sample.heapUsed());
+            report(reportInterval, sample, previous[0]);
+            previous[0] = sample;
+        }, reportInterval.toMillis(), reportInterval.toMillis(), TimeUnit.MILLISECONDS);
+
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < uploaders; i++) {
+                byte[][] content = revisions.get(i);
+                workers.submit(() -> loop(deadline, new int[] { 1 }, counter -> {
+                    record(Operation.UPLOAD, () -> upload(content[counter[0]++ & 1], format));
+                }));
+            }
+            for (int i = 0; i < activators; i++) {
+                workers.submit(() -> loop(deadline, null, ignored -> activateRandomVersion()));
+            }
+            for (int i = 0; i < readers; i++) {
+                workers.submit(() -> loop(deadline, null, ignored -> readRandom()));
+            }
+        } finally {
+            running = false;
+            reporter.shutdownNow();
+            reporter.awaitTermination(1, TimeUnit.MINUTES);
+        }
+
+        JvmSample endSample = sampleJvm();
+        // 마지막 보고 이후 구간을 누적에 반영
+        for (Operation operation : Operation.values()) {
+            totals.get(operation).add(recorders.get(operation).getIntervalHistogram());
+        }
+        summarize(Duration.ofNanos(System.nanoTime() - startNanos), startSample, endSample,
+                Math.max(peakHeap[0], endSample.heapUsed()));
+    }
+
+    private interface Step {
+        void run(int[] counter) throws Exception;
+    }
+
+    private void loop(long deadline, int[] counter, Step step) {
+        long thinkMillis = options.getLong("think-ms", 0);
+        while (running && System.nanoTime() < deadline) {
+            try {
+                step.run(counter);
+                if (thinkMillis > 0) {
+                    Thread.sleep(thinkMillis);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.debug("부하 작업 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    // ======================= 작업 =======================
+
+    private void activateRandomVersion() throws Exception {
+        String submodelId = submodelIds.get(ThreadLocalRandom.current().nextInt(submodelIds.size()));
+        HttpResponse<byte[]> versions = record(Operation.READ_VERSIONS,
+                () -> get("/aas/submodels/" + encode(submodelId) + "/versions"));
+        if (versions == null) {
+            return;
+        }
+        JsonNode list = OBJECT_MAPPER.readTree(versions.body());
+        if (!list.isArray() || list.isEmpty()) {
+            return;
+        }
+        int version = list.get(ThreadLocalRandom.current().nextInt(list.size())).path("version").asInt();
+        record(Operation.ACTIVATE, () -> send(() -> request("/aas/submodels/" + encode(submodelId) + "/versions/"
+                + version + "/activate").POST(HttpRequest.BodyPublishers.noBody())));
+    }
+
+    private void readRandom() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        switch (random.nextInt(3)) {
+            case 0 -> {
+                String shellId = shellIds.get(random.nextInt(shellIds.size()));
+                record(Operation.READ_SHELL, () -> get("/aas/shells/" + encode(shellId)));
+            }
+            case 1 -> {
+                String submodelId = submodelIds.get(random.nextInt(submodelIds.size()));
+                record(Operation.READ_SUBMODEL, () -> get("/aas/submodels/" + encode(submodelId)));
+            }
+            default -> {
+                String submodelId = submodelIds.get(random.nextInt(submodelIds.size()));
+                record(Operation.READ_VALUE, () -> get("/aas/submodels/" + encode(submodelId) + "/$value"));
+            }
+        }
+    }
+
+    private HttpResponse<byte[]> upload(byte[] content, String format) throws Exception {
+        byte[] head = ("--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"perf." + format + "\"\r\n"
+                + "Content-Type: application/octet-stream\r\n\r\n").getBytes(StandardCharsets.UTF_8);
+        byte[] tail = ("\r\n--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.UTF_8);
+        return send(() -> request("/aas/upload")
+                .timeout(Duration.ofMinutes(10))
+                .header("Content-Type", "multipart/form-data; boundary=" + BOUNDARY)
+                .POST(HttpRequest.BodyPublishers.ofByteArrays(List.of(head, content, tail))));
+    }
+
+    private HttpResponse<byte[]> get(String path) throws Exception {
+        return send(() -> request(path).GET());
+    }
+
+    // ======================= HTTP =======================
+
+    private void login() throws Exception {
+        String body = OBJECT_MAPPER.writeValueAsString(Map.of(
+                "username", options.get("username", "admin"),
+                "password", options.get("password", "admin123")));
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/accounts/aas/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Login failed: HTTP " + response.statusCode());
+        }
+        token = OBJECT_MAPPER.readTree(response.body()).path("accessToken").asText();
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(60))
+                .header("Authorization", "Bearer " + token);
+    }
+
+    /**
+     * 요청 전송 (토큰 만료로 401이면 다시 로그인 후 한 번 재시도, 2xx가 아니면 예외)
+     */
+    private HttpResponse<byte[]> send(Supplier<HttpRequest.Builder> builder) throws Exception {
+        HttpResponse<byte[]> response = client.send(builder.get().build(), HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() == 401) {
+            login();
+            response = client.send(builder.get().build(), HttpResponse.BodyHandlers.ofByteArray());
+        }
+        if (response.statusCode() / 100 != 2) {
+            throw new IllegalStateException("HTTP " + response.statusCode() + " " + response.uri());
+        }
+        return response;
+    }
+
+    private static String encode(String id) {
+        return URLEncoder.encode(id, StandardCharsets.UTF_8);
+    }
+
+    private interface Call<T> {
+        T call() throws Exception;
+    }
+
+    /**
+     * 작업 지연 시간 기록 (실패는 오류 수에만 더하고 null 반환)
+     */
+    private <T> T record(Operation operation, Call<T> call) {
+        long start = System.nanoTime();
+        try {
+            T result = call.call();
+            recorders.get(operation).recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+            return result;
+        } catch (Exception e) {
+            if (errors.get(operation).sum() < 10) {
+                log.warn("{} 실패: {}", operation, e.getMessage());
+            }
+            errors.get(operation).increment();
+            return null;
+        }
+    }
+
+    // ======================= 보고 =======================
+
+    private record JvmSample(long heapUsed, long heapCommitted, long gcCount, long gcMillis) {
+    }
+
+    private JvmSample sampleJvm() {
+        if (embedded) {
+            MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+            long count = 0;
+            long millis = 0;
+            for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+                count += Math.max(0, gc.getCollectionCount());
+                millis += Math.max(0, gc.getCollectionTime());
+            }
+            return new JvmSample(heap.getUsed(), heap.getCommitted(), count, millis);
+        }
+        try {
+            return new JvmSample(
+                    (long) metric("jvm.memory.used?tag=area:heap", "VALUE"),
+                    (long) metric("jvm.memory.committed?tag=area:heap", "VALUE"),
+                    (long) metric("jvm.gc.pause", "COUNT"),
+                    (long) (metric("jvm.gc.pause", "TOTAL_TIME") * 1000));
+        } catch (Exception e) {
+            log.debug("서버 JVM 지표 조회 실패: {}", e.getMessage());
+            return new JvmSample(0, 0, 0, 0);
+        }
+    }
+
+    private double metric(String name, String statistic) throws Exception {
+        for (JsonNode measurement : OBJECT_MAPPER.readTree(get("/actuator/metrics/" + name).body())
+                .path("measurements")) {
+            if (statistic.equals(measurement.path("statistic").asText())) {
+                return measurement.path("value").asDouble();
+            }
+        }
+        return 0;
+    }
+
+    private void report(Duration interval, JvmSample sample, JvmSample previous) {
+        double seconds = Math.max(1e-3, interval.toMillis() / 1000.0);
+        StringBuilder line = new StringBuilder("[구간]");
+        for (Operation operation : Operation.values()) {
+            Histogram histogram = recorders.get(operation).getIntervalHistogram();
+            totals.get(operation).add(histogram);
+            if (histogram.getTotalCount() > 0) {
+                line.append(String.format(" %s %.1f/s p50=%.1fms p99=%.1fms;", operation,
+                        histogram.getTotalCount() / seconds, histogram.getValueAtPercentile(50) / 1000.0,
+                        histogram.getValueAtPercentile(99) / 1000.0));
+            }
+        }
+        line.append(String.format(" heap=%dMB/%dMB gc=%d회 %dms", sample.heapUsed() >> 20,
+                sample.heapCommitted() >> 20, sample.gcCount() - previous.gcCount(),
+                sample.gcMillis() - previous.gcMillis()));
+        log.info(line.toString());
+    }
+
+    private void summarize(Duration elapsed, JvmSample start, JvmSample end, long peakHeap) {
+        double seconds = Math.max(1e-3, elapsed.toMillis() / 1000.0);
+        log.info("========================================");
+        log.info("부하 시험 결과: {}초", String.format("%.0f", seconds));
+        log.info(String.format("%-14s %10s %10s %9s %9s %9s %9s %9s %7s", "operation", "count", "ops/s",
+                "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)", "errors"));
+        for (Operation operation : Operation.values()) {
+            Histogram total = totals.get(operation);
+            log.info(String.format("%-14s %10d %10.1f %9.1f %9.1f %9.1f %9.1f %9.1f %7d", operation,
+                    total.getTotalCount(), total.getTotalCount() / seconds,
+                    total.getValueAtPercentile(50) / 1000.0, total.getValueAtPercentile(90) / 1000.0,
+                    total.getValueAtPercentile(99) / 1000.0, total.getValueAtPercentile(99.9) / 1000.0,
+                    total.getMaxValue() / 1000.0, errors.get(operation).sum()));
+        }
+        long gcMillis = end.gcMillis() - start.gcMillis();
+        log.info(String.format("힙: 시작 %dMB, 종료 %dMB, 최대 %dMB (committed %dMB)", start.heapUsed() >> 20,
+                end.heapUsed() >> 20, peakHeap >> 20, end.heapCommitted() >> 20));
+        log.info(String.format("GC: %d회, %dms (경과 시간의 %.2f%%)", end.gcCount() - start.gcCount(), gcMillis,
+                gcMillis / (seconds * 10)));
+        log.info("========================================");
+    }
+}
@@ -0,0 +1,102 @@
+package com.aas.shinhan.perf;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.aasx.AASXDeserializer;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.json.JsonDeserializer;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.xml.XmlDeserializer;
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell;
+import org.eclipse.digitaltwin.aas4j.v3.model.ConceptDescription;
+import org.eclipse.digitaltwin.aas4j.v3.model.Environment;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.aas.shinhan.aas.service.AasJsonStreamReader;
+import com.aas.shinhan.aas.service.AasXmlStreamReader;
+import com.aas.shinhan.aas.service.EnvironmentVisitor;
+
+/**
+ * 업로드 파일 파싱 처리량 (AasParserService의 parseAasx/parseJson/parseXml과 스트리밍 읽기 경로)
+ * 실행: mvn -Pdev,perf test-compile exec:exec -Djmh.args="ParseBenchmark -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = { "-Xms2g", "-Xmx2g" })
+public class ParseBenchmark {
+
+    @Param({ "small", "medium", "huge" })
+    public String size;
+
+    private byte[] aasx;
+    private byte[] json;
+    private byte[] xml;
+
+    private final AasJsonStreamReader jsonStreamReader = new AasJsonStreamReader();
+    private final AasXmlStreamReader xmlStreamReader = new AasXmlStreamReader();
+
+    @Setup
+    public void setUp() throws Exception {
+        Environment environment = new EnvironmentGenerator(EnvironmentGenerator.Shape.of(size), 1L).generate(0);
+        aasx = EnvironmentGenerator.write(environment, "aasx");
+        json = EnvironmentGenerator.write(environment, "json");
+        xml = EnvironmentGenerator.write(environment, "xml");
+    }
+
+    @Benchmark
+    public Environment parseAasx() throws Exception {
+        return new AASXDeserializer(new ByteArrayInputStream(aasx)).read();
+    }
+
+    @Benchmark
+    public Environment parseJson() throws Exception {
+        return new JsonDeserializer().read(new ByteArrayInputStream(json), Environment.class);
+    }
+
+    @Benchmark
+    public Environment parseXml() throws Exception {
+        return new XmlDeserializer().read(new ByteArrayInputStream(xml));
+    }
+
+    @Benchmark
+    public void streamJson(Blackhole blackhole) throws Exception {
+        jsonStreamReader.read(new ByteArrayInputStream(json), new SinkVisitor(blackhole));
+    }
+
+    @Benchmark
+    public void streamXml(Blackhole blackhole) throws Exception {
+        xmlStreamReader.read(new ByteArrayInputStream(xml), new SinkVisitor(blackhole));
+    }
+
+    private record SinkVisitor(Blackhole blackhole) implements EnvironmentVisitor {
+
+        @Override
+        public void visitAssetAdministrationShell(AssetAdministrationShell aas) {
+            blackhole.consume(aas);
+        }
+
+        @Override
+        public void visitSubmodel(Submodel submodel) {
+            blackhole.consume(submodel);
+        }
+
+        @Override
+        public void visitConceptDescription(ConceptDescription conceptDescription) {
+            blackhole.consume(conceptDescription);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.aas.shinhan.perf;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 성능 도구 명령행 옵션 (key=value 형식, -Dperf.args="shells=10 duration=PT5M")
+ */
+final class PerfOptions {
+
+    private final Map<String, String> values = new LinkedHashMap<>();
+
+    PerfOptions(String[] args) {
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Expected key=value: " + arg);
+            }
+            values.put(arg.substring(0, separator), arg.substring(separator + 1));
+        }
+    }
+
+    String get(String key, String defaultValue) {
+        return values.getOrDefault(key, defaultValue);
+    }
+
+    int getInt(String key, int defaultValue) {
+        String value = values.get(key);
+        return value != null ? Integer.parseInt(value) : defaultValue;
+    }
+
+    long getLong(String key, long defaultValue) {
+        String value = values.get(key);
+        return value != null ? Long.parseLong(value) : defaultValue;
+    }
+
+    Duration getDuration(String key, Duration defaultValue) {
+        String value = values.get(key);
+        return value != null ? Duration.parse(value) : defaultValue;
+    }
+
+    List<String> getList(String key, String defaultValue) {
+        return Arrays.stream(get(key, defaultValue).split(","))
+                .map(String::trim)
+                .filter(value -> !value.isEmpty())
+                .toList();
+    }
+
+    boolean has(String key) {
+        return values.containsKey(key);
+    }
+
+    @Override
+    public String toString() {
+        return values.toString();
+    }
+}
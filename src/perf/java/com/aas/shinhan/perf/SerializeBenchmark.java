@@ -0,0 +1,72 @@
+package com.aas.shinhan.perf;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.json.JsonSerializer;
+import org.eclipse.digitaltwin.aas4j.v3.model.Environment;
+import org.eclipse.digitaltwin.aas4j.v3.model.Identifiable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 요소 유형별 JsonSerializer.write 비용 (업로드 변환 단계의 직렬화와 동일 호출)
+ * 한 번 호출에 해당 유형 요소를 모두 직렬화하고 총 문자 수를 반환한다 (처리량 / 요소 수 = 요소당 시간).
+ * 실행: mvn -Pdev,perf test-compile exec:exec -Djmh.args="SerializeBenchmark -prof gc"
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = { "-Xms2g", "-Xmx2g" })
+public class SerializeBenchmark {
+
+    @Param({ "small", "medium", "huge" })
+    public String size;
+
+    private final JsonSerializer jsonSerializer = new JsonSerializer();
+    private List<? extends Identifiable> shells;
+    private List<? extends Identifiable> submodels;
+    private List<? extends Identifiable> conceptDescriptions;
+
+    @Setup
+    public void setUp() {
+        Environment environment = new EnvironmentGenerator(EnvironmentGenerator.Shape.of(size), 1L).generate(0);
+        shells = environment.getAssetAdministrationShells();
+        submodels = environment.getSubmodels();
+        conceptDescriptions = environment.getConceptDescriptions();
+    }
+
+    @Benchmark
+    public long writeShells() throws Exception {
+        return writeAll(shells);
+    }
+
+    @Benchmark
+    public long writeSubmodels() throws Exception {
+        return writeAll(submodels);
+    }
+
+    @Benchmark
+    public long writeConceptDescriptions() throws Exception {
+        return writeAll(conceptDescriptions);
+    }
+
+    private long writeAll(List<? extends Identifiable> identifiables) throws Exception {
+        long length = 0;
+        for (Identifiable identifiable : identifiables) {
+            length += jsonSerializer.write(identifiable).length();
+        }
+        return length;
+    }
+}
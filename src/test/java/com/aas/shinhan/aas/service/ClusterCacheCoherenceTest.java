@@ -0,0 +1,160 @@
+package com.aas.shinhan.aas.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.aas.shinhan.ShinhanAasServerApplication;
+import com.aas.shinhan.aas.dto.AasSaveRequest;
+import com.aas.shinhan.aas.dto.SubmodelSaveRequest;
+import com.aas.shinhan.aas.repository.ChangeEventJdbcRepository;
+
+/**
+ * 노드 간 활성 엔티티 캐시 정합성 테스트
+ * 같은 H2 메모리 DB를 공유하는 애플리케이션 두 개를 띄워, 한 노드의 저장/활성화가
+ * 다른 노드 캐시에서 정합성 한도 안에 무효화되는지와 폴링이 멈추면 캐시를 우회하는지 확인한다.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class ClusterCacheCoherenceTest {
+
+	private static final long STALENESS_MILLIS = 400;
+
+	private static ConfigurableApplicationContext nodeA;
+	private static ConfigurableApplicationContext nodeB;
+
+	@BeforeAll
+	static void startNodes() {
+		String url = "jdbc:h2:mem:cluster-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE";
+		// 스키마는 첫 노드만 생성 (두 번째 노드가 다시 만들면 첫 노드 데이터가 사라짐)
+		nodeA = startNode(url, "create");
+		nodeB = startNode(url, "none");
+	}
+
+	@AfterAll
+	static void stopNodes() {
+		if (nodeB != null) {
+			nodeB.close();
+		}
+		if (nodeA != null) {
+			nodeA.close();
+		}
+	}
+
+	private static ConfigurableApplicationContext startNode(String url, String ddlAuto) {
+		// 명령행 인자로 전달 (builder.properties는 기본값이라 application-local.yaml 설정에 덮임)
+		return new SpringApplicationBuilder(ShinhanAasServerApplication.class)
+				.run("--spring.profiles.active=local", "--spring.datasource.url=" + url,
+						"--spring.jpa.hibernate.ddl-auto=" + ddlAuto, "--spring.jpa.show-sql=false",
+						"--server.port=0", "--aas.discovery.index-enabled=false",
+						"--aas.cache.cluster.enabled=true", "--aas.cache.cluster.staleness=" + STALENESS_MILLIS + "ms");
+	}
+
+	@Test
+	@Order(1)
+	void activationOnOneNodeInvalidatesOtherNode() throws Exception {
+		String aasId = "urn:test:cluster:aas:" + UUID.randomUUID();
+		AasStorageService storageA = nodeA.getBean(AasStorageService.class);
+		AasStorageService storageB = nodeB.getBean(AasStorageService.class);
+
+		storageA.saveAas(aas(aasId, "v1"), "node-a");
+		awaitCoherent(nodeB);
+		assertEquals(1, storageB.getActiveAas(aasId).getVersion());
+		// 두 번째 조회는 B의 캐시에서 응답
+		assertEquals(1, storageB.getActiveAas(aasId).getVersion());
+
+		storageA.saveAas(aas(aasId, "v2"), "node-a");
+		assertEventually(() -> storageB.getActiveAas(aasId).getVersion() == 2);
+
+		storageA.activateAasVersion(aasId, 1, "node-a");
+		assertEventually(() -> storageB.getActiveAas(aasId).getVersion() == 1);
+	}
+
+	@Test
+	@Order(2)
+	void invalidationFlowsBothWays() throws Exception {
+		String submodelId = "urn:test:cluster:sm:" + UUID.randomUUID();
+		AasStorageService storageA = nodeA.getBean(AasStorageService.class);
+		AasStorageService storageB = nodeB.getBean(AasStorageService.class);
+
+		storageA.saveSubmodel(submodel(submodelId, "a-1"), "node-a");
+		storageB.saveSubmodel(submodel(submodelId, "b-2"), "node-b");
+		awaitCoherent(nodeA);
+		assertEquals(2, storageA.getActiveSubmodel(submodelId).getVersion());
+
+		storageB.activateSubmodelVersion(submodelId, 1, "node-b");
+		assertEventually(() -> storageA.getActiveSubmodel(submodelId).getVersion() == 1);
+		assertEquals(1, storageB.getActiveSubmodel(submodelId).getVersion());
+	}
+
+	@Test
+	@Order(3)
+	void cacheIsBypassedWhenPollingStops() throws Exception {
+		String aasId = "urn:test:cluster:lapse:" + UUID.randomUUID();
+		AasStorageService storageA = nodeA.getBean(AasStorageService.class);
+		AasStorageService storageB = nodeB.getBean(AasStorageService.class);
+
+		storageA.saveAas(aas(aasId, "v1"), "node-a");
+		awaitCoherent(nodeB);
+		assertEquals(1, storageB.getActiveAas(aasId).getVersion());
+
+		// B의 폴링을 멈추면 무효화는 오지 않지만, 한도가 지나면 캐시 대신 DB에서 읽음
+		nodeB.getBean(ClusterCacheCoherence.class).shutdown();
+		storageA.saveAas(aas(aasId, "v2"), "node-a");
+		Thread.sleep(STALENESS_MILLIS * 2);
+
+		assertFalse(nodeB.getBean(ActiveEntityCache.class).isCoherent());
+		assertEquals(2, storageB.getActiveAas(aasId).getVersion());
+	}
+
+	private static void awaitCoherent(ConfigurableApplicationContext node) throws InterruptedException {
+		ClusterCacheCoherence coherence = node.getBean(ClusterCacheCoherence.class);
+		long lastEventId = node.getBean(ChangeEventJdbcRepository.class).findLastEventId();
+		assertEventually(() -> coherence.getCursor() >= lastEventId);
+	}
+
+	private static void assertEventually(Supplier<Boolean> condition) throws InterruptedException {
+		// 폴링 지연(한도)에 스케줄링 여유를 더한 시간 안에 반영되어야 함
+		long deadline = System.nanoTime() + STALENESS_MILLIS * 5 * 1_000_000;
+		while (!condition.get()) {
+			assertTrue(System.nanoTime() < deadline, "정합성 한도 안에 다른 노드 변경이 반영되지 않음");
+			Thread.sleep(20);
+		}
+	}
+
+	private static AasSaveRequest aas(String aasId, String revision) {
+		String json = "{\"modelType\":\"AssetAdministrationShell\",\"id\":\"" + aasId + "\",\"idShort\":\"Cluster\","
+				+ "\"assetInformation\":{\"assetKind\":\"Instance\",\"globalAssetId\":\"urn:asset:" + revision + "\"}}";
+		return AasSaveRequest.builder()
+				.aasId(aasId)
+				.idShort("Cluster")
+				.assetKind("Instance")
+				.globalAssetId("urn:asset:" + revision)
+				.aasJson(json)
+				.createNewVersion(true)
+				.build();
+	}
+
+	private static SubmodelSaveRequest submodel(String submodelId, String revision) {
+		String json = "{\"modelType\":\"Submodel\",\"id\":\"" + submodelId + "\",\"idShort\":\"Cluster\","
+				+ "\"submodelElements\":[{\"modelType\":\"Property\",\"idShort\":\"Revision\","
+				+ "\"valueType\":\"xs:string\",\"value\":\"" + revision + "\"}]}";
+		return SubmodelSaveRequest.builder()
+				.submodelId(submodelId)
+				.idShort("Cluster")
+				.submodelJson(json)
+				.createNewVersion(true)
+				.build();
+	}
+}
@@ -0,0 +1,290 @@
+package com.aas.shinhan.aas.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.aas.shinhan.aas.dto.SubmodelSaveRequest;
+import com.aas.shinhan.aas.dto.VersionInfo;
+import com.aas.shinhan.aas.entity.ActiveAasEntity;
+import com.aas.shinhan.aas.entity.ActiveSubmodelEntity;
+import com.aas.shinhan.aas.repository.ActiveAasRepository;
+import com.aas.shinhan.aas.repository.ActiveSubmodelRepository;
+import com.aas.shinhan.core.lock.StripedLockManager;
+
+/**
+ * 동시 업로드 버전 할당 스트레스 테스트 (H2 메모리 DB)
+ * 같은 ID를 여러 업로더가 저장해도 버전이 빠짐없이 한 번씩만 할당되고 활성 포인터가 하나인지,
+ * 서로 다른 ID는 업로더 수와 관계없이 모두 저장되는지, 잠금은 같은 스트라이프끼리만 기다리는지 확인한다.
+ * 일괄 업로드(스트라이프 잠금 없음)가 같은 ID를 겹쳐 올리고 단건 활성화가 끼어들어도 같은 조건을 지키는지도 확인한다.
+ */
+@SpringBootTest(properties = { "spring.profiles.active=local", "spring.jpa.show-sql=false" })
+class ConcurrentVersionWriteTest {
+
+	private static final int[] UPLOADERS = { 1, 2, 4, 8 };
+
+	@Autowired
+	private AasStorageService aasStorageService;
+
+	@Autowired
+	private AasParserService aasParserService;
+
+	@Autowired
+	private ActiveAasRepository activeAasRepository;
+
+	@Autowired
+	private ActiveSubmodelRepository activeSubmodelRepository;
+
+	@Autowired
+	private StripedLockManager stripedLockManager;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Test
+	void sameIdentifierGetsConsecutiveVersionsAndSinglePointer() throws Exception {
+		String submodelId = "urn:test:contended:" + UUID.randomUUID();
+		int uploaders = 8;
+		int savesPerUploader = 10;
+
+		runUploaders(uploaders, savesPerUploader, (uploader, index) -> submodelId);
+
+		int total = uploaders * savesPerUploader;
+		List<VersionInfo> versions = aasStorageService.getSubmodelVersions(submodelId);
+		assertEquals(total, versions.size());
+		assertEquals(IntStream.rangeClosed(1, total).boxed().collect(Collectors.toSet()),
+				versions.stream().map(VersionInfo::getVersion).collect(Collectors.toSet()));
+		assertEquals(1, versions.stream().filter(VersionInfo::getIsActive).count());
+
+		ActiveSubmodelEntity pointer = activeSubmodelRepository.findById(submodelId).orElseThrow();
+		assertEquals(total, pointer.getVersion());
+	}
+
+	@Test
+	void distinctIdentifiersAreSavedConcurrently() throws Exception {
+		int savesPerUploader = 20;
+		for (int uploaders : UPLOADERS) {
+			String prefix = "urn:test:distinct:" + uploaders + ":";
+			runUploaders(uploaders, savesPerUploader, (uploader, index) -> prefix + uploader + ":" + index);
+
+			for (int uploader = 0; uploader < uploaders; uploader++) {
+				for (int index = 0; index < savesPerUploader; index++) {
+					String submodelId = prefix + uploader + ":" + index;
+					List<VersionInfo> versions = aasStorageService.getSubmodelVersions(submodelId);
+					assertEquals(1, versions.size());
+					assertEquals(1, activeSubmodelRepository.findById(submodelId).orElseThrow().getVersion());
+				}
+			}
+		}
+	}
+
+	@Test
+	void overlappingBulkUploadsGetConsecutiveVersionsAndSingleActiveRow() throws Exception {
+		String prefix = "urn:test:bulk:" + UUID.randomUUID() + ":";
+		String shellId = prefix + "shell";
+		List<String> submodelIds = IntStream.range(0, 4).mapToObj(index -> prefix + "sm:" + index).toList();
+		int uploaders = 4;
+		int uploadsPerUploader = 8;
+
+		ExecutorService executor = Executors.newFixedThreadPool(uploaders + 1);
+		CountDownLatch start = new CountDownLatch(1);
+		AtomicBoolean uploading = new AtomicBoolean(true);
+		try {
+			List<Future<?>> uploads = new ArrayList<>();
+			for (int uploader = 0; uploader < uploaders; uploader++) {
+				int current = uploader;
+				uploads.add(executor.submit(() -> {
+					await(start);
+					for (int index = 0; index < uploadsPerUploader; index++) {
+						byte[] content = environment(shellId, submodelIds, current + "-" + index);
+						aasParserService.parseAndProcess("stress.json", new ByteArrayInputStream(content), "tester",
+								false, new UploadProgress());
+					}
+					return null;
+				}));
+			}
+			// 업로드 도중 이미 있는 버전을 단건으로 다시 활성화 (일괄 활성화와 경합)
+			Future<?> activator = executor.submit(() -> {
+				await(start);
+				while (uploading.get()) {
+					String submodelId = submodelIds.get(ThreadLocalRandom.current().nextInt(submodelIds.size()));
+					List<VersionInfo> versions = aasStorageService.getSubmodelVersions(submodelId);
+					if (!versions.isEmpty()) {
+						int version = versions.get(ThreadLocalRandom.current().nextInt(versions.size())).getVersion();
+						aasStorageService.activateSubmodelVersion(submodelId, version, "activator");
+					}
+				}
+				return null;
+			});
+			start.countDown();
+			for (Future<?> upload : uploads) {
+				upload.get(2, TimeUnit.MINUTES);
+			}
+			uploading.set(false);
+			activator.get(1, TimeUnit.MINUTES);
+		} finally {
+			uploading.set(false);
+			executor.shutdownNow();
+		}
+
+		int total = uploaders * uploadsPerUploader;
+		List<VersionInfo> shellVersions = aasStorageService.getAasVersions(shellId);
+		assertConsecutive(total, shellVersions);
+		ActiveAasEntity shellPointer = activeAasRepository.findById(shellId).orElseThrow();
+		assertEquals(activeRow(shellVersions).getSeq(), shellPointer.getSeq());
+
+		for (String submodelId : submodelIds) {
+			List<VersionInfo> versions = aasStorageService.getSubmodelVersions(submodelId);
+			assertConsecutive(total, versions);
+			ActiveSubmodelEntity pointer = activeSubmodelRepository.findById(submodelId).orElseThrow();
+			assertEquals(activeRow(versions).getSeq(), pointer.getSeq());
+			assertEquals(activeRow(versions).getVersion(), pointer.getVersion());
+		}
+	}
+
+	@Test
+	void lockBlocksOnlySameStripe() throws Exception {
+		TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+		CountDownLatch held = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(3);
+		try {
+			Future<?> holder = executor.submit(() -> transaction.executeWithoutResult(status -> {
+				stripedLockManager.lockForTransaction("TEST", List.of("urn:test:lock:a"));
+				held.countDown();
+				await(release);
+			}));
+			assertTrue(held.await(5, TimeUnit.SECONDS));
+
+			// 스트라이프가 다른 ID는 기다리지 않음
+			Future<Boolean> other = executor.submit(() -> transaction.execute(status -> {
+				stripedLockManager.lockForTransaction("TEST", List.of("urn:test:lock:b"));
+				return true;
+			}));
+			assertTrue(other.get(5, TimeUnit.SECONDS));
+
+			// 같은 ID는 앞선 트랜잭션이 끝날 때까지 대기
+			Future<Boolean> same = executor.submit(() -> transaction.execute(status -> {
+				stripedLockManager.lockForTransaction("TEST", List.of("urn:test:lock:a"));
+				return true;
+			}));
+			assertThrows(TimeoutException.class, () -> same.get(300, TimeUnit.MILLISECONDS));
+
+			release.countDown();
+			holder.get(5, TimeUnit.SECONDS);
+			assertTrue(same.get(5, TimeUnit.SECONDS));
+		} finally {
+			release.countDown();
+			executor.shutdownNow();
+		}
+	}
+
+	@FunctionalInterface
+	private interface IdChooser {
+		String choose(int uploader, int index);
+	}
+
+	/**
+	 * 업로더마다 스레드 하나로 Submodel을 순서대로 저장 (저장마다 내용이 달라 새 버전 생성)
+	 */
+	private void runUploaders(int uploaders, int savesPerUploader, IdChooser ids) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(uploaders);
+		CountDownLatch start = new CountDownLatch(1);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int uploader = 0; uploader < uploaders; uploader++) {
+				int current = uploader;
+				futures.add(executor.submit(() -> {
+					await(start);
+					for (int index = 0; index < savesPerUploader; index++) {
+						aasStorageService.saveSubmodel(request(ids.choose(current, index), current, index), "tester");
+					}
+				}));
+			}
+			start.countDown();
+			for (Future<?> future : futures) {
+				future.get(2, TimeUnit.MINUTES);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * 버전이 1..total로 빠짐없이 한 번씩 있고 활성 행이 하나인지
+	 */
+	private static void assertConsecutive(int total, List<VersionInfo> versions) {
+		assertEquals(total, versions.size());
+		assertEquals(IntStream.rangeClosed(1, total).boxed().collect(Collectors.toSet()),
+				versions.stream().map(VersionInfo::getVersion).collect(Collectors.toSet()));
+		assertEquals(1, versions.stream().filter(VersionInfo::getIsActive).count());
+	}
+
+	private static VersionInfo activeRow(List<VersionInfo> versions) {
+		return versions.stream().filter(VersionInfo::getIsActive).findFirst().orElseThrow();
+	}
+
+	/**
+	 * Shell 하나와 Submodel 여러 개를 담은 Environment JSON (revision이 달라 매번 모든 항목에 새 버전 생성)
+	 */
+	private static byte[] environment(String shellId, List<String> submodelIds, String revision) {
+		String references = submodelIds.stream()
+				.map(id -> "{\"type\":\"ModelReference\",\"keys\":[{\"type\":\"Submodel\",\"value\":\"" + id + "\"}]}")
+				.collect(Collectors.joining(","));
+		String submodels = submodelIds.stream()
+				.map(id -> "{\"modelType\":\"Submodel\",\"id\":\"" + id + "\",\"idShort\":\"Stress\","
+						+ "\"submodelElements\":[{\"modelType\":\"Property\",\"idShort\":\"Revision\","
+						+ "\"valueType\":\"xs:string\",\"value\":\"" + revision + "\"}]}")
+				.collect(Collectors.joining(","));
+		String json = "{\"assetAdministrationShells\":[{\"modelType\":\"AssetAdministrationShell\","
+				+ "\"id\":\"" + shellId + "\",\"idShort\":\"Stress\","
+				+ "\"description\":[{\"language\":\"en\",\"text\":\"" + revision + "\"}],"
+				+ "\"assetInformation\":{\"assetKind\":\"Instance\",\"globalAssetId\":\"" + shellId + ":asset\"},"
+				+ "\"submodels\":[" + references + "]}],"
+				+ "\"submodels\":[" + submodels + "]}";
+		return json.getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static SubmodelSaveRequest request(String submodelId, int uploader, int index) {
+		String json = "{\"modelType\":\"Submodel\",\"id\":\"" + submodelId + "\",\"idShort\":\"Stress\","
+				+ "\"submodelElements\":[{\"modelType\":\"Property\",\"idShort\":\"Revision\","
+				+ "\"valueType\":\"xs:string\",\"value\":\"" + uploader + "-" + index + "\"}]}";
+		return SubmodelSaveRequest.builder()
+				.submodelId(submodelId)
+				.idShort("Stress")
+				.submodelJson(json)
+				.createNewVersion(true)
+				.build();
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		}
+	}
+}
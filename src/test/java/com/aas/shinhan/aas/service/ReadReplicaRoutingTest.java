@@ -0,0 +1,153 @@
+package com.aas.shinhan.aas.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.aas.shinhan.aas.dto.AasSaveRequest;
+import com.aas.shinhan.core.datasource.ReadWriteRoutingDataSource;
+import com.aas.shinhan.core.datasource.ReplicaDataSource;
+
+/**
+ * 읽기 복제본 라우팅 테스트 (H2 메모리 DB 두 개: 주 DB, 복제본)
+ * 복제본은 주 DB를 한 번 복사해 두고 이후 쓰기는 반영하지 않아 복제 지연을 흉내 낸다.
+ * 읽기 전용 트랜잭션이 복제본으로 가는지, 쓴 사용자는 주 DB에서 읽는지, 복제본이 내려가면 주 DB로 대체되는지 확인한다.
+ */
+@SpringBootTest(properties = { "spring.profiles.active=local", "spring.jpa.show-sql=false",
+		"spring.datasource.url=jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1",
+		"aas.discovery.index-enabled=false",
+		"aas.datasource.replica.enabled=true",
+		"aas.datasource.replica.urls=" + ReadReplicaRoutingTest.REPLICA_URL + ";IFEXISTS=TRUE",
+		"aas.datasource.replica.connection-timeout=1s",
+		"aas.datasource.replica.health-check-interval=1h",
+		"aas.datasource.replica.read-your-writes-window=1h" })
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class ReadReplicaRoutingTest {
+
+	static final String REPLICA_URL = "jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1";
+
+	private static final String AAS_ID = "urn:test:routing:" + UUID.randomUUID();
+
+	static {
+		// 복제본 풀은 IFEXISTS로 접속하므로 (종료 후 다시 만들어지지 않게) 먼저 빈 DB를 만들어 둠
+		try {
+			DriverManager.getConnection(REPLICA_URL, "sa", "").close();
+		} catch (SQLException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	@Autowired
+	private AasStorageService aasStorageService;
+
+	@Autowired
+	private DataSource dataSource;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@AfterEach
+	void clearAuthentication() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	@Order(1)
+	void readOnlyTransactionsReadFromReplica() throws Exception {
+		aasStorageService.saveAas(aas("v1"), "writer");
+		replicate();
+		replicas().checkHealth();
+		assertEquals(1, replicas().getHealthyReplicaCount());
+
+		// 복제본에는 반영되지 않는 두 번째 버전 (쓰기는 주 DB)
+		aasStorageService.saveAas(aas("v2"), "writer");
+
+		assertEquals(1, aasStorageService.getAasVersions(AAS_ID).size());
+		assertEquals(2, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM AAS_SHELL WHERE AAS_ID = ?", Integer.class,
+				AAS_ID));
+	}
+
+	@Test
+	@Order(2)
+	void writerReadsOwnWritesFromPrimary() {
+		authenticate("writer");
+		assertEquals(2, aasStorageService.getAasVersions(AAS_ID).size());
+
+		authenticate("other");
+		assertEquals(1, aasStorageService.getAasVersions(AAS_ID).size());
+	}
+
+	@Test
+	@Order(3)
+	void fallsBackToPrimaryWhenReplicaIsDown() throws Exception {
+		try (Connection connection = DriverManager.getConnection(REPLICA_URL, "sa", "");
+				Statement statement = connection.createStatement()) {
+			statement.execute("SHUTDOWN");
+		}
+		replicas().checkHealth();
+		assertEquals(0, replicas().getHealthyReplicaCount());
+
+		long fallbacks = replicas().getPrimaryFallbackCount();
+		assertEquals(2, aasStorageService.getAasVersions(AAS_ID).size());
+		assertTrue(replicas().getPrimaryFallbackCount() > fallbacks);
+	}
+
+	private ReplicaDataSource replicas() throws SQLException {
+		return dataSource.unwrap(ReadWriteRoutingDataSource.class).getReplicas();
+	}
+
+	/**
+	 * 주 DB 현재 상태를 복제본으로 복사 (한 번만)
+	 */
+	private void replicate() throws Exception {
+		Path script = Files.createTempFile("routing-replica-", ".sql");
+		try {
+			jdbcTemplate.execute("SCRIPT TO '" + script.toAbsolutePath() + "'");
+			try (Connection connection = DriverManager.getConnection(REPLICA_URL, "sa", "");
+					Statement statement = connection.createStatement()) {
+				statement.execute("RUNSCRIPT FROM '" + script.toAbsolutePath() + "'");
+			}
+		} finally {
+			Files.deleteIfExists(script);
+		}
+	}
+
+	private static void authenticate(String username) {
+		SecurityContextHolder.getContext()
+				.setAuthentication(new UsernamePasswordAuthenticationToken(username, null, List.of()));
+	}
+
+	private static AasSaveRequest aas(String revision) {
+		String json = "{\"modelType\":\"AssetAdministrationShell\",\"id\":\"" + AAS_ID + "\",\"idShort\":\"Routing\","
+				+ "\"assetInformation\":{\"assetKind\":\"Instance\",\"globalAssetId\":\"urn:asset:" + revision + "\"}}";
+		return AasSaveRequest.builder()
+				.aasId(AAS_ID)
+				.idShort("Routing")
+				.assetKind("Instance")
+				.globalAssetId("urn:asset:" + revision)
+				.aasJson(json)
+				.createNewVersion(true)
+				.build();
+	}
+}